@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file;
+
+import com.epam.ta.reportportal.core.file.impl.LocalFileSizeResolver;
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares attachment size resolution from the file attributes of the 'filesystem' data store
+ * with loading of the whole file content that was done by the attachment size job before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSizeResolverBenchmark {
+
+	private static final int FILES_COUNT = 100;
+
+	@Param({ "64", "4096" })
+	private int fileSizeKb;
+
+	private final DataEncoder dataEncoder = new DataEncoder();
+
+	private Path storageRoot;
+
+	private List<String> fileIds;
+
+	private FileSizeResolver fileSizeResolver;
+
+	@Setup
+	public void setUp() throws IOException {
+		storageRoot = Files.createTempDirectory("rp-file-size");
+		Files.createDirectories(storageRoot.resolve("1"));
+		byte[] content = new byte[fileSizeKb * 1024];
+		new Random(1).nextBytes(content);
+		fileIds = IntStream.range(0, FILES_COUNT).mapToObj(i -> {
+			String filePath = Paths.get("1", "file" + i).toString();
+			try {
+				Files.write(storageRoot.resolve(filePath), content);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+			return dataEncoder.encode(filePath);
+		}).collect(Collectors.toList());
+		fileSizeResolver = new LocalFileSizeResolver(dataEncoder, storageRoot.toString());
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(storageRoot);
+	}
+
+	@Benchmark
+	public long metadata() {
+		return fileIds.stream().mapToLong(fileId -> fileSizeResolver.getSize(fileId).orElse(0L)).sum();
+	}
+
+	@Benchmark
+	public long content() throws IOException {
+		long size = 0;
+		for (String fileId : fileIds) {
+			try (InputStream inputStream = Files.newInputStream(storageRoot.resolve(dataEncoder.decode(fileId)))) {
+				size += StreamUtils.copyToByteArray(inputStream).length;
+			}
+		}
+		return size;
+	}
+}
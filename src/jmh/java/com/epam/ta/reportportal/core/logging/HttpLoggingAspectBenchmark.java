@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Overhead of the {@link HttpLoggingAspect} on the endpoint call with the different sample rates,
+ * compared with the call of the not proxied endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpLoggingAspectBenchmark {
+
+	@Param({ "0", "0.01", "1" })
+	private double sampleRate;
+
+	@Param({ "false", "true" })
+	private boolean async;
+
+	private LoggedController controller;
+
+	private LoggedController proxy;
+
+	private Map<String, Object> payload;
+
+	private ThreadPoolExecutor executor;
+
+	@Setup
+	public void setUp() {
+		Logger logger = (Logger) LoggerFactory.getLogger(LoggedController.class);
+		logger.setLevel(Level.DEBUG);
+		logger.setAdditive(false);
+		logger.detachAndStopAllAppenders();
+		NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+		appender.start();
+		logger.addAppender(appender);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/project/log");
+		request.addHeader("Content-Type", "application/json");
+		request.addHeader("Authorization", "bearer token");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request), true);
+
+		if (async) {
+			executor = new ThreadPoolExecutor(1,
+					1,
+					0,
+					TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(1000),
+					new ThreadPoolExecutor.DiscardPolicy()
+			);
+		}
+		HttpLoggingAspect aspect = new HttpLoggingAspect(sampleRate, Collections.emptyMap(), 4096, executor);
+		ReflectionTestUtils.setField(aspect, "objectMapper", new ObjectMapper());
+
+		controller = new LoggedController();
+		AspectJProxyFactory factory = new AspectJProxyFactory(controller);
+		factory.addAspect(aspect);
+		proxy = factory.getProxy();
+
+		payload = IntStream.range(0, 100).boxed().collect(Collectors.toMap(i -> "key" + i, i -> "value" + i));
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public ResponseEntity<Map<String, Object>> logged() {
+		return proxy.create(payload);
+	}
+
+	@Benchmark
+	public ResponseEntity<Map<String, Object>> notLogged() {
+		return controller.create(payload);
+	}
+
+	public static class LoggedController {
+
+		@HttpLogging
+		public ResponseEntity<Map<String, Object>> create(@RequestBody Map<String, Object> payload) {
+			return new ResponseEntity<>(payload, HttpStatus.CREATED);
+		}
+	}
+}
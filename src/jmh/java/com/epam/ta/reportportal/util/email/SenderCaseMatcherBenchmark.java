@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util.email;
+
+import com.epam.ta.reportportal.entity.ItemAttribute;
+import com.epam.ta.reportportal.entity.enums.SendCase;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.email.LaunchAttributeRule;
+import com.epam.ta.reportportal.entity.project.email.SenderCase;
+import com.epam.ta.reportportal.entity.statistics.Statistics;
+import com.epam.ta.reportportal.entity.statistics.StatisticsField;
+import com.epam.ta.reportportal.ws.converter.converters.NotificationConfigConverter;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributeResource;
+import com.google.common.collect.Sets;
+import org.apache.commons.collections.CollectionUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+
+/**
+ * Compares precompiled {@link SenderCaseMatcher} with per-launch evaluation of every {@link SenderCase}
+ * that was done by the launch notification subscriber before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SenderCaseMatcherBenchmark {
+
+	@Param({ "10", "100" })
+	private int rulesCount;
+
+	@Param({ "10", "50" })
+	private int attributesCount;
+
+	private Project project;
+
+	private Launch launch;
+
+	private SenderCaseMatcherCache cache;
+
+	@Setup
+	public void setUp() {
+		project = new Project();
+		project.setId(1L);
+		SendCase[] sendCases = SendCase.values();
+		project.setSenderCases(IntStream.range(0, rulesCount).mapToObj(i -> {
+			Set<LaunchAttributeRule> rules = IntStream.range(0, 3).mapToObj(j -> {
+				LaunchAttributeRule rule = new LaunchAttributeRule();
+				rule.setKey("key" + ((i + j) % attributesCount));
+				rule.setValue("value" + ((i + j) % attributesCount));
+				return rule;
+			}).collect(Collectors.toSet());
+			SenderCase senderCase = new SenderCase(Sets.newHashSet("owner"),
+					Sets.newHashSet("launch" + (i % 5)),
+					rules,
+					sendCases[i % sendCases.length],
+					true
+			);
+			senderCase.setId((long) i);
+			return senderCase;
+		}).collect(Collectors.toSet()));
+
+		launch = new Launch();
+		launch.setName("launch0");
+		launch.setStatus(StatusEnum.FAILED);
+		launch.setAttributes(IntStream.range(0, attributesCount)
+				.mapToObj(i -> new ItemAttribute("key" + i, "value" + i, false))
+				.collect(Collectors.toSet()));
+		launch.setStatistics(Sets.newHashSet(new Statistics(new StatisticsField(EXECUTIONS_TOTAL), 100, 1L),
+				new Statistics(new StatisticsField(DEFECTS_TO_INVESTIGATE_TOTAL), 30, 1L)
+		));
+
+		cache = new SenderCaseMatcherCache();
+	}
+
+	@Benchmark
+	public List<SenderCase> compiled() {
+		return cache.getMatcher(project).findMatched(launch, project.getSenderCases());
+	}
+
+	@Benchmark
+	public List<SenderCase> perCaseEvaluation() {
+		return project.getSenderCases()
+				.stream()
+				.filter(ec -> isSuccessRateEnough(launch, ec.getSendCase()) && isLaunchNameMatched(launch, ec) && isAttributesMatched(launch,
+						ec.getLaunchAttributeRules()
+				))
+				.collect(Collectors.toList());
+	}
+
+	private static double getSuccessRate(Launch launch) {
+		double ti = extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics()).doubleValue();
+		double pb = extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, launch.getStatistics()).doubleValue();
+		double si = extractStatisticsCount(DEFECTS_SYSTEM_ISSUE_TOTAL, launch.getStatistics()).doubleValue();
+		double ab = extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, launch.getStatistics()).doubleValue();
+		double total = extractStatisticsCount(EXECUTIONS_TOTAL, launch.getStatistics()).doubleValue();
+		return total == 0 ? total : (ti + pb + si + ab) / total;
+	}
+
+	private static boolean isSuccessRateEnough(Launch launch, SendCase option) {
+		switch (option) {
+			case ALWAYS:
+				return true;
+			case FAILED:
+				return launch.getStatus().equals(StatusEnum.FAILED);
+			case TO_INVESTIGATE:
+				return extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics()) > 0;
+			case MORE_10:
+				return getSuccessRate(launch) > 0.1;
+			case MORE_20:
+				return getSuccessRate(launch) > 0.2;
+			case MORE_50:
+				return getSuccessRate(launch) > 0.5;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isLaunchNameMatched(Launch launch, SenderCase oneCase) {
+		Set<String> configuredNames = oneCase.getLaunchNames();
+		return (null == configuredNames) || (configuredNames.isEmpty()) || configuredNames.contains(launch.getName());
+	}
+
+	private static boolean isAttributesMatched(Launch launch, Set<LaunchAttributeRule> launchAttributeRules) {
+		if (CollectionUtils.isEmpty(launchAttributeRules)) {
+			return true;
+		}
+		return launch.getAttributes().stream().filter(attribute -> !attribute.isSystem()).map(attribute -> {
+			ItemAttributeResource attributeResource = new ItemAttributeResource();
+			attributeResource.setKey(attribute.getKey());
+			attributeResource.setValue(attribute.getValue());
+			return attributeResource;
+		}).collect(Collectors.toSet()).containsAll(launchAttributeRules.stream()
+				.map(NotificationConfigConverter.TO_ATTRIBUTE_RULE_RESOURCE)
+				.collect(Collectors.toSet()));
+	}
+}
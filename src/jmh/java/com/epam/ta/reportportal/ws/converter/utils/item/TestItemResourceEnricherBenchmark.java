@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.ws.converter.utils.item;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.ItemAttribute;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.item.TestItemResults;
+import com.epam.ta.reportportal.entity.statistics.Statistics;
+import com.epam.ta.reportportal.entity.statistics.StatisticsField;
+import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
+import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdater;
+import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdaterProvider;
+import com.epam.ta.reportportal.ws.converter.utils.item.content.TestItemUpdaterContent;
+import com.epam.ta.reportportal.ws.converter.utils.item.provider.RetriesUpdaterProvider;
+import com.epam.ta.reportportal.ws.converter.utils.item.updater.RetriesUpdater;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.DEFECTS_TO_INVESTIGATE_TOTAL;
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.EXECUTIONS_TOTAL;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Compares page enrichment by {@link TestItemResourceEnricher} with the updaters that were built by every test item handler before:
+ * all the providers were retrieved for the page, then every converted item was updated by them.
+ * Every database query emulates {@link #roundTripMicros} of the round trip. The previous retries provider queried retries
+ * of every page, {@link RetriesUpdaterProvider} skips the query if there are no items with retries on the page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestItemResourceEnricherBenchmark {
+
+	private static final Long PROJECT_ID = 1L;
+
+	@Param({ "100", "300", "1000" })
+	private int pageSize;
+
+	/**
+	 * Every n-th item of the page has retries, '0' - no items with retries
+	 */
+	@Param({ "0", "10" })
+	private int retriesEvery;
+
+	@Param({ "500" })
+	private long roundTripMicros;
+
+	private List<TestItem> page;
+
+	private List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> previousProviders;
+
+	private TestItemResourceEnricher enricher;
+
+	@Setup
+	public void setUp() {
+		page = IntStream.range(0, pageSize).mapToObj(this::testItem).collect(Collectors.toList());
+		TestItemRepository testItemRepository = testItemRepository();
+		previousProviders = Lists.newArrayList(new PathNamesProvider(), updaterContent -> {
+			List<Long> ids = updaterContent.getTestItems()
+					.stream()
+					.filter(TestItem::isHasRetries)
+					.map(TestItem::getItemId)
+					.collect(Collectors.toList());
+			return RetriesUpdater.of(testItemRepository.selectRetries(ids).stream().collect(groupingBy(TestItem::getRetryOf)));
+		});
+		enricher = new TestItemResourceEnricher(Lists.newArrayList(new PathNamesProvider(), new RetriesUpdaterProvider(testItemRepository)));
+	}
+
+	@Benchmark
+	public List<TestItemResource> previousUpdaters() {
+		List<ResourceUpdater<TestItemResource>> updaters = previousProviders.stream()
+				.map(provider -> provider.retrieve(TestItemUpdaterContent.of(PROJECT_ID, page)))
+				.collect(Collectors.toList());
+		return page.stream().map(item -> {
+			TestItemResource resource = TestItemConverter.TO_RESOURCE.apply(item);
+			updaters.forEach(updater -> updater.updateResource(resource));
+			return resource;
+		}).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<TestItemResource> enriched() {
+		return enricher.toResources(PROJECT_ID, page);
+	}
+
+	private void roundTrip() {
+		LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+	}
+
+	/**
+	 * Repository with the only {@link TestItemRepository#selectRetries(List)} method used by the providers
+	 */
+	@SuppressWarnings("unchecked")
+	private TestItemRepository testItemRepository() {
+		return (TestItemRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { TestItemRepository.class },
+				(proxy, method, args) -> {
+					if (!"selectRetries".equals(method.getName())) {
+						throw new UnsupportedOperationException(method.getName());
+					}
+					roundTrip();
+					return ((Collection<Long>) args[0]).stream().map(this::retry).collect(Collectors.toList());
+				}
+		);
+	}
+
+	private TestItem testItem(int index) {
+		TestItem item = new TestItem();
+		item.setItemId((long) index);
+		item.setUuid("uuid-" + index);
+		item.setName("item " + index);
+		item.setType(TestItemTypeEnum.STEP);
+		item.setStartTime(LocalDateTime.now());
+		item.setPath("1." + index);
+		item.setLaunchId(1L);
+		item.setHasRetries(retriesEvery > 0 && index % retriesEvery == 0);
+		item.setAttributes(Sets.newHashSet(new ItemAttribute("key", "value" + index, false)));
+		TestItemResults results = new TestItemResults();
+		results.setStatus(StatusEnum.FAILED);
+		results.setEndTime(LocalDateTime.now());
+		results.setStatistics(Sets.newHashSet(new Statistics(new StatisticsField(EXECUTIONS_TOTAL), 1, (long) index),
+				new Statistics(new StatisticsField(DEFECTS_TO_INVESTIGATE_TOTAL), 1, (long) index)
+		));
+		item.setItemResults(results);
+		return item;
+	}
+
+	private TestItem retry(Long retryOf) {
+		TestItem retry = testItem(retryOf.intValue());
+		retry.setItemId(-retryOf);
+		retry.setRetryOf(retryOf);
+		return retry;
+	}
+
+	/**
+	 * Emulates a provider with a single bulk query for the page
+	 */
+	private class PathNamesProvider implements ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource> {
+
+		@Override
+		public ResourceUpdater<TestItemResource> retrieve(TestItemUpdaterContent updaterContent) {
+			roundTrip();
+			Map<Long, String> mapping = updaterContent.getTestItems()
+					.stream()
+					.collect(Collectors.toMap(TestItem::getItemId, TestItem::getPath));
+			return resource -> resource.setCodeRef(mapping.get(resource.getItemId()));
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import com.epam.ta.reportportal.commons.querygen.ConvertibleCondition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.ws.resolver.FilterCriteriaResolver.DEFAULT_FILTER_PREFIX;
+
+/**
+ * Compares resolving of the {@link Filter} from the cached conditions with parsing and validation
+ * of the filter parameters on every request that was done by {@link FilterCriteriaResolver} before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterCriteriaResolverBenchmark {
+
+	private static final String[] CONDITIONS = { "eq", "!cnt", "in", "has", "gte" };
+
+	@Param({ "2", "10" })
+	private int parametersCount;
+
+	private Map<String, String[]> parameters;
+
+	private FilterCriteriaResolver resolver;
+
+	@Setup
+	public void setUp() {
+		parameters = new HashMap<>();
+		for (int i = 0; i < parametersCount; i++) {
+			parameters.put(DEFAULT_FILTER_PREFIX + CONDITIONS[i % CONDITIONS.length] + ".criteria" + i, new String[] { "value" + i });
+		}
+		parameters.put("page.page", new String[] { "1" });
+		parameters.put("page.size", new String[] { "50" });
+		parameters.put("page.sort", new String[] { "startTime,DESC" });
+
+		resolver = new FilterCriteriaResolver();
+	}
+
+	@Benchmark
+	public Filter cached() {
+		return resolver.resolve(Launch.class, parameters);
+	}
+
+	@Benchmark
+	public Filter parsedPerRequest() {
+		Map<String, String> filterParameters = new TreeMap<>();
+		parameters.forEach((key, value) -> {
+			if (key.startsWith(DEFAULT_FILTER_PREFIX) && value.length > 0) {
+				filterParameters.put(key, value[0]);
+			}
+		});
+		List<ConvertibleCondition> conditions = FilterCriteriaResolver.parse(filterParameters)
+				.stream()
+				.map(FilterCriteriaResolver.ConditionTemplate::toCondition)
+				.collect(Collectors.toList());
+		return new Filter(Launch.class, conditions);
+	}
+}
@@ -42,6 +42,9 @@ public class ShareableObjectsHandler {
 	@Autowired
 	private ShareableEntityRepository shareableEntityRepository;
 
+	@Autowired
+	private ShareablePermissionCache shareablePermissionCache;
+
 	/**
 	 * Initialize acl for sharable object. Give {@link BasePermission#ADMINISTRATION}
 	 * permissions to owner. If object is shared, give {@link BasePermission#READ}
@@ -53,6 +56,7 @@ public class ShareableObjectsHandler {
 	 * @param isShared  Shared or not
 	 */
 	public void initAcl(Object object, String owner, Long projectId, boolean isShared) {
+		shareablePermissionCache.invalidate(projectId);
 		aclService.createAcl(object);
 		aclService.addPermissions(object, owner, BasePermission.ADMINISTRATION);
 		if (isShared) {
@@ -80,6 +84,7 @@ public class ShareableObjectsHandler {
 	 * @param isShared  Shared or not
 	 */
 	public void updateAcl(Object object, Long projectId, boolean isShared) {
+		shareablePermissionCache.invalidate(projectId);
 		if (isShared) {
 			userRepository.findUsernamesWithProjectRolesByProjectId(projectId).forEach((username, projectRole) -> {
 				if (projectRole.sameOrHigherThan(ProjectRole.PROJECT_MANAGER)) {
@@ -101,6 +106,7 @@ public class ShareableObjectsHandler {
 	 * @param userName  Username
 	 */
 	public void preventSharedObjects(Long projectId, String userName) {
+		shareablePermissionCache.invalidate(projectId);
 		List<ShareableEntity> sharedEntities = shareableEntityRepository.findAllByProjectIdAndShared(projectId, true);
 		sharedEntities.forEach(entity -> aclService.removePermissions(entity, userName));
 	}
@@ -112,6 +118,7 @@ public class ShareableObjectsHandler {
 	 * @param userName  Username
 	 */
 	public void permitSharedObjects(Long projectId, String userName, Permission permission) {
+		shareablePermissionCache.invalidate(projectId);
 		List<ShareableEntity> shareableEntities = shareableEntityRepository.findAllByProjectIdAndShared(projectId, true);
 		shareableEntities.forEach(entity -> aclService.addPermissions(entity, userName, permission));
 	}
@@ -123,6 +130,9 @@ public class ShareableObjectsHandler {
 	 */
 	public void deleteAclForObject(Object object) {
 		aclService.deleteAcl(object);
+		if (object instanceof ShareableEntity && ((ShareableEntity) object).getProject() != null) {
+			shareablePermissionCache.invalidate(((ShareableEntity) object).getProject().getId());
+		}
 	}
 
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth.acl;
+
+import com.epam.ta.reportportal.entity.ShareableEntity;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.acls.domain.BasePermission;
+import org.springframework.security.acls.domain.ObjectIdentityImpl;
+import org.springframework.security.acls.domain.PrincipalSid;
+import org.springframework.security.acls.model.Permission;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.epam.ta.reportportal.util.CacheEvictionUtils.evictNowAndAfterCompletion;
+
+/**
+ * Keeps ids of the shareable objects of the project the user has ACL permissions on,
+ * so permission checks of the widgets, filters and dashboards don't read ACL of every object.
+ * Permissions of the project are dropped on share, unshare, delete and project membership changes.
+ * Entries live for a short time only, as ACL may be changed by another instance.
+ */
+@Service
+public class ShareablePermissionCache {
+
+	private static final int CACHE_ITEM_LIVE = 60;
+	private static final int MAXIMUM_SIZE = 10000;
+
+	private static final String PERMISSIONS_QUERY = "SELECT oi.object_id_identity, e.mask FROM acl_entry e "
+			+ "JOIN acl_object_identity oi ON e.acl_object_identity = oi.id JOIN acl_class c ON oi.object_id_class = c.id "
+			+ "JOIN acl_sid s ON e.sid = s.id JOIN shareable_entity se ON oi.object_id_identity = se.id::VARCHAR "
+			+ "WHERE c.class = ? AND s.sid = ? AND s.principal AND e.granting AND se.project_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Incremented on every invalidation, so permissions loaded concurrently with the update are not cached
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * (projectId, object type, username) - permitted objects
+	 */
+	private final Cache<Triple<Long, String, String>, PermittedObjects> permissions;
+
+	@Autowired
+	public ShareablePermissionCache(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.permissions = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.SECONDS).build();
+	}
+
+	/**
+	 * Same check as {@link org.springframework.security.acls.AclPermissionEvaluator} does for the principal of the authentication
+	 *
+	 * @param authentication {@link Authentication}
+	 * @param entity         {@link ShareableEntity} with the project
+	 * @param permission     {@link BasePermission#READ} or {@link BasePermission#ADMINISTRATION}
+	 * @return 'true' if the user has an ACL entry with the permission on the object
+	 */
+	public boolean isPermitted(Authentication authentication, ShareableEntity entity, Permission permission) {
+		String username = new PrincipalSid(authentication).getPrincipal();
+		String type = new ObjectIdentityImpl(entity).getType();
+		return getPermitted(entity.getProject().getId(), type, username).getIds(permission).contains(entity.getId());
+	}
+
+	/**
+	 * Removes permissions of all the users of the project. If called inside of the transaction,
+	 * permissions are removed once more after the commit, so concurrent readers don't cache ACL that is not committed yet.
+	 *
+	 * @param projectId Project id
+	 */
+	public void invalidate(Long projectId) {
+		evictNowAndAfterCompletion(() -> evict(projectId));
+	}
+
+	private void evict(Long projectId) {
+		version.incrementAndGet();
+		permissions.asMap().keySet().removeIf(key -> projectId.equals(key.getLeft()));
+	}
+
+	private PermittedObjects getPermitted(Long projectId, String type, String username) {
+		Triple<Long, String, String> key = Triple.of(projectId, type, username);
+		PermittedObjects permitted = permissions.getIfPresent(key);
+		if (permitted == null) {
+			long currentVersion = version.get();
+			permitted = load(projectId, type, username);
+			if (currentVersion == version.get()) {
+				permissions.asMap().putIfAbsent(key, permitted);
+			}
+		}
+		return permitted;
+	}
+
+	private PermittedObjects load(Long projectId, String type, String username) {
+		Map<Integer, Set<Long>> idsByMask = new HashMap<>();
+		jdbcTemplate.query(PERMISSIONS_QUERY,
+				(RowCallbackHandler) rs -> idsByMask.computeIfAbsent(rs.getInt(2), mask -> new HashSet<>()).add(Long.valueOf(rs.getString(1))),
+				type,
+				username,
+				projectId
+		);
+		return new PermittedObjects(idsByMask);
+	}
+
+	/**
+	 * Ids of the objects by the mask of the permission
+	 */
+	private static final class PermittedObjects {
+
+		private final Map<Integer, Set<Long>> idsByMask;
+
+		private PermittedObjects(Map<Integer, Set<Long>> idsByMask) {
+			this.idsByMask = idsByMask;
+		}
+
+		private Set<Long> getIds(Permission permission) {
+			return idsByMask.getOrDefault(permission.getMask(), Collections.emptySet());
+		}
+	}
+}
@@ -16,6 +16,8 @@
 
 package com.epam.ta.reportportal.auth.permissions;
 
+import com.epam.ta.reportportal.auth.acl.ShareablePermissionCache;
+import com.epam.ta.reportportal.entity.ShareableEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.acls.AclPermissionEvaluator;
 import org.springframework.security.acls.domain.BasePermission;
@@ -29,8 +31,14 @@ public class AclReadPermission implements Permission {
 	@Autowired
 	public AclPermissionEvaluator aclPermissionEvaluator;
 
+	@Autowired
+	public ShareablePermissionCache shareablePermissionCache;
+
 	@Override
 	public boolean isAllowed(Authentication authentication, Object targetDomainObject) {
+		if (targetDomainObject instanceof ShareableEntity && ((ShareableEntity) targetDomainObject).getProject() != null) {
+			return shareablePermissionCache.isPermitted(authentication, (ShareableEntity) targetDomainObject, BasePermission.READ);
+		}
 		return aclPermissionEvaluator.hasPermission(authentication, targetDomainObject, BasePermission.READ);
 	}
 }
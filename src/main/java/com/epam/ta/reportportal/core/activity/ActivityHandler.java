@@ -19,9 +19,13 @@ package com.epam.ta.reportportal.core.activity;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.Queryable;
+import com.epam.ta.reportportal.core.activity.model.ActivityFeedRs;
 import com.epam.ta.reportportal.ws.model.ActivityResource;
 import org.springframework.data.domain.Pageable;
 
+import javax.annotation.Nullable;
+import java.util.List;
+
 /**
  * @author Ihar Kahadouski
  */
@@ -74,4 +78,27 @@ public interface ActivityHandler {
 	 * @return Found activities
 	 */
 	Iterable<ActivityResource> getItemActivities(ReportPortalUser.ProjectDetails projectDetails, Filter filter, Pageable pageable);
+
+	/**
+	 * Load page of the project activities from the newest to the oldest
+	 *
+	 * @param projectDetails Details of project {@link ReportPortalUser.ProjectDetails}
+	 * @param entities       Types of the activity entities, empty for all the types
+	 * @param cursor         Cursor of the previous page or 'null' for the first page
+	 * @param limit          Page size
+	 * @return {@link ActivityFeedRs}
+	 */
+	ActivityFeedRs getActivitiesFeed(ReportPortalUser.ProjectDetails projectDetails, List<String> entities, @Nullable String cursor,
+			int limit);
+
+	/**
+	 * Load page of the activities of the {@link com.epam.ta.reportportal.entity.item.TestItem} from the newest to the oldest
+	 *
+	 * @param projectDetails Details of project {@link ReportPortalUser.ProjectDetails}
+	 * @param itemId         ID of test item
+	 * @param cursor         Cursor of the previous page or 'null' for the first page
+	 * @param limit          Page size
+	 * @return {@link ActivityFeedRs}
+	 */
+	ActivityFeedRs getItemActivitiesFeed(ReportPortalUser.ProjectDetails projectDetails, Long itemId, @Nullable String cursor, int limit);
 }
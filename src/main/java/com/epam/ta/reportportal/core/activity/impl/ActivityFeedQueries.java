@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.activity.impl;
+
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.entity.activity.ActivityDetails;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.ta.reportportal.entity.activity.Activity.ActivityEntityType.*;
+
+/**
+ * Keyset paginated activity feeds. Activities are ordered by (creation_date, id) from the newest to the oldest
+ * and the next page starts after the last activity of the previous one, so the page cost doesn't depend on its depth.
+ * Feeds rely on the activity table indexes of the same order:
+ * (project_id, creation_date DESC, id DESC) for the project feed and (object_id, creation_date DESC, id DESC) for the item feed.
+ */
+@Service
+class ActivityFeedQueries {
+
+	private static final String SELECT_QUERY =
+			"SELECT id, user_id, username, project_id, entity, action, details, creation_date, object_id FROM activity WHERE project_id = ?";
+
+	private static final String ENTITY_CONDITION = " AND entity = ANY(?::VARCHAR[])";
+
+	private static final String ITEM_CONDITION = " AND object_id = ? AND (entity = ANY(?::VARCHAR[]) OR (entity = ? AND action = ?))";
+
+	private static final String KEYSET_CONDITION = " AND (creation_date, id) < (?, ?)";
+
+	private static final String ORDER_QUERY = " ORDER BY creation_date DESC, id DESC LIMIT ?";
+
+	private static final String ITEM_ENTITIES = toArray(Stream.of(ITEM, ITEM_ISSUE, TICKET)
+			.map(Activity.ActivityEntityType::getValue)
+			.collect(Collectors.toList()));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final RowMapper<Activity> activityMapper;
+
+	@Autowired
+	public ActivityFeedQueries(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.activityMapper = (rs, rowNum) -> {
+			Activity activity = new Activity();
+			activity.setId(rs.getLong("id"));
+			activity.setUserId(rs.getObject("user_id", Long.class));
+			activity.setUsername(rs.getString("username"));
+			activity.setProjectId(rs.getLong("project_id"));
+			activity.setActivityEntityType(rs.getString("entity"));
+			activity.setAction(rs.getString("action"));
+			activity.setCreatedAt(rs.getTimestamp("creation_date").toLocalDateTime());
+			activity.setObjectId(rs.getObject("object_id", Long.class));
+			String details = rs.getString("details");
+			if (details != null) {
+				try {
+					activity.setDetails(objectMapper.readValue(details, ActivityDetails.class));
+				} catch (IOException e) {
+					throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, "Unable to read details of the activity");
+				}
+			}
+			return activity;
+		};
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param entities  Activity entity types values, empty for all the types
+	 * @param cursor    Last activity of the previous page or 'null' for the first page
+	 * @param limit     Max count of activities
+	 * @return Activities of the project
+	 */
+	List<Activity> findProjectActivities(Long projectId, Collection<String> entities, @Nullable Cursor cursor, int limit) {
+		StringBuilder query = new StringBuilder(SELECT_QUERY);
+		List<Object> args = new ArrayList<>();
+		args.add(projectId);
+		if (!entities.isEmpty()) {
+			query.append(ENTITY_CONDITION);
+			args.add(toArray(entities));
+		}
+		return find(query, args, cursor, limit);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param itemId    Test item id
+	 * @param cursor    Last activity of the previous page or 'null' for the first page
+	 * @param limit     Max count of activities
+	 * @return Activities of the item, its issue and tickets and matched patterns
+	 */
+	List<Activity> findItemActivities(Long projectId, Long itemId, @Nullable Cursor cursor, int limit) {
+		StringBuilder query = new StringBuilder(SELECT_QUERY).append(ITEM_CONDITION);
+		List<Object> args = new ArrayList<>();
+		args.add(projectId);
+		args.add(itemId);
+		args.add(ITEM_ENTITIES);
+		args.add(PATTERN.getValue());
+		args.add(ActivityAction.PATTERN_MATCHED.getValue());
+		return find(query, args, cursor, limit);
+	}
+
+	private List<Activity> find(StringBuilder query, List<Object> args, @Nullable Cursor cursor, int limit) {
+		if (cursor != null) {
+			query.append(KEYSET_CONDITION);
+			args.add(Timestamp.valueOf(cursor.createdAt));
+			args.add(cursor.id);
+		}
+		query.append(ORDER_QUERY);
+		args.add(limit);
+		return jdbcTemplate.query(query.toString(), activityMapper, args.toArray());
+	}
+
+	private static String toArray(Collection<String> values) {
+		return values.stream().collect(Collectors.joining("\",\"", "{\"", "\"}"));
+	}
+
+	/**
+	 * Position of the activity in the feed, exposed to the clients as an opaque string
+	 */
+	static final class Cursor {
+
+		private static final String SEPARATOR = "_";
+
+		private final LocalDateTime createdAt;
+
+		private final Long id;
+
+		private Cursor(LocalDateTime createdAt, Long id) {
+			this.createdAt = createdAt;
+			this.id = id;
+		}
+
+		static Cursor of(Activity activity) {
+			return new Cursor(activity.getCreatedAt(), activity.getId());
+		}
+
+		static Cursor parse(String value) {
+			try {
+				String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+				int separator = decoded.lastIndexOf(SEPARATOR);
+				return new Cursor(LocalDateTime.parse(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+			} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+				throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Incorrect activity feed cursor: " + value);
+			}
+		}
+
+		String format() {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.querygen.*;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.activity.ActivityHandler;
+import com.epam.ta.reportportal.core.activity.model.ActivityFeedRs;
 import com.epam.ta.reportportal.dao.ActivityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -42,6 +43,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Nullable;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,18 +61,22 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 @Service
 public class ActivityHandlerImpl implements ActivityHandler {
 
+	private static final int MAX_FEED_LIMIT = 300;
+
 	private final ActivityRepository activityRepository;
 	private final TestItemRepository testItemRepository;
 	private final LaunchRepository launchRepository;
 	private final ProjectRepository projectRepository;
+	private final ActivityFeedQueries activityFeedQueries;
 
 	@Autowired
 	public ActivityHandlerImpl(ActivityRepository activityRepository, TestItemRepository testItemRepository,
-			LaunchRepository launchRepository, ProjectRepository projectRepository) {
+			LaunchRepository launchRepository, ProjectRepository projectRepository, ActivityFeedQueries activityFeedQueries) {
 		this.activityRepository = activityRepository;
 		this.testItemRepository = testItemRepository;
 		this.launchRepository = launchRepository;
 		this.projectRepository = projectRepository;
+		this.activityFeedQueries = activityFeedQueries;
 	}
 
 	@Override
@@ -105,15 +112,7 @@ public class ActivityHandlerImpl implements ActivityHandler {
 	@Override
 	public Iterable<ActivityResource> getItemActivities(ReportPortalUser.ProjectDetails projectDetails, Long itemId, Filter filter,
 			Pageable pageable) {
-		TestItem testItem = testItemRepository.findById(itemId).orElseThrow(() -> new ReportPortalException(TEST_ITEM_NOT_FOUND, itemId));
-		Launch launch = launchRepository.findById(testItem.getLaunchId())
-				.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, testItem.getLaunchId()));
-		expect(projectDetails.getProjectId(), Predicate.isEqual(launch.getProjectId())).verify(ACCESS_DENIED,
-				Suppliers.formattedSupplier("Test item with id '{}' is not under project with id '{}'",
-						itemId,
-						projectDetails.getProjectId()
-				)
-		);
+		validateItemProject(projectDetails, itemId);
 
 		Sort sortByCreationDateDesc = Sort.by(Sort.Direction.DESC, CRITERIA_CREATION_DATE);
 
@@ -145,6 +144,67 @@ public class ActivityHandlerImpl implements ActivityHandler {
 				.apply(activityRepository.findByFilter(filter, pageable));
 	}
 
+	@Override
+	public ActivityFeedRs getActivitiesFeed(ReportPortalUser.ProjectDetails projectDetails, List<String> entities, @Nullable String cursor,
+			int limit) {
+		validateFeedLimit(limit);
+		List<String> entityTypes = entities.stream()
+				.map(entity -> Activity.ActivityEntityType.fromString(entity)
+						.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "Unknown activity entity type: " + entity)))
+				.map(Activity.ActivityEntityType::getValue)
+				.distinct()
+				.collect(Collectors.toList());
+		//project existence is verified on the project details resolving, activities of the removed project are removed with it
+		return toFeed(activityFeedQueries.findProjectActivities(projectDetails.getProjectId(),
+				entityTypes,
+				parseCursor(cursor),
+				limit + 1
+		), limit);
+	}
+
+	@Override
+	public ActivityFeedRs getItemActivitiesFeed(ReportPortalUser.ProjectDetails projectDetails, Long itemId, @Nullable String cursor,
+			int limit) {
+		validateFeedLimit(limit);
+		validateItemProject(projectDetails, itemId);
+		return toFeed(activityFeedQueries.findItemActivities(projectDetails.getProjectId(), itemId, parseCursor(cursor), limit + 1),
+				limit
+		);
+	}
+
+	private void validateItemProject(ReportPortalUser.ProjectDetails projectDetails, Long itemId) {
+		TestItem testItem = testItemRepository.findById(itemId).orElseThrow(() -> new ReportPortalException(TEST_ITEM_NOT_FOUND, itemId));
+		Launch launch = launchRepository.findById(testItem.getLaunchId())
+				.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, testItem.getLaunchId()));
+		expect(projectDetails.getProjectId(), Predicate.isEqual(launch.getProjectId())).verify(ACCESS_DENIED,
+				Suppliers.formattedSupplier("Test item with id '{}' is not under project with id '{}'",
+						itemId,
+						projectDetails.getProjectId()
+				)
+		);
+	}
+
+	private void validateFeedLimit(int limit) {
+		expect(limit, it -> it > 0 && it <= MAX_FEED_LIMIT).verify(BAD_REQUEST_ERROR,
+				Suppliers.formattedSupplier("Activities limit should be between 1 and {}", MAX_FEED_LIMIT)
+		);
+	}
+
+	private ActivityFeedQueries.Cursor parseCursor(@Nullable String cursor) {
+		return cursor == null ? null : ActivityFeedQueries.Cursor.parse(cursor);
+	}
+
+	/**
+	 * @param activities Activities of the page and the first activity of the next page, if it exists
+	 * @param limit      Page size
+	 * @return {@link ActivityFeedRs} with the cursor of the last activity of the page if there is the next page
+	 */
+	private ActivityFeedRs toFeed(List<Activity> activities, int limit) {
+		List<Activity> content = activities.size() > limit ? activities.subList(0, limit) : activities;
+		String next = activities.size() > limit ? ActivityFeedQueries.Cursor.of(content.get(limit - 1)).format() : null;
+		return new ActivityFeedRs(content.stream().map(ActivityConverter.TO_RESOURCE).collect(Collectors.toList()), next);
+	}
+
 	/**
 	 * Build {@link Filter} to search for {@link Activity} with {@link Activity.ActivityEntityType#PATTERN} entity
 	 * and {@link ActivityAction#PATTERN_MATCHED} action conditions of the {@link TestItem} with provided 'itemId'
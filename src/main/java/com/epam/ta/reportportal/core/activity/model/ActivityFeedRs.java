@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.activity.model;
+
+import com.epam.ta.reportportal.ws.model.ActivityResource;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Page of the activities ordered from the newest to the oldest.
+ * The next page is requested with the {@link #next} cursor, which is absent on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActivityFeedRs {
+
+	@JsonProperty
+	private List<ActivityResource> content;
+
+	@JsonProperty
+	private String next;
+
+	public ActivityFeedRs() {
+	}
+
+	public ActivityFeedRs(List<ActivityResource> content, String next) {
+		this.content = content;
+		this.next = next;
+	}
+
+	public List<ActivityResource> getContent() {
+		return content;
+	}
+
+	public void setContent(List<ActivityResource> content) {
+		this.content = content;
+	}
+
+	public String getNext() {
+		return next;
+	}
+
+	public void setNext(String next) {
+		this.next = next;
+	}
+}
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.analyzer.auto.SearchLogService;
 import com.epam.ta.reportportal.core.analyzer.auto.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.search.SearchCollectorFactory;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.search.SearchLogsMode;
+import com.epam.ta.reportportal.core.item.identity.IdentityUtil;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -54,8 +55,7 @@ import static com.epam.ta.reportportal.commons.Predicates.not;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.ws.converter.converters.LogConverter.TO_LOG_ENTRY;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -139,33 +139,104 @@ public class SearchLogServiceImpl implements SearchLogService {
 				.stream()
 				.collect(toMap(TestItem::getItemId, item -> item));
 		List<Log> foundLogs = logRepository.findAllById(logIdMapping.keySet());
-		Map<Long, SearchLogRs> foundLogsMap = Maps.newHashMap();
 
-		foundLogs.forEach(log -> ofNullable(logIdMapping.get(log.getId())).ifPresent(itemId -> {
-			foundLogsMap.computeIfPresent(itemId, (key, value) -> {
-				value.getLogs().add(TO_LOG_ENTRY.apply(log));
-				return value;
-			});
-			foundLogsMap.computeIfAbsent(itemId, key -> composeResponse(testItemMapping, projectId, itemId, log));
-		}));
+		Map<Long, List<Log>> logsByItemId = new LinkedHashMap<>();
+		foundLogs.forEach(log -> ofNullable(logIdMapping.get(log.getId())).ifPresent(itemId -> logsByItemId.computeIfAbsent(itemId,
+				key -> Lists.newArrayList()
+		).add(log)));
+		if (logsByItemId.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<TestItem> relevantItems = logsByItemId.keySet()
+				.stream()
+				.map(itemId -> ofNullable(testItemMapping.get(itemId)).orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND,
+						itemId
+				)))
+				.collect(toList());
+		verifyLaunchesExist(relevantItems);
+		Map<Long, PathName> pathNameMapping = testItemRepository.selectPathNames(logsByItemId.keySet(), projectId);
+		Map<Long, TestItem> itemsWithStats = findItemsWithStats(relevantItems);
+
+		Map<Long, SearchLogRs> foundLogsMap = Maps.newHashMap();
+		relevantItems.forEach(testItem -> foundLogsMap.put(testItem.getItemId(),
+				composeResponse(testItem, pathNameMapping, itemsWithStats, logsByItemId.get(testItem.getItemId()))
+		));
 		return foundLogsMap.values();
 	}
 
-	private SearchLogRs composeResponse(Map<Long, TestItem> testItemMapping, Long projectId, Long itemId, Log log) {
-		TestItem testItem = ofNullable(testItemMapping.get(itemId)).orElseThrow(() -> new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND,
-				itemId
-		));
-		Long launchId = ofNullable(testItem.getLaunchId()).orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND,
-				testItem.getLaunchId()
-		));
-		Launch launch = launchRepository.findById(launchId)
-				.orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchId));
-		Map<Long, PathName> pathNameMapping = testItemRepository.selectPathNames(Collections.singletonList(testItem.getItemId()),
-				projectId
-		);
+	/**
+	 * Verifies existence of the launches of all the relevant items with a single query
+	 *
+	 * @param relevantItems Items of the found logs
+	 */
+	private void verifyLaunchesExist(List<TestItem> relevantItems) {
+		Set<Long> requiredIds = relevantItems.stream()
+				.map(testItem -> ofNullable(testItem.getLaunchId()).orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND,
+						testItem.getLaunchId()
+				)))
+				.collect(toSet());
+		Set<Long> launchIds = launchRepository.findAllById(requiredIds).stream().map(Launch::getId).collect(toSet());
+		requiredIds.stream()
+				.filter(id -> !launchIds.contains(id))
+				.findFirst()
+				.ifPresent(id -> {
+					throw new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, id);
+				});
+	}
+
+	/**
+	 * Resolves the closest item with statistics (the item itself or one of its ancestors) for every relevant item.
+	 * All the required ancestors are loaded with a single query using {@link TestItem#getPath()}
+	 *
+	 * @param relevantItems Items of the found logs
+	 * @return itemId - item with statistics mapping
+	 */
+	private Map<Long, TestItem> findItemsWithStats(List<TestItem> relevantItems) {
+		Map<Long, TestItem> itemsWithStats = Maps.newHashMapWithExpectedSize(relevantItems.size());
+		List<TestItem> itemsWithoutStats = Lists.newArrayList();
+		relevantItems.forEach(testItem -> {
+			if (testItem.isHasStats()) {
+				itemsWithStats.put(testItem.getItemId(), testItem);
+			} else {
+				itemsWithoutStats.add(testItem);
+			}
+		});
+		if (itemsWithoutStats.isEmpty()) {
+			return itemsWithStats;
+		}
 
+		Set<Long> ancestorIds = itemsWithoutStats.stream().flatMap(testItem -> IdentityUtil.getParentIds(testItem).stream()).collect(toSet());
+		Map<Long, TestItem> ancestors = testItemRepository.findAllById(ancestorIds)
+				.stream()
+				.collect(toMap(TestItem::getItemId, item -> item));
+
+		itemsWithoutStats.forEach(testItem -> {
+			List<Long> parentIds = IdentityUtil.getParentIds(testItem);
+			Collections.reverse(parentIds);
+			TestItem itemWithStats = parentIds.stream()
+					.map(ancestors::get)
+					.filter(Objects::nonNull)
+					.filter(TestItem::isHasStats)
+					.findFirst()
+					.orElseGet(() -> findItemWithStats(testItem));
+			itemsWithStats.put(testItem.getItemId(), itemWithStats);
+		});
+		return itemsWithStats;
+	}
+
+	private TestItem findItemWithStats(TestItem testItem) {
+		TestItem itemWithStats = testItem;
+		while (!itemWithStats.isHasStats()) {
+			itemWithStats = itemWithStats.getParent();
+		}
+		return itemWithStats;
+	}
+
+	private SearchLogRs composeResponse(TestItem testItem, Map<Long, PathName> pathNameMapping, Map<Long, TestItem> itemsWithStats,
+			List<Log> logs) {
 		SearchLogRs response = new SearchLogRs();
-		response.setLaunchId(launch.getId());
+		response.setLaunchId(testItem.getLaunchId());
 		ofNullable(pathNameMapping.get(testItem.getItemId())).ifPresent(pathName -> {
 			response.setPathNames(TestItemConverter.PATH_NAME_TO_RESOURCE.apply(pathName));
 		});
@@ -179,13 +250,9 @@ public class SearchLogServiceImpl implements SearchLogService {
 		response.setDuration(testItem.getItemResults().getDuration());
 		response.setStatus(testItem.getItemResults().getStatus().name());
 
-		TestItem itemWithStats = testItem;
-		while (!itemWithStats.isHasStats()) {
-			itemWithStats = itemWithStats.getParent();
-		}
-
+		TestItem itemWithStats = itemsWithStats.get(testItem.getItemId());
 		response.setIssue(IssueConverter.TO_MODEL.apply(itemWithStats.getItemResults().getIssue()));
-		response.setLogs(Lists.newArrayList(TO_LOG_ENTRY.apply(log)));
+		response.setLogs(logs.stream().map(TO_LOG_ENTRY).collect(toList()));
 		return response;
 	}
 }
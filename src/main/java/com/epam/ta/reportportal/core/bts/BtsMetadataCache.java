@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.bts;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.epam.ta.reportportal.util.CacheEvictionUtils.evictNowAndAfterCompletion;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Keeps ticket submit form fields and issue types of the bug tracking integrations,
+ * so the 'post bug' dialog doesn't request the external system every time it's opened.
+ * Concurrent requests of the same metadata are served by a single request to the external system.
+ * Metadata of the integration is dropped on the integration update, entries of the deleted integrations just expire.
+ */
+@Service
+public class BtsMetadataCache {
+
+	private static final int CACHE_ITEM_LIVE = 10;
+	private static final int MAXIMUM_SIZE = 1000;
+
+	/**
+	 * Incremented on every invalidation, so metadata loaded concurrently with the update is not kept
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * (integration id, ticket type) - ticket submit form fields
+	 */
+	private final Cache<Pair<Long, String>, List<PostFormField>> ticketFields;
+
+	/**
+	 * integration id - issue types
+	 */
+	private final Cache<Long, List<String>> issueTypes;
+
+	public BtsMetadataCache() {
+		this.ticketFields = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+		this.issueTypes = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * @param integrationId Integration id
+	 * @param ticketType    Ticket type
+	 * @param loader        Request of the fields from the external system
+	 * @return Ticket submit form fields
+	 */
+	public List<PostFormField> getTicketFields(Long integrationId, String ticketType, Supplier<List<PostFormField>> loader) {
+		return get(ticketFields, Pair.of(integrationId, ticketType), loader);
+	}
+
+	/**
+	 * @param integrationId Integration id
+	 * @param loader        Request of the issue types from the external system
+	 * @return Issue types
+	 */
+	public List<String> getIssueTypes(Long integrationId, Supplier<List<String>> loader) {
+		return get(issueTypes, integrationId, loader);
+	}
+
+	/**
+	 * Removes metadata of the integration. If called inside of the transaction,
+	 * metadata is removed once more after the commit, so concurrent readers don't keep metadata of the previous parameters.
+	 *
+	 * @param integrationId Integration id
+	 */
+	public void invalidate(Long integrationId) {
+		evictNowAndAfterCompletion(() -> evict(integrationId));
+	}
+
+	private void evict(Long integrationId) {
+		version.incrementAndGet();
+		ticketFields.asMap().keySet().removeIf(key -> integrationId.equals(key.getLeft()));
+		issueTypes.invalidate(integrationId);
+	}
+
+	private <K, V> List<V> get(Cache<K, List<V>> cache, K key, Supplier<List<V>> loader) {
+		long currentVersion = version.get();
+		List<V> values;
+		try {
+			values = cache.get(key, () -> copyOf(loader.get()));
+		} catch (UncheckedExecutionException | ExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, e.getCause().getMessage());
+		}
+		if (currentVersion != version.get()) {
+			cache.invalidate(key);
+		}
+		return values;
+	}
+
+	private static <V> List<V> copyOf(List<V> values) {
+		return ofNullable(values).map(it -> Collections.unmodifiableList(new ArrayList<>(it))).orElseGet(Collections::emptyList);
+	}
+}
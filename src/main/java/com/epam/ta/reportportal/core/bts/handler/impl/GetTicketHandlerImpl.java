@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.bts.handler.impl;
 import com.epam.reportportal.extension.bugtracking.BtsExtension;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.bts.BtsMetadataCache;
 import com.epam.ta.reportportal.core.bts.handler.GetTicketHandler;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
 import com.epam.ta.reportportal.core.plugin.PluginBox;
@@ -45,11 +46,13 @@ public class GetTicketHandlerImpl implements GetTicketHandler {
 
 	private final PluginBox pluginBox;
 	private final GetIntegrationHandler getIntegrationHandler;
+	private final BtsMetadataCache btsMetadataCache;
 
 	@Autowired
-	public GetTicketHandlerImpl(PluginBox pluginBox, GetIntegrationHandler getIntegrationHandler) {
+	public GetTicketHandlerImpl(PluginBox pluginBox, GetIntegrationHandler getIntegrationHandler, BtsMetadataCache btsMetadataCache) {
 		this.pluginBox = pluginBox;
 		this.getIntegrationHandler = getIntegrationHandler;
+		this.btsMetadataCache = btsMetadataCache;
 	}
 
 	@Override
@@ -63,25 +66,36 @@ public class GetTicketHandlerImpl implements GetTicketHandler {
 	public List<PostFormField> getSubmitTicketFields(String ticketType, Long integrationId,
 			ReportPortalUser.ProjectDetails projectDetails) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(projectDetails, integrationId);
-		return getBtsExtension(integration).getTicketFields(ticketType, integration);
+		return getTicketFields(ticketType, integration);
 	}
 
 	@Override
 	public List<PostFormField> getSubmitTicketFields(String ticketType, Long integrationId) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(integrationId);
-		return getBtsExtension(integration).getTicketFields(ticketType, integration);
+		return getTicketFields(ticketType, integration);
 	}
 
 	@Override
 	public List<String> getAllowableIssueTypes(Long integrationId, ReportPortalUser.ProjectDetails projectDetails) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(projectDetails, integrationId);
-		return getBtsExtension(integration).getIssueTypes(integration);
+		return getIssueTypes(integration);
 	}
 
 	@Override
 	public List<String> getAllowableIssueTypes(Long integrationId) {
 		Integration integration = getIntegrationHandler.getEnabledBtsIntegration(integrationId);
-		return getBtsExtension(integration).getIssueTypes(integration);
+		return getIssueTypes(integration);
+	}
+
+	private List<PostFormField> getTicketFields(String ticketType, Integration integration) {
+		return btsMetadataCache.getTicketFields(integration.getId(),
+				ticketType,
+				() -> getBtsExtension(integration).getTicketFields(ticketType, integration)
+		);
+	}
+
+	private List<String> getIssueTypes(Integration integration) {
+		return btsMetadataCache.getIssueTypes(integration.getId(), () -> getBtsExtension(integration).getIssueTypes(integration));
 	}
 
 	private BtsExtension getBtsExtension(Integration integration) {
@@ -17,21 +17,54 @@
 package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.core.logging.HttpLoggingAspect;
+import com.epam.ta.reportportal.core.logging.HttpLoggingRejectionHandler;
 import com.epam.ta.reportportal.core.logging.RabbitMessageLoggingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * @author Konstantin Antipin
  */
 @Configuration
+@EnableConfigurationProperties(AspectConfig.HttpLoggingConfig.class)
 public class AspectConfig {
 
     @Bean
     @ConditionalOnProperty(name = "rp.requestLogging", havingValue = "true")
-    HttpLoggingAspect httpLoggingAspect() {
-        return new HttpLoggingAspect();
+    HttpLoggingAspect httpLoggingAspect(HttpLoggingConfig config,
+            @Qualifier("httpLoggingTaskExecutor") ObjectProvider<TaskExecutor> httpLoggingTaskExecutor) {
+        return new HttpLoggingAspect(config.sampleRate,
+                config.endpoints,
+                config.maxBodyLength,
+                httpLoggingTaskExecutor.getIfAvailable()
+        );
+    }
+
+    /**
+     * Single thread writes the records in the order of the requests. Records are dropped and counted when the queue is full,
+     * so the slow log output doesn't affect the request threads.
+     */
+    @Bean(name = "httpLoggingTaskExecutor")
+    @ConditionalOnProperty(name = { "rp.requestLogging", "rp.http-logging.async" }, havingValue = "true")
+    TaskExecutor httpLoggingTaskExecutor(HttpLoggingConfig config, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(config.queueCapacity);
+        executor.setThreadNamePrefix("http-logging-");
+        executor.setRejectedExecutionHandler(new HttpLoggingRejectionHandler(meterRegistry));
+        return executor;
     }
 
     @Bean
@@ -39,4 +72,37 @@ public class AspectConfig {
     RabbitMessageLoggingAspect rabbitMessageLoggingAspect() {
         return new RabbitMessageLoggingAspect();
     }
+
+    @ConfigurationProperties("rp.http-logging")
+    public static class HttpLoggingConfig {
+        double sampleRate = 1.0;
+        int maxBodyLength = 4096;
+        boolean async;
+        int queueCapacity = 1000;
+        Map<String, Double> endpoints = new HashMap<>();
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public void setMaxBodyLength(int maxBodyLength) {
+            this.maxBodyLength = maxBodyLength;
+        }
+
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Map<String, Double> getEndpoints() {
+            return endpoints;
+        }
+
+        public void setEndpoints(Map<String, Double> endpoints) {
+            this.endpoints = endpoints;
+        }
+    }
 }
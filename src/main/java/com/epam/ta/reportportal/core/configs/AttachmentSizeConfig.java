@@ -18,28 +18,44 @@ package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.file.FileSizeResolver;
+import com.epam.ta.reportportal.core.file.impl.LocalFileSizeResolver;
+import com.epam.ta.reportportal.core.file.impl.MinioFileSizeResolver;
+import com.epam.ta.reportportal.core.file.impl.StreamingFileSizeResolver;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
-import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import io.minio.MinioClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.support.PostgresPagingQueryProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.util.StreamUtils;
 
 import javax.sql.DataSource;
-import java.io.InputStream;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
+ * Recalculates sizes of the attachments files.
+ * Attachments are split into id ranges processed in parallel, sizes are resolved from the data store metadata where it's possible.
+ * Position of every range is saved with the chunk commit, so the failed job continues from the last committed chunk on restart.
+ *
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
 @Configuration
@@ -48,7 +64,10 @@ public class AttachmentSizeConfig {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentSizeConfig.class);
 
-	private static final int CHUNK_SIZE = 10;
+	private static final int CHUNK_SIZE = 500;
+
+	private static final String MIN_ID = "minId";
+	private static final String MAX_ID = "maxId";
 
 	@Autowired
 	private StepBuilderFactory stepBuilderFactory;
@@ -63,12 +82,68 @@ public class AttachmentSizeConfig {
 	@Autowired
 	private JdbcTemplate jdbcTemplate;
 
+	@Value("${rp.attachments.recalculate.threads:4}")
+	private int threads;
+
+	@Bean
+	public FileSizeResolver attachmentSizeResolver(@Value("${datastore.type}") String dataStoreType, DataEncoder dataEncoder,
+			ObjectProvider<MinioClient> minioClient, @Value("${datastore.default.path}") String storageRootPath,
+			@Value("${datastore.minio.bucketPrefix}") String bucketPrefix,
+			@Value("${datastore.minio.defaultBucketName}") String defaultBucketName) {
+		switch (dataStoreType) {
+			case "filesystem":
+				return new LocalFileSizeResolver(dataEncoder, storageRootPath);
+			case "minio":
+				return new MinioFileSizeResolver(dataEncoder, minioClient.getObject(), bucketPrefix, defaultBucketName);
+			default:
+				return new StreamingFileSizeResolver(dataStoreService);
+		}
+	}
+
+	/**
+	 * Splits attachments into the id ranges of the same length
+	 */
+	@Bean
+	public Partitioner attachmentSizePartitioner() {
+		return gridSize -> {
+			long[] range = jdbcTemplate.queryForObject("SELECT coalesce(min(id), 0), coalesce(max(id), -1) FROM attachment",
+					(rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }
+			);
+			long rangeSize = Math.max(1, (range[1] - range[0]) / gridSize + 1);
+			Map<String, ExecutionContext> partitions = new HashMap<>();
+			long minId = range[0];
+			do {
+				ExecutionContext context = new ExecutionContext();
+				context.putLong(MIN_ID, minId);
+				context.putLong(MAX_ID, Math.min(range[1], minId + rangeSize - 1));
+				partitions.put("partition" + partitions.size(), context);
+				minId += rangeSize;
+			} while (minId <= range[1]);
+			return partitions;
+		};
+	}
+
 	@Bean
-	public JdbcCursorItemReader<Attachment> reader() throws Exception {
-		String query = "SELECT * from attachment order by id";
-		JdbcCursorItemReader<Attachment> reader = new JdbcCursorItemReader<>();
-		reader.setSql(query);
+	@StepScope
+	public JdbcPagingItemReader<Attachment> attachmentSizeReader(@Value("#{stepExecutionContext['minId']}") Long minId,
+			@Value("#{stepExecutionContext['maxId']}") Long maxId) throws Exception {
+		PostgresPagingQueryProvider queryProvider = new PostgresPagingQueryProvider();
+		queryProvider.setSelectClause("id, file_id");
+		queryProvider.setFromClause("attachment");
+		queryProvider.setWhereClause("id BETWEEN :minId AND :maxId");
+		queryProvider.setSortKeys(Collections.singletonMap("id", Order.ASCENDING));
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put(MIN_ID, minId);
+		parameters.put(MAX_ID, maxId);
+
+		JdbcPagingItemReader<Attachment> reader = new JdbcPagingItemReader<>();
+		reader.setName("attachmentSizeReader");
 		reader.setDataSource(dataSource);
+		reader.setQueryProvider(queryProvider);
+		reader.setParameterValues(parameters);
+		reader.setPageSize(CHUNK_SIZE);
+		reader.setFetchSize(CHUNK_SIZE);
 		reader.setRowMapper((rs, rowNum) -> {
 			Attachment attachment = new Attachment();
 			attachment.setId(rs.getLong("id"));
@@ -80,36 +155,43 @@ public class AttachmentSizeConfig {
 	}
 
 	@Bean
-	public ItemProcessor<Attachment, Attachment> processor() {
+	public ItemProcessor<Attachment, Attachment> attachmentSizeProcessor(FileSizeResolver attachmentSizeResolver) {
 		return item -> {
-			try {
-				Optional<InputStream> file = dataStoreService.load(item.getFileId());
-				try (final InputStream inputStream = file.get()) {
-					item.setFileSize(StreamUtils.copyToByteArray(inputStream).length);
-					return item;
-				}
-			} catch (ReportPortalException e) {
-				LOGGER.debug(Suppliers.formattedSupplier("File with id {} is not presented at the file system. Removing from the database.",
-						item.getId()
-				).get());
-				jdbcTemplate.update("DELETE FROM attachment WHERE id = ?", item.getId());
-				return null;
+			Optional<Long> size = attachmentSizeResolver.getSize(item.getFileId());
+			if (size.isPresent()) {
+				item.setFileSize(size.get());
+				return item;
 			}
+			LOGGER.debug(Suppliers.formattedSupplier("File with id {} is not presented at the file system. Removing from the database.",
+					item.getId()
+			).get());
+			jdbcTemplate.update("DELETE FROM attachment WHERE id = ?", item.getId());
+			return null;
 		};
 	}
 
 	@Bean
-	public ItemWriter<Attachment> writer() {
-		return items -> items.forEach(item -> {
-			jdbcTemplate.update("UPDATE attachment SET file_size = ? WHERE id = ?", item.getFileSize(), item.getId());
-		});
+	public ItemWriter<Attachment> attachmentSizeWriter() {
+		return items -> jdbcTemplate.batchUpdate("UPDATE attachment SET file_size = ? WHERE id = ?",
+				items.stream().map(item -> new Object[] { item.getFileSize(), item.getId() }).collect(Collectors.toList())
+		);
 	}
 
 	@Bean
-	public Step attachmentSizeStep() throws Exception {
-		return stepBuilderFactory.get("attachment").<Attachment, Attachment>chunk(CHUNK_SIZE).reader(reader())
-				.processor(processor())
-				.writer(writer())
+	public Step attachmentSizeStep(ItemProcessor<Attachment, Attachment> attachmentSizeProcessor) throws Exception {
+		//reader is step scoped, so every partition gets its own range and saves its own position
+		Step partitionStep = stepBuilderFactory.get("attachmentPartition").<Attachment, Attachment>chunk(CHUNK_SIZE).reader(
+				attachmentSizeReader(null, null))
+				.processor(attachmentSizeProcessor)
+				.writer(attachmentSizeWriter())
+				.build();
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("attachment-size-");
+		taskExecutor.setConcurrencyLimit(threads);
+		return stepBuilderFactory.get("attachment")
+				.partitioner(partitionStep.getName(), attachmentSizePartitioner())
+				.step(partitionStep)
+				.gridSize(threads)
+				.taskExecutor(taskExecutor)
 				.allowStartIfComplete(true)
 				.build();
 	}
@@ -16,6 +16,7 @@
 
 package com.epam.ta.reportportal.core.configs;
 
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
@@ -28,7 +29,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
@@ -45,7 +45,7 @@ public class BatchJobConfiguration {
 	private Step attachmentSizeStep;
 
 	@Autowired
-	private JdbcTemplate jdbcTemplate;
+	private ProjectStorageService projectStorageService;
 
 	@Bean
 	public JobExecutionListener jobExecutionListener() {
@@ -57,8 +57,7 @@ public class BatchJobConfiguration {
 
 			@Override
 			public void afterJob(JobExecution jobExecution) {
-				jdbcTemplate.update(
-						"UPDATE project AS prj SET allocated_storage = (SELECT coalesce(sum(attachment.file_size), 0) FROM attachment WHERE project_id = prj.id)");
+				projectStorageService.reconcile();
 			}
 		};
 	}
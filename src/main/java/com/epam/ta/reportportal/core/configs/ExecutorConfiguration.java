@@ -122,4 +122,17 @@ public class ExecutorConfiguration {
 		return executor;
 	}
 
+	@Bean(name = "widgetContentExecutor")
+	public TaskExecutor widgetContentExecutor(@Value("${rp.environment.variable.executor.pool.widget-content.core}") Integer corePoolSize,
+			@Value("${rp.environment.variable.executor.pool.widget-content.max}") Integer maxPoolSize,
+			@Value("${rp.environment.variable.executor.pool.widget-content.queue}") Integer queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("widget-content-exec");
+		return executor;
+	}
+
 }
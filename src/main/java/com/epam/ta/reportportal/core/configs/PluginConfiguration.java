@@ -60,6 +60,12 @@ public class PluginConfiguration {
 	@Value("${rp.plugins.resources.path}")
 	private String pluginsResourcesPath;
 
+	@Value("${rp.plugins.startup.threads:4}")
+	private int startUpThreads;
+
+	@Value("${rp.plugins.startup.lazy:false}")
+	private boolean lazyLoading;
+
 	@Bean
 	public Pf4jPluginBox pf4jPluginBox() throws IOException {
 		Pf4jPluginManager pluginManager = new Pf4jPluginManager(pluginsPath,
@@ -69,7 +75,9 @@ public class PluginConfiguration {
 				integrationTypeRepository,
 				pluginManager(),
 				context,
-				applicationEventPublisher
+				applicationEventPublisher,
+				startUpThreads,
+				lazyLoading
 		);
 		pluginManager.startUp();
 		return pluginManager;
@@ -22,6 +22,7 @@ import com.epam.ta.reportportal.core.events.MessageBusImpl;
 import org.springframework.amqp.core.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
@@ -51,8 +52,9 @@ public class InternalConfiguration {
 	public static final String QUEUE_QUERY_RQ = "query-rq";
 
 	@Bean
-	public MessageBus messageBus(@Autowired @Qualifier(value = "rabbitTemplate") AmqpTemplate amqpTemplate) {
-		return new MessageBusImpl(amqpTemplate);
+	public MessageBus messageBus(@Autowired @Qualifier(value = "rabbitTemplate") AmqpTemplate amqpTemplate,
+			ApplicationEventPublisher eventPublisher) {
+		return new MessageBusImpl(amqpTemplate, eventPublisher);
 	}
 
 	/**
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.configs.rabbit;
+
+import com.epam.ta.reportportal.util.ReportingMetrics;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import javax.annotation.Nullable;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.EXCHANGE_REPORTING;
+
+/**
+ * Marks the requests sent to the {@link ReportingConfiguration#EXCHANGE_REPORTING} with the publish time
+ * and records the publishing time, messages sent to the other exchanges are not affected.
+ */
+class ReportingRabbitTemplate extends RabbitTemplate {
+
+	private final ReportingMetrics reportingMetrics;
+
+	ReportingRabbitTemplate(ConnectionFactory connectionFactory, ReportingMetrics reportingMetrics) {
+		super(connectionFactory);
+		this.reportingMetrics = reportingMetrics;
+	}
+
+	@Override
+	public void send(String exchange, String routingKey, Message message, @Nullable CorrelationData correlationData)
+			throws AmqpException {
+		if (!EXCHANGE_REPORTING.equals(exchange)) {
+			super.send(exchange, routingKey, message, correlationData);
+			return;
+		}
+		reportingMetrics.markPublished(message);
+		long start = System.nanoTime();
+		try {
+			super.send(exchange, routingKey, message, correlationData);
+		} finally {
+			reportingMetrics.recordPublish(message, routingKey, System.nanoTime() - start);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.dashboard.model;
+
+import com.epam.ta.reportportal.ws.model.widget.WidgetResource;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content of all the dashboard widgets. Widgets which content was not loaded are listed in {@link #errors}
+ * with the reason, while the rest of the dashboard is returned as usual.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class DashboardContentRs {
+
+	@JsonProperty
+	private Long dashboardId;
+
+	@JsonProperty
+	private List<WidgetResource> widgets;
+
+	/**
+	 * widgetId - reason of the content loading failure
+	 */
+	@JsonProperty
+	private Map<Long, String> errors;
+
+	public Long getDashboardId() {
+		return dashboardId;
+	}
+
+	public void setDashboardId(Long dashboardId) {
+		this.dashboardId = dashboardId;
+	}
+
+	public List<WidgetResource> getWidgets() {
+		return widgets;
+	}
+
+	public void setWidgets(List<WidgetResource> widgets) {
+		this.widgets = widgets;
+	}
+
+	public Map<Long, String> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(Map<Long, String> errors) {
+		this.errors = errors;
+	}
+}
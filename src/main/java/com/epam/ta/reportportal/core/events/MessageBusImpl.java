@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.events;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
 import com.epam.ta.reportportal.entity.activity.Activity;
 import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static com.epam.ta.reportportal.core.configs.rabbit.InternalConfiguration.*;
 
@@ -26,8 +27,11 @@ public class MessageBusImpl implements MessageBus {
 
 	private final AmqpTemplate amqpTemplate;
 
-	public MessageBusImpl(AmqpTemplate amqpTemplate) {
+	private final ApplicationEventPublisher eventPublisher;
+
+	public MessageBusImpl(AmqpTemplate amqpTemplate, ApplicationEventPublisher eventPublisher) {
 		this.amqpTemplate = amqpTemplate;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -48,6 +52,7 @@ public class MessageBusImpl implements MessageBus {
 	/**
 	 * Publishes activity to the queue with the following routing key
 	 * <pre>{@code activity.<project-id>.<entity-type>.<action>}</pre>
+	 * The activity is also published as an application event, so local caches can react on the data changes
 	 *
 	 * @param event Activity event to be converted to Activity object
 	 */
@@ -57,6 +62,7 @@ public class MessageBusImpl implements MessageBus {
 		if (activity != null) {
 			String key = "activity." + activity.getProjectId() + "." + activity.getActivityEntityType() + "." + activity.getAction();
 			this.amqpTemplate.convertAndSend(EXCHANGE_ACTIVITY, key, activity);
+			this.eventPublisher.publishEvent(activity);
 		}
 	}
 
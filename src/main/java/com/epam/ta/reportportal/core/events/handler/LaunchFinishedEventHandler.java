@@ -66,8 +66,8 @@ public class LaunchFinishedEventHandler {
 		if (LaunchModeEnum.DEBUG == launch.getMode()) {
 			return;
 		}
-		Project project = projectRepository.findById(launch.getProjectId())
-				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, launch.getProjectId()));
+		//launch references existing project, so it's loaded lazily only if subscribers require more than the cached project config
+		Project project = projectRepository.getOne(launch.getProjectId());
 
 		launchFinishedEventSubscribers.forEach(subscriber -> subscriber.handleEvent(event, project, launch));
 
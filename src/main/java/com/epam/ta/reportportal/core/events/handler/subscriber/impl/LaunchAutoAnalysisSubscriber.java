@@ -18,11 +18,11 @@ package com.epam.ta.reportportal.core.events.handler.subscriber.impl;
 
 import com.epam.ta.reportportal.core.analyzer.auto.AnalyzerServiceAsync;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
-import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeCollectorFactory;
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigCache;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
@@ -42,18 +42,20 @@ public class LaunchAutoAnalysisSubscriber implements LaunchFinishedEventSubscrib
 	private final AnalyzerServiceAsync analyzerServiceAsync;
 	private final AnalyzeCollectorFactory analyzeCollectorFactory;
 	private final LogIndexer logIndexer;
+	private final ProjectConfigCache projectConfigCache;
 
 	@Autowired
 	public LaunchAutoAnalysisSubscriber(AnalyzerServiceAsync analyzerServiceAsync, AnalyzeCollectorFactory analyzeCollectorFactory,
-			LogIndexer logIndexer) {
+			LogIndexer logIndexer, ProjectConfigCache projectConfigCache) {
 		this.analyzerServiceAsync = analyzerServiceAsync;
 		this.analyzeCollectorFactory = analyzeCollectorFactory;
 		this.logIndexer = logIndexer;
+		this.projectConfigCache = projectConfigCache;
 	}
 
 	@Override
 	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch) {
-		AnalyzerConfig analyzerConfig = AnalyzerUtils.getAnalyzerConfig(project);
+		AnalyzerConfig analyzerConfig = projectConfigCache.getConfig(project).getAnalyzerConfig();
 		if (BooleanUtils.isTrue(analyzerConfig.getIsAutoAnalyzerEnabled()) && analyzerServiceAsync.hasAnalyzers()) {
 			List<Long> itemIds = analyzeCollectorFactory.getCollector(AnalyzeItemsMode.TO_INVESTIGATE)
 					.collectItems(project.getId(), launch.getId(), launchFinishedEvent.getUser());
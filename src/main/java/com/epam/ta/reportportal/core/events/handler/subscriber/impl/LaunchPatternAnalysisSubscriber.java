@@ -20,11 +20,9 @@ import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItems
 import com.epam.ta.reportportal.core.analyzer.pattern.PatternAnalyzer;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.subscriber.LaunchFinishedEventSubscriber;
-import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigCache;
 import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
-import com.epam.ta.reportportal.entity.project.ProjectUtils;
-import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -37,19 +35,18 @@ import java.util.Collections;
 public class LaunchPatternAnalysisSubscriber implements LaunchFinishedEventSubscriber {
 
 	private final PatternAnalyzer patternAnalyzer;
+	private final ProjectConfigCache projectConfigCache;
 
 	@Autowired
-	public LaunchPatternAnalysisSubscriber(PatternAnalyzer patternAnalyzer) {
+	public LaunchPatternAnalysisSubscriber(PatternAnalyzer patternAnalyzer, ProjectConfigCache projectConfigCache) {
 		this.patternAnalyzer = patternAnalyzer;
+		this.projectConfigCache = projectConfigCache;
 	}
 
 	@Override
 	public void handleEvent(LaunchFinishedEvent launchFinishedEvent, Project project, Launch launch) {
 
-		boolean isPatternAnalysisEnabled = BooleanUtils.toBoolean(ProjectUtils.getConfigParameters(project.getProjectAttributes())
-				.get(ProjectAttributeEnum.AUTO_PATTERN_ANALYZER_ENABLED.getAttribute()));
-
-		if (isPatternAnalysisEnabled) {
+		if (projectConfigCache.getConfig(project).isAutoPatternAnalyzerEnabled()) {
 			patternAnalyzer.analyzeTestItems(launch, Collections.singleton(AnalyzeItemsMode.TO_INVESTIGATE));
 		}
 	}
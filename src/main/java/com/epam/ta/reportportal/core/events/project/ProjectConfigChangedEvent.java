@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.events.project;
+
+/**
+ * Broadcast to the other API instances when the configuration of the project is updated,
+ * so it has to stay (de)serializable.
+ */
+public class ProjectConfigChangedEvent {
+
+	private Long projectId;
+
+	public ProjectConfigChangedEvent() {
+	}
+
+	public ProjectConfigChangedEvent(Long projectId) {
+		this.projectId = projectId;
+	}
+
+	public Long getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Long projectId) {
+		this.projectId = projectId;
+	}
+}
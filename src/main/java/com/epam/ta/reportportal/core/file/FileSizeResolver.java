@@ -0,0 +1,31 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file;
+
+import java.util.Optional;
+
+/**
+ * Resolves size of the file saved to the data store without loading its content where the data store allows it
+ */
+public interface FileSizeResolver {
+
+	/**
+	 * @param fileId Id of the file in the data store
+	 * @return Size of the file in bytes or {@link Optional#empty()} if the file is not presented in the data store
+	 */
+	Optional<Long> getSize(String fileId);
+}
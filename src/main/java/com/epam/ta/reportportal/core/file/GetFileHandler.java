@@ -16,9 +16,6 @@
 package com.epam.ta.reportportal.core.file;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
-import com.epam.ta.reportportal.entity.attachment.BinaryData;
-
-import java.io.InputStream;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -26,28 +23,28 @@ import java.io.InputStream;
 public interface GetFileHandler {
 
 	/**
-	 * Returns {@link InputStream} for current logged-in user photo
+	 * Returns current logged-in user photo
 	 *
 	 * @param loggedInUser Logged-in {@link ReportPortalUser}
-	 * @return {@link InputStream}
+	 * @return {@link StoredFile}
 	 */
-	BinaryData getUserPhoto(ReportPortalUser loggedInUser, boolean loadThumbnail);
+	StoredFile getUserPhoto(ReportPortalUser loggedInUser, boolean loadThumbnail);
 
 	/**
-	 * Returns {@link InputStream} for photo of the {@link com.epam.ta.reportportal.entity.user.User} with specified username
+	 * Returns photo of the {@link com.epam.ta.reportportal.entity.user.User} with specified username
 	 *
 	 * @param username     Username of user which photo to get
 	 * @param loggedInUser Logged-in {@link ReportPortalUser}
-	 * @return {@link InputStream}
+	 * @return {@link StoredFile}
 	 */
-	BinaryData getUserPhoto(String username, ReportPortalUser loggedInUser, String projectName,
+	StoredFile getUserPhoto(String username, ReportPortalUser loggedInUser, String projectName,
 			boolean loadThumbnail);
 
 	/**
-	 * Returns {@link InputStream} for the file with the specified id
+	 * Returns the file with the specified id
 	 *
 	 * @param fileId Id of the file to get
-	 * @return {@link InputStream}
+	 * @return {@link StoredFile}
 	 */
-	BinaryData loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails);
+	StoredFile loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails);
 }
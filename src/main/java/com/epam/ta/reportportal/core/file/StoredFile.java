@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file;
+
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+
+import java.util.function.Supplier;
+
+/**
+ * Id and length of the stored content with the deferred loading of its {@link BinaryData}.
+ * Content of the stored file is never changed, so the id is used as the validator of the cached copies
+ * and the content is not loaded from the data store when the cached copy is still valid.
+ */
+public class StoredFile {
+
+	private final String contentId;
+
+	private final Long length;
+
+	private final Supplier<BinaryData> binaryDataLoader;
+
+	/**
+	 * @param contentId        Id of the content
+	 * @param length           Length of the content in bytes or {@code null} if it is unknown
+	 * @param binaryDataLoader Loads the content from the data store
+	 */
+	public StoredFile(String contentId, Long length, Supplier<BinaryData> binaryDataLoader) {
+		this.contentId = contentId;
+		this.length = length;
+		this.binaryDataLoader = binaryDataLoader;
+	}
+
+	public String getContentId() {
+		return contentId;
+	}
+
+	public Long getLength() {
+		return length;
+	}
+
+	public BinaryData loadBinaryData() {
+		return binaryDataLoader.get();
+	}
+}
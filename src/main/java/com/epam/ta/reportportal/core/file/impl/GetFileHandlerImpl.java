@@ -19,7 +19,11 @@ import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.binary.UserBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.file.GetFileHandler;
+import com.epam.ta.reportportal.core.file.StoredFile;
+import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.entity.Metadata;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.epam.ta.reportportal.entity.attachment.BinaryData;
 import com.epam.ta.reportportal.entity.project.ProjectUtils;
 import com.epam.ta.reportportal.entity.user.User;
@@ -30,10 +34,14 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+import static com.epam.ta.reportportal.ws.converter.builders.UserBuilder.USER_PHOTO_LOADED;
+import static java.util.Optional.ofNullable;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -41,32 +49,40 @@ import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSup
 @Service
 public class GetFileHandlerImpl implements GetFileHandler {
 
+	private static final String ATTACHMENT_PREFIX = "attachment:";
+	private static final String PHOTO_PREFIX = "photo:";
+	private static final String DEFAULT_PHOTO_PREFIX = "default-photo:";
+
 	private final UserRepository userRepository;
 
 	private final UserBinaryDataService userDataStoreService;
 
 	private final AttachmentBinaryDataService attachmentBinaryDataService;
 
+	private final AttachmentRepository attachmentRepository;
+
 	private final ProjectExtractor projectExtractor;
 
 	@Autowired
 	public GetFileHandlerImpl(UserRepository userRepository, UserBinaryDataService userDataStoreService,
-			AttachmentBinaryDataService attachmentBinaryDataService, ProjectExtractor projectExtractor) {
+			AttachmentBinaryDataService attachmentBinaryDataService, AttachmentRepository attachmentRepository,
+			ProjectExtractor projectExtractor) {
 		this.userRepository = userRepository;
 		this.userDataStoreService = userDataStoreService;
 		this.attachmentBinaryDataService = attachmentBinaryDataService;
+		this.attachmentRepository = attachmentRepository;
 		this.projectExtractor = projectExtractor;
 	}
 
 	@Override
-	public BinaryData getUserPhoto(ReportPortalUser loggedInUser, boolean loadThumbnail) {
+	public StoredFile getUserPhoto(ReportPortalUser loggedInUser, boolean loadThumbnail) {
 		User user = userRepository.findByLogin(loggedInUser.getUsername())
 				.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, loggedInUser.getUsername()));
-		return userDataStoreService.loadUserPhoto(user, loadThumbnail);
+		return loadUserPhoto(user, loadThumbnail);
 	}
 
 	@Override
-	public BinaryData getUserPhoto(String username, ReportPortalUser loggedInUser, String projectName, boolean loadThumbnail) {
+	public StoredFile getUserPhoto(String username, ReportPortalUser loggedInUser, String projectName, boolean loadThumbnail) {
 		User user = userRepository.findByLogin(username).orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, username));
 		ReportPortalUser.ProjectDetails projectDetails = projectExtractor.extractProjectDetailsAdmin(loggedInUser, projectName);
 		if (loggedInUser.getUserRole() != UserRole.ADMINISTRATOR) {
@@ -75,11 +91,36 @@ public class GetFileHandlerImpl implements GetFileHandler {
 					Predicate.isEqual(true)
 			).verify(ErrorType.ACCESS_DENIED, formattedSupplier("You are not assigned to project '{}'", projectDetails.getProjectName()));
 		}
-		return userDataStoreService.loadUserPhoto(user, loadThumbnail);
+		return loadUserPhoto(user, loadThumbnail);
 	}
 
 	@Override
-	public BinaryData loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails) {
-		return attachmentBinaryDataService.load(fileId, projectDetails);
+	public StoredFile loadFileById(Long fileId, ReportPortalUser.ProjectDetails projectDetails) {
+		Optional<Attachment> attachment = attachmentRepository.findById(fileId)
+				.filter(it -> Objects.equals(it.getProjectId(), projectDetails.getProjectId()));
+		if (!attachment.isPresent()) {
+			//missing or not accessible attachment is reported by the data service
+			BinaryData binaryData = attachmentBinaryDataService.load(fileId, projectDetails);
+			return new StoredFile(ATTACHMENT_PREFIX + fileId, null, () -> binaryData);
+		}
+		Long length = attachment.map(Attachment::getFileSize).filter(size -> size > 0).orElse(null);
+		return new StoredFile(ATTACHMENT_PREFIX + fileId, length, () -> attachmentBinaryDataService.load(fileId, projectDetails));
+	}
+
+	/**
+	 * User without uploaded photo gets the default one.
+	 * Re-uploaded photo can keep the file id, so the id of the content includes the upload time of the photo.
+	 */
+	private StoredFile loadUserPhoto(User user, boolean loadThumbnail) {
+		String photoId = loadThumbnail ? user.getAttachmentThumbnail() : user.getAttachment();
+		String contentId = ofNullable(photoId).map(id -> PHOTO_PREFIX + id + photoVersion(user)).orElse(DEFAULT_PHOTO_PREFIX + loadThumbnail);
+		return new StoredFile(contentId, null, () -> userDataStoreService.loadUserPhoto(user, loadThumbnail));
+	}
+
+	private static String photoVersion(User user) {
+		return ofNullable(user.getMetadata()).map(Metadata::getMetadata)
+				.map(metadata -> metadata.get(USER_PHOTO_LOADED))
+				.map(loaded -> ":" + loaded)
+				.orElse("");
 	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.core.file.FileSizeResolver;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Reads size of the file from the file attributes of the 'filesystem' data store
+ */
+public class LocalFileSizeResolver implements FileSizeResolver {
+
+	private final DataEncoder dataEncoder;
+
+	private final Path storageRoot;
+
+	public LocalFileSizeResolver(DataEncoder dataEncoder, String storageRootPath) {
+		this.dataEncoder = dataEncoder;
+		this.storageRoot = Paths.get(storageRootPath);
+	}
+
+	@Override
+	public Optional<Long> getSize(String fileId) {
+		try {
+			return Optional.of(Files.size(storageRoot.resolve(dataEncoder.decode(fileId))));
+		} catch (NoSuchFileException e) {
+			return Optional.empty();
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+}
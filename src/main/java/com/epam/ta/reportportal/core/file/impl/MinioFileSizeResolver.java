@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.core.file.FileSizeResolver;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import io.minio.MinioClient;
+import io.minio.errors.ErrorCode;
+import io.minio.errors.ErrorResponseException;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads size of the file from the object metadata of the 'minio' data store.
+ * First element of the file path is a project id that defines the bucket of the object, other elements are the object name.
+ * Mapping of the path to the bucket and the object is private in the commons MinioDataStore,
+ * so it's kept in line with the data store by MinioFileSizeResolverTest.
+ * <p>
+ * File is reported as missing only when the data store answers that the object doesn't exist,
+ * any other error fails the resolution, so attachments of the existing files are never treated as missing.
+ */
+public class MinioFileSizeResolver implements FileSizeResolver {
+
+	private static final Set<ErrorCode> MISSING_OBJECT_CODES = EnumSet.of(ErrorCode.NO_SUCH_KEY, ErrorCode.NO_SUCH_OBJECT);
+
+	private final DataEncoder dataEncoder;
+
+	private final MinioClient minioClient;
+
+	private final String bucketPrefix;
+
+	private final String defaultBucketName;
+
+	public MinioFileSizeResolver(DataEncoder dataEncoder, MinioClient minioClient, String bucketPrefix, String defaultBucketName) {
+		this.dataEncoder = dataEncoder;
+		this.minioClient = minioClient;
+		this.bucketPrefix = bucketPrefix;
+		this.defaultBucketName = defaultBucketName;
+	}
+
+	@Override
+	public Optional<Long> getSize(String fileId) {
+		String filePath = dataEncoder.decode(fileId);
+		Path path = Paths.get(filePath);
+		int nameCount = path.getNameCount();
+		String bucket = nameCount > 1 ? bucketPrefix + path.getName(0) : defaultBucketName;
+		String objectName = nameCount > 1 ? path.subpath(1, nameCount).toString() : filePath;
+		try {
+			return Optional.of(minioClient.statObject(bucket, objectName).length());
+		} catch (ErrorResponseException e) {
+			if (MISSING_OBJECT_CODES.contains(e.errorResponse().errorCode())) {
+				return Optional.empty();
+			}
+			throw new ReportPortalException(ErrorType.UNABLE_LOAD_BINARY_DATA, e.getMessage());
+		} catch (Exception e) {
+			throw new ReportPortalException(ErrorType.UNABLE_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.file.FileSizeResolver;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Counts bytes of the file content for the data stores without metadata access.
+ * Content is skipped through a fixed buffer, so the file is never held in memory.
+ */
+public class StreamingFileSizeResolver implements FileSizeResolver {
+
+	private final DataStoreService dataStoreService;
+
+	public StreamingFileSizeResolver(DataStoreService dataStoreService) {
+		this.dataStoreService = dataStoreService;
+	}
+
+	@Override
+	public Optional<Long> getSize(String fileId) {
+		Optional<InputStream> file;
+		try {
+			file = dataStoreService.load(fileId);
+		} catch (ReportPortalException e) {
+			return Optional.empty();
+		}
+		if (!file.isPresent()) {
+			return Optional.empty();
+		}
+		try (InputStream inputStream = file.get()) {
+			return Optional.of(ByteStreams.exhaust(inputStream));
+		} catch (IOException e) {
+			throw new ReportPortalException(ErrorType.UNABLE_LOAD_BINARY_DATA, e.getMessage());
+		}
+	}
+}
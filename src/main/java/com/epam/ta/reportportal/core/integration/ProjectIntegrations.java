@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.integration;
+
+import com.epam.ta.reportportal.entity.enums.IntegrationGroupEnum;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.entity.integration.IntegrationParams;
+import com.epam.ta.reportportal.entity.integration.IntegrationType;
+import com.epam.ta.reportportal.entity.integration.IntegrationTypeDetails;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable view of the project integrations together with the global ones.
+ * Integrations of every level are grouped by {@link IntegrationGroupEnum} and by the integration type name.
+ * The view is shared between threads, so every returned {@link Integration} is a detached copy:
+ * changes of its fields, type and parameters are not visible to other readers.
+ * The project of the integration is not copied and must not be changed.
+ */
+public final class ProjectIntegrations {
+
+	private final Level project;
+
+	private final Level global;
+
+	ProjectIntegrations(Level project, Level global) {
+		this.project = project;
+		this.global = global;
+	}
+
+	/**
+	 * Project integrations of the group take precedence over the global ones:
+	 * if the project has integrations of the group, global integrations of the group are not used even if project ones are disabled.
+	 *
+	 * @param group {@link IntegrationGroupEnum}
+	 * @return First enabled integration of the group with the enabled type
+	 */
+	public Optional<Integration> getEnabled(IntegrationGroupEnum group) {
+		List<Integration> projectIntegrations = project.getByGroup(group);
+		return (projectIntegrations.isEmpty() ? global.getByGroup(group) : projectIntegrations).stream()
+				.filter(it -> it.getType().isEnabled() && it.isEnabled())
+				.findFirst()
+				.map(ProjectIntegrations::copyOf);
+	}
+
+	public Optional<Integration> getProjectIntegration(Long integrationId) {
+		return project.getById(integrationId).map(ProjectIntegrations::copyOf);
+	}
+
+	public Optional<Integration> getGlobalIntegration(Long integrationId) {
+		return global.getById(integrationId).map(ProjectIntegrations::copyOf);
+	}
+
+	/**
+	 * @param type {@link IntegrationType}
+	 * @return 'true' if the project has an integration of the same group with the same type name
+	 */
+	public boolean hasProjectIntegration(IntegrationType type) {
+		return project.getByType(type.getName()).stream().anyMatch(it -> it.getType().getIntegrationGroup() == type.getIntegrationGroup());
+	}
+
+	private static Integration copyOf(Integration integration) {
+		Integration copy = new Integration();
+		copy.setId(integration.getId());
+		copy.setName(integration.getName());
+		copy.setEnabled(integration.isEnabled());
+		copy.setCreator(integration.getCreator());
+		copy.setCreationDate(integration.getCreationDate());
+		copy.setProject(integration.getProject());
+		copy.setType(copyOf(integration.getType()));
+		ofNullable(integration.getParams()).ifPresent(params -> copy.setParams(new IntegrationParams(copyOf(params.getParams()))));
+		return copy;
+	}
+
+	private static IntegrationType copyOf(IntegrationType type) {
+		IntegrationType copy = new IntegrationType();
+		copy.setId(type.getId());
+		copy.setName(type.getName());
+		copy.setEnabled(type.isEnabled());
+		copy.setAuthFlow(type.getAuthFlow());
+		copy.setCreationDate(type.getCreationDate());
+		copy.setIntegrationGroup(type.getIntegrationGroup());
+		ofNullable(type.getDetails()).ifPresent(details -> {
+			IntegrationTypeDetails detailsCopy = new IntegrationTypeDetails();
+			detailsCopy.setDetails(copyOf(details.getDetails()));
+			copy.setDetails(detailsCopy);
+		});
+		return copy;
+	}
+
+	private static Map<String, Object> copyOf(Map<String, Object> values) {
+		return ofNullable(values).<Map<String, Object>>map(HashMap::new).orElse(null);
+	}
+
+	/**
+	 * Integrations of the single level - project or global
+	 */
+	static final class Level {
+
+		private final ImmutableMap<Long, Integration> byId;
+		private final ImmutableListMultimap<IntegrationGroupEnum, Integration> byGroup;
+		private final ImmutableListMultimap<String, Integration> byType;
+
+		private Level(List<Integration> all) {
+			this.byId = all.stream().collect(ImmutableMap.toImmutableMap(Integration::getId, it -> it));
+			this.byGroup = all.stream()
+					.collect(ImmutableListMultimap.toImmutableListMultimap(it -> it.getType().getIntegrationGroup(), it -> it));
+			this.byType = all.stream()
+					.collect(ImmutableListMultimap.toImmutableListMultimap(it -> it.getType().getName().toLowerCase(), it -> it));
+		}
+
+		static Level of(Collection<Integration> integrations) {
+			return new Level(integrations.stream().sorted(Comparator.comparing(Integration::getId)).collect(ImmutableList.toImmutableList()));
+		}
+
+		Optional<Integration> getById(Long id) {
+			return ofNullable(byId.get(id));
+		}
+
+		List<Integration> getByGroup(IntegrationGroupEnum group) {
+			return byGroup.get(group);
+		}
+
+		List<Integration> getByType(String typeName) {
+			return byType.get(typeName.toLowerCase());
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.integration;
+
+import com.epam.reportportal.extension.event.PluginEvent;
+import com.epam.ta.reportportal.dao.IntegrationRepository;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.epam.ta.reportportal.util.CacheEvictionUtils.evictNowAndAfterCompletion;
+
+/**
+ * Keeps {@link ProjectIntegrations} snapshots, so launch notifications and bug tracking interactions
+ * resolve integrations from memory instead of loading integration types, the project and its integrations every time.
+ * Snapshot of the project is dropped on the project integration create, update and delete,
+ * all the snapshots are dropped on the global integration changes and plugin changes.
+ * Entries live for a limited time only, as integrations may be changed by another instance.
+ */
+@Service
+public class ProjectIntegrationsCache {
+
+	private static final int CACHE_ITEM_LIVE = 5;
+	private static final int MAXIMUM_SIZE = 10000;
+
+	/**
+	 * Key of the global integrations level, project ids are positive
+	 */
+	private static final Long GLOBAL = 0L;
+
+	private final IntegrationRepository integrationRepository;
+
+	/**
+	 * Incremented on every invalidation, so integrations loaded concurrently with the update are not kept
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * project id or {@link #GLOBAL} - integrations of the level
+	 */
+	private final Cache<Long, ProjectIntegrations.Level> levels;
+
+	@Autowired
+	public ProjectIntegrationsCache(IntegrationRepository integrationRepository) {
+		this.integrationRepository = integrationRepository;
+		this.levels = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @return Integrations of the project and the global integrations
+	 */
+	public ProjectIntegrations get(Long projectId) {
+		return new ProjectIntegrations(getLevel(projectId, () -> integrationRepository.findAllByProjectId(projectId)), getGlobalLevel());
+	}
+
+	/**
+	 * @return Global integrations only
+	 */
+	public ProjectIntegrations getGlobal() {
+		return new ProjectIntegrations(ProjectIntegrations.Level.of(Collections.emptyList()), getGlobalLevel());
+	}
+
+	/**
+	 * Removes snapshot of the project. If called inside of the transaction,
+	 * snapshot is removed once more after the commit, so concurrent readers don't keep integrations that are not committed yet.
+	 *
+	 * @param projectId Project id
+	 */
+	public void invalidate(Long projectId) {
+		evictNowAndAfterCompletion(() -> {
+			version.incrementAndGet();
+			levels.invalidate(projectId);
+		});
+	}
+
+	/**
+	 * Removes all the snapshots, same way as {@link #invalidate(Long)} does
+	 */
+	public void invalidateAll() {
+		evictNowAndAfterCompletion(() -> {
+			version.incrementAndGet();
+			levels.invalidateAll();
+		});
+	}
+
+	/**
+	 * Plugin load and unload changes availability of the integration types
+	 *
+	 * @param event {@link PluginEvent}
+	 */
+	@EventListener
+	public void onPluginEvent(PluginEvent event) {
+		invalidateAll();
+	}
+
+	private ProjectIntegrations.Level getGlobalLevel() {
+		return getLevel(GLOBAL, integrationRepository::findAllGlobal);
+	}
+
+	private ProjectIntegrations.Level getLevel(Long key, Supplier<List<Integration>> loader) {
+		long currentVersion = version.get();
+		ProjectIntegrations.Level level;
+		try {
+			level = levels.get(key, () -> ProjectIntegrations.Level.of(loader.get()));
+		} catch (UncheckedExecutionException | ExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, e.getCause().getMessage());
+		}
+		if (currentVersion != version.get()) {
+			levels.invalidate(key);
+		}
+		return level;
+	}
+}
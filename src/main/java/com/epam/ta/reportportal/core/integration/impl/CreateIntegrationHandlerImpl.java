@@ -19,10 +19,12 @@ package com.epam.ta.reportportal.core.integration.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.bts.BtsMetadataCache;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.IntegrationCreatedEvent;
 import com.epam.ta.reportportal.core.events.activity.IntegrationUpdatedEvent;
 import com.epam.ta.reportportal.core.integration.CreateIntegrationHandler;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.util.IntegrationService;
 import com.epam.ta.reportportal.dao.IntegrationRepository;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
@@ -65,17 +67,24 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 
 	private final IntegrationService basicIntegrationService;
 
+	private final BtsMetadataCache btsMetadataCache;
+
+	private final ProjectIntegrationsCache projectIntegrationsCache;
+
 	@Autowired
 	public CreateIntegrationHandlerImpl(@Qualifier("integrationServiceMapping") Map<String, IntegrationService> integrationServiceMapping,
 			IntegrationRepository integrationRepository, ProjectRepository projectRepository, MessageBus messageBus,
 			IntegrationTypeRepository integrationTypeRepository,
-			@Qualifier("basicIntegrationServiceImpl") IntegrationService integrationService) {
+			@Qualifier("basicIntegrationServiceImpl") IntegrationService integrationService, BtsMetadataCache btsMetadataCache,
+			ProjectIntegrationsCache projectIntegrationsCache) {
 		this.integrationServiceMapping = integrationServiceMapping;
 		this.integrationRepository = integrationRepository;
 		this.projectRepository = projectRepository;
 		this.messageBus = messageBus;
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.basicIntegrationService = integrationService;
+		this.btsMetadataCache = btsMetadataCache;
+		this.projectIntegrationsCache = projectIntegrationsCache;
 	}
 
 	@Override
@@ -97,6 +106,7 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 		integrationService.validateIntegration(integration);
 		integrationService.checkConnection(integration);
 		integrationRepository.save(integration);
+		projectIntegrationsCache.invalidateAll();
 		return new EntryCreatedRS(integration.getId());
 
 	}
@@ -128,6 +138,7 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 		integrationService.checkConnection(integration);
 
 		integrationRepository.save(integration);
+		projectIntegrationsCache.invalidate(project.getId());
 
 		messageBus.publishActivity(new IntegrationCreatedEvent(TO_ACTIVITY_RESOURCE.apply(integration),
 				user.getUserId(),
@@ -157,6 +168,8 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 		Integration updatedIntegration = integrationService.updateIntegration(integration, updateRequest);
 		integrationService.checkConnection(integration);
 		integrationRepository.save(updatedIntegration);
+		btsMetadataCache.invalidate(updatedIntegration.getId());
+		projectIntegrationsCache.invalidateAll();
 
 		return new OperationCompletionRS("Integration with id = " + updatedIntegration.getId() + " has been successfully updated.");
 	}
@@ -187,6 +200,8 @@ public class CreateIntegrationHandlerImpl implements CreateIntegrationHandler {
 		integrationService.checkConnection(integration);
 
 		integrationRepository.save(updatedIntegration);
+		btsMetadataCache.invalidate(updatedIntegration.getId());
+		projectIntegrationsCache.invalidate(project.getId());
 
 		messageBus.publishActivity(new IntegrationUpdatedEvent(user.getUserId(),
 				user.getUsername(),
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.IntegrationDeletedEvent;
 import com.epam.ta.reportportal.core.integration.DeleteIntegrationHandler;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.dao.IntegrationRepository;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -54,13 +55,16 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 
 	private final MessageBus messageBus;
 
+	private final ProjectIntegrationsCache projectIntegrationsCache;
+
 	@Autowired
 	public DeleteIntegrationHandlerImpl(IntegrationRepository integrationRepository, ProjectRepository projectRepository,
-			IntegrationTypeRepository integrationTypeRepository, MessageBus messageBus) {
+			IntegrationTypeRepository integrationTypeRepository, MessageBus messageBus, ProjectIntegrationsCache projectIntegrationsCache) {
 		this.integrationRepository = integrationRepository;
 		this.projectRepository = projectRepository;
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.messageBus = messageBus;
+		this.projectIntegrationsCache = projectIntegrationsCache;
 	}
 
 	@Override
@@ -68,6 +72,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 		Integration integration = integrationRepository.findGlobalById(integrationId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, integrationId));
 		integrationRepository.deleteById(integration.getId());
+		projectIntegrationsCache.invalidateAll();
 		return new OperationCompletionRS(Suppliers.formattedSupplier("Global integration with id = {} has been successfully removed",
 				integration.getId()
 		).get());
@@ -78,6 +83,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 		IntegrationType integrationType = integrationTypeRepository.findByName(type)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, type));
 		integrationRepository.deleteAllGlobalByIntegrationTypeId(integrationType.getId());
+		projectIntegrationsCache.invalidateAll();
 		return new OperationCompletionRS(
 				"All global integrations with type ='" + integrationType.getName() + "' integrations have been successfully removed.");
 	}
@@ -90,6 +96,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 				.orElseThrow(() -> new ReportPortalException(INTEGRATION_NOT_FOUND, integrationId));
 		integration.getProject().getIntegrations().removeIf(it -> it.getId().equals(integration.getId()));
 		integrationRepository.deleteById(integration.getId());
+		projectIntegrationsCache.invalidate(project.getId());
 		messageBus.publishActivity(new IntegrationDeletedEvent(TO_ACTIVITY_RESOURCE.apply(integration),
 				user.getUserId(),
 				user.getUsername()
@@ -108,6 +115,7 @@ public class DeleteIntegrationHandlerImpl implements DeleteIntegrationHandler {
 				Collections.singletonList(integrationType.getId())
 		);
 		integrationRepository.deleteAllByProjectIdAndIntegrationTypeId(project.getId(), integrationType.getId());
+		projectIntegrationsCache.invalidate(project.getId());
 		integrations.stream()
 				.map(TO_ACTIVITY_RESOURCE)
 				.forEach(it -> messageBus.publishActivity(new IntegrationDeletedEvent(it, user.getUserId(), user.getUsername())));
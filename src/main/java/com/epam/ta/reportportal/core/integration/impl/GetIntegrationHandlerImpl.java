@@ -21,6 +21,8 @@ import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.bts.handler.GetBugTrackingSystemHandler;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrations;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.util.IntegrationService;
 import com.epam.ta.reportportal.core.integration.util.validator.IntegrationValidator;
 import com.epam.ta.reportportal.dao.IntegrationRepository;
@@ -33,7 +35,6 @@ import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.integration.IntegrationResource;
-import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -57,18 +58,20 @@ public class GetIntegrationHandlerImpl implements GetIntegrationHandler {
 	private final IntegrationTypeRepository integrationTypeRepository;
 	private final ProjectRepository projectRepository;
 	private final GetBugTrackingSystemHandler getBugTrackingSystemHandler;
+	private final ProjectIntegrationsCache projectIntegrationsCache;
 
 	@Autowired
 	public GetIntegrationHandlerImpl(@Qualifier("integrationServiceMapping") Map<String, IntegrationService> integrationServiceMapping,
 			@Qualifier("basicIntegrationServiceImpl") IntegrationService integrationService, IntegrationRepository integrationRepository,
 			IntegrationTypeRepository integrationTypeRepository, ProjectRepository projectRepository,
-			GetBugTrackingSystemHandler getBugTrackingSystemHandler) {
+			GetBugTrackingSystemHandler getBugTrackingSystemHandler, ProjectIntegrationsCache projectIntegrationsCache) {
 		this.integrationServiceMapping = integrationServiceMapping;
 		this.basicIntegrationService = integrationService;
 		this.integrationRepository = integrationRepository;
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.projectRepository = projectRepository;
 		this.getBugTrackingSystemHandler = getBugTrackingSystemHandler;
+		this.projectIntegrationsCache = projectIntegrationsCache;
 	}
 
 	@Override
@@ -89,37 +92,20 @@ public class GetIntegrationHandlerImpl implements GetIntegrationHandler {
 
 	@Override
 	public Optional<Integration> getEnabledByProjectIdOrGlobalAndIntegrationGroup(Long projectId, IntegrationGroupEnum integrationGroup) {
-
-		List<Long> integrationTypeIds = integrationTypeRepository.findAllByIntegrationGroup(integrationGroup)
-				.stream()
-				.map(IntegrationType::getId)
-				.collect(Collectors.toList());
-
-		List<Integration> integrations = integrationRepository.findAllByProjectIdAndInIntegrationTypeIds(projectId, integrationTypeIds);
-
-		if (!CollectionUtils.isEmpty(integrations)) {
-
-			return integrations.stream().filter(integration -> integration.getType().isEnabled() && integration.isEnabled()).findFirst();
-
-		} else {
-
-			return getGlobalIntegrationByIntegrationTypeIds(integrationTypeIds);
-		}
-
+		return projectIntegrationsCache.get(projectId).getEnabled(integrationGroup);
 	}
 
 	@Override
 	public Integration getEnabledBtsIntegration(ReportPortalUser.ProjectDetails projectDetails, String url, String btsProject) {
 
-		Project project = projectRepository.findById(projectDetails.getProjectId())
-				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectDetails.getProjectName()));
-
 		Integration integration = getBugTrackingSystemHandler.getEnabledProjectIntegration(projectDetails, url, btsProject)
 				.orElseGet(() -> {
 					Integration globalIntegration = getBugTrackingSystemHandler.getEnabledGlobalIntegration(url, btsProject)
 							.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, url));
 
-					IntegrationValidator.validateProjectLevelIntegrationConstraints(project, globalIntegration);
+					IntegrationValidator.validateProjectLevelIntegrationConstraints(projectIntegrationsCache.get(projectDetails.getProjectId()),
+							globalIntegration
+					);
 
 					return globalIntegration;
 				});
@@ -130,17 +116,17 @@ public class GetIntegrationHandlerImpl implements GetIntegrationHandler {
 	@Override
 	public Integration getEnabledBtsIntegration(ReportPortalUser.ProjectDetails projectDetails, Long integrationId) {
 
-		Project project = projectRepository.findById(projectDetails.getProjectId())
-				.orElseThrow(() -> new ReportPortalException(ErrorType.PROJECT_NOT_FOUND, projectDetails.getProjectName()));
+		ProjectIntegrations projectIntegrations = projectIntegrationsCache.get(projectDetails.getProjectId());
 
-		Integration integration = getBugTrackingSystemHandler.getEnabledProjectIntegration(projectDetails, integrationId).orElseGet(() -> {
-			Integration globalIntegration = getBugTrackingSystemHandler.getEnabledGlobalIntegration(integrationId)
+		Integration integration = projectIntegrations.getProjectIntegration(integrationId).orElseGet(() -> {
+			Integration globalIntegration = projectIntegrations.getGlobalIntegration(integrationId)
 					.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, integrationId));
 
-			IntegrationValidator.validateProjectLevelIntegrationConstraints(project, globalIntegration);
+			IntegrationValidator.validateProjectLevelIntegrationConstraints(projectIntegrations, globalIntegration);
 
 			return globalIntegration;
 		});
+		validateBtsIntegration(integration);
 		validateIntegration(integration);
 		return integration;
 	}
@@ -148,8 +134,10 @@ public class GetIntegrationHandlerImpl implements GetIntegrationHandler {
 	@Override
 	public Integration getEnabledBtsIntegration(Long integrationId) {
 
-		Integration globalIntegration = getBugTrackingSystemHandler.getEnabledGlobalIntegration(integrationId)
+		Integration globalIntegration = projectIntegrationsCache.getGlobal()
+				.getGlobalIntegration(integrationId)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.INTEGRATION_NOT_FOUND, integrationId));
+		validateBtsIntegration(globalIntegration);
 
 		return globalIntegration;
 	}
@@ -214,11 +202,13 @@ public class GetIntegrationHandlerImpl implements GetIntegrationHandler {
 		return integrationService.checkConnection(integration);
 	}
 
-	private Optional<Integration> getGlobalIntegrationByIntegrationTypeIds(List<Long> integrationTypeIds) {
-		return integrationRepository.findAllGlobalInIntegrationTypeIds(integrationTypeIds)
-				.stream()
-				.filter(integration -> integration.getType().isEnabled() && integration.isEnabled())
-				.findFirst();
+	private void validateBtsIntegration(Integration integration) {
+		BusinessRule.expect(integration, it -> IntegrationGroupEnum.BTS == it.getType().getIntegrationGroup())
+				.verify(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION, Suppliers.formattedSupplier(
+						"Unable to test connection to the integration with type - '{}', Allowed type(es): '{}'",
+						integration.getType().getIntegrationGroup(),
+						IntegrationGroupEnum.BTS
+				));
 	}
 
 	private void validateIntegration(Integration integration) {
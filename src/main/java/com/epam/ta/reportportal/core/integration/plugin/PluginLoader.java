@@ -91,7 +91,8 @@ public interface PluginLoader {
 	void deleteFromDataStore(String fileId);
 
 	/**
-	 * Copy plugin resources to the target path
+	 * Copy plugin resources to the target path.
+	 * Copying is skipped if the target path already contains resources extracted from the same plugin file
 	 *
 	 * @param pluginPath          Plugin path in the filesystem
 	 * @param resourcesTargetPath Path to copy plugin resources
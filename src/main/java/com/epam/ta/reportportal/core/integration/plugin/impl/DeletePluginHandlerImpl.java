@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.integration.plugin.impl;
 
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.plugin.DeletePluginHandler;
 import com.epam.ta.reportportal.core.plugin.Pf4jPluginBox;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
@@ -40,11 +41,14 @@ public class DeletePluginHandlerImpl implements DeletePluginHandler {
 
 	private final IntegrationTypeRepository integrationTypeRepository;
 	private final Pf4jPluginBox pluginBox;
+	private final ProjectIntegrationsCache projectIntegrationsCache;
 
 	@Autowired
-	public DeletePluginHandlerImpl(IntegrationTypeRepository integrationTypeRepository, Pf4jPluginBox pluginBox) {
+	public DeletePluginHandlerImpl(IntegrationTypeRepository integrationTypeRepository, Pf4jPluginBox pluginBox,
+			ProjectIntegrationsCache projectIntegrationsCache) {
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.pluginBox = pluginBox;
+		this.projectIntegrationsCache = projectIntegrationsCache;
 	}
 
 	@Override
@@ -64,6 +68,7 @@ public class DeletePluginHandlerImpl implements DeletePluginHandler {
 		}
 
 		integrationTypeRepository.deleteById(integrationType.getId());
+		projectIntegrationsCache.invalidateAll();
 
 		return new OperationCompletionRS(Suppliers.formattedSupplier("Plugin = '{}' has been successfully removed",
 				integrationType.getName()
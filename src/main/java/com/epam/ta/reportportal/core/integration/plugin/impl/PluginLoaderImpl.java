@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.filesystem.DataStore;
 import com.epam.ta.reportportal.ws.converter.builders.IntegrationTypeBuilder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.pf4j.PluginDescriptor;
@@ -42,6 +43,7 @@ import javax.validation.constraints.NotNull;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -59,6 +61,11 @@ import static java.util.Optional.ofNullable;
 @Service
 public class PluginLoaderImpl implements PluginLoader {
 
+	/**
+	 * File with the checksum of the plugin file which resources were extracted to the plugin resources directory
+	 */
+	public static final String RESOURCES_CHECKSUM_FILE = ".checksum";
+
 	private final String pluginsRootPath;
 
 	private final DataStore dataStore;
@@ -140,12 +147,35 @@ public class PluginLoaderImpl implements PluginLoader {
 		if (Objects.nonNull(resourcesTargetPath.getParent())) {
 			Files.createDirectories(resourcesTargetPath.getParent());
 		}
+		String checksum = calculateChecksum(pluginPath);
+		Path checksumPath = resourcesTargetPath.resolve(RESOURCES_CHECKSUM_FILE);
+		if (isResourcesUpToDate(checksumPath, checksum)) {
+			return;
+		}
 		try (JarFile jar = new JarFile(pluginPath.toFile())) {
 			if (!Files.isDirectory(resourcesTargetPath)) {
 				Files.createDirectories(resourcesTargetPath);
 			}
 			copyJarResourcesRecursively(resourcesTargetPath, jar);
 		}
+		Files.write(checksumPath, checksum.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String calculateChecksum(Path pluginPath) throws IOException {
+		try (InputStream inputStream = Files.newInputStream(pluginPath)) {
+			return DigestUtils.sha256Hex(inputStream);
+		}
+	}
+
+	/**
+	 * Resources of the plugin are not extracted again if they were extracted from the same plugin file before
+	 *
+	 * @param checksumPath Path to the file with the checksum of the plugin file which resources were extracted
+	 * @param checksum     Checksum of the current plugin file
+	 * @return 'true' if resources directory contains resources of the current plugin file, else 'false'
+	 */
+	private boolean isResourcesUpToDate(Path checksumPath, String checksum) throws IOException {
+		return Files.isRegularFile(checksumPath) && checksum.equals(new String(Files.readAllBytes(checksumPath), StandardCharsets.UTF_8));
 	}
 
 	private void copyJarResourcesRecursively(Path destination, JarFile jarFile) {
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.integration.plugin.impl;
 
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.plugin.UpdatePluginHandler;
 import com.epam.ta.reportportal.core.plugin.Pf4jPluginBox;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
@@ -39,11 +40,14 @@ public class UpdatePluginHandlerImpl implements UpdatePluginHandler {
 
 	private final Pf4jPluginBox pluginBox;
 	private final IntegrationTypeRepository integrationTypeRepository;
+	private final ProjectIntegrationsCache projectIntegrationsCache;
 
 	@Autowired
-	public UpdatePluginHandlerImpl(Pf4jPluginBox pluginBox, IntegrationTypeRepository integrationTypeRepository) {
+	public UpdatePluginHandlerImpl(Pf4jPluginBox pluginBox, IntegrationTypeRepository integrationTypeRepository,
+			ProjectIntegrationsCache projectIntegrationsCache) {
 		this.pluginBox = pluginBox;
 		this.integrationTypeRepository = integrationTypeRepository;
+		this.projectIntegrationsCache = projectIntegrationsCache;
 	}
 
 	@Override
@@ -56,6 +60,7 @@ public class UpdatePluginHandlerImpl implements UpdatePluginHandler {
 
 		boolean isEnabled = updatePluginStateRQ.getEnabled();
 		integrationType.setEnabled(isEnabled);
+		projectIntegrationsCache.invalidateAll();
 		return handlePluginState(integrationType, isEnabled);
 	}
 
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.integration.util.validator;
 
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrations;
 import com.epam.ta.reportportal.entity.integration.Integration;
 import com.epam.ta.reportportal.entity.integration.IntegrationType;
 import com.epam.ta.reportportal.entity.project.Project;
@@ -25,6 +26,7 @@ import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 
@@ -44,17 +46,34 @@ public final class IntegrationValidator {
 	 * @param integration {@link Integration} with {@link Integration#project == NULL}
 	 */
 	public static void validateProjectLevelIntegrationConstraints(Project project, Integration integration) {
+		IntegrationType integrationType = integration.getType();
+		validateProjectLevelIntegrationConstraints(integration,
+				() -> project.getIntegrations()
+						.stream()
+						.map(Integration::getType)
+						.anyMatch(it -> it.getIntegrationGroup() == integrationType.getIntegrationGroup()
+								&& StringUtils.equalsIgnoreCase(it.getName(), integrationType.getName()))
+		);
+	}
+
+	/**
+	 * Same as {@link #validateProjectLevelIntegrationConstraints(Project, Integration)} for the project integrations snapshot
+	 *
+	 * @param projectIntegrations {@link ProjectIntegrations}
+	 * @param integration         {@link Integration} with {@link Integration#project == NULL}
+	 */
+	public static void validateProjectLevelIntegrationConstraints(ProjectIntegrations projectIntegrations, Integration integration) {
+		validateProjectLevelIntegrationConstraints(integration, () -> projectIntegrations.hasProjectIntegration(integration.getType()));
+	}
+
+	private static void validateProjectLevelIntegrationConstraints(Integration integration, BooleanSupplier hasProjectIntegrationOfType) {
 
 		BusinessRule.expect(integration.getProject(), Objects::isNull)
 				.verify(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
 						Suppliers.formattedSupplier("Integration with ID = '{}' is not global.", integration.getId())
 				);
 
-		BusinessRule.expect(project.getIntegrations().stream().map(Integration::getType).noneMatch(it -> {
-			IntegrationType integrationType = integration.getType();
-			return it.getIntegrationGroup() == integrationType.getIntegrationGroup() && StringUtils.equalsIgnoreCase(it.getName(),
-					integrationType.getName());
-		}), equalTo(true))
+		BusinessRule.expect(hasProjectIntegrationOfType.getAsBoolean(), equalTo(false))
 				.verify(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
 						Suppliers.formattedSupplier(
 								"Global integration with ID = '{}' has been found, but you cannot use it, because you have project-level integration(s) of that type",
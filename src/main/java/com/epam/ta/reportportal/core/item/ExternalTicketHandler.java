@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.issue.IssueEntity;
 import com.epam.ta.reportportal.ws.model.issue.Issue;
 import com.epam.ta.reportportal.ws.model.item.UnlinkExternalIssueRQ;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.List;
 import java.util.Set;
@@ -35,4 +36,12 @@ public interface ExternalTicketHandler {
 
 	void updateLinking(String submitter, IssueEntity newEntity, Set<Issue.ExternalSystemIssue> externalTickets);
 
+	/**
+	 * Replaces tickets of every issue with the provided ones. Tickets of all the issues are resolved with a single query.
+	 *
+	 * @param submitter       Username of the tickets submitter
+	 * @param externalTickets (issue - its external tickets) pairs, 'null' tickets leave the issue linking unchanged
+	 */
+	void updateLinking(String submitter, List<Pair<IssueEntity, Set<Issue.ExternalSystemIssue>>> externalTickets);
+
 }
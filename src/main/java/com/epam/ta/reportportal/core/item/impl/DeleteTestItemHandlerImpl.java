@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.attachment.DeleteTestItemAttachmentsEvent;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
 import com.epam.ta.reportportal.core.item.DeleteTestItemHandler;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
@@ -73,14 +74,17 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private final TestItemBulkQueries testItemBulkQueries;
+
 	@Autowired
 	public DeleteTestItemHandlerImpl(TestItemRepository testItemRepository, LogRepository logRepository, LogIndexer logIndexer,
-			LaunchRepository launchRepository, ApplicationEventPublisher eventPublisher) {
+			LaunchRepository launchRepository, ApplicationEventPublisher eventPublisher, TestItemBulkQueries testItemBulkQueries) {
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
 		this.logIndexer = logIndexer;
 		this.launchRepository = launchRepository;
 		this.eventPublisher = eventPublisher;
+		this.testItemBulkQueries = testItemBulkQueries;
 	}
 
 	@Override
@@ -108,6 +112,7 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 				)
 		);
 		eventPublisher.publishEvent(new DeleteTestItemAttachmentsEvent(removedDescendants));
+		eventPublisher.publishEvent(new ProjectDataChangedEvent(launch.getProjectId()));
 
 		return COMPOSE_DELETE_RESPONSE.apply(item.getItemId());
 	}
@@ -148,21 +153,31 @@ public class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 				)
 		));
 
-		Set<Long> removedItems = testItemRepository.findAllById(idsToDelete)
-				.stream()
-				.map(TestItem::getPath)
-				.collect(toList())
-				.stream()
-				.flatMap(path -> testItemRepository.selectAllDescendantsIds(path).stream())
-				.collect(toSet());
+		Set<Long> removedItems = testItemBulkQueries.selectAllDescendantsIds(launchItemMap.keySet(),
+				items.stream().filter(it -> idsToDelete.contains(it.getItemId())).map(TestItem::getPath).collect(toSet())
+		);
 
 		testItemRepository.deleteAllByItemIdIn(idsToDelete);
+		//flags are selected with jdbc, so the delete has to reach the database first
+		testItemRepository.flush();
 
-		launches.forEach(it -> it.setHasRetries(launchRepository.hasRetries(it.getId())));
+		Set<Long> launchesWithRetries = testItemBulkQueries.selectLaunchesWithRetries(launches.stream()
+				.map(Launch::getId)
+				.collect(toSet()));
+		launches.forEach(it -> it.setHasRetries(launchesWithRetries.contains(it.getId())));
 
-		parentsToUpdate.forEach(it -> it.setHasChildren(testItemRepository.hasChildren(it.getItemId(), it.getPath())));
+		Set<Long> parentsWithChildren = testItemBulkQueries.selectParentsWithChildren(parentsToUpdate.stream()
+				.map(TestItem::getItemId)
+				.collect(toSet()));
+		parentsToUpdate.forEach(it -> it.setHasChildren(parentsWithChildren.contains(it.getItemId())));
 
-		idsToDelete.forEach(it -> eventPublisher.publishEvent(new DeleteTestItemAttachmentsEvent(removedItems)));
+		if (!removedItems.isEmpty()) {
+			eventPublisher.publishEvent(new DeleteTestItemAttachmentsEvent(removedItems));
+		}
+		launches.stream()
+				.map(Launch::getProjectId)
+				.distinct()
+				.forEach(projectId -> eventPublisher.publishEvent(new ProjectDataChangedEvent(projectId)));
 
 		return idsToDelete.stream().map(COMPOSE_DELETE_RESPONSE).collect(toList());
 	}
@@ -25,6 +25,7 @@ import com.epam.ta.reportportal.ws.converter.converters.TicketConverter;
 import com.epam.ta.reportportal.ws.model.issue.Issue;
 import com.epam.ta.reportportal.ws.model.item.UnlinkExternalIssueRQ;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -32,9 +33,11 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -49,15 +52,16 @@ public class ExternalTicketHandlerImpl implements ExternalTicketHandler {
 	@Override
 	public void linkExternalTickets(String submitter, List<IssueEntity> issueEntities, List<Issue.ExternalSystemIssue> tickets) {
 		List<Ticket> existedTickets = collectExistedTickets(tickets);
-		Set<Ticket> ticketsFromRq = collectTickets(tickets, submitter);
+		Set<Ticket> ticketsFromRq = createTickets(tickets, submitter);
 		linkTickets(issueEntities, existedTickets, ticketsFromRq);
 	}
 
 	@Override
 	public void unlinkExternalTickets(List<TestItem> items, UnlinkExternalIssueRQ request) {
+		Set<String> ticketIds = new HashSet<>(request.getTicketIds());
 		items.forEach(testItem -> {
 			IssueEntity issue = testItem.getItemResults().getIssue();
-			if (issue.getTickets().removeIf(it -> request.getTicketIds().contains(it.getTicketId()))) {
+			if (issue.getTickets().removeIf(it -> ticketIds.contains(it.getTicketId()))) {
 				issue.setAutoAnalyzed(false);
 			}
 		});
@@ -65,12 +69,23 @@ public class ExternalTicketHandlerImpl implements ExternalTicketHandler {
 
 	@Override
 	public void updateLinking(String submitter, IssueEntity issueEntity, Set<Issue.ExternalSystemIssue> externalTickets) {
-		ofNullable(externalTickets).ifPresent(tickets -> {
-			Set<Ticket> existedTickets = collectTickets(tickets, submitter);
+		updateLinking(submitter, Collections.singletonList(Pair.of(issueEntity, externalTickets)));
+	}
+
+	@Override
+	public void updateLinking(String submitter, List<Pair<IssueEntity, Set<Issue.ExternalSystemIssue>>> externalTickets) {
+		Map<String, Ticket> tickets = collectTickets(externalTickets.stream()
+				.map(Pair::getValue)
+				.filter(Objects::nonNull)
+				.flatMap(Collection::stream)
+				.collect(toList()), submitter);
+		externalTickets.forEach(pair -> ofNullable(pair.getValue()).ifPresent(issueTickets -> {
+			IssueEntity issueEntity = pair.getKey();
+			Set<Ticket> existedTickets = issueTickets.stream().map(it -> tickets.get(it.getTicketId())).collect(toSet());
 			issueEntity.getTickets().removeIf(it -> !existedTickets.contains(it));
 			issueEntity.getTickets().addAll(existedTickets);
 			existedTickets.stream().filter(it -> CollectionUtils.isEmpty(it.getIssues())).forEach(it -> it.getIssues().add(issueEntity));
-		});
+		}));
 	}
 
 	/**
@@ -85,40 +100,63 @@ public class ExternalTicketHandlerImpl implements ExternalTicketHandler {
 		}
 		List<Ticket> existedTickets = ticketRepository.findByTicketIdIn(externalIssues.stream()
 				.map(Issue.ExternalSystemIssue::getTicketId)
+				.distinct()
 				.collect(toList()));
-		List<String> existedTicketsIds = existedTickets.stream().map(Ticket::getTicketId).collect(toList());
+		Set<String> existedTicketsIds = existedTickets.stream().map(Ticket::getTicketId).collect(toSet());
 		externalIssues.removeIf(it -> existedTicketsIds.contains(it.getTicketId()));
 		return existedTickets;
 	}
 
 	/**
-	 * TODO document this
+	 * Creates tickets that are absent in db, one ticket per ticket id.
 	 *
-	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
+	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue} without existed tickets
 	 * @param username       {@link com.epam.ta.reportportal.entity.user.User#login}
 	 * @return {@link Set} of the {@link Ticket}
 	 */
-	private Set<Ticket> collectTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username) {
+	private Set<Ticket> createTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username) {
 		if (CollectionUtils.isEmpty(externalIssues)) {
 			return Collections.emptySet();
 		}
-		return externalIssues.stream().map(it -> {
-			Ticket ticket;
-			Optional<Ticket> ticketOptional = ticketRepository.findByTicketId(it.getTicketId());
-			if (ticketOptional.isPresent()) {
-				ticket = ticketOptional.get();
-				ticket.setUrl(it.getUrl());
-				ticket.setBtsProject(it.getBtsProject());
-				ticket.setBtsUrl(it.getBtsUrl());
-			} else {
-				ticket = TicketConverter.TO_TICKET.apply(it);
-			}
-			ticket.setSubmitter(username);
-			ticket.setSubmitDate(ofNullable(it.getSubmitDate()).map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis),
-					ZoneOffset.UTC
-			)).orElse(LocalDateTime.now()));
-			return ticket;
-		}).collect(toSet());
+		Map<String, Ticket> tickets = new LinkedHashMap<>();
+		externalIssues.forEach(it -> submit(tickets.computeIfAbsent(it.getTicketId(), id -> TicketConverter.TO_TICKET.apply(it)),
+				it,
+				username
+		));
+		return new LinkedHashSet<>(tickets.values());
+	}
+
+	/**
+	 * Resolves tickets of the request with a single query: existed tickets are updated, absent ones are created.
+	 * Request entries with the same ticket id share the same {@link Ticket} instance.
+	 *
+	 * @param externalIssues {@link com.epam.ta.reportportal.ws.model.issue.Issue.ExternalSystemIssue}
+	 * @param username       {@link com.epam.ta.reportportal.entity.user.User#login}
+	 * @return Ticket id - {@link Ticket}
+	 */
+	private Map<String, Ticket> collectTickets(Collection<Issue.ExternalSystemIssue> externalIssues, String username) {
+		if (CollectionUtils.isEmpty(externalIssues)) {
+			return Collections.emptyMap();
+		}
+		Map<String, Ticket> tickets = ticketRepository.findByTicketIdIn(externalIssues.stream()
+				.map(Issue.ExternalSystemIssue::getTicketId)
+				.distinct()
+				.collect(toList())).stream().collect(toMap(Ticket::getTicketId, Function.identity(), (first, second) -> first));
+		externalIssues.forEach(it -> {
+			Ticket ticket = tickets.computeIfAbsent(it.getTicketId(), id -> TicketConverter.TO_TICKET.apply(it));
+			ticket.setUrl(it.getUrl());
+			ticket.setBtsProject(it.getBtsProject());
+			ticket.setBtsUrl(it.getBtsUrl());
+			submit(ticket, it, username);
+		});
+		return tickets;
+	}
+
+	private static void submit(Ticket ticket, Issue.ExternalSystemIssue externalIssue, String username) {
+		ticket.setSubmitter(username);
+		ticket.setSubmitDate(ofNullable(externalIssue.getSubmitDate()).map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis),
+				ZoneOffset.UTC
+		)).orElse(LocalDateTime.now()));
 	}
 
 	private void linkTickets(List<IssueEntity> issueEntities, List<Ticket> existedTickets, Set<Ticket> ticketsFromRq) {
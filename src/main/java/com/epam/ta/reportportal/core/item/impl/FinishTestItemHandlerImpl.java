@@ -27,6 +27,7 @@ import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
 import com.epam.ta.reportportal.core.item.impl.retry.RetriesHandler;
 import com.epam.ta.reportportal.core.item.impl.status.ChangeStatusHandler;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.IssueEntityRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
@@ -61,6 +62,7 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.EntityUtils.TO_LOCAL_DATE_TIME;
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
@@ -113,13 +115,15 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 
 	private final ExternalTicketHandler externalTicketHandler;
 
+	private final SuggestionIndex suggestionIndex;
+
 	@Autowired
 	FinishTestItemHandlerImpl(TestItemRepository testItemRepository, IssueTypeHandler issueTypeHandler,
 			@Qualifier("finishTestItemHierarchyHandler") FinishHierarchyHandler<TestItem> finishHierarchyHandler, LogIndexer logIndexer,
 			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping, IssueEntityRepository issueEntityRepository,
 			LogRepository logRepository, ChangeStatusHandler changeStatusHandler, ApplicationEventPublisher eventPublisher,
 			LaunchRepository launchRepository, RetriesHandler retriesHandler, MessageBus messageBus,
-			ExternalTicketHandler externalTicketHandler) {
+			ExternalTicketHandler externalTicketHandler, SuggestionIndex suggestionIndex) {
 		this.testItemRepository = testItemRepository;
 		this.issueTypeHandler = issueTypeHandler;
 		this.finishHierarchyHandler = finishHierarchyHandler;
@@ -133,6 +137,7 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		this.retriesHandler = retriesHandler;
 		this.messageBus = messageBus;
 		this.externalTicketHandler = externalTicketHandler;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -323,6 +328,9 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 								Lists.newArrayList(issueEntity),
 								new ArrayList<>(issue.getExternalSystemIssues())
 						);
+						suggestionIndex.addTickets(projectId,
+								issue.getExternalSystemIssues().stream().map(Issue.ExternalSystemIssue::getTicketId).collect(Collectors.toList())
+						);
 					}
 					return Optional.of(issueEntity);
 				}
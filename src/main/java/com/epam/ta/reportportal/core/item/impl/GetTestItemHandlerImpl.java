@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.core.item.GetTestItemHandler;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.utils.DefaultLaunchFilterProvider;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.ItemAttributeRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.dao.TicketRepository;
@@ -40,10 +41,7 @@ import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
 import com.epam.ta.reportportal.ws.converter.converters.StatisticsConverter;
-import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
-import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdater;
-import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdaterProvider;
-import com.epam.ta.reportportal.ws.converter.utils.item.content.TestItemUpdaterContent;
+import com.epam.ta.reportportal.ws.converter.utils.item.TestItemResourceEnricher;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
 import com.epam.ta.reportportal.ws.model.statistics.StatisticsResource;
@@ -55,7 +53,6 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -67,7 +64,6 @@ import static com.epam.ta.reportportal.commons.querygen.constant.LaunchCriteriaC
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.entity.project.ProjectRole.OPERATOR;
 import static com.epam.ta.reportportal.ws.model.ErrorType.ACCESS_DENIED;
-import static java.util.stream.Collectors.toList;
 
 /**
  * GET operations for {@link TestItem}<br>
@@ -87,24 +83,27 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 
 	private final ItemAttributeRepository itemAttributeRepository;
 
-	private final List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders;
+	private final TestItemResourceEnricher testItemResourceEnricher;
 
 	private final TicketRepository ticketRepository;
 
 	private final GetShareableEntityHandler<UserFilter> getShareableEntityHandler;
 
+	private final SuggestionIndex suggestionIndex;
+
 	@Autowired
 	public GetTestItemHandlerImpl(TestItemRepository testItemRepository, TestItemService testItemService, LaunchAccessValidator launchAccessValidator,
 			ItemAttributeRepository itemAttributeRepository,
-			List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders,
-			TicketRepository ticketRepository, GetShareableEntityHandler<UserFilter> getShareableEntityHandler1) {
+			TestItemResourceEnricher testItemResourceEnricher, TicketRepository ticketRepository, GetShareableEntityHandler<UserFilter> getShareableEntityHandler1,
+			SuggestionIndex suggestionIndex) {
 		this.testItemRepository = testItemRepository;
 		this.testItemService = testItemService;
 		this.launchAccessValidator = launchAccessValidator;
 		this.itemAttributeRepository = itemAttributeRepository;
-		this.resourceUpdaterProviders = resourceUpdaterProviders;
+		this.testItemResourceEnricher = testItemResourceEnricher;
 		this.ticketRepository = ticketRepository;
 		this.getShareableEntityHandler = getShareableEntityHandler1;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -121,12 +120,7 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		Launch launch = testItemService.getEffectiveLaunch(testItem);
 		launchAccessValidator.validate(launch.getId(), projectDetails, user);
 
-		List<ResourceUpdater<TestItemResource>> resourceUpdaters = getResourceUpdaters(projectDetails.getProjectId(),
-				Collections.singletonList(testItem)
-		);
-		TestItemResource testItemResource = TestItemConverter.TO_RESOURCE.apply(testItem);
-		resourceUpdaters.forEach(updater -> updater.updateResource(testItemResource));
-		return testItemResource;
+		return testItemResourceEnricher.toResource(projectDetails.getProjectId(), testItem);
 	}
 
 	@Override
@@ -144,16 +138,10 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 			return testItemRepository.findByFilter(filter, pageable);
 		}).orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, "Neither launch nor filter id specified.")));
 
-		return PagedResourcesAssembler.<TestItem, TestItemResource>pageMultiConverter(items -> {
-			List<ResourceUpdater<TestItemResource>> resourceUpdaters = getResourceUpdaters(projectDetails.getProjectId(),
-					testItemPage.getContent()
-			);
-			return items.stream().map(item -> {
-				TestItemResource testItemResource = TestItemConverter.TO_RESOURCE.apply(item);
-				resourceUpdaters.forEach(updater -> updater.updateResource(testItemResource));
-				return testItemResource;
-			}).collect(toList());
-		}).apply(testItemPage);
+		return PagedResourcesAssembler.<TestItem, TestItemResource>pageMultiConverter(items -> testItemResourceEnricher.toResources(
+				projectDetails.getProjectId(),
+				items
+		)).apply(testItemPage);
 	}
 
 	@Override
@@ -184,13 +172,6 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		);
 	}
 
-	private List<ResourceUpdater<TestItemResource>> getResourceUpdaters(Long projectId, List<TestItem> testItems) {
-		return resourceUpdaterProviders.stream()
-				.map(retriever -> retriever.retrieve(TestItemUpdaterContent.of(projectId, testItems)))
-				.collect(toList());
-
-	}
-
 	@Override
 	public List<String> getTicketIds(Long launchId, String term) {
 		BusinessRule.expect(term.length() > 2, Predicates.equalTo(true)).verify(ErrorType.INCORRECT_FILTER_PARAMETERS,
@@ -204,7 +185,10 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		BusinessRule.expect(term.length() > 0, Predicates.equalTo(true)).verify(ErrorType.INCORRECT_FILTER_PARAMETERS,
 				Suppliers.formattedSupplier("Length of the filtering string '{}' is less than 1 symbols", term)
 		);
-		return ticketRepository.findByProjectIdAndTerm(projectDetails.getProjectId(), term);
+		return suggestionIndex.getTickets(projectDetails.getProjectId(),
+				term,
+				() -> ticketRepository.findByProjectIdAndTerm(projectDetails.getProjectId(), term)
+		);
 	}
 
 	@Override
@@ -240,12 +224,7 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 		} else {
 			items = testItemRepository.findAllById(Arrays.asList(ids));
 		}
-		List<ResourceUpdater<TestItemResource>> resourceUpdaters = getResourceUpdaters(projectDetails.getProjectId(), items);
-		return items.stream().map(item -> {
-			TestItemResource testItemResource = TestItemConverter.TO_RESOURCE.apply(item);
-			resourceUpdaters.forEach(updater -> updater.updateResource(testItemResource));
-			return testItemResource;
-		}).collect(toList());
+		return testItemResourceEnricher.toResources(projectDetails.getProjectId(), items);
 	}
 
 	private Filter getItemsFilter(Long[] ids, ReportPortalUser.ProjectDetails projectDetails) {
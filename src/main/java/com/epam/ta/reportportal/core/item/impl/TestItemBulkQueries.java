@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based test item tree queries, executed once for the whole collection of items
+ * instead of a query per item.
+ */
+@Service
+public class TestItemBulkQueries {
+
+	/**
+	 * 'path <@ ANY(ltree[])' is resolved by the GiST index on the path with a bitmap scan per path.
+	 * Retries are not linked to the launch, so they are matched by the path only.
+	 */
+	private static final String SELECT_DESCENDANTS_IDS_QUERY =
+			"SELECT item_id FROM test_item WHERE path <@ ANY(?::LTREE[]) AND (launch_id = ANY(?::BIGINT[]) OR launch_id IS NULL)";
+
+	private static final String SELECT_PARENTS_WITH_CHILDREN_QUERY = "SELECT DISTINCT parent_id FROM test_item WHERE parent_id = ANY(?::BIGINT[])";
+
+	/**
+	 * Retries are not linked to the launch, so the launch is taken from the retried item
+	 */
+	private static final String SELECT_LAUNCHES_WITH_RETRIES_QUERY =
+			"SELECT DISTINCT ti.launch_id FROM test_item ti JOIN test_item retry ON retry.retry_of = ti.item_id "
+					+ "WHERE ti.launch_id = ANY(?::BIGINT[])";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public TestItemBulkQueries(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param launchIds Ids of the launches of the items
+	 * @param paths     Paths of the items
+	 * @return Ids of the items with all their descendants
+	 */
+	public Set<Long> selectAllDescendantsIds(Collection<Long> launchIds, Collection<String> paths) {
+		if (paths.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return new HashSet<>(jdbcTemplate.queryForList(SELECT_DESCENDANTS_IDS_QUERY,
+				Long.class,
+				toArrayLiteral(paths),
+				toArrayLiteral(launchIds)
+		));
+	}
+
+	/**
+	 * @param parentIds Ids of the items
+	 * @return Ids of the provided items that have at least one child
+	 */
+	public Set<Long> selectParentsWithChildren(Collection<Long> parentIds) {
+		return select(SELECT_PARENTS_WITH_CHILDREN_QUERY, parentIds);
+	}
+
+	/**
+	 * @param launchIds Ids of the launches
+	 * @return Ids of the provided launches that have at least one retry
+	 */
+	public Set<Long> selectLaunchesWithRetries(Collection<Long> launchIds) {
+		return select(SELECT_LAUNCHES_WITH_RETRIES_QUERY, launchIds);
+	}
+
+	private Set<Long> select(String query, Collection<?> values) {
+		if (values.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return new HashSet<>(jdbcTemplate.queryForList(query, Long.class, toArrayLiteral(values)));
+	}
+
+	/**
+	 * Paths and ids contain only digits and dots, so they don't require quoting inside of the array literal
+	 */
+	private static String toArrayLiteral(Collection<?> values) {
+		return values.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+	}
+}
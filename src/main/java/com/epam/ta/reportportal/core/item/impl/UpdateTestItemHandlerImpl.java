@@ -28,6 +28,7 @@ import com.epam.ta.reportportal.core.item.ExternalTicketHandler;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.UpdateTestItemHandler;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.ItemAttribute;
 import com.epam.ta.reportportal.entity.activity.ActivityAction;
@@ -63,6 +64,8 @@ import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import com.google.common.collect.Lists;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -83,6 +86,7 @@ import static com.epam.ta.reportportal.ws.converter.converters.TestItemConverter
 import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -116,11 +120,13 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 	private final Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping;
 
+	private final SuggestionIndex suggestionIndex;
+
 	@Autowired
 	public UpdateTestItemHandlerImpl(TestItemService testItemService, ProjectRepository projectRepository, LaunchRepository launchRepository,
 			TestItemRepository testItemRepository, LogRepository logRepository, ExternalTicketHandler externalTicketHandler,
 			IssueTypeHandler issueTypeHandler, MessageBus messageBus, LogIndexer logIndexer, IssueEntityRepository issueEntityRepository,
-			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping) {
+			Map<StatusEnum, StatusChangingStrategy> statusChangingStrategyMapping, SuggestionIndex suggestionIndex) {
 		this.testItemService = testItemService;
 		this.projectRepository = projectRepository;
 		this.testItemRepository = testItemRepository;
@@ -131,6 +137,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		this.logIndexer = logIndexer;
 		this.issueEntityRepository = issueEntityRepository;
 		this.statusChangingStrategyMapping = statusChangingStrategyMapping;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -150,6 +157,10 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		Map<Long, List<Long>> logsToReindexMap = new HashMap<>();
 		List<Long> logIdsToCleanIndex = new ArrayList<>();
 
+		// left - item, middle - item state before the update, right - updated issue
+		List<Triple<TestItem, TestItemActivityResource, IssueEntity>> definedIssues = new ArrayList<>(definitions.size());
+		List<Pair<IssueEntity, Set<Issue.ExternalSystemIssue>>> externalTickets = new ArrayList<>(definitions.size());
+
 		definitions.forEach(issueDefinition -> {
 			try {
 				TestItem testItem = testItemRepository.findById(issueDefinition.getId())
@@ -170,39 +181,50 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 						.addAutoAnalyzedFlag(issue.getAutoAnalyzed())
 						.get();
 
-				externalTicketHandler.updateLinking(user.getUsername(), issueEntity, issueDefinition.getIssue().getExternalSystemIssues());
+				externalTickets.add(Pair.of(issueEntity, issue.getExternalSystemIssues()));
+				ofNullable(issue.getExternalSystemIssues()).ifPresent(tickets -> suggestionIndex.addTickets(projectDetails.getProjectId(),
+						tickets.stream().map(Issue.ExternalSystemIssue::getTicketId).collect(toList())
+				));
+				definedIssues.add(Triple.of(testItem, before, issueEntity));
+			} catch (BusinessRuleViolationException e) {
+				errors.add(e.getMessage());
+			}
+		});
 
-				issueEntity.setTestItemResults(testItem.getItemResults());
-				issueEntityRepository.save(issueEntity);
-				testItem.getItemResults().setIssue(issueEntity);
+		externalTicketHandler.updateLinking(user.getUsername(), externalTickets);
 
-				testItemRepository.save(testItem);
+		definedIssues.forEach(definedIssue -> {
+			TestItem testItem = definedIssue.getLeft();
+			IssueEntity issueEntity = definedIssue.getRight();
 
-				if (ITEM_CAN_BE_INDEXED.test(testItem)) {
-					Long launchId = testItem.getLaunchId();
-					Long itemId = testItem.getItemId();
-					if (logsToReindexMap.containsKey(launchId)) {
-						logsToReindexMap.get(launchId).add(itemId);
-					} else {
-						List<Long> itemIds = Lists.newArrayList();
-						itemIds.add(itemId);
-						logsToReindexMap.put(launchId, itemIds);
-					}
+			issueEntity.setTestItemResults(testItem.getItemResults());
+			issueEntityRepository.save(issueEntity);
+			testItem.getItemResults().setIssue(issueEntity);
+
+			testItemRepository.save(testItem);
+
+			if (ITEM_CAN_BE_INDEXED.test(testItem)) {
+				Long launchId = testItem.getLaunchId();
+				Long itemId = testItem.getItemId();
+				if (logsToReindexMap.containsKey(launchId)) {
+					logsToReindexMap.get(launchId).add(itemId);
 				} else {
-					logIdsToCleanIndex.addAll(logRepository.findIdsUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(testItem.getLaunchId(),
-							Collections.singletonList(testItem.getItemId()),
-							LogLevel.ERROR.toInt()
-					));
+					List<Long> itemIds = Lists.newArrayList();
+					itemIds.add(itemId);
+					logsToReindexMap.put(launchId, itemIds);
 				}
+			} else {
+				logIdsToCleanIndex.addAll(logRepository.findIdsUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(testItem.getLaunchId(),
+						Collections.singletonList(testItem.getItemId()),
+						LogLevel.ERROR.toInt()
+				));
+			}
 
-				updated.add(IssueConverter.TO_MODEL.apply(issueEntity));
+			updated.add(IssueConverter.TO_MODEL.apply(issueEntity));
 
-				TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(testItem, projectDetails.getProjectId());
+			TestItemActivityResource after = TO_ACTIVITY_RESOURCE.apply(testItem, projectDetails.getProjectId());
 
-				events.add(new ItemIssueTypeDefinedEvent(before, after, user.getUserId(), user.getUsername()));
-			} catch (BusinessRuleViolationException e) {
-				errors.add(e.getMessage());
-			}
+			events.add(new ItemIssueTypeDefinedEvent(definedIssue.getMiddle(), after, user.getUserId(), user.getUsername()));
 		});
 		expect(errors.isEmpty(), equalTo(TRUE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
 		if (!logsToReindexMap.isEmpty()) {
@@ -274,14 +296,19 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 		if (LinkExternalIssueRQ.class.equals(request.getClass())) {
 			LinkExternalIssueRQ linkRequest = (LinkExternalIssueRQ) request;
+			List<String> ticketIds = ofNullable(linkRequest.getIssues()).map(issues -> issues.stream()
+					.map(Issue.ExternalSystemIssue::getTicketId)
+					.collect(toList())).orElseGet(Collections::emptyList);
 			externalTicketHandler.linkExternalTickets(user.getUsername(),
 					testItems.stream().map(it -> it.getItemResults().getIssue()).collect(Collectors.toList()),
 					linkRequest.getIssues()
 			);
+			suggestionIndex.addTickets(projectDetails.getProjectId(), ticketIds);
 		}
 
 		if (UnlinkExternalIssueRQ.class.equals(request.getClass())) {
 			externalTicketHandler.unlinkExternalTickets(testItems, (UnlinkExternalIssueRQ) request);
+			suggestionIndex.invalidateTickets(projectDetails.getProjectId());
 		}
 		testItemRepository.saveAll(testItems);
 		List<TestItemActivityResource> after = testItems.stream()
@@ -33,10 +33,7 @@ import com.epam.ta.reportportal.entity.item.history.TestItemHistory;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
-import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
-import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdater;
-import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdaterProvider;
-import com.epam.ta.reportportal.ws.converter.utils.item.content.TestItemUpdaterContent;
+import com.epam.ta.reportportal.ws.converter.utils.item.TestItemResourceEnricher;
 import com.epam.ta.reportportal.ws.model.TestItemHistoryElement;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
 import com.google.common.collect.Lists;
@@ -79,14 +76,14 @@ public class TestItemsHistoryHandlerImpl implements TestItemsHistoryHandler {
 
 	private final TestItemRepository testItemRepository;
 	private final HistoryProviderFactory historyProviderFactory;
-	private final List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders;
+	private final TestItemResourceEnricher testItemResourceEnricher;
 
 	@Autowired
 	public TestItemsHistoryHandlerImpl(TestItemRepository testItemRepository, HistoryProviderFactory historyProviderFactory,
-			List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders) {
+			TestItemResourceEnricher testItemResourceEnricher) {
 		this.testItemRepository = testItemRepository;
 		this.historyProviderFactory = historyProviderFactory;
-		this.resourceUpdaterProviders = resourceUpdaterProviders;
+		this.testItemResourceEnricher = testItemResourceEnricher;
 	}
 
 	@Override
@@ -149,13 +146,9 @@ public class TestItemsHistoryHandlerImpl implements TestItemsHistoryHandler {
 				.flatMap(history -> history.getItemIds().stream())
 				.collect(toList()));
 
-		List<ResourceUpdater<TestItemResource>> resourceUpdaters = getResourceUpdaters(projectId, testItems);
-
-		Map<String, Map<Long, TestItemResource>> itemsMapping = testItems.stream().map(item -> {
-			TestItemResource testItemResource = TestItemConverter.TO_RESOURCE.apply(item);
-			resourceUpdaters.forEach(updater -> updater.updateResource(testItemResource));
-			return testItemResource;
-		}).collect(groupingBy(groupingFunction, toMap(TestItemResource::getItemId, res -> res)));
+		Map<String, Map<Long, TestItemResource>> itemsMapping = testItemResourceEnricher.toResources(projectId, testItems)
+				.stream()
+				.collect(groupingBy(groupingFunction, toMap(TestItemResource::getItemId, res -> res)));
 
 		List<TestItemHistoryElement> testItemHistoryElements = testItemHistoryPage.getContent()
 				.stream()
@@ -178,11 +171,4 @@ public class TestItemsHistoryHandlerImpl implements TestItemsHistoryHandler {
 		));
 
 	}
-
-	private List<ResourceUpdater<TestItemResource>> getResourceUpdaters(Long projectId, List<TestItem> testItems) {
-		return resourceUpdaterProviders.stream()
-				.map(retriever -> retriever.retrieve(TestItemUpdaterContent.of(projectId, testItems)))
-				.collect(toList());
-
-	}
 }
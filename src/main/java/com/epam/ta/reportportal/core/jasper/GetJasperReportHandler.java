@@ -21,6 +21,7 @@ import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JasperPrint;
 
 import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -55,6 +56,16 @@ public interface GetJasperReportHandler<T> {
 	 */
 	void writeReport(ReportFormat format, OutputStream outputStream, JasperPrint jasperPrint);
 
+	/**
+	 * Convert entities to the report and write it to the output stream.
+	 * Entities are converted one by one as they are consumed from the iterator.
+	 *
+	 * @param format       Report format
+	 * @param outputStream Stream report should be written to
+	 * @param entities     Entities for report rows
+	 */
+	void writeReport(ReportFormat format, OutputStream outputStream, Iterator<? extends T> entities);
+
 	/**
 	 * Convert entity parameters for {@link JasperPrint} creation
 	 *
@@ -18,9 +18,11 @@ package com.epam.ta.reportportal.core.jasper.impl;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
+import com.epam.ta.reportportal.core.jasper.util.MapIteratorDataSource;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.collect.Iterators;
 import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperPrint;
@@ -31,8 +33,18 @@ import net.sf.jasperreports.export.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import static com.epam.ta.reportportal.ws.model.ErrorType.BAD_REQUEST_ERROR;
 
@@ -45,6 +57,9 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.BAD_REQUEST_ERROR;
 public abstract class AbstractJasperReportHandler<T> implements GetJasperReportHandler<T> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJasperReportHandler.class);
 
+	private static final char CSV_DELIMITER = ',';
+	private static final String CSV_RECORD_DELIMITER = "\n";
+
 	private final String unsupportedReportFormatExceptionMessage;
 
 	public AbstractJasperReportHandler(String unsupportedReportFormatExceptionMessage) {
@@ -123,5 +138,67 @@ public abstract class AbstractJasperReportHandler<T> implements GetJasperReportH
 		}
 	}
 
+	@Override
+	public void writeReport(ReportFormat format, OutputStream outputStream, Iterator<? extends T> entities) {
+		Iterator<Map<String, Object>> rows = Iterators.transform(entities, this::convertParams);
+		List<String> columns = getCsvColumns();
+		if (ReportFormat.CSV == format && !columns.isEmpty()) {
+			writeCsv(outputStream, columns, rows);
+		} else {
+			//don't provide any params to not overwrite params from the Jasper template
+			writeReport(format, outputStream, getJasperPrint(null, new MapIteratorDataSource(rows)));
+		}
+	}
+
+	/**
+	 * Columns of the plain table report in the order of the Jasper template.
+	 * CSV report of the handler with columns is written row by row without the {@link JasperPrint} creation.
+	 *
+	 * @return {@link List} of the column names, empty if the report isn't a plain table
+	 */
+	protected List<String> getCsvColumns() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Writes the same output as {@link JRCsvExporter} with the default configuration
+	 * for the template with a single header row
+	 */
+	private void writeCsv(OutputStream outputStream, List<String> columns, Iterator<? extends Map<String, ?>> rows) {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		try {
+			writeCsvRecord(writer, columns, column -> column);
+			while (rows.hasNext()) {
+				Map<String, ?> row = rows.next();
+				writeCsvRecord(writer, columns, row::get);
+			}
+			writer.flush();
+		} catch (IOException ex) {
+			LOGGER.error("Unable to generate report!", ex);
+			BusinessRule.fail()
+					.withError(ErrorType.FORBIDDEN_OPERATION,
+							Suppliers.formattedSupplier(" Unexpected issue during report output stream creation: {}", ex.getLocalizedMessage())
+					);
+		}
+	}
+
+	private static void writeCsvRecord(Writer writer, List<String> columns, Function<String, ?> valueProvider) throws IOException {
+		for (int i = 0; i < columns.size(); i++) {
+			if (i > 0) {
+				writer.write(CSV_DELIMITER);
+			}
+			Object value = valueProvider.apply(columns.get(i));
+			if (value != null) {
+				writer.write(prepareCsvText(String.valueOf(value)));
+			}
+		}
+		writer.write(CSV_RECORD_DELIMITER);
+	}
+
+	private static String prepareCsvText(String text) {
+		boolean quoted = text.indexOf(CSV_DELIMITER) >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0;
+		return quoted ? '"' + text.replace("\"", "\"\"") + '"' : text;
+	}
+
 	public abstract Set<ReportFormat> getAvailableReportFormats();
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.jasper.constants.ProjectReportConstants;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.epam.ta.reportportal.entity.project.ProjectInfo;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JasperPrint;
@@ -31,6 +32,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -45,6 +47,14 @@ public class ProjectJasperReportHandler extends AbstractJasperReportHandler<Proj
 
 	private static final String UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION = "Report format - {} is not supported for project reports.";
 
+	private static final List<String> CSV_COLUMNS = ImmutableList.of(ProjectReportConstants.PROJECT_NAME,
+			ProjectReportConstants.PROJECT_TYPE,
+			ProjectReportConstants.ORGANIZATION,
+			ProjectReportConstants.MEMBERS,
+			ProjectReportConstants.LAUNCHES,
+			ProjectReportConstants.LAST_LAUNCH_DATE
+	);
+
 	private final Set<ReportFormat> availableReportFormats;
 
 	private final JasperReportRender reportRender;
@@ -79,6 +89,11 @@ public class ProjectJasperReportHandler extends AbstractJasperReportHandler<Proj
 		return params;
 	}
 
+	@Override
+	protected List<String> getCsvColumns() {
+		return CSV_COLUMNS;
+	}
+
 	@Override
 	public Set<ReportFormat> getAvailableReportFormats() {
 		return availableReportFormats;
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.jasper.constants.UserReportConstants;
 import com.epam.ta.reportportal.entity.jasper.ReportFormat;
 import com.epam.ta.reportportal.entity.jasper.ReportType;
 import com.epam.ta.reportportal.entity.user.User;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JasperPrint;
@@ -32,6 +33,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -47,6 +49,14 @@ public class UserJasperReportHandler extends AbstractJasperReportHandler<User> {
 
 	private static final String UNSUPPORTED_REPORT_FORMAT_MESSAGE_EXCEPTION = "Report format - {} is not supported for user reports.";
 
+	private static final List<String> CSV_COLUMNS = ImmutableList.of(UserReportConstants.FULL_NAME,
+			UserReportConstants.TYPE,
+			UserReportConstants.LOGIN,
+			UserReportConstants.EMAIL,
+			UserReportConstants.LAST_LOGIN,
+			UserReportConstants.PROJECTS_AND_ROLES
+	);
+
 	private final Set<ReportFormat> availableReportFormats;
 
 	private final JasperReportRender reportRender;
@@ -97,6 +107,11 @@ public class UserJasperReportHandler extends AbstractJasperReportHandler<User> {
 		return params;
 	}
 
+	@Override
+	protected List<String> getCsvColumns() {
+		return CSV_COLUMNS;
+	}
+
 	@Override
 	public Set<ReportFormat> getAvailableReportFormats() {
 		return availableReportFormats;
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.jasper.util;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRField;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * {@link JRDataSource} over the lazily converted report rows.
+ * Unlike {@link net.sf.jasperreports.engine.data.JRMapCollectionDataSource} rows are not collected in advance,
+ * so the report is filled from the source as the rows arrive.
+ */
+public class MapIteratorDataSource implements JRDataSource {
+
+	private final Iterator<? extends Map<String, ?>> rows;
+
+	private Map<String, ?> current;
+
+	public MapIteratorDataSource(Iterator<? extends Map<String, ?>> rows) {
+		this.rows = rows;
+	}
+
+	@Override
+	public boolean next() {
+		current = rows.hasNext() ? rows.next() : null;
+		return current != null;
+	}
+
+	@Override
+	public Object getFieldValue(JRField field) {
+		return current.get(field.getName());
+	}
+}
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.hierarchy.FinishHierarchyHandler;
 import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -61,15 +62,17 @@ public class FinishLaunchHandlerImpl implements FinishLaunchHandler {
 	private final FinishHierarchyHandler<Launch> finishHierarchyHandler;
 	private final MessageBus messageBus;
 	private final ApplicationEventPublisher eventPublisher;
+	private final SuggestionIndex suggestionIndex;
 
 	@Autowired
 	public FinishLaunchHandlerImpl(LaunchRepository launchRepository,
 			@Qualifier("finishLaunchHierarchyHandler") FinishHierarchyHandler<Launch> finishHierarchyHandler, MessageBus messageBus,
-			ApplicationEventPublisher eventPublisher) {
+			ApplicationEventPublisher eventPublisher, SuggestionIndex suggestionIndex) {
 		this.launchRepository = launchRepository;
 		this.finishHierarchyHandler = finishHierarchyHandler;
 		this.messageBus = messageBus;
 		this.eventPublisher = eventPublisher;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -107,6 +110,7 @@ public class FinishLaunchHandlerImpl implements FinishLaunchHandler {
 				.addAttributes(finishLaunchRQ.getAttributes())
 				.addEndTime(finishLaunchRQ.getEndTime())
 				.get();
+		suggestionIndex.onLaunchFinished(launch);
 
 		LaunchFinishedEvent event = new LaunchFinishedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user, baseUrl);
 		messageBus.publishActivity(event);
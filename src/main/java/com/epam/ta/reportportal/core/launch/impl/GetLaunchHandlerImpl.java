@@ -24,6 +24,7 @@ import com.epam.ta.reportportal.core.jasper.GetJasperReportHandler;
 import com.epam.ta.reportportal.core.jasper.constants.LaunchReportConstants;
 import com.epam.ta.reportportal.core.jasper.util.JasperDataProvider;
 import com.epam.ta.reportportal.core.launch.GetLaunchHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -91,12 +92,13 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 	private final JasperDataProvider dataProvider;
 	private final GetJasperReportHandler<Launch> jasperReportHandler;
 	private final LaunchConverter launchConverter;
+	private final SuggestionIndex suggestionIndex;
 
 	@Autowired
 	public GetLaunchHandlerImpl(LaunchRepository launchRepository, ItemAttributeRepository itemAttributeRepository,
 			ProjectRepository projectRepository, WidgetContentRepository widgetContentRepository, UserRepository userRepository,
 			JasperDataProvider dataProvider, @Qualifier("launchJasperReportHandler") GetJasperReportHandler<Launch> jasperReportHandler,
-			LaunchConverter launchConverter) {
+			LaunchConverter launchConverter, SuggestionIndex suggestionIndex) {
 		this.launchRepository = launchRepository;
 		this.itemAttributeRepository = itemAttributeRepository;
 		this.projectRepository = projectRepository;
@@ -105,6 +107,7 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 		this.dataProvider = Preconditions.checkNotNull(dataProvider);
 		this.jasperReportHandler = jasperReportHandler;
 		this.launchConverter = launchConverter;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -156,12 +159,19 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 
 	@Override
 	public List<String> getAttributeKeys(ReportPortalUser.ProjectDetails projectDetails, String value) {
-		return itemAttributeRepository.findLaunchAttributeKeys(projectDetails.getProjectId(), value, false);
+		return suggestionIndex.getLaunchAttributeKeys(projectDetails.getProjectId(),
+				value,
+				() -> itemAttributeRepository.findLaunchAttributeKeys(projectDetails.getProjectId(), value, false)
+		);
 	}
 
 	@Override
 	public List<String> getAttributeValues(ReportPortalUser.ProjectDetails projectDetails, String key, String value) {
-		return itemAttributeRepository.findLaunchAttributeValues(projectDetails.getProjectId(), key, value, false);
+		return suggestionIndex.getLaunchAttributeValues(projectDetails.getProjectId(),
+				key,
+				value,
+				() -> itemAttributeRepository.findLaunchAttributeValues(projectDetails.getProjectId(), key, value, false)
+		);
 	}
 
 	@Override
@@ -188,10 +198,13 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 						MAX_LAUNCH_NAME_LENGTH
 				)
 		);
-		return launchRepository.getLaunchNamesByModeExcludedByStatus(projectDetails.getProjectId(),
+		return suggestionIndex.getLaunchNames(projectDetails.getProjectId(),
 				value,
-				LaunchModeEnum.DEFAULT,
-				StatusEnum.IN_PROGRESS
+				() -> launchRepository.getLaunchNamesByModeExcludedByStatus(projectDetails.getProjectId(),
+						value,
+						LaunchModeEnum.DEFAULT,
+						StatusEnum.IN_PROGRESS
+				)
 		);
 	}
 
@@ -206,7 +219,11 @@ public class GetLaunchHandlerImpl implements GetLaunchHandler {
 						formattedSupplier("Mode - {} doesn't exist.", mode)
 				));
 
-		return launchRepository.getOwnerNames(projectDetails.getProjectId(), value, launchMode.name());
+		return suggestionIndex.getLaunchOwners(projectDetails.getProjectId(),
+				launchMode,
+				value,
+				() -> launchRepository.getOwnerNames(projectDetails.getProjectId(), value, launchMode.name())
+		);
 	}
 
 	@Override
@@ -22,10 +22,12 @@ import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.LaunchMergeFactory;
 import com.epam.ta.reportportal.core.item.impl.merge.strategy.MergeStrategyType;
 import com.epam.ta.reportportal.core.launch.MergeLaunchHandler;
 import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -40,6 +42,7 @@ import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
 import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -73,10 +76,15 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 
 	private final LogIndexer logIndexer;
 
+	private final SuggestionIndex suggestionIndex;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public MergeLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository,
 			ProjectRepository projectRepository, LaunchMergeFactory launchMergeFactory, LaunchConverter launchConverter,
-			LaunchPreparerService launchPreparerService, LogIndexer logIndexer) {
+			LaunchPreparerService launchPreparerService, LogIndexer logIndexer, SuggestionIndex suggestionIndex,
+			ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.projectRepository = projectRepository;
@@ -84,6 +92,8 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		this.launchConverter = launchConverter;
 		this.launchPreparerService = launchPreparerService;
 		this.logIndexer = logIndexer;
+		this.suggestionIndex = suggestionIndex;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -116,6 +126,8 @@ public class MergeLaunchHandlerImpl implements MergeLaunchHandler {
 		newLaunch.setStatus(StatisticsHelper.getStatusFromStatistics(newLaunch.getStatistics()));
 
 		launchRepository.deleteAll(launchesList);
+		suggestionIndex.invalidateLaunches(projectDetails.getProjectId());
+		eventPublisher.publishEvent(new ProjectDataChangedEvent(projectDetails.getProjectId()));
 
 		List<TestItem> newItems = testItemRepository.findTestItemsByLaunchId(newLaunch.getId());
 		launchPreparerService.prepare(newLaunch, newItems, AnalyzerUtils.getAnalyzerConfig(project))
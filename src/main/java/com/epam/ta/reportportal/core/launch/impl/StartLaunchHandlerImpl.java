@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchStartedEvent;
 import com.epam.ta.reportportal.core.launch.StartLaunchHandler;
 import com.epam.ta.reportportal.core.launch.rerun.RerunHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -50,14 +51,16 @@ class StartLaunchHandlerImpl implements StartLaunchHandler {
 	private final LaunchRepository launchRepository;
 	private final MessageBus messageBus;
 	private final RerunHandler rerunHandler;
+	private final SuggestionIndex suggestionIndex;
 
 	@Autowired
 	public StartLaunchHandlerImpl(UserRepository userRepository, LaunchRepository launchRepository, MessageBus messageBus,
-			RerunHandler rerunHandler) {
+			RerunHandler rerunHandler, SuggestionIndex suggestionIndex) {
 		this.userRepository = userRepository;
 		this.launchRepository = launchRepository;
 		this.messageBus = messageBus;
 		this.rerunHandler = rerunHandler;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -79,6 +82,7 @@ class StartLaunchHandlerImpl implements StartLaunchHandler {
 				.get();
 		launchRepository.save(launch);
 		launchRepository.refresh(launch);
+		suggestionIndex.onLaunchStarted(launch, user.getUsername());
 		messageBus.publishActivity(new LaunchStartedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user.getUserId(), user.getUsername()));
 
 		StartLaunchRS response = new StartLaunchRS();
@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishForcedEvent;
 import com.epam.ta.reportportal.core.launch.StopLaunchHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -56,12 +57,15 @@ public class StopLaunchHandlerImpl implements StopLaunchHandler {
 	private final LaunchRepository launchRepository;
 	private final TestItemRepository testItemRepository;
 	private final MessageBus messageBus;
+	private final SuggestionIndex suggestionIndex;
 
 	@Autowired
-	public StopLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository, MessageBus messageBus) {
+	public StopLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository, MessageBus messageBus,
+			SuggestionIndex suggestionIndex) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.messageBus = messageBus;
+		this.suggestionIndex = suggestionIndex;
 	}
 
 	@Override
@@ -83,6 +87,7 @@ public class StopLaunchHandlerImpl implements StopLaunchHandler {
 
 		launchRepository.save(launch);
 		testItemRepository.interruptInProgressItems(launch.getId());
+		suggestionIndex.onLaunchFinished(launch);
 
 		messageBus.publishActivity(new LaunchFinishForcedEvent(TO_ACTIVITY_RESOURCE.apply(launch), user.getUserId(), user.getUsername()));
 		return new OperationCompletionRS("Launch with ID = '" + launchId + "' successfully stopped.");
@@ -22,7 +22,9 @@ import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
 import com.epam.ta.reportportal.core.analyzer.auto.impl.LaunchPreparerService;
 import com.epam.ta.reportportal.core.analyzer.config.AnalyzerType;
 import com.epam.ta.reportportal.core.analyzer.strategy.LaunchAnalysisStrategy;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
 import com.epam.ta.reportportal.core.launch.UpdateLaunchHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
@@ -48,6 +50,7 @@ import com.epam.ta.reportportal.ws.model.launch.Mode;
 import com.epam.ta.reportportal.ws.model.launch.UpdateLaunchRQ;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -83,10 +86,15 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 
 	private final Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping;
 
+	private final SuggestionIndex suggestionIndex;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	@Autowired
 	public UpdateLaunchHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository, LogRepository logRepository,
 			ProjectRepository projectRepository, LogIndexer logIndexer, LaunchPreparerService launchPreparerService,
-			Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping) {
+			Map<AnalyzerType, LaunchAnalysisStrategy> launchAnalysisStrategyMapping, SuggestionIndex suggestionIndex,
+			ApplicationEventPublisher eventPublisher) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.logRepository = logRepository;
@@ -94,6 +102,8 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 		this.launchAnalysisStrategyMapping = launchAnalysisStrategyMapping;
 		this.logIndexer = logIndexer;
 		this.launchPreparerService = launchPreparerService;
+		this.suggestionIndex = suggestionIndex;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -112,6 +122,8 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 				.overwriteAttributes(rq.getAttributes())
 				.get();
 		launchRepository.save(launch);
+		suggestionIndex.invalidateLaunches(launch.getProjectId());
+		eventPublisher.publishEvent(new ProjectDataChangedEvent(launch.getProjectId()));
 
 		if (!previousMode.equals(launch.getMode())) {
 			reindexLogs(launch, AnalyzerUtils.getAnalyzerConfig(project), project.getId());
@@ -174,6 +186,8 @@ public class UpdateLaunchHandlerImpl implements UpdateLaunchHandler {
 			}
 		});
 
+		suggestionIndex.invalidateLaunches(projectDetails.getProjectId());
+		eventPublisher.publishEvent(new ProjectDataChangedEvent(projectDetails.getProjectId()));
 		return new OperationCompletionRS("Attributes successfully updated");
 	}
 
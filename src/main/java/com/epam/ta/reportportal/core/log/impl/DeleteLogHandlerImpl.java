@@ -22,6 +22,7 @@ import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.log.DeleteLogHandler;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -68,13 +69,17 @@ public class DeleteLogHandlerImpl implements DeleteLogHandler {
 
 	private final LogIndexer logIndexer;
 
+	private final ProjectStorageService projectStorageService;
+
 	public DeleteLogHandlerImpl(LogRepository logRepository, AttachmentBinaryDataService attachmentBinaryDataService,
-			ProjectRepository projectRepository, TestItemService testItemService, LogIndexer logIndexer) {
+			ProjectRepository projectRepository, TestItemService testItemService, LogIndexer logIndexer,
+			ProjectStorageService projectStorageService) {
 		this.logRepository = logRepository;
 		this.attachmentBinaryDataService = attachmentBinaryDataService;
 		this.projectRepository = projectRepository;
 		this.testItemService = testItemService;
 		this.logIndexer = logIndexer;
+		this.projectStorageService = projectStorageService;
 	}
 
 	@Override
@@ -102,6 +107,7 @@ public class DeleteLogHandlerImpl implements DeleteLogHandler {
 			if (StringUtils.isNotBlank(a.getThumbnailId())) {
 				attachmentBinaryDataService.delete(a.getThumbnailId());
 			}
+			projectStorageService.decrease(Collections.singletonList(a));
 		});
 
 	}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
 import com.google.common.base.Preconditions;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,9 @@ public class SaveLogBinaryDataTask implements Runnable {
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private ProjectStorageService projectStorageService;
+
 	/**
 	 * Binary data representation
 	 */
@@ -47,6 +51,7 @@ public class SaveLogBinaryDataTask implements Runnable {
 	@Override
 	public void run() {
 		attachmentBinaryDataService.saveFileAndAttachToLog(file, attachmentMetaInfo);
+		projectStorageService.increase(attachmentMetaInfo.getProjectId(), file.getSize());
 	}
 
 	public SaveLogBinaryDataTask withFile(MultipartFile file) {
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
@@ -44,6 +45,9 @@ public class SaveLogBinaryDataTaskAsync implements Supplier<BinaryDataMetaInfo>
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private ProjectStorageService projectStorageService;
+
 	private SaveLogRQ request;
 
 	private MultipartFile file;
@@ -57,6 +61,7 @@ public class SaveLogBinaryDataTaskAsync implements Supplier<BinaryDataMetaInfo>
 				.withLaunchUuid(request.getLaunchUuid())
 				.withLogUuid(request.getUuid())
 				.build(), file);
+		maybeBinaryDataMetaInfo.ifPresent(it -> projectStorageService.increase(projectId, file.getSize()));
 		return maybeBinaryDataMetaInfo.orElseGet(() -> {
 			LOGGER.error("Failed to save log content data into DataStore, projectId {}, itemId {} ", projectId, request.getItemUuid());
 			throw new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED);
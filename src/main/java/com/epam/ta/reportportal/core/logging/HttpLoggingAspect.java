@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.logging;
 import ch.qos.logback.classic.Logger;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -34,60 +35,122 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
+import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
+ * Logs requests and responses of the {@link HttpLogging} endpoints on the debug level.
+ * Only the sampled part of the requests is logged: sample rate is configured globally and per endpoint
+ * ('ControllerName.methodName' keys), bodies of the not sampled requests are not serialized at all.
+ * Serialized bodies are truncated to the max body length. Records are formatted on the request thread,
+ * so the request and response objects are serialized before the handler or the caller can change them,
+ * and only the formatted records are passed to the separate executor for writing.
+ *
  * @author Konstantin Antipin
  */
 @Aspect
 public class HttpLoggingAspect {
 
+	private static final Logger LOGGER = (Logger) LoggerFactory.getLogger(HttpLoggingAspect.class);
+
 	private static final String READABLE_CONTENT_TYPES = "text/plain text/html text/xml application/json application/xml application/hal+xml application/hal+json";
 
 	private static final String NEWLINE = "\n";
 	private static final String BODY_DENOMINATOR = "-- Body --";
 	private static final String BODY_BINARY_MARK = "<binary body>";
+	private static final String BODY_TRUNCATED_MARK = "... <truncated>";
+
+	private final AtomicLong counter = new AtomicLong();
+
+	private final double sampleRate;
 
-	private static final AtomicLong COUNTER = new AtomicLong();
+	/**
+	 * 'ControllerName.methodName' - sample rate of the endpoint
+	 */
+	private final Map<String, Double> endpointSampleRates;
+
+	private final int maxBodyLength;
+
+	/**
+	 * Writes the formatted records out of the request thread, 'null' to write them synchronously
+	 */
+	private final Executor executor;
+
+	private final ConcurrentMap<Method, Double> methodSampleRates = new ConcurrentHashMap<>();
 
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	/**
+	 * Logs all the requests with the whole bodies synchronously
+	 */
+	public HttpLoggingAspect() {
+		this(1.0, Collections.emptyMap(), Integer.MAX_VALUE, null);
+	}
+
+	/**
+	 * @param sampleRate          Part of the logged requests from 0 to 1 for the endpoints without own rate
+	 * @param endpointSampleRates 'ControllerName.methodName' - part of the logged requests of the endpoint
+	 * @param maxBodyLength       Max length of the logged body, longer bodies are truncated
+	 * @param executor            Executor of the records writing or 'null' to write them on the request thread
+	 */
+	public HttpLoggingAspect(double sampleRate, Map<String, Double> endpointSampleRates, int maxBodyLength, @Nullable Executor executor) {
+		this.sampleRate = sampleRate;
+		this.endpointSampleRates = ImmutableMap.copyOf(endpointSampleRates);
+		this.maxBodyLength = maxBodyLength;
+		this.executor = executor;
+	}
+
 	@Around("execution(public * *(..)) && @annotation(annotation)")
 	public Object log(ProceedingJoinPoint joinPoint, HttpLogging annotation) throws Throwable {
 
 		Logger logger = (Logger) LoggerFactory.getLogger(joinPoint.getTarget().getClass());
 
-
 		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
 
-		HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-		Object requestBody = getBody(joinPoint, method);
-
 		String prefix = method.getName();
 
-		long requestCount = COUNTER.incrementAndGet();
-
-		if (logger.isDebugEnabled()) {
-			logger.debug(formatRequestRecord(requestCount, prefix, request, requestBody, annotation));
+		if (!logger.isDebugEnabled() || !isSampled(method)) {
+			try {
+				return joinPoint.proceed();
+			} catch (Throwable throwable) {
+				logger.error(prefix + " - Error", throwable);
+				throw throwable;
+			}
 		}
 
+		long requestCount = counter.incrementAndGet();
+
+		HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+		Object requestBody = getBody(joinPoint, method);
+
+		write(logger, () -> formatRequestRecord(requestCount, prefix, request, requestBody, annotation));
+
 		Object response;
 
 		long start = System.currentTimeMillis();
 		try {
 			response = joinPoint.proceed();
 			long executionTime = System.currentTimeMillis() - start;
-			if (logger.isDebugEnabled()) {
-				logger.debug(formatResponseRecord(requestCount, prefix, response, annotation, executionTime));
-			}
+			write(logger, () -> formatResponseRecord(requestCount, prefix, response, annotation, executionTime));
 		} catch (Throwable throwable) {
 			logger.error(" (" + requestCount + ") - Error", throwable);
 			throw throwable;
@@ -96,6 +159,31 @@ public class HttpLoggingAspect {
 		return response;
 	}
 
+	private boolean isSampled(Method method) {
+		double rate = methodSampleRates.computeIfAbsent(method,
+				m -> endpointSampleRates.getOrDefault(m.getDeclaringClass().getSimpleName() + "." + m.getName(), sampleRate)
+		);
+		return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+	}
+
+	/**
+	 * Record is formatted on the calling thread, only the formatted record is written by the executor
+	 */
+	private void write(Logger logger, Callable<String> record) {
+		String message;
+		try {
+			message = record.call();
+		} catch (Exception e) {
+			LOGGER.warn("Unable to format http logging record", e);
+			return;
+		}
+		if (executor == null) {
+			logger.debug(message);
+		} else {
+			executor.execute(() -> logger.debug(message));
+		}
+	}
+
 	protected Object getBody(ProceedingJoinPoint joinPoint, Method method) {
 		Object body = null;
 		Object[] args = joinPoint.getArgs();
@@ -121,6 +209,11 @@ public class HttpLoggingAspect {
 
 	protected String formatRequestRecord(long count, String prefix, HttpServletRequest request,
 			Object body, HttpLogging annotation) throws Exception {
+		return appendRequestBody(formatRequestHead(count, prefix, request, annotation), body, annotation).toString();
+	}
+
+	private StringBuilder formatRequestHead(long count, String prefix, HttpServletRequest request, HttpLogging annotation)
+			throws UnsupportedEncodingException {
 		StringBuilder record = new StringBuilder();
 
 		// uri
@@ -148,17 +241,22 @@ public class HttpLoggingAspect {
 			}
 		}
 
+		return record;
+	}
+
+	private StringBuilder appendRequestBody(StringBuilder record, Object body, HttpLogging annotation) {
 		// body
 		if (body != null && annotation.logRequestBody()) {
 			try {
+				String serializedBody = writeBody(body);
 				record.append(NEWLINE).append(' ').append(BODY_DENOMINATOR)
-						.append(NEWLINE).append(' ').append(objectMapper.writeValueAsString(body));
+						.append(NEWLINE).append(' ').append(serializedBody);
 			} catch (JsonProcessingException e) {
 				// ignore
 			}
 		}
 
-		return record.toString();
+		return record;
 	}
 
 	protected String formatResponseRecord(long count, String prefix, Object response, HttpLogging annotation, long executionTime) throws Exception {
@@ -199,7 +297,7 @@ public class HttpLoggingAspect {
 					record.append(NEWLINE).append(' ').append('"').append(BODY_BINARY_MARK).append('"');
 				} else {
 					try {
-						record.append(NEWLINE).append(' ').append(objectMapper.writeValueAsString(((ResponseEntity<?>) response).getBody()));
+						record.append(NEWLINE).append(' ').append(writeBody(((ResponseEntity<?>) response).getBody()));
 					} catch (JsonProcessingException ex) {
 						record.append(NEWLINE).append(' ').append(((ResponseEntity<String>) response).getBody());
 					}
@@ -210,7 +308,7 @@ public class HttpLoggingAspect {
 				record.append(NEWLINE).append(' ').append("Status").append(" - ").append("OK (method return)");
 				record.append(NEWLINE).append(' ').append(BODY_DENOMINATOR);
 				try {
-					record.append(NEWLINE).append(' ').append(objectMapper.writeValueAsString(response));
+					record.append(NEWLINE).append(' ').append(writeBody(response));
 				} catch (JsonProcessingException ex) {
 					// ignore
 				}
@@ -220,8 +318,58 @@ public class HttpLoggingAspect {
 		return record.toString();
 	}
 
+	/**
+	 * Serializes the body not longer than the max body length: serialization is stopped as soon as the limit is reached
+	 */
+	protected String writeBody(Object body) throws JsonProcessingException {
+		BoundedWriter writer = new BoundedWriter(maxBodyLength);
+		try {
+			objectMapper.writeValue(writer, body);
+		} catch (IOException e) {
+			if (!writer.truncated) {
+				if (e instanceof JsonProcessingException) {
+					throw (JsonProcessingException) e;
+				}
+				throw new UncheckedIOException(e);
+			}
+		}
+		return writer.truncated ? writer.content.append(BODY_TRUNCATED_MARK).toString() : writer.content.toString();
+	}
+
 	protected boolean readableContent(String value) {
 		int idx = value.indexOf(';');
 		return READABLE_CONTENT_TYPES.contains(value.substring(0, idx > 0 ? idx : value.length()));
 	}
+
+	private static final class BoundedWriter extends Writer {
+
+		private final StringBuilder content = new StringBuilder();
+
+		private final int limit;
+
+		private boolean truncated;
+
+		private BoundedWriter(int limit) {
+			this.limit = limit;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			int available = limit - content.length();
+			if (len > available) {
+				content.append(cbuf, off, available);
+				truncated = true;
+				throw new IOException("Max body length is reached");
+			}
+			content.append(cbuf, off, len);
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
 }
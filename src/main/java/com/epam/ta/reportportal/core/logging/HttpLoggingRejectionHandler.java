@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drops the http logging records rejected by the full queue of the writing executor, so the request threads are not blocked.
+ * Dropped records are counted by the {@value DROPPED_COUNTER} counter and reported by a warning
+ * not more often than once per {@value #WARNING_INTERVAL_SECONDS} seconds.
+ */
+public class HttpLoggingRejectionHandler implements RejectedExecutionHandler {
+
+	public static final String DROPPED_COUNTER = "rp.http.logging.dropped";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HttpLoggingRejectionHandler.class);
+
+	private static final long WARNING_INTERVAL_SECONDS = 60;
+
+	private final Counter droppedCounter;
+
+	/**
+	 * Records dropped since the last warning
+	 */
+	private final AtomicLong dropped = new AtomicLong();
+
+	private final AtomicLong lastWarningTime;
+
+	public HttpLoggingRejectionHandler(MeterRegistry meterRegistry) {
+		this.droppedCounter = Counter.builder(DROPPED_COUNTER)
+				.description("Http logging records dropped because of the full queue")
+				.register(meterRegistry);
+		this.lastWarningTime = new AtomicLong(System.nanoTime() - TimeUnit.SECONDS.toNanos(WARNING_INTERVAL_SECONDS));
+	}
+
+	@Override
+	public void rejectedExecution(Runnable record, ThreadPoolExecutor executor) {
+		droppedCounter.increment();
+		dropped.incrementAndGet();
+		long now = System.nanoTime();
+		long lastWarning = lastWarningTime.get();
+		if (now - lastWarning >= TimeUnit.SECONDS.toNanos(WARNING_INTERVAL_SECONDS) && lastWarningTime.compareAndSet(lastWarning, now)) {
+			LOGGER.warn("{} http logging records were dropped because the logging queue is full", dropped.getAndSet(0));
+		}
+	}
+}
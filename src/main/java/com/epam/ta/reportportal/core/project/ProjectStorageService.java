@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project;
+
+import com.epam.ta.reportportal.entity.attachment.Attachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@link com.epam.ta.reportportal.entity.project.Project#getAllocatedStorage()} up to date:
+ * the counter is increased when the attachment file is saved and decreased when the attachment is removed,
+ * so the storage usage is read without the attachments scan. Drift of the counters is fixed by {@link #reconcile()}.
+ */
+@Service
+public class ProjectStorageService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectStorageService.class);
+
+	private static final String INCREASE_QUERY = "UPDATE project SET allocated_storage = allocated_storage + ? WHERE id = ?";
+
+	private static final String DECREASE_QUERY = "UPDATE project SET allocated_storage = greatest(allocated_storage - ?, 0) WHERE id = ?";
+
+	private static final String RECONCILE_QUERY = "UPDATE project AS prj SET allocated_storage = coalesce(storage.size, 0) FROM project AS p "
+			+ "LEFT JOIN (SELECT project_id, sum(file_size) AS size FROM attachment GROUP BY project_id) AS storage "
+			+ "ON storage.project_id = p.id WHERE prj.id = p.id AND prj.allocated_storage IS DISTINCT FROM coalesce(storage.size, 0)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public ProjectStorageService(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param projectId Project of the saved file
+	 * @param size      Size of the saved file in bytes
+	 */
+	public void increase(Long projectId, long size) {
+		if (projectId != null && size > 0) {
+			jdbcTemplate.update(INCREASE_QUERY, size, projectId);
+		}
+	}
+
+	/**
+	 * @param attachments Removed attachments
+	 */
+	public void decrease(Collection<Attachment> attachments) {
+		Map<Long, Long> sizeByProject = attachments.stream()
+				.filter(Objects::nonNull)
+				.filter(it -> it.getProjectId() != null && it.getFileSize() > 0)
+				.collect(Collectors.groupingBy(Attachment::getProjectId, Collectors.summingLong(Attachment::getFileSize)));
+		if (!sizeByProject.isEmpty()) {
+			jdbcTemplate.batchUpdate(DECREASE_QUERY,
+					sizeByProject.entrySet().stream().map(it -> new Object[] { it.getValue(), it.getKey() }).collect(Collectors.toList())
+			);
+		}
+	}
+
+	/**
+	 * Recalculates the counters from the attachments sizes with a single grouped aggregate.
+	 * Only the projects with the drifted counter are updated.
+	 *
+	 * @return Count of the fixed projects
+	 */
+	public int reconcile() {
+		int fixed = jdbcTemplate.update(RECONCILE_QUERY);
+		if (fixed > 0) {
+			LOGGER.info("Allocated storage of {} projects has been reconciled", fixed);
+		}
+		return fixed;
+	}
+}
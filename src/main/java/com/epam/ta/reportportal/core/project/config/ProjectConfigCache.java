@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.config;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.project.ProjectConfigChangedEvent;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.epam.ta.reportportal.util.CacheEvictionUtils.evictNowAndAfterCompletion;
+import static com.epam.ta.reportportal.util.CacheEvictionUtils.runAfterCommit;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Keeps {@link ProjectConfigSnapshot} of the project until its configuration is updated.
+ * Snapshot is valid only for the configuration version of its project, so an update of one project
+ * doesn't affect the snapshots of the others. Versions are kept per instance, so every update is broadcast
+ * to the other API instances as well. A lost broadcast is visible after at most {@link #CACHE_ITEM_LIVE} minutes.
+ */
+@Service
+public class ProjectConfigCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectConfigCache.class);
+
+	private static final int CACHE_ITEM_LIVE = 10;
+	private static final int MAXIMUM_SIZE = 10000;
+
+	/**
+	 * projectId - configuration version, incremented on every invalidation,
+	 * so a snapshot created concurrently with the update of the same project is not used
+	 */
+	private final ConcurrentMap<Long, AtomicLong> projectVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * projectId - configuration snapshot
+	 */
+	private final Cache<Long, ProjectConfigSnapshot> snapshots;
+
+	private final MessageBus messageBus;
+
+	public ProjectConfigCache(MessageBus messageBus) {
+		this.messageBus = messageBus;
+		snapshots = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * @param project {@link Project}
+	 * @return Cached {@link ProjectConfigSnapshot} or a new one created from the project attributes
+	 */
+	public ProjectConfigSnapshot getConfig(Project project) {
+		if (project.getId() == null) {
+			return ProjectConfigSnapshot.of(0L, project);
+		}
+		long version = getProjectVersion(project.getId());
+		return ofNullable(snapshots.getIfPresent(project.getId())).filter(it -> it.getVersion() == version).orElseGet(() -> {
+			ProjectConfigSnapshot snapshot = ProjectConfigSnapshot.of(version, project);
+			if (version == getProjectVersion(project.getId())) {
+				snapshots.put(project.getId(), snapshot);
+			}
+			return snapshot;
+		});
+	}
+
+	/**
+	 * Removes the project snapshot. If called inside of the transaction, the snapshot is removed once more after the completion,
+	 * so concurrent readers don't cache the configuration that is not committed yet.
+	 * The other API instances are notified after the commit.
+	 *
+	 * @param projectId Id of the updated project
+	 */
+	public void invalidate(Long projectId) {
+		evictNowAndAfterCompletion(() -> evict(projectId));
+		runAfterCommit(() -> broadcast(projectId));
+	}
+
+	/**
+	 * Removes the project snapshot in this instance only.
+	 * Used for the updates broadcast by the other API instances.
+	 *
+	 * @param projectId Id of the updated project
+	 */
+	public void evict(Long projectId) {
+		projectVersions.computeIfAbsent(projectId, id -> new AtomicLong()).incrementAndGet();
+		snapshots.invalidate(projectId);
+	}
+
+	private void broadcast(Long projectId) {
+		try {
+			messageBus.broadcastEvent(new ProjectConfigChangedEvent(projectId));
+		} catch (Exception e) {
+			LOGGER.warn("Configuration change of the project with id '{}' was not broadcast: {}", projectId, e.getMessage());
+		}
+	}
+
+	long getProjectVersion(Long projectId) {
+		return ofNullable(projectVersions.get(projectId)).map(AtomicLong::get).orElse(0L);
+	}
+}
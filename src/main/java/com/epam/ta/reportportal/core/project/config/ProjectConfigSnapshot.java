@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.config;
+
+import com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils;
+import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.ProjectUtils;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.BooleanUtils;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the project configuration attributes.
+ * Attribute values are parsed once on the snapshot creation, so launch finish handling
+ * doesn't rebuild the configuration from the project attributes collection on every event.
+ */
+public final class ProjectConfigSnapshot {
+
+	private final long version;
+
+	private final Map<String, String> configParameters;
+
+	private final boolean notificationsEnabled;
+
+	private final boolean autoPatternAnalyzerEnabled;
+
+	private final AnalyzerConfig analyzerConfig;
+
+	private ProjectConfigSnapshot(long version, Map<String, String> configParameters) {
+		this.version = version;
+		this.configParameters = configParameters;
+		this.notificationsEnabled = BooleanUtils.toBoolean(configParameters.get(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute()));
+		this.autoPatternAnalyzerEnabled = BooleanUtils.toBoolean(configParameters.get(ProjectAttributeEnum.AUTO_PATTERN_ANALYZER_ENABLED.getAttribute()));
+		this.analyzerConfig = AnalyzerUtils.getAnalyzerConfig(configParameters);
+	}
+
+	/**
+	 * @param version Version of the project configuration the snapshot is created for
+	 * @param project {@link Project}
+	 * @return {@link ProjectConfigSnapshot}
+	 */
+	public static ProjectConfigSnapshot of(long version, Project project) {
+		return new ProjectConfigSnapshot(version, ImmutableMap.copyOf(ProjectUtils.getConfigParameters(project.getProjectAttributes())));
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return Unmodifiable attribute name - value mapping
+	 */
+	public Map<String, String> getConfigParameters() {
+		return configParameters;
+	}
+
+	public boolean isNotificationsEnabled() {
+		return notificationsEnabled;
+	}
+
+	public boolean isAutoPatternAnalyzerEnabled() {
+		return autoPatternAnalyzerEnabled;
+	}
+
+	/**
+	 * @return Copy of the parsed {@link AnalyzerConfig}, so callers can't modify the snapshot
+	 */
+	public AnalyzerConfig getAnalyzerConfig() {
+		AnalyzerConfig copy = new AnalyzerConfig();
+		copy.setIsAutoAnalyzerEnabled(analyzerConfig.getIsAutoAnalyzerEnabled());
+		copy.setMinShouldMatch(analyzerConfig.getMinShouldMatch());
+		copy.setNumberOfLogLines(analyzerConfig.getNumberOfLogLines());
+		copy.setIndexingRunning(analyzerConfig.isIndexingRunning());
+		copy.setAnalyzerMode(analyzerConfig.getAnalyzerMode());
+		return copy;
+	}
+}
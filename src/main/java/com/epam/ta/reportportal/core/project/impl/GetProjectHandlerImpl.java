@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
@@ -33,25 +34,25 @@ import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.entity.project.ProjectInfo;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.job.PageUtil;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
 import com.epam.ta.reportportal.ws.converter.converters.ProjectConverter;
 import com.epam.ta.reportportal.ws.converter.converters.UserConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.project.ProjectResource;
 import com.epam.ta.reportportal.ws.model.user.UserResource;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
-import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.jooq.Operator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import java.io.OutputStream;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -66,6 +67,10 @@ import static com.epam.ta.reportportal.core.analyzer.auto.impl.AnalyzerUtils.get
 @Service
 public class GetProjectHandlerImpl implements GetProjectHandler {
 
+	private static final int EXPORT_PAGE_SIZE = 500;
+
+	private static final String NEXT_ID_QUERY = "SELECT min(id) FROM project WHERE id > ?";
+
 	private final ProjectRepository projectRepository;
 
 	private final UserRepository userRepository;
@@ -74,14 +79,17 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 
 	private final ProjectConverter projectConverter;
 
+	private final JdbcTemplate jdbcTemplate;
+
 	@Autowired
 	public GetProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			@Qualifier("projectJasperReportHandler") GetJasperReportHandler<ProjectInfo> jasperReportHandler,
-			ProjectConverter projectConverter) {
+			ProjectConverter projectConverter, JdbcTemplate jdbcTemplate) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.jasperReportHandler = jasperReportHandler;
 		this.projectConverter = projectConverter;
+		this.jdbcTemplate = jdbcTemplate;
 	}
 
 	@Override
@@ -142,16 +150,16 @@ public class GetProjectHandlerImpl implements GetProjectHandler {
 	@Override
 	public void exportProjects(ReportFormat reportFormat, Queryable filter, OutputStream outputStream) {
 
-		List<ProjectInfo> projects = projectRepository.findProjectInfoByFilter(filter);
-
-		List<? extends Map<String, ?>> data = projects.stream().map(jasperReportHandler::convertParams).collect(Collectors.toList());
-
-		JRDataSource jrDataSource = new JRBeanCollectionDataSource(data);
-
-		//don't provide any params to not overwrite params from the Jasper template
-		JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(null, jrDataSource);
-
-		jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+		//projects are fetched by ranges of ids while the report is written, so the whole filtered set isn't held in memory
+		Iterator<ProjectInfo> projects = PageUtil.iterateByIdRanges(EXPORT_PAGE_SIZE,
+				lastId -> jdbcTemplate.queryForObject(NEXT_ID_QUERY, Long.class, lastId),
+				(from, to) -> projectRepository.findProjectInfoByFilter(new CompositeFilter(Operator.AND,
+						filter,
+						PageUtil.idRangeFilter(ProjectInfo.class, from, to)
+				)),
+				ProjectInfo::getId
+		);
+		jasperReportHandler.writeReport(reportFormat, outputStream, projects);
 	}
 
 	@Override
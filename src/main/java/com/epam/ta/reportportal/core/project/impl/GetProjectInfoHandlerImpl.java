@@ -97,12 +97,14 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 
 	private final TicketRepository ticketRepository;
 
+	private final ProjectInfoStatisticsLoader statisticsLoader;
+
 	private DecimalFormat formatter = new DecimalFormat("###.##");
 
 	@Autowired
 	public GetProjectInfoHandlerImpl(ProjectRepository projectRepository, LaunchRepository launchRepository,
 			ActivityRepository activityRepository, ProjectInfoWidgetDataConverter dataConverter, LaunchConverter launchConverter,
-			UserRepository userRepository, TicketRepository ticketRepository) {
+			UserRepository userRepository, TicketRepository ticketRepository, ProjectInfoStatisticsLoader statisticsLoader) {
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.activityRepository = activityRepository;
@@ -110,6 +112,7 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		this.launchConverter = launchConverter;
 		this.userRepository = userRepository;
 		this.ticketRepository = ticketRepository;
+		this.statisticsLoader = statisticsLoader;
 	}
 
 	/**
@@ -201,25 +204,34 @@ public class GetProjectInfoHandlerImpl implements GetProjectInfoHandler {
 		ProjectInfoWidget widgetType = ProjectInfoWidget.findByCode(widgetCode)
 				.orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, widgetCode));
 
-		List<Launch> launches = launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(project.getId(),
-				getStartIntervalDate(infoInterval),
-				LaunchModeEnum.DEFAULT
-		);
+		LocalDateTime startIntervalDate = getStartIntervalDate(infoInterval);
 
 		Map<String, ?> result;
 
 		switch (widgetType) {
 			case INVESTIGATED:
-				result = dataConverter.getInvestigatedProjectInfo(launches, infoInterval);
+				result = dataConverter.getInvestigatedProjectInfo(statisticsLoader.loadDailyStatistics(project.getId(),
+						startIntervalDate,
+						LaunchModeEnum.DEFAULT
+				), infoInterval);
 				break;
 			case CASES_STATISTIC:
-				result = dataConverter.getTestCasesStatisticsProjectInfo(launches);
+				result = dataConverter.getTestCasesStatisticsProjectInfo(statisticsLoader.loadLaunchNameStatistics(project.getId(),
+						startIntervalDate,
+						LaunchModeEnum.DEFAULT
+				));
 				break;
 			case LAUNCHES_QUANTITY:
-				result = dataConverter.getLaunchesQuantity(launches, infoInterval);
+				result = dataConverter.getLaunchesQuantity(statisticsLoader.loadDailyStatistics(project.getId(),
+						startIntervalDate,
+						LaunchModeEnum.DEFAULT
+				), infoInterval);
 				break;
 			case ISSUES_CHART:
-				result = dataConverter.getLaunchesIssues(launches, infoInterval);
+				result = dataConverter.getLaunchesIssues(statisticsLoader.loadDailyStatistics(project.getId(),
+						startIntervalDate,
+						LaunchModeEnum.DEFAULT
+				), infoInterval);
 				break;
 			case ACTIVITIES:
 				result = getActivities(project, infoInterval);
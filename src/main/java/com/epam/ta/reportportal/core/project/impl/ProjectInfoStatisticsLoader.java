@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+
+/**
+ * Loads launch statistics of the project info widgets aggregated on the database side,
+ * so the launches of the whole interval are not fetched into memory.
+ */
+@Service
+public class ProjectInfoStatisticsLoader {
+
+	/**
+	 * Launches of the project in the period, statistics are aggregated for these launches only
+	 */
+	private static final String PROJECT_LAUNCHES = "WITH project_launch AS (SELECT id, name, start_time FROM launch "
+			+ "WHERE project_id = ? AND start_time > ? AND mode = ?::LAUNCH_MODE_ENUM) ";
+
+	private static final String DAILY_STATISTICS_QUERY = PROJECT_LAUNCHES
+			+ "SELECT l.start_time::DATE AS day, count(l.id) AS launches_quantity, "
+			+ "coalesce(sum(st.product_bug), 0) AS product_bug, coalesce(sum(st.automation_bug), 0) AS automation_bug, "
+			+ "coalesce(sum(st.system_issue), 0) AS system_issue, coalesce(sum(st.to_investigate), 0) AS to_investigate "
+			+ "FROM project_launch l LEFT JOIN (SELECT s.launch_id, "
+			+ "sum(s.s_counter) FILTER (WHERE sf.name = ?) AS product_bug, "
+			+ "sum(s.s_counter) FILTER (WHERE sf.name = ?) AS automation_bug, "
+			+ "sum(s.s_counter) FILTER (WHERE sf.name = ?) AS system_issue, "
+			+ "sum(s.s_counter) FILTER (WHERE sf.name = ?) AS to_investigate "
+			+ "FROM statistics s JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id "
+			+ "WHERE s.launch_id IN (SELECT id FROM project_launch) GROUP BY s.launch_id) st ON l.id = st.launch_id "
+			+ "GROUP BY day ORDER BY day";
+
+	private static final String LAUNCH_NAME_STATISTICS_QUERY = PROJECT_LAUNCHES
+			+ "SELECT l.name, count(l.id) AS launches_quantity, "
+			+ "coalesce(min(coalesce(st.executions, 0)), 0) AS min_executions, "
+			+ "coalesce(max(coalesce(st.executions, 0)), 0) AS max_executions, "
+			+ "coalesce(sum(st.executions), 0) AS total_executions "
+			+ "FROM project_launch l LEFT JOIN (SELECT s.launch_id, sum(s.s_counter) AS executions "
+			+ "FROM statistics s JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id "
+			+ "WHERE s.launch_id IN (SELECT id FROM project_launch) AND sf.name = ? GROUP BY s.launch_id) st ON l.id = st.launch_id "
+			+ "GROUP BY l.name";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public ProjectInfoStatisticsLoader(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param from      Launches started after this date are included
+	 * @param mode      Launch mode
+	 * @return Defect statistics and quantity of the launches grouped by the launch start day (UTC), ordered by day
+	 */
+	public List<DailyStatistics> loadDailyStatistics(Long projectId, LocalDateTime from, LaunchModeEnum mode) {
+		return jdbcTemplate.query(DAILY_STATISTICS_QUERY,
+				(rs, rowNum) -> new DailyStatistics(rs.getDate("day").toLocalDate(),
+						rs.getInt("launches_quantity"),
+						rs.getInt("product_bug"),
+						rs.getInt("automation_bug"),
+						rs.getInt("system_issue"),
+						rs.getInt("to_investigate")
+				),
+				projectId,
+				Timestamp.valueOf(from),
+				mode.name(),
+				DEFECTS_PRODUCT_BUG_TOTAL,
+				DEFECTS_AUTOMATION_BUG_TOTAL,
+				DEFECTS_SYSTEM_ISSUE_TOTAL,
+				DEFECTS_TO_INVESTIGATE_TOTAL
+		);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param from      Launches started after this date are included
+	 * @param mode      Launch mode
+	 * @return Statistics of the executions total grouped by the launch name
+	 */
+	public List<LaunchNameStatistics> loadLaunchNameStatistics(Long projectId, LocalDateTime from, LaunchModeEnum mode) {
+		return jdbcTemplate.query(LAUNCH_NAME_STATISTICS_QUERY,
+				(rs, rowNum) -> new LaunchNameStatistics(rs.getString("name"),
+						rs.getInt("launches_quantity"),
+						rs.getInt("min_executions"),
+						rs.getInt("max_executions"),
+						rs.getLong("total_executions")
+				),
+				projectId,
+				Timestamp.valueOf(from),
+				mode.name(),
+				EXECUTIONS_TOTAL
+		);
+	}
+
+	public static class DailyStatistics {
+
+		private final LocalDate day;
+		private final int launchesQuantity;
+		private final int productBug;
+		private final int automationBug;
+		private final int systemIssue;
+		private final int toInvestigate;
+
+		public DailyStatistics(LocalDate day, int launchesQuantity, int productBug, int automationBug, int systemIssue,
+				int toInvestigate) {
+			this.day = day;
+			this.launchesQuantity = launchesQuantity;
+			this.productBug = productBug;
+			this.automationBug = automationBug;
+			this.systemIssue = systemIssue;
+			this.toInvestigate = toInvestigate;
+		}
+
+		public LocalDate getDay() {
+			return day;
+		}
+
+		public int getLaunchesQuantity() {
+			return launchesQuantity;
+		}
+
+		public int getProductBug() {
+			return productBug;
+		}
+
+		public int getAutomationBug() {
+			return automationBug;
+		}
+
+		public int getSystemIssue() {
+			return systemIssue;
+		}
+
+		public int getToInvestigate() {
+			return toInvestigate;
+		}
+	}
+
+	public static class LaunchNameStatistics {
+
+		private final String name;
+		private final int launchesQuantity;
+		private final int minExecutions;
+		private final int maxExecutions;
+		private final long totalExecutions;
+
+		public LaunchNameStatistics(String name, int launchesQuantity, int minExecutions, int maxExecutions, long totalExecutions) {
+			this.name = name;
+			this.launchesQuantity = launchesQuantity;
+			this.minExecutions = minExecutions;
+			this.maxExecutions = maxExecutions;
+			this.totalExecutions = totalExecutions;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getLaunchesQuantity() {
+			return launchesQuantity;
+		}
+
+		public int getMinExecutions() {
+			return minExecutions;
+		}
+
+		public int getMaxExecutions() {
+			return maxExecutions;
+		}
+
+		public double getAverageExecutions() {
+			return launchesQuantity == 0 ? 0 : (double) totalExecutions / launchesQuantity;
+		}
+	}
+}
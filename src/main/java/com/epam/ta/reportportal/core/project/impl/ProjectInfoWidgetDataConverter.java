@@ -16,11 +16,10 @@
 
 package com.epam.ta.reportportal.core.project.impl;
 
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoStatisticsLoader.DailyStatistics;
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoStatisticsLoader.LaunchNameStatistics;
 import com.epam.ta.reportportal.entity.enums.InfoInterval;
-import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.statistics.Statistics;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
-import com.google.common.collect.Lists;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeConstants;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,17 +28,12 @@ import org.springframework.stereotype.Service;
 
 import java.text.DecimalFormat;
 import java.time.LocalDate;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.IsoFields;
 import java.util.*;
-import java.util.Map.Entry;
 
 import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_DAY;
-import static com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup.BY_NAME;
-import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
-import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.WEEKS;
 
@@ -51,6 +45,20 @@ import static java.time.temporal.ChronoUnit.WEEKS;
 @Service("projectInfoDataConverter")
 public class ProjectInfoWidgetDataConverter {
 
+	private static final String INVESTIGATED = "investigated";
+	private static final String TO_INVESTIGATE = "toInvestigate";
+	private static final String MIN = "min";
+	private static final String MAX = "max";
+	private static final String AVG = "avg";
+	private static final String GLOBAL_AVERAGE_SERIA = "Median value in all unique launches";
+	private static final String START_PERIOD = "start";
+	private static final String END_PERIOD = "end";
+	private static final String COUNT = "count";
+	private static final String INTERVAL = "interval";
+	private static final String PRODUCT_BUG = "productBug";
+	private static final String SYSTEM_ISSUE = "systemIssue";
+	private static final String AUTOMATION_BUG = "automationBug";
+
 	private Map<InfoInterval, ProjectInfoGroup> grouping;
 
 	@Autowired
@@ -72,49 +80,35 @@ public class ProjectInfoWidgetDataConverter {
 	/**
 	 * <b>Percentage Of Investigation</b> project info widget content
 	 *
-	 * @param initial
-	 * @param interval
+	 * @param daily    Statistics of the launches aggregated by day, ordered by day
+	 * @param interval Info interval
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getInvestigatedProjectInfo(List<Launch> initial, InfoInterval interval) {
-		if (initial.isEmpty()) {
-			return new HashMap<>();
-		}
-		final DecimalFormat formatter = new DecimalFormat("###.##");
-		final String INV = "investigated";
-		final String TI = "toInvestigate";
+	public Map<String, List<ChartObject>> getInvestigatedProjectInfo(List<DailyStatistics> daily, InfoInterval interval) {
 		Map<String, List<ChartObject>> result = new HashMap<>();
-		Map<String, List<Launch>> grouped = groupBy(initial, grouping.get(interval));
-		Iterator<Entry<String, List<Launch>>> iterator = grouped.entrySet().iterator();
-		while (iterator.hasNext()) {
-			Entry<String, List<Launch>> pair = iterator.next();
+		groupBy(daily, grouping.get(interval)).forEach((key, group) -> {
 			double investigated = 0;
 			double toInvestigate = 0;
-			List<Launch> group = pair.getValue();
 			ChartObject currentGroup = new ChartObject();
-			currentGroup.setName(pair.getKey());
-			Map<String, String> values = new HashMap<>();
-			for (Launch one : group) {
-				investigated =
-						investigated + extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, one.getStatistics()) + extractStatisticsCount(
-								DEFECTS_SYSTEM_ISSUE_TOTAL,
-								one.getStatistics()
-						) + extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, one.getStatistics());
-				toInvestigate = toInvestigate + extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, one.getStatistics());
+			currentGroup.setName(key);
+			for (DailyStatistics day : group) {
+				investigated = investigated + day.getProductBug() + day.getSystemIssue() + day.getAutomationBug();
+				toInvestigate = toInvestigate + day.getToInvestigate();
 			}
+			Map<String, String> values = new HashMap<>();
 			if ((investigated + toInvestigate) > 0) {
+				DecimalFormat formatter = new DecimalFormat("###.##");
 				double investigatedPercent = (investigated / (investigated + toInvestigate)) * 100;
 				double toInvestigatePercent = 100 - investigatedPercent;
-				values.put(INV, formatter.format(investigatedPercent));
-				values.put(TI, formatter.format(toInvestigatePercent));
+				values.put(INVESTIGATED, formatter.format(investigatedPercent));
+				values.put(TO_INVESTIGATE, formatter.format(toInvestigatePercent));
 			} else {
-				values.put(INV, "0");
-				values.put(TI, "0");
+				values.put(INVESTIGATED, "0");
+				values.put(TO_INVESTIGATE, "0");
 			}
 			currentGroup.setValues(values);
-			result.put(pair.getKey(), Collections.singletonList(currentGroup));
-			iterator.remove();
-		}
+			result.put(key, Collections.singletonList(currentGroup));
+		});
 		return result;
 	}
 
@@ -122,174 +116,120 @@ public class ProjectInfoWidgetDataConverter {
 	 * <b>Test-cases statistics in unique launches</b> project info widget
 	 * content data-source
 	 *
-	 * @param initial
+	 * @param byName Statistics of the executions aggregated by launch name
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getTestCasesStatisticsProjectInfo(List<Launch> initial) {
+	public Map<String, List<ChartObject>> getTestCasesStatisticsProjectInfo(List<LaunchNameStatistics> byName) {
 		DecimalFormat formatter = new DecimalFormat("#####.##");
-		final String MIN = "min";
-		final String MAX = "max";
-		final String AVG = "avg";
-		String globalAverageSeria = "Median value in all unique launches";
 
-		if (initial.isEmpty()) {
+		if (byName.isEmpty()) {
 			return new HashMap<>();
 		}
 
 		Map<String, List<ChartObject>> result = new HashMap<>();
-		Map<String, List<Launch>> grouped = groupBy(initial, BY_NAME);
-		for (Entry<String, List<Launch>> pair : grouped.entrySet()) {
+		for (LaunchNameStatistics statistics : byName) {
 			ChartObject singleStat = new ChartObject();
-			singleStat.setName(pair.getKey());
+			singleStat.setName(statistics.getName());
 			Map<String, String> values = new HashMap<>();
-			List<Launch> group = pair.getValue();
-
-			DoubleSummaryStatistics statistics = group.stream()
-					.mapToDouble(launch -> launch.getStatistics()
-							.stream()
-							.filter(it -> it.getStatisticsField().getName().equalsIgnoreCase(EXECUTIONS_TOTAL))
-							.findFirst()
-							.orElse(new Statistics())
-							.getCounter())
-					.summaryStatistics();
-
-			values.put(MIN, String.valueOf(statistics.getMin()));
-			values.put(MAX, String.valueOf(statistics.getMax()));
-			values.put(AVG, formatter.format(statistics.getAverage()));
+			values.put(MIN, String.valueOf((double) statistics.getMinExecutions()));
+			values.put(MAX, String.valueOf((double) statistics.getMaxExecutions()));
+			values.put(AVG, formatter.format(statistics.getAverageExecutions()));
 			singleStat.setValues(values);
 
-			result.put(pair.getKey(), Collections.singletonList(singleStat));
+			result.put(statistics.getName(), Collections.singletonList(singleStat));
 		}
 
 		/*
 		 * Separate label for 'Median value in all unique launches' on the table
 		 */
 		// TODO Implement new MEDIAN calculation!
-		result.put(globalAverageSeria, Collections.singletonList(new ChartObject()));
+		result.put(GLOBAL_AVERAGE_SERIA, Collections.singletonList(new ChartObject()));
 		return result;
 	}
 
 	/**
 	 * <b>Quantity of Launches</b> project info widget content
 	 *
-	 * @param initial
-	 * @param interval
+	 * @param daily    Statistics of the launches aggregated by day, ordered by day
+	 * @param interval Info interval
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getLaunchesQuantity(List<Launch> initial, InfoInterval interval) {
-		final String START_PERIOD = "start";
-		final String END_PERIOD = "end";
-		final String COUNT = "count";
-		final String INTERVAL = "interval";
+	public Map<String, List<ChartObject>> getLaunchesQuantity(List<DailyStatistics> daily, InfoInterval interval) {
 		HashMap<String, List<ChartObject>> result = new HashMap<>();
-		if (initial.isEmpty()) {
-			return result;
-		}
 		ProjectInfoGroup criteria = grouping.get(interval);
-		Map<String, List<Launch>> grouped = groupBy(initial, criteria);
-		for (Entry<String, List<Launch>> entry : grouped.entrySet()) {
-			List<Launch> launches = entry.getValue();
-			Integer count = null != launches ? launches.size() : 0;
-			ChartObject group = new ChartObject();
+		groupBy(daily, criteria).forEach((key, group) -> {
+			int count = group.stream().mapToInt(DailyStatistics::getLaunchesQuantity).sum();
+			ChartObject chartObject = new ChartObject();
 			Map<String, String> values = new HashMap<>();
 			values.put(COUNT, String.valueOf(count));
 			values.put(INTERVAL, interval.getInterval());
 			if (criteria != BY_DAY) {
-				DateTime parse = DateTime.parse(entry.getKey());
+				DateTime parse = DateTime.parse(key);
 				// TODO remove Yoda time. replace with JDK8
 				values.put(START_PERIOD, parse.withDayOfWeek(DateTimeConstants.MONDAY).toString("yyy-MM-dd"));
 				values.put(END_PERIOD, parse.withDayOfWeek(DateTimeConstants.SUNDAY).toString("yyy-MM-dd"));
 			} else {
-				values.put(START_PERIOD, entry.getKey());
+				values.put(START_PERIOD, key);
 			}
-			group.setName("Number of launches");
-			group.setValues(values);
-			result.put(entry.getKey(), Collections.singletonList(group));
-		}
+			chartObject.setName("Number of launches");
+			chartObject.setValues(values);
+			result.put(key, Collections.singletonList(chartObject));
+		});
 		return result;
 	}
 
 	/**
 	 * <b>Launch statistics line chart</b> project info widget content
 	 *
-	 * @param initial
-	 * @param interval
+	 * @param daily    Statistics of the launches aggregated by day, ordered by day
+	 * @param interval Info interval
 	 * @return
 	 */
-	public Map<String, List<ChartObject>> getLaunchesIssues(List<Launch> initial, InfoInterval interval) {
+	public Map<String, List<ChartObject>> getLaunchesIssues(List<DailyStatistics> daily, InfoInterval interval) {
 		HashMap<String, List<ChartObject>> result = new HashMap<>();
-		if (initial.isEmpty()) {
-			return result;
-		}
-		final String PB = "productBug";
-		final String SI = "systemIssue";
-		final String AB = "automationBug";
-		final String TI = "toInvestigate";
-
-		ProjectInfoGroup criteria = grouping.get(interval);
-		Map<String, List<Launch>> grouped = groupBy(initial, criteria);
-		for (Entry<String, List<Launch>> entry : grouped.entrySet()) {
-			List<Launch> launches = entry.getValue();
-			Integer pbCount = 0;
-			Integer abCount = 0;
-			Integer siCount = 0;
-			Integer tiCount = 0;
-			for (Launch launch : launches) {
-				pbCount += extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, launch.getStatistics());
-				abCount += extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, launch.getStatistics());
-				siCount += extractStatisticsCount(DEFECTS_SYSTEM_ISSUE_TOTAL, launch.getStatistics());
-				tiCount += extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics());
+		groupBy(daily, grouping.get(interval)).forEach((key, group) -> {
+			int pbCount = 0;
+			int abCount = 0;
+			int siCount = 0;
+			int tiCount = 0;
+			for (DailyStatistics day : group) {
+				pbCount += day.getProductBug();
+				abCount += day.getAutomationBug();
+				siCount += day.getSystemIssue();
+				tiCount += day.getToInvestigate();
 			}
 			ChartObject object = new ChartObject();
 			Map<String, String> values = new HashMap<>();
-			values.put(PB, String.valueOf(pbCount));
-			values.put(SI, String.valueOf(siCount));
-			values.put(AB, String.valueOf(abCount));
-			values.put(TI, String.valueOf(tiCount));
+			values.put(PRODUCT_BUG, String.valueOf(pbCount));
+			values.put(SYSTEM_ISSUE, String.valueOf(siCount));
+			values.put(AUTOMATION_BUG, String.valueOf(abCount));
+			values.put(TO_INVESTIGATE, String.valueOf(tiCount));
 			object.setValues(values);
-			result.put(entry.getKey(), Collections.singletonList(object));
-		}
+			result.put(key, Collections.singletonList(object));
+		});
 		return result;
 	}
 
 	/**
-	 * Utility method for grouping input list of {@link Launch} by
-	 * {@link ProjectInfoGroup} criteria
+	 * Utility method for grouping daily statistics by {@link ProjectInfoGroup} date criteria.
+	 * Periods between the first and the last day without launches are filled with empty groups.
 	 *
-	 * @param initial
-	 * @param criteria
+	 * @param daily    Statistics ordered by day
+	 * @param criteria {@link ProjectInfoGroup#BY_DAY} or {@link ProjectInfoGroup#BY_WEEK}
 	 * @return
 	 */
-	private static Map<String, List<Launch>> groupBy(List<Launch> initial, ProjectInfoGroup criteria) {
-		Map<String, List<Launch>> result = new LinkedHashMap<>();
+	private static Map<String, List<DailyStatistics>> groupBy(List<DailyStatistics> daily, ProjectInfoGroup criteria) {
+		Map<String, List<DailyStatistics>> result = new LinkedHashMap<>();
 		LocalDate prevDate = null;
-		for (Launch launch : initial) {
-			final LocalDate localDate = launch.getStartTime().atZone(ZoneOffset.UTC).toLocalDate();
-
-			String key;
-			switch (criteria) {
-				case BY_NAME:
-					key = launch.getName();
-					break;
-				default:
-					key = formattedDate(criteria, localDate);
-					if (prevDate != null) {
-						while (prevDate.isBefore(localDate)) {
-							if (!result.containsKey(formattedDate(criteria, prevDate))) {
-								result.put(formattedDate(criteria, prevDate), new ArrayList<>());
-							}
-							prevDate = prevDate.plus(1, criteria == BY_DAY ? DAYS : WEEKS);
-						}
-					}
-			}
-			if (!result.containsKey(key)) {
-				result.put(key, Lists.newArrayList(launch));
-			} else {
-				List<Launch> prev = result.get(key);
-				prev.add(launch);
-				result.put(key, prev);
+		for (DailyStatistics day : daily) {
+			if (prevDate != null) {
+				while (prevDate.isBefore(day.getDay())) {
+					result.computeIfAbsent(formattedDate(criteria, prevDate), k -> new ArrayList<>());
+					prevDate = prevDate.plus(1, criteria == BY_DAY ? DAYS : WEEKS);
+				}
 			}
-			prevDate = localDate;
+			result.computeIfAbsent(formattedDate(criteria, day.getDay()), k -> new ArrayList<>()).add(day);
+			prevDate = day.getDay();
 		}
 		return result;
 	}
@@ -32,6 +32,7 @@ import com.epam.ta.reportportal.core.events.activity.ProjectAnalyzerConfigEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectIndexEvent;
 import com.epam.ta.reportportal.core.events.activity.ProjectUpdatedEvent;
 import com.epam.ta.reportportal.core.project.UpdateProjectHandler;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigCache;
 import com.epam.ta.reportportal.dao.*;
 import com.epam.ta.reportportal.entity.AnalyzeMode;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
@@ -124,12 +125,14 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 
 	private final ProjectConverter projectConverter;
 
+	private final ProjectConfigCache projectConfigCache;
+
 	@Autowired
 	public UpdateProjectHandlerImpl(ProjectRepository projectRepository, UserRepository userRepository,
 			UserPreferenceRepository preferenceRepository, MessageBus messageBus, ProjectUserRepository projectUserRepository,
 			ApplicationEventPublisher applicationEventPublisher, MailServiceFactory mailServiceFactory, LaunchRepository launchRepository, AnalyzerStatusCache analyzerStatusCache,
 			IndexerStatusCache indexerStatusCache, AnalyzerServiceClient analyzerServiceClient, LogIndexer logIndexer,
-			ShareableObjectsHandler aclHandler, ProjectConverter projectConverter) {
+			ShareableObjectsHandler aclHandler, ProjectConverter projectConverter, ProjectConfigCache projectConfigCache) {
 		this.projectRepository = projectRepository;
 		this.userRepository = userRepository;
 		this.preferenceRepository = preferenceRepository;
@@ -144,6 +147,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		this.logIndexer = logIndexer;
 		this.aclHandler = aclHandler;
 		this.projectConverter = projectConverter;
+		this.projectConfigCache = projectConfigCache;
 	}
 
 	@Override
@@ -154,6 +158,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 		updateProjectConfiguration(updateProjectRQ.getConfiguration(), project);
 		ofNullable(updateProjectRQ.getUserRoles()).ifPresent(roles -> updateProjectUserRoles(roles, project, user));
 		projectRepository.save(project);
+		projectConfigCache.invalidate(project.getId());
 		ProjectAttributesActivityResource after = TO_ACTIVITY_RESOURCE.apply(project);
 
 		applicationEventPublisher.publishEvent(new ProjectEvent(project.getId(), UPDATE_EVENT));
@@ -177,6 +182,7 @@ public class UpdateProjectHandlerImpl implements UpdateProjectHandler {
 				.filter(it -> it.getAttribute().getName().equalsIgnoreCase(ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute()))
 				.findAny()
 				.ifPresent(pa -> pa.setValue(String.valueOf(updateProjectNotificationConfigRQ.isEnabled())));
+		projectConfigCache.invalidate(project.getId());
 
 		messageBus.publishActivity(new NotificationsConfigUpdatedEvent(before,
 				updateProjectNotificationConfigRQ,
@@ -19,6 +19,9 @@ package com.epam.ta.reportportal.core.shareable;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.entity.ShareableEntity;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -33,6 +36,16 @@ public interface GetShareableEntityHandler<T extends ShareableEntity> {
 	 */
 	T getPermitted(Long id, ReportPortalUser.ProjectDetails projectDetails);
 
+	/**
+	 * Get {@link ShareableEntity} list on which user have {@link com.epam.ta.reportportal.auth.permissions.AclReadPermission} by ids.
+	 * Objects that are not found in the project or not permitted are skipped.
+	 *
+	 * @param ids            {@link ShareableEntity#id} collection
+	 * @param projectDetails {@link com.epam.ta.reportportal.commons.ReportPortalUser.ProjectDetails}
+	 * @return {@link List} of the permitted objects
+	 */
+	List<T> getPermitted(Collection<Long> ids, ReportPortalUser.ProjectDetails projectDetails);
+
 	/**
 	 * Get {@link ShareableEntity} on which user have {@link com.epam.ta.reportportal.auth.permissions.AclFullPermission} by id
 	 *
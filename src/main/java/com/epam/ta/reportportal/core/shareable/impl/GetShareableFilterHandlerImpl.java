@@ -22,12 +22,18 @@ import com.epam.ta.reportportal.dao.UserFilterRepository;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.collect.Lists;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PostFilter;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+
 import static com.epam.ta.reportportal.auth.permissions.Permissions.CAN_ADMINISTRATE_OBJECT;
 import static com.epam.ta.reportportal.auth.permissions.Permissions.CAN_READ_OBJECT;
+import static com.epam.ta.reportportal.auth.permissions.Permissions.CAN_READ_OBJECT_FILTER;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -52,6 +58,12 @@ public class GetShareableFilterHandlerImpl implements GetShareableEntityHandler<
 				));
 	}
 
+	@Override
+	@PostFilter(CAN_READ_OBJECT_FILTER)
+	public List<UserFilter> getPermitted(Collection<Long> ids, ReportPortalUser.ProjectDetails projectDetails) {
+		return filterRepository.findAllByIdInAndProjectId(Lists.newArrayList(ids), projectDetails.getProjectId());
+	}
+
 	@Override
 	@PostAuthorize(CAN_ADMINISTRATE_OBJECT)
 	public UserFilter getAdministrated(Long id, ReportPortalUser.ProjectDetails projectDetails) {
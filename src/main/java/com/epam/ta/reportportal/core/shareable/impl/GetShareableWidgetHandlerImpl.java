@@ -24,10 +24,16 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PostFilter;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static com.epam.ta.reportportal.auth.permissions.Permissions.CAN_ADMINISTRATE_OBJECT;
 import static com.epam.ta.reportportal.auth.permissions.Permissions.CAN_READ_OBJECT;
+import static com.epam.ta.reportportal.auth.permissions.Permissions.CAN_READ_OBJECT_FILTER;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -48,6 +54,15 @@ public class GetShareableWidgetHandlerImpl implements GetShareableEntityHandler<
 		return widgetRepository.findByIdAndProjectId(id, projectDetails.getProjectId()).orElseThrow(() -> new ReportPortalException(ErrorType.WIDGET_NOT_FOUND_IN_PROJECT, id, projectDetails.getProjectName()));
 	}
 
+	@Override
+	@PostFilter(CAN_READ_OBJECT_FILTER)
+	public List<Widget> getPermitted(Collection<Long> ids, ReportPortalUser.ProjectDetails projectDetails) {
+		return widgetRepository.findAllById(ids)
+				.stream()
+				.filter(it -> projectDetails.getProjectId().equals(it.getProject().getId()))
+				.collect(Collectors.toList());
+	}
+
 	@Override
 	@PostAuthorize(CAN_ADMINISTRATE_OBJECT)
 	public Widget getAdministrated(Long id, ReportPortalUser.ProjectDetails projectDetails) {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.suggestion;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.*;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable sorted snapshot of the distinct values of one suggestion source.
+ * Values are ordered by their lower-cased form, so the values starting with the term are found with the binary search
+ * and the values containing it are found with a single pass over the distinct values.
+ * Responses are cached by the term until the snapshot is replaced.
+ */
+final class SuggestionDictionary {
+
+	private static final int RESPONSES_CACHE_SIZE = 200;
+
+	/**
+	 * Case-insensitive order, values that differ only by case are kept both
+	 */
+	private static final Comparator<String> ORDER = Comparator.comparing(SuggestionDictionary::keyOf).thenComparing(Comparator.naturalOrder());
+
+	private final String[] normalized;
+
+	private final String[] values;
+
+	private final int limit;
+
+	/**
+	 * term - suggestions
+	 */
+	private final Cache<String, List<String>> responses = CacheBuilder.newBuilder().maximumSize(RESPONSES_CACHE_SIZE).build();
+
+	private SuggestionDictionary(String[] values, int limit) {
+		this.values = values;
+		this.normalized = Arrays.stream(values).map(SuggestionDictionary::keyOf).toArray(String[]::new);
+		this.limit = limit;
+	}
+
+	/**
+	 * @param values Source values, 'null' values are skipped
+	 * @param limit  Maximum count of the suggestions in response
+	 * @return {@link SuggestionDictionary}
+	 */
+	static SuggestionDictionary of(Collection<String> values, int limit) {
+		return new SuggestionDictionary(values.stream().filter(Objects::nonNull).distinct().sorted(ORDER).toArray(String[]::new), limit);
+	}
+
+	int size() {
+		return values.length;
+	}
+
+	/**
+	 * @param additions Values to add
+	 * @return This snapshot if it contains all the values, otherwise the new snapshot with the values added
+	 */
+	SuggestionDictionary with(Collection<String> additions) {
+		List<String> missing = new ArrayList<>();
+		additions.stream()
+				.filter(Objects::nonNull)
+				.filter(value -> Arrays.binarySearch(values, value, ORDER) < 0)
+				.distinct()
+				.forEach(missing::add);
+		if (missing.isEmpty()) {
+			return this;
+		}
+		List<String> merged = new ArrayList<>(values.length + missing.size());
+		merged.addAll(Arrays.asList(values));
+		merged.addAll(missing);
+		return of(merged, limit);
+	}
+
+	/**
+	 * Values that start with the term go first, then the values that contain it.
+	 * Response of the longer term is narrowed from the cached response of its prefix,
+	 * if that response wasn't truncated by the limit, so typing the next symbol doesn't scan the dictionary again.
+	 *
+	 * @param term Case-insensitive search term
+	 * @return Not more than the limit of the suggestions
+	 */
+	List<String> find(String term) {
+		String key = term.toLowerCase(Locale.ROOT);
+		List<String> cached = responses.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+		List<String> found = ofNullable(narrowed(key)).orElseGet(() -> search(key));
+		responses.put(key, found);
+		return found;
+	}
+
+	private List<String> narrowed(String key) {
+		if (key.isEmpty()) {
+			return null;
+		}
+		List<String> previous = responses.getIfPresent(key.substring(0, key.length() - 1));
+		if (previous == null || previous.size() >= limit) {
+			return null;
+		}
+		List<String> prefixed = new ArrayList<>();
+		List<String> contained = new ArrayList<>();
+		previous.forEach(value -> {
+			String normalizedValue = keyOf(value);
+			if (normalizedValue.startsWith(key)) {
+				prefixed.add(value);
+			} else if (normalizedValue.contains(key)) {
+				contained.add(value);
+			}
+		});
+		contained.sort(ORDER);
+		prefixed.addAll(contained);
+		return Collections.unmodifiableList(prefixed);
+	}
+
+	private List<String> search(String key) {
+		List<String> found = new ArrayList<>();
+		int from = lowerBound(key);
+		int prefixEnd = from;
+		while (prefixEnd < normalized.length && normalized[prefixEnd].startsWith(key)) {
+			if (found.size() < limit) {
+				found.add(values[prefixEnd]);
+			}
+			prefixEnd++;
+		}
+		for (int i = 0; i < normalized.length && found.size() < limit; i++) {
+			if ((i < from || i >= prefixEnd) && normalized[i].contains(key)) {
+				found.add(values[i]);
+			}
+		}
+		return Collections.unmodifiableList(found);
+	}
+
+	/**
+	 * @return Index of the first value that is not less than the key
+	 */
+	private int lowerBound(String key) {
+		int low = 0;
+		int high = normalized.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (normalized[middle].compareTo(key) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static String keyOf(String value) {
+		return value.toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.suggestion;
+
+import com.epam.ta.reportportal.entity.ItemAttribute;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Triple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.util.CacheEvictionUtils.evictNowAndAfterCompletion;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Per-project index of the autocomplete suggestions: launch names, owners, attributes and linked tickets.
+ * Distinct values of a source are loaded once into the {@link SuggestionDictionary} and then every term is looked up in memory
+ * instead of the 'contains' query over the project tables.
+ * Values reported after the load are added to the loaded dictionaries once the reporting transaction is committed,
+ * deletes, imports and updates drop the project dictionaries,
+ * changes made by the other instances are picked up when the dictionary expires.
+ * Sources with more distinct values than {@link #MAX_DICTIONARY_SIZE} are not indexed and served by the provided query.
+ */
+@Service
+public class SuggestionIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SuggestionIndex.class);
+
+	static final int MAX_DICTIONARY_SIZE = 50_000;
+	static final int SUGGESTIONS_LIMIT = 50;
+
+	private static final int DICTIONARY_LIVE = 10;
+	private static final long MAXIMUM_WEIGHT = 2_000_000;
+
+	/**
+	 * Removed values may still be used by the other launches
+	 */
+	private static final Set<String> DATA_REMOVING_ACTIONS = ImmutableSet.of(ActivityAction.DELETE_LAUNCH.getValue());
+
+	/**
+	 * Values of the imported launches are not added one by one
+	 */
+	private static final Set<String> DATA_IMPORTING_ACTIONS = ImmutableSet.of(ActivityAction.FINISH_IMPORT.getValue());
+
+	private static final Set<String> DICTIONARIES_DROPPING_ACTIONS = Sets.union(DATA_REMOVING_ACTIONS, DATA_IMPORTING_ACTIONS);
+
+	enum Source {
+		LAUNCH_NAME,
+		LAUNCH_OWNER,
+		LAUNCH_ATTRIBUTE_KEY,
+		LAUNCH_ATTRIBUTE_VALUE,
+		TICKET
+	}
+
+	private static final Set<Source> LAUNCH_SOURCES = Sets.immutableEnumSet(Source.LAUNCH_NAME,
+			Source.LAUNCH_OWNER,
+			Source.LAUNCH_ATTRIBUTE_KEY,
+			Source.LAUNCH_ATTRIBUTE_VALUE
+	);
+
+	private final SuggestionQueries suggestionQueries;
+
+	/**
+	 * (projectId, source, source qualifier) - dictionary or empty if the source is too big to be indexed
+	 */
+	private final Cache<Triple<Long, Source, String>, Optional<SuggestionDictionary>> dictionaries;
+
+	@Autowired
+	public SuggestionIndex(SuggestionQueries suggestionQueries) {
+		this.suggestionQueries = suggestionQueries;
+		this.dictionaries = CacheBuilder.newBuilder()
+				.maximumWeight(MAXIMUM_WEIGHT)
+				.weigher((Triple<Long, Source, String> key, Optional<SuggestionDictionary> value) -> value.map(SuggestionDictionary::size)
+						.orElse(0) + 1)
+				.expireAfterWrite(DICTIONARY_LIVE, TimeUnit.MINUTES)
+				.build();
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param term      Part of the name
+	 * @param fallback  Query of the source that can't be indexed
+	 * @return Names of the finished launches in default mode
+	 */
+	public List<String> getLaunchNames(Long projectId, String term, Supplier<List<String>> fallback) {
+		return find(Triple.of(projectId, Source.LAUNCH_NAME, null),
+				term,
+				() -> suggestionQueries.findLaunchNames(projectId, MAX_DICTIONARY_SIZE + 1),
+				fallback
+		);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param mode      Mode of the launches
+	 * @param term      Part of the login
+	 * @param fallback  Query of the source that can't be indexed
+	 * @return Logins of the launch owners
+	 */
+	public List<String> getLaunchOwners(Long projectId, LaunchModeEnum mode, String term, Supplier<List<String>> fallback) {
+		return find(Triple.of(projectId, Source.LAUNCH_OWNER, mode.name()),
+				term,
+				() -> suggestionQueries.findLaunchOwners(projectId, mode, MAX_DICTIONARY_SIZE + 1),
+				fallback
+		);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param term      Part of the key
+	 * @param fallback  Query of the source that can't be indexed
+	 * @return Keys of the not system launch attributes
+	 */
+	public List<String> getLaunchAttributeKeys(Long projectId, String term, Supplier<List<String>> fallback) {
+		return find(Triple.of(projectId, Source.LAUNCH_ATTRIBUTE_KEY, null),
+				term,
+				() -> suggestionQueries.findLaunchAttributeKeys(projectId, MAX_DICTIONARY_SIZE + 1),
+				fallback
+		);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param key       Attribute key, 'null' for the attributes without key
+	 * @param term      Part of the value
+	 * @param fallback  Query of the source that can't be indexed
+	 * @return Values of the not system launch attributes with the key
+	 */
+	public List<String> getLaunchAttributeValues(Long projectId, String key, String term, Supplier<List<String>> fallback) {
+		return find(Triple.of(projectId, Source.LAUNCH_ATTRIBUTE_VALUE, key),
+				term,
+				() -> suggestionQueries.findLaunchAttributeValues(projectId, key, MAX_DICTIONARY_SIZE + 1),
+				fallback
+		);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param term      Part of the ticket id
+	 * @param fallback  Query of the source that can't be indexed
+	 * @return Ids of the tickets linked to the project items
+	 */
+	public List<String> getTickets(Long projectId, String term, Supplier<List<String>> fallback) {
+		return find(Triple.of(projectId, Source.TICKET, null),
+				term,
+				() -> suggestionQueries.findTickets(projectId, MAX_DICTIONARY_SIZE + 1),
+				fallback
+		);
+	}
+
+	/**
+	 * Adds owner and attributes of the started launch once the transaction is committed
+	 *
+	 * @param launch     Started {@link Launch}
+	 * @param ownerLogin Login of the launch owner
+	 */
+	public void onLaunchStarted(Launch launch, String ownerLogin) {
+		Long projectId = launch.getProjectId();
+		Triple<Long, Source, String> ownerKey = Triple.of(projectId, Source.LAUNCH_OWNER, launch.getMode().name());
+		List<ItemAttribute> attributes = getReportedAttributes(launch.getAttributes());
+		afterCommit(() -> {
+			add(ownerKey, Collections.singletonList(ownerLogin));
+			addAttributes(projectId, attributes);
+		});
+	}
+
+	/**
+	 * Adds name and attributes of the finished launch once the transaction is committed
+	 *
+	 * @param launch Finished {@link Launch}
+	 */
+	public void onLaunchFinished(Launch launch) {
+		Long projectId = launch.getProjectId();
+		Optional<String> name = Optional.of(launch)
+				.filter(it -> LaunchModeEnum.DEFAULT == it.getMode() && StatusEnum.IN_PROGRESS != it.getStatus())
+				.map(Launch::getName);
+		List<ItemAttribute> attributes = getReportedAttributes(launch.getAttributes());
+		afterCommit(() -> {
+			name.ifPresent(it -> add(Triple.of(projectId, Source.LAUNCH_NAME, null), Collections.singletonList(it)));
+			addAttributes(projectId, attributes);
+		});
+	}
+
+	/**
+	 * Adds the tickets once the transaction is committed
+	 *
+	 * @param projectId Project id
+	 * @param ticketIds Ids of the linked tickets
+	 */
+	public void addTickets(Long projectId, Collection<String> ticketIds) {
+		List<String> tickets = new ArrayList<>(ticketIds);
+		afterCommit(() -> add(Triple.of(projectId, Source.TICKET, null), tickets));
+	}
+
+	/**
+	 * Drops the launch dictionaries of the project after launch update, merge or delete,
+	 * as the removed values may still be used by the other launches
+	 *
+	 * @param projectId Project id
+	 */
+	public void invalidateLaunches(Long projectId) {
+		evictNowAndAfterCompletion(() -> invalidate(projectId, LAUNCH_SOURCES));
+	}
+
+	/**
+	 * Drops the tickets dictionary of the project after tickets unlinking
+	 *
+	 * @param projectId Project id
+	 */
+	public void invalidateTickets(Long projectId) {
+		evictNowAndAfterCompletion(() -> invalidate(projectId, EnumSet.of(Source.TICKET)));
+	}
+
+	/**
+	 * Drops all the dictionaries of the project once the launch delete or import is committed
+	 *
+	 * @param activity Published {@link Activity}
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onActivity(Activity activity) {
+		if (activity.getProjectId() != null && DICTIONARIES_DROPPING_ACTIONS.contains(activity.getAction())) {
+			invalidate(activity.getProjectId(), EnumSet.allOf(Source.class));
+		}
+	}
+
+	private List<String> find(Triple<Long, Source, String> key, String term, Supplier<List<String>> loader,
+			Supplier<List<String>> fallback) {
+		Optional<SuggestionDictionary> dictionary;
+		try {
+			dictionary = dictionaries.get(key, () -> load(loader));
+		} catch (ExecutionException e) {
+			LOGGER.error("Unable to load suggestions of the project with id = " + key.getLeft(), e.getCause());
+			return fallback.get();
+		}
+		return dictionary.map(it -> it.find(term)).orElseGet(fallback);
+	}
+
+	private static Optional<SuggestionDictionary> load(Supplier<List<String>> loader) {
+		List<String> values = loader.get();
+		if (values.size() > MAX_DICTIONARY_SIZE) {
+			return Optional.empty();
+		}
+		return Optional.of(SuggestionDictionary.of(values, SUGGESTIONS_LIMIT));
+	}
+
+	/**
+	 * Values reported in the rolled back transaction are not added.
+	 * Runs the action immediately if there is no transaction.
+	 */
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private static List<ItemAttribute> getReportedAttributes(Collection<ItemAttribute> attributes) {
+		return ofNullable(attributes).map(it -> it.stream().filter(attribute -> !attribute.isSystem()).collect(Collectors.toList()))
+				.orElseGet(Collections::emptyList);
+	}
+
+	private void addAttributes(Long projectId, List<ItemAttribute> reported) {
+		if (reported.isEmpty()) {
+			return;
+		}
+		add(Triple.of(projectId, Source.LAUNCH_ATTRIBUTE_KEY, null),
+				reported.stream().map(ItemAttribute::getKey).filter(Objects::nonNull).collect(Collectors.toSet())
+		);
+		reported.stream()
+				.collect(Collectors.groupingBy(attribute -> ofNullable(attribute.getKey()),
+						Collectors.mapping(ItemAttribute::getValue, Collectors.toSet())
+				))
+				.forEach((attributeKey, values) -> add(Triple.of(projectId, Source.LAUNCH_ATTRIBUTE_VALUE, attributeKey.orElse(null)),
+						values
+				));
+	}
+
+	private void add(Triple<Long, Source, String> key, Collection<String> values) {
+		if (!values.isEmpty()) {
+			dictionaries.asMap().computeIfPresent(key, (k, dictionary) -> dictionary.map(it -> it.with(values)));
+		}
+	}
+
+	private void invalidate(Long projectId, Set<Source> sources) {
+		dictionaries.asMap().keySet().removeIf(key -> projectId.equals(key.getLeft()) && sources.contains(key.getMiddle()));
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.suggestion;
+
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Loads the distinct values of the project suggestion sources.
+ * Every query is limited, so the sources that are too big to be indexed are detected without reading them entirely.
+ */
+@Service
+class SuggestionQueries {
+
+	private static final String LAUNCH_NAMES_QUERY = "SELECT DISTINCT name FROM launch "
+			+ "WHERE project_id = ? AND mode = 'DEFAULT'::LAUNCH_MODE_ENUM AND status != 'IN_PROGRESS'::STATUS_ENUM LIMIT ?";
+
+	private static final String LAUNCH_OWNERS_QUERY = "SELECT DISTINCT u.login FROM launch l JOIN users u ON l.user_id = u.id "
+			+ "WHERE l.project_id = ? AND l.mode = ?::LAUNCH_MODE_ENUM LIMIT ?";
+
+	private static final String LAUNCH_ATTRIBUTE_KEYS_QUERY = "SELECT DISTINCT ia.key FROM item_attribute ia JOIN launch l ON ia.launch_id = l.id "
+			+ "WHERE l.project_id = ? AND NOT ia.system AND ia.key IS NOT NULL LIMIT ?";
+
+	private static final String LAUNCH_ATTRIBUTE_VALUES_QUERY =
+			"SELECT DISTINCT ia.value FROM item_attribute ia JOIN launch l ON ia.launch_id = l.id "
+					+ "WHERE l.project_id = ? AND NOT ia.system AND ia.key = ? LIMIT ?";
+
+	private static final String LAUNCH_KEYLESS_ATTRIBUTE_VALUES_QUERY =
+			"SELECT DISTINCT ia.value FROM item_attribute ia JOIN launch l ON ia.launch_id = l.id "
+					+ "WHERE l.project_id = ? AND NOT ia.system AND ia.key IS NULL LIMIT ?";
+
+	private static final String TICKETS_QUERY = "SELECT DISTINCT t.ticket_id FROM ticket t JOIN issue_ticket it ON t.id = it.ticket_id "
+			+ "JOIN test_item ti ON it.issue_id = ti.item_id JOIN launch l ON ti.launch_id = l.id WHERE l.project_id = ? LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public SuggestionQueries(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	List<String> findLaunchNames(Long projectId, int limit) {
+		return jdbcTemplate.queryForList(LAUNCH_NAMES_QUERY, String.class, projectId, limit);
+	}
+
+	List<String> findLaunchOwners(Long projectId, LaunchModeEnum mode, int limit) {
+		return jdbcTemplate.queryForList(LAUNCH_OWNERS_QUERY, String.class, projectId, mode.name(), limit);
+	}
+
+	List<String> findLaunchAttributeKeys(Long projectId, int limit) {
+		return jdbcTemplate.queryForList(LAUNCH_ATTRIBUTE_KEYS_QUERY, String.class, projectId, limit);
+	}
+
+	List<String> findLaunchAttributeValues(Long projectId, String key, int limit) {
+		return key == null ?
+				jdbcTemplate.queryForList(LAUNCH_KEYLESS_ATTRIBUTE_VALUES_QUERY, String.class, projectId, limit) :
+				jdbcTemplate.queryForList(LAUNCH_ATTRIBUTE_VALUES_QUERY, String.class, projectId, key, limit);
+	}
+
+	List<String> findTickets(Long projectId, int limit) {
+		return jdbcTemplate.queryForList(TICKETS_QUERY, String.class, projectId, limit);
+	}
+}
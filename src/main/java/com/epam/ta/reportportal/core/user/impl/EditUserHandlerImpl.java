@@ -50,8 +50,11 @@ import javax.imageio.stream.ImageInputStream;
 import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -59,6 +62,7 @@ import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.fail;
 import static com.epam.ta.reportportal.entity.user.UserType.INTERNAL;
+import static com.epam.ta.reportportal.ws.converter.builders.UserBuilder.USER_PHOTO_LOADED;
 import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static com.epam.ta.reportportal.ws.model.ValidationConstraints.*;
 import static java.util.Optional.ofNullable;
@@ -149,6 +153,13 @@ public class EditUserHandlerImpl implements EditUserHandler {
 		User user = userRepository.findByLogin(username).orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, username));
 		validatePhoto(file);
 		userBinaryDataService.saveUserPhoto(user, file);
+		//re-uploaded photo can keep the file id, so the upload time versions the cached copies of the photo
+		Map<String, Object> metadata = ofNullable(user.getMetadata()).map(com.epam.ta.reportportal.entity.Metadata::getMetadata)
+				.<Map<String, Object>>map(HashMap::new)
+				.orElseGet(HashMap::new);
+		metadata.put(USER_PHOTO_LOADED, Instant.now().toEpochMilli());
+		user.setMetadata(new com.epam.ta.reportportal.entity.Metadata(metadata));
+		userRepository.save(user);
 		return new OperationCompletionRS("Profile photo has been uploaded successfully");
 	}
 
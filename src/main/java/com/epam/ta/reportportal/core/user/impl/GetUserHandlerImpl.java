@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.user.impl;
 
 import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.commons.querygen.CompositeFilter;
 import com.epam.ta.reportportal.commons.querygen.Condition;
 import com.epam.ta.reportportal.commons.querygen.Filter;
 import com.epam.ta.reportportal.commons.querygen.FilterCondition;
@@ -34,6 +35,7 @@ import com.epam.ta.reportportal.entity.user.ProjectUser;
 import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserCreationBid;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.job.PageUtil;
 import com.epam.ta.reportportal.util.PersonalProjectService;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
 import com.epam.ta.reportportal.ws.converter.converters.UserConverter;
@@ -42,21 +44,18 @@ import com.epam.ta.reportportal.ws.model.YesNoRS;
 import com.epam.ta.reportportal.ws.model.user.UserBidRS;
 import com.epam.ta.reportportal.ws.model.user.UserResource;
 import com.google.common.base.Preconditions;
-import net.sf.jasperreports.engine.JRDataSource;
-import net.sf.jasperreports.engine.JasperPrint;
-import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import org.jooq.Operator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import java.io.OutputStream;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_PROJECT_ID;
 import static com.epam.ta.reportportal.commons.querygen.constant.UserCriteriaConstant.*;
@@ -71,6 +70,10 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class GetUserHandlerImpl implements GetUserHandler {
 
+	private static final int EXPORT_PAGE_SIZE = 500;
+
+	private static final String NEXT_ID_QUERY = "SELECT min(id) FROM users WHERE id > ?";
+
 	private final UserRepository userRepository;
 
 	private final UserCreationBidRepository userCreationBidRepository;
@@ -81,15 +84,18 @@ public class GetUserHandlerImpl implements GetUserHandler {
 
 	private final GetJasperReportHandler<User> jasperReportHandler;
 
+	private final JdbcTemplate jdbcTemplate;
+
 	@Autowired
 	public GetUserHandlerImpl(UserRepository userRepo, UserCreationBidRepository userCreationBidRepository,
 			ProjectRepository projectRepository, PersonalProjectService personalProjectService,
-			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler) {
+			@Qualifier("userJasperReportHandler") GetJasperReportHandler<User> jasperReportHandler, JdbcTemplate jdbcTemplate) {
 		this.userRepository = Preconditions.checkNotNull(userRepo);
 		this.userCreationBidRepository = Preconditions.checkNotNull(userCreationBidRepository);
 		this.projectRepository = projectRepository;
 		this.personalProjectService = personalProjectService;
 		this.jasperReportHandler = jasperReportHandler;
+		this.jdbcTemplate = jdbcTemplate;
 	}
 
 	@Override
@@ -172,16 +178,16 @@ public class GetUserHandlerImpl implements GetUserHandler {
 	@Override
 	public void exportUsers(ReportFormat reportFormat, OutputStream outputStream, Queryable filter) {
 
-		final List<User> users = userRepository.findByFilter(filter);
-
-		List<? extends Map<String, ?>> data = users.stream().map(jasperReportHandler::convertParams).collect(Collectors.toList());
-
-		JRDataSource jrDataSource = new JRBeanCollectionDataSource(data);
-
-		//don't provide any params to not overwrite params from the Jasper template
-		JasperPrint jasperPrint = jasperReportHandler.getJasperPrint(null, jrDataSource);
-
-		jasperReportHandler.writeReport(reportFormat, outputStream, jasperPrint);
+		//users are fetched by ranges of ids while the report is written, so the whole filtered set isn't held in memory
+		Iterator<User> users = PageUtil.iterateByIdRanges(EXPORT_PAGE_SIZE,
+				lastId -> jdbcTemplate.queryForObject(NEXT_ID_QUERY, Long.class, lastId),
+				(from, to) -> userRepository.findByFilter(new CompositeFilter(Operator.AND,
+						filter,
+						PageUtil.idRangeFilter(User.class, from, to)
+				)),
+				User::getId
+		);
+		jasperReportHandler.writeReport(reportFormat, outputStream, users);
 	}
 
 	@Override
@@ -18,6 +18,8 @@ package com.epam.ta.reportportal.core.widget;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.core.dashboard.model.DashboardContentRs;
+import com.epam.ta.reportportal.entity.dashboard.Dashboard;
 import com.epam.ta.reportportal.ws.model.widget.WidgetPreviewRQ;
 import com.epam.ta.reportportal.ws.model.widget.WidgetResource;
 import org.springframework.data.domain.Pageable;
@@ -63,6 +65,17 @@ public interface GetWidgetHandler {
 	 */
 	Map<String, ?> getWidgetPreview(WidgetPreviewRQ previewRQ, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user);
 
+	/**
+	 * Get content of all the dashboard widgets.
+	 * Widgets which content was not loaded in time or failed are reported in {@link DashboardContentRs#getErrors()}
+	 *
+	 * @param dashboard      Dashboard permitted for the user
+	 * @param projectDetails Project details
+	 * @param user           User
+	 * @return {@link DashboardContentRs}
+	 */
+	DashboardContentRs getDashboardContent(Dashboard dashboard, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user);
+
 	/**
 	 * Get widget names that belong to user
 	 *
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content.cache;
+
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.entity.filter.UserFilter;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MultiValueMap;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Shared cache of the widget content.
+ * Content is stored by the widget id and its definition (type, content fields, options and filters)
+ * together with the project data version it was loaded for. The version moves forward after the commit of activities
+ * that change reported data (launch start, finish and delete, item and defect type updates) and of {@link ProjectDataChangedEvent}
+ * published by the handlers without activities, so repeated views of unchanged data are served without content queries.
+ * Versions are kept per instance, so every change is broadcast to the other API instances as well.
+ * Changes that are not tracked at all (items reported into a launch in progress) or a lost broadcast
+ * are visible after at most {@link #CACHE_ITEM_LIVE} minutes.
+ */
+@Service
+public class WidgetContentCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WidgetContentCache.class);
+
+	private static final int CACHE_ITEM_LIVE = 5;
+	private static final int MAXIMUM_SIZE = 1000;
+
+	/**
+	 * Widgets that show not only the reported data, e.g. activity stream
+	 */
+	private static final Set<WidgetType> UNCACHED_TYPES = ImmutableSet.of(WidgetType.ACTIVITY);
+
+	private static final Set<String> DATA_CHANGING_ACTIONS = ImmutableSet.of(ActivityAction.START_LAUNCH,
+			ActivityAction.FINISH_LAUNCH,
+			ActivityAction.DELETE_LAUNCH,
+			ActivityAction.FINISH_IMPORT,
+			ActivityAction.UPDATE_ITEM,
+			ActivityAction.ANALYZE_ITEM,
+			ActivityAction.PATTERN_MATCHED,
+			ActivityAction.LINK_ISSUE,
+			ActivityAction.LINK_ISSUE_AA,
+			ActivityAction.POST_ISSUE,
+			ActivityAction.CREATE_DEFECT,
+			ActivityAction.UPDATE_DEFECT,
+			ActivityAction.DELETE_DEFECT
+	).stream().map(ActivityAction::getValue).collect(ImmutableSet.toImmutableSet());
+
+	/**
+	 * projectId - data version
+	 */
+	private final ConcurrentMap<Long, AtomicLong> projectVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * (widgetId, widget definition) - (project data version, content)
+	 */
+	private final Cache<Pair<Long, String>, Pair<Long, Map<String, ?>>> contents;
+
+	private final MessageBus messageBus;
+
+	public WidgetContentCache(MessageBus messageBus) {
+		this.messageBus = messageBus;
+		contents = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * @param widget        {@link Widget}
+	 * @param widgetType    {@link WidgetType} of the widget
+	 * @param contentLoader Loads the content if there is no cached one for the current project data version
+	 * @return Widget content
+	 */
+	public Map<String, ?> getContent(Widget widget, WidgetType widgetType, Supplier<Map<String, ?>> contentLoader) {
+		return getContent(widget, widgetType, "", contentLoader);
+	}
+
+	/**
+	 * @param widget        {@link Widget} with multilevel structure
+	 * @param widgetType    {@link WidgetType} of the widget
+	 * @param attributes    Requested level attributes
+	 * @param params        Request params
+	 * @param contentLoader Loads the content if there is no cached one for the current project data version
+	 * @return Widget content
+	 */
+	public Map<String, ?> getContent(Widget widget, WidgetType widgetType, String[] attributes, MultiValueMap<String, String> params,
+			Supplier<Map<String, ?>> contentLoader) {
+		return getContent(widget, widgetType, requestDefinitionOf(attributes, params), contentLoader);
+	}
+
+	/**
+	 * Returns cached content or loads it with the provided executor.
+	 * Cache key is resolved in the caller thread, so lazy widget associations are not accessed by the executor.
+	 *
+	 * @param widget        {@link Widget}
+	 * @param widgetType    {@link WidgetType} of the widget
+	 * @param contentLoader Loads the content if there is no cached one for the current project data version
+	 * @param executor      {@link Executor} to load the content with
+	 * @return {@link CompletableFuture} with the widget content
+	 */
+	public CompletableFuture<Map<String, ?>> getContentAsync(Widget widget, WidgetType widgetType, Supplier<Map<String, ?>> contentLoader,
+			Executor executor) {
+		return getContentAsync(widget, widgetType, "", contentLoader, executor);
+	}
+
+	/**
+	 * @param widget        {@link Widget} with multilevel structure
+	 * @param widgetType    {@link WidgetType} of the widget
+	 * @param attributes    Requested level attributes
+	 * @param params        Request params
+	 * @param contentLoader Loads the content if there is no cached one for the current project data version
+	 * @param executor      {@link Executor} to load the content with
+	 * @return {@link CompletableFuture} with the widget content
+	 * @see #getContentAsync(Widget, WidgetType, Supplier, Executor)
+	 */
+	public CompletableFuture<Map<String, ?>> getContentAsync(Widget widget, WidgetType widgetType, String[] attributes,
+			MultiValueMap<String, String> params, Supplier<Map<String, ?>> contentLoader, Executor executor) {
+		return getContentAsync(widget, widgetType, requestDefinitionOf(attributes, params), contentLoader, executor);
+	}
+
+	private Map<String, ?> getContent(Widget widget, WidgetType widgetType, String requestDefinition,
+			Supplier<Map<String, ?>> contentLoader) {
+		if (!isCacheable(widget, widgetType)) {
+			return contentLoader.get();
+		}
+		long version = getProjectVersion(widget.getProject().getId());
+		Pair<Long, String> key = keyOf(widget, widgetType, requestDefinition);
+		return getCached(key, version).orElseGet(() -> put(key, version, contentLoader.get()));
+	}
+
+	private CompletableFuture<Map<String, ?>> getContentAsync(Widget widget, WidgetType widgetType, String requestDefinition,
+			Supplier<Map<String, ?>> contentLoader, Executor executor) {
+		if (!isCacheable(widget, widgetType)) {
+			return CompletableFuture.supplyAsync(contentLoader, executor);
+		}
+		long version = getProjectVersion(widget.getProject().getId());
+		Pair<Long, String> key = keyOf(widget, widgetType, requestDefinition);
+		return getCached(key, version).map(CompletableFuture::<Map<String, ?>>completedFuture)
+				.orElseGet(() -> CompletableFuture.supplyAsync(() -> put(key, version, contentLoader.get()), executor));
+	}
+
+	private Optional<Map<String, ?>> getCached(Pair<Long, String> key, long version) {
+		return ofNullable(contents.getIfPresent(key)).filter(cached -> cached.getKey() == version).map(Pair::getValue);
+	}
+
+	private Map<String, ?> put(Pair<Long, String> key, long version, Map<String, ?> content) {
+		contents.put(key, Pair.of(version, content));
+		return content;
+	}
+
+	/**
+	 * Moves the project data version forward once the activity changing the reported data is committed
+	 *
+	 * @param activity Published {@link Activity}
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onActivity(Activity activity) {
+		if (activity.getProjectId() != null && DATA_CHANGING_ACTIONS.contains(activity.getAction())) {
+			onDataChanged(activity.getProjectId());
+		}
+	}
+
+	/**
+	 * Moves the project data version forward once the change without an activity is committed
+	 *
+	 * @param event {@link ProjectDataChangedEvent}
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProjectDataChanged(ProjectDataChangedEvent event) {
+		ofNullable(event.getProjectId()).ifPresent(this::onDataChanged);
+	}
+
+	/**
+	 * Moves the project data version forward in this instance only.
+	 * Used for the changes broadcast by the other API instances.
+	 *
+	 * @param projectId Id of the project with changed data
+	 */
+	public void invalidate(Long projectId) {
+		projectVersions.computeIfAbsent(projectId, id -> new AtomicLong()).incrementAndGet();
+	}
+
+	private void onDataChanged(Long projectId) {
+		invalidate(projectId);
+		try {
+			messageBus.broadcastEvent(new ProjectDataChangedEvent(projectId));
+		} catch (Exception e) {
+			LOGGER.warn("Widget content change of the project with id '{}' was not broadcast: {}", projectId, e.getMessage());
+		}
+	}
+
+	long getProjectVersion(Long projectId) {
+		return ofNullable(projectVersions.get(projectId)).map(AtomicLong::get).orElse(0L);
+	}
+
+	private static boolean isCacheable(Widget widget, WidgetType widgetType) {
+		return !UNCACHED_TYPES.contains(widgetType) && widget.getId() != null && widget.getProject() != null;
+	}
+
+	private static Pair<Long, String> keyOf(Widget widget, WidgetType widgetType, String requestDefinition) {
+		return Pair.of(widget.getId(), definitionOf(widget, widgetType) + requestDefinition);
+	}
+
+	private static String requestDefinitionOf(String[] attributes, MultiValueMap<String, String> params) {
+		return Arrays.toString(attributes) + ofNullable(params).map(it -> new TreeMap<>(it).toString()).orElse("");
+	}
+
+	private static String definitionOf(Widget widget, WidgetType widgetType) {
+		StringBuilder definition = new StringBuilder(widgetType.name()).append('|')
+				.append(widget.getContentFields())
+				.append('|')
+				.append(widget.getItemsCount())
+				.append('|')
+				.append(ofNullable(widget.getWidgetOptions()).map(it -> String.valueOf(it.getOptions())).orElse(""));
+		ofNullable(widget.getFilters()).ifPresent(filters -> filters.stream()
+				.sorted(Comparator.comparing(UserFilter::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+				.forEach(filter -> definition.append('|').append(definitionOf(filter))));
+		return definition.toString();
+	}
+
+	private static String definitionOf(UserFilter filter) {
+		String conditions = ofNullable(filter.getFilterCondition()).map(it -> it.stream()
+				.map(WidgetContentCache::definitionOf)
+				.sorted()
+				.collect(Collectors.joining(","))).orElse("");
+		String sorts = ofNullable(filter.getFilterSorts()).map(it -> it.stream()
+				.map(sort -> sort.getField() + ":" + sort.getDirection())
+				.collect(Collectors.joining(","))).orElse("");
+		return filter.getId() + ":" + filter.getTargetClass() + "[" + conditions + "][" + sorts + "]";
+	}
+
+	private static String definitionOf(FilterCondition condition) {
+		return condition.getSearchCriteria() + ":" + condition.getCondition() + ":" + condition.isNegative() + ":" + condition.getValue();
+	}
+}
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.widget.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.querygen.*;
+import com.epam.ta.reportportal.core.dashboard.model.DashboardContentRs;
 import com.epam.ta.reportportal.core.filter.GetUserFilterHandler;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
 import com.epam.ta.reportportal.core.widget.GetWidgetHandler;
@@ -25,7 +26,10 @@ import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
 import com.epam.ta.reportportal.core.widget.content.LoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MaterializedLoadContentStrategy;
 import com.epam.ta.reportportal.core.widget.content.MultilevelLoadContentStrategy;
+import com.epam.ta.reportportal.core.widget.content.cache.WidgetContentCache;
 import com.epam.ta.reportportal.dao.WidgetRepository;
+import com.epam.ta.reportportal.entity.dashboard.Dashboard;
+import com.epam.ta.reportportal.entity.dashboard.DashboardWidget;
 import com.epam.ta.reportportal.entity.filter.UserFilter;
 import com.epam.ta.reportportal.entity.widget.Widget;
 import com.epam.ta.reportportal.entity.widget.WidgetType;
@@ -39,15 +43,32 @@ import com.epam.ta.reportportal.ws.model.widget.WidgetResource;
 import com.google.common.collect.Lists;
 import org.apache.commons.collections.CollectionUtils;
 import org.jooq.Operator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_NAME;
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_OWNER;
@@ -62,6 +83,8 @@ import static java.util.Optional.ofNullable;
 @Service
 public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(GetWidgetHandlerImpl.class);
+
 	private Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping;
 
 	private Map<WidgetType, LoadContentStrategy> loadContentStrategy;
@@ -81,6 +104,21 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 	@Autowired
 	private GetUserFilterHandler getUserFilterHandler;
 
+	@Autowired
+	private WidgetContentCache widgetContentCache;
+
+	@Autowired
+	@Qualifier("widgetContentExecutor")
+	private TaskExecutor widgetContentExecutor;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private TransactionTemplate readOnlyTransaction;
+
+	@Value("${rp.widget.content.timeout:30000}")
+	private long widgetContentTimeout;
+
 	@Autowired
 	@Qualifier("buildFilterStrategy")
 	public void setBuildFilterStrategy(Map<WidgetType, BuildFilterStrategy> buildFilterStrategyMapping) {
@@ -99,6 +137,12 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		this.multilevelLoadContentStrategy = multilevelLoadContentStrategy;
 	}
 
+	@Autowired
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
 	@Autowired
 	public void setMaterializedLoadContentStrategy(MaterializedLoadContentStrategy materializedLoadContentStrategy) {
 		this.materializedLoadContentStrategy = materializedLoadContentStrategy;
@@ -125,13 +169,13 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 
 		Map<String, ?> content;
 
-		if (unfilteredWidgetTypes.contains(widgetType) || isFilteredContentLoadAllowed(widget.getFilters(), projectDetails, user)) {
-			content = loadContentStrategy.get(widgetType)
+		if (isContentLoadAllowed(widget, widgetType, getPermittedFilterIds(Collections.singletonList(widget), projectDetails, user))) {
+			content = widgetContentCache.getContent(widget, widgetType, () -> loadContentStrategy.get(widgetType)
 					.loadContent(Lists.newArrayList(widget.getContentFields()),
 							buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
 							widget.getWidgetOptions(),
 							widget.getItemsCount()
-					);
+					));
 		} else {
 			content = Collections.emptyMap();
 		}
@@ -156,15 +200,19 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		);
 		Map<String, ?> content;
 
-		if (unfilteredWidgetTypes.contains(widgetType) || isFilteredContentLoadAllowed(widget.getFilters(), projectDetails, user)) {
+		if (isContentLoadAllowed(widget, widgetType, getPermittedFilterIds(Collections.singletonList(widget), projectDetails, user))) {
 			params.put(ATTRIBUTES, Lists.newArrayList(attributes));
-			content = ofNullable(multilevelLoadContentStrategy.get(widgetType)).map(strategy -> strategy.loadContent(Lists.newArrayList(
-					widget.getContentFields()),
-					buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
-					widget.getWidgetOptions(),
+			content = ofNullable(multilevelLoadContentStrategy.get(widgetType)).map(strategy -> widgetContentCache.getContent(widget,
+					widgetType,
 					attributes,
 					params,
-					widget.getItemsCount()
+					() -> strategy.loadContent(Lists.newArrayList(widget.getContentFields()),
+							buildFilterStrategyMapping.get(widgetType).buildFilter(widget),
+							widget.getWidgetOptions(),
+							attributes,
+							params,
+							widget.getItemsCount()
+					)
 			)).orElseGet(() -> materializedLoadContentStrategy.loadContent(widget, params));
 
 		} else {
@@ -176,17 +224,19 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		return resource;
 	}
 
-	private Boolean isFilteredContentLoadAllowed(Collection<UserFilter> userFilters, ReportPortalUser.ProjectDetails projectDetails,
-			ReportPortalUser user) {
-
-		if (CollectionUtils.isEmpty(userFilters)) {
-			return false;
-		}
-
-		Long[] ids = userFilters.stream().map(UserFilter::getId).toArray(Long[]::new);
-		List<UserFilter> permittedFilters = getPermittedFilters(ids, projectDetails, user);
-		return userFilters.size() == permittedFilters.size();
-
+	/**
+	 * Content of the filtered widget is loaded only if the user is permitted to read all of its filters
+	 *
+	 * @param widget             {@link Widget}
+	 * @param widgetType         {@link WidgetType} of the widget
+	 * @param permittedFilterIds Ids of the filters the user is permitted to read
+	 * @return 'true' if the content of the widget can be loaded
+	 */
+	private boolean isContentLoadAllowed(Widget widget, WidgetType widgetType, Set<Long> permittedFilterIds) {
+		return unfilteredWidgetTypes.contains(widgetType) || (CollectionUtils.isNotEmpty(widget.getFilters()) && widget.getFilters()
+				.stream()
+				.map(UserFilter::getId)
+				.allMatch(permittedFilterIds::contains));
 	}
 
 	@Override
@@ -231,6 +281,154 @@ public class GetWidgetHandlerImpl implements GetWidgetHandler {
 		}
 	}
 
+	@Override
+	public DashboardContentRs getDashboardContent(Dashboard dashboard, ReportPortalUser.ProjectDetails projectDetails,
+			ReportPortalUser user) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(widgetContentTimeout);
+		List<Long> widgetIds = dashboard.getDashboardWidgets()
+				.stream()
+				.map(DashboardWidget::getWidget)
+				.map(Widget::getId)
+				.collect(Collectors.toList());
+		List<Widget> widgets = getShareableEntityHandler.getPermitted(widgetIds, projectDetails)
+				.stream()
+				.sorted(Comparator.comparing(Widget::getId))
+				.collect(Collectors.toList());
+		Set<Long> permittedFilterIds = getPermittedFilterIds(widgets, projectDetails, user);
+
+		Map<Widget, CompletableFuture<Map<String, ?>>> contents = new LinkedHashMap<>();
+		//lazy associations are resolved on the request thread, only the content loading is executed in parallel
+		widgets.forEach(widget -> {
+			CompletableFuture<Map<String, ?>> content;
+			try {
+				content = loadContentAsync(widget, permittedFilterIds);
+			} catch (Exception e) {
+				content = CompletableFuture.failedFuture(e);
+			}
+			contents.put(widget, content);
+		});
+
+		Map<Long, String> errors = new LinkedHashMap<>();
+		List<WidgetResource> resources = new ArrayList<>(contents.size());
+		contents.forEach((widget, content) -> {
+			WidgetResource resource = WidgetConverter.TO_WIDGET_RESOURCE.apply(widget);
+			setContent(resource, content, deadline, errors);
+			resources.add(resource);
+		});
+
+		DashboardContentRs response = new DashboardContentRs();
+		response.setDashboardId(dashboard.getId());
+		response.setWidgets(resources);
+		response.setErrors(errors);
+		return response;
+	}
+
+	/**
+	 * Waits for the content of the widget until the deadline of the dashboard request.
+	 * All the widgets share one deadline counted from the start of the request, so the dashboard content
+	 * is returned not later than the widget content timeout no matter how many widgets are slow.
+	 * Widgets with failed, rejected or timed out loading are returned without content and listed in the errors.
+	 *
+	 * @param resource {@link WidgetResource} to set the content to
+	 * @param content  Content loading
+	 * @param deadline {@link System#nanoTime()} value to wait for the content until
+	 * @param errors   widgetId - reason of the content loading failure
+	 */
+	private void setContent(WidgetResource resource, CompletableFuture<Map<String, ?>> content, long deadline,
+			Map<Long, String> errors) {
+		try {
+			resource.setContent(content.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+		} catch (TimeoutException e) {
+			//not started loading is skipped by the executor, the started one is stopped by the statement timeout
+			content.cancel(true);
+			errors.put(resource.getWidgetId(), "Widget content loading timeout exceeded");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof TaskRejectedException) {
+				errors.put(resource.getWidgetId(), "Widget content loading was rejected, server is busy");
+			} else {
+				LOGGER.error("Unable to load content of the widget with id = " + resource.getWidgetId(), e.getCause());
+				errors.put(resource.getWidgetId(), ofNullable(e.getCause()).map(Throwable::getMessage).orElse(e.getMessage()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			content.cancel(true);
+			errors.put(resource.getWidgetId(), "Widget content loading was interrupted");
+		}
+	}
+
+	private CompletableFuture<Map<String, ?>> loadContentAsync(Widget widget, Set<Long> permittedFilterIds) {
+		WidgetType widgetType = WidgetType.findByName(widget.getWidgetType())
+				.orElseThrow(() -> new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+						formattedSupplier("Unsupported widget type '{}'", widget.getWidgetType())
+				));
+
+		if (!isContentLoadAllowed(widget, widgetType, permittedFilterIds)) {
+			return CompletableFuture.completedFuture(Collections.emptyMap());
+		}
+
+		if (widgetType.isSupportMultilevelStructure()) {
+			MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+			MultilevelLoadContentStrategy strategy = multilevelLoadContentStrategy.get(widgetType);
+			if (strategy == null) {
+				params.put(ATTRIBUTES, Lists.newArrayList());
+				return CompletableFuture.completedFuture(materializedLoadContentStrategy.loadContent(widget, params));
+			}
+			String[] attributes = new String[0];
+			params.put(ATTRIBUTES, Lists.newArrayList(attributes));
+			List<String> contentFields = Lists.newArrayList(widget.getContentFields());
+			Map<Filter, Sort> filterSortMapping = buildFilterStrategyMapping.get(widgetType).buildFilter(widget);
+			return widgetContentCache.getContentAsync(widget,
+					widgetType,
+					attributes,
+					params,
+					withStatementTimeout(() -> strategy.loadContent(contentFields,
+							filterSortMapping,
+							widget.getWidgetOptions(),
+							attributes,
+							params,
+							widget.getItemsCount()
+					)),
+					widgetContentExecutor
+			);
+		}
+
+		List<String> contentFields = Lists.newArrayList(widget.getContentFields());
+		Map<Filter, Sort> filterSortMapping = buildFilterStrategyMapping.get(widgetType).buildFilter(widget);
+		return widgetContentCache.getContentAsync(widget,
+				widgetType,
+				withStatementTimeout(() -> loadContentStrategy.get(widgetType)
+						.loadContent(contentFields, filterSortMapping, widget.getWidgetOptions(), widget.getItemsCount())),
+				widgetContentExecutor
+		);
+	}
+
+	/**
+	 * Content queries are executed in the read-only transaction limited by the widget content timeout,
+	 * so the database stops the query that is not waited for anymore
+	 *
+	 * @param contentLoader Loads the widget content
+	 * @return Loader with the statement timeout
+	 */
+	private Supplier<Map<String, ?>> withStatementTimeout(Supplier<Map<String, ?>> contentLoader) {
+		return () -> readOnlyTransaction.execute(status -> {
+			jdbcTemplate.execute("SET LOCAL statement_timeout = " + widgetContentTimeout);
+			return contentLoader.get();
+		});
+	}
+
+	private Set<Long> getPermittedFilterIds(List<Widget> widgets, ReportPortalUser.ProjectDetails projectDetails,
+			ReportPortalUser user) {
+		Long[] ids = widgets.stream()
+				.flatMap(widget -> ofNullable(widget.getFilters()).map(Collection::stream).orElseGet(Stream::empty))
+				.map(UserFilter::getId)
+				.distinct()
+				.toArray(Long[]::new);
+		if (ids.length == 0) {
+			return Collections.emptySet();
+		}
+		return getPermittedFilters(ids, projectDetails, user).stream().map(UserFilter::getId).collect(Collectors.toSet());
+	}
+
 	List<UserFilter> getPermittedFilters(Long[] ids, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
 		return getUserFilterHandler.getFiltersById(ids, projectDetails, user);
 	}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.demodata;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.demodata.model.BulkDemoDataRq;
 import com.epam.ta.reportportal.demodata.model.DemoDataRq;
 import com.epam.ta.reportportal.demodata.model.DemoDataRs;
 import com.epam.ta.reportportal.demodata.service.DemoDataService;
@@ -52,4 +53,11 @@ class DemoDataController {
 			@AuthenticationPrincipal ReportPortalUser user) {
 		return demoDataService.generate(demoDataRq, projectExtractor.extractProjectDetailsAdmin(user, projectName), user);
 	}
+
+	@PostMapping("/bulk")
+	@ApiOperation(value = "generate launches of the configured size with bulk inserts")
+	public DemoDataRs generateBulk(@PathVariable String projectName, @Validated @RequestBody BulkDemoDataRq bulkDemoDataRq,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		return demoDataService.generateBulk(bulkDemoDataRq, projectExtractor.extractProjectDetailsAdmin(user, projectName), user);
+	}
 }
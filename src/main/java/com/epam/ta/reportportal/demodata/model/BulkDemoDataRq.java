@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.demodata.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+/**
+ * Size of the demo data written by the bulk generator: launches &times; depth &times; items per level &times; logs per step.
+ * Launches generated with the same seed have the same structure, statuses and logs.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkDemoDataRq {
+
+	@Min(1)
+	@Max(1000)
+	@JsonProperty(defaultValue = "10")
+	private int launchesQuantity = 10;
+
+	@Min(1)
+	@Max(5)
+	@JsonProperty(defaultValue = "3")
+	private int depth = 3;
+
+	@Min(1)
+	@Max(50)
+	@JsonProperty(defaultValue = "5")
+	private int itemsPerLevel = 5;
+
+	@Min(0)
+	@Max(100)
+	@JsonProperty(defaultValue = "10")
+	private int logsPerStep = 10;
+
+	@JsonProperty(defaultValue = "true")
+	private boolean attachments = true;
+
+	@JsonProperty
+	private Long seed;
+
+	public int getLaunchesQuantity() {
+		return launchesQuantity;
+	}
+
+	public void setLaunchesQuantity(int launchesQuantity) {
+		this.launchesQuantity = launchesQuantity;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public void setDepth(int depth) {
+		this.depth = depth;
+	}
+
+	public int getItemsPerLevel() {
+		return itemsPerLevel;
+	}
+
+	public void setItemsPerLevel(int itemsPerLevel) {
+		this.itemsPerLevel = itemsPerLevel;
+	}
+
+	public int getLogsPerStep() {
+		return logsPerStep;
+	}
+
+	public void setLogsPerStep(int logsPerStep) {
+		this.logsPerStep = logsPerStep;
+	}
+
+	public boolean isAttachments() {
+		return attachments;
+	}
+
+	public void setAttachments(boolean attachments) {
+		this.attachments = attachments;
+	}
+
+	public Long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(Long seed) {
+		this.seed = seed;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("BulkDemoDataRq{");
+		sb.append("launchesQuantity=").append(launchesQuantity);
+		sb.append(", depth=").append(depth);
+		sb.append(", itemsPerLevel=").append(itemsPerLevel);
+		sb.append(", logsPerStep=").append(logsPerStep);
+		sb.append(", attachments=").append(attachments);
+		sb.append(", seed=").append(seed);
+		sb.append('}');
+		return sb.toString();
+	}
+}
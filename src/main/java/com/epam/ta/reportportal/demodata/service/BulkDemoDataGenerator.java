@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.demodata.service;
+
+import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.dao.UserRepository;
+import com.epam.ta.reportportal.demodata.model.BulkDemoDataRq;
+import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.user.User;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static com.epam.ta.reportportal.demodata.service.Constants.NAME;
+import static com.epam.ta.reportportal.util.MultipartFileUtils.getMultipartFile;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates demo launches of the configured size for the performance tests.
+ * Unlike {@link DefaultDemoDataFacade} items are not reported through the start/finish handlers:
+ * the items tree is built in memory and written by {@link BulkDemoDataWriter} in a single transaction, logs are written by batches.
+ * Launch, which content was not written, is removed along with the saved attachment files.
+ */
+@Service
+class BulkDemoDataGenerator {
+
+	static final long MAX_ITEMS_PER_LAUNCH = 100_000;
+
+	static final long MAX_LOGS_PER_REQUEST = 1_000_000;
+
+	private final DemoDataLaunchService demoDataLaunchService;
+
+	private final BulkDemoDataWriter bulkDemoDataWriter;
+
+	private final AttachmentBinaryDataService attachmentBinaryDataService;
+
+	private final UserRepository userRepository;
+
+	private final TaskExecutor executor;
+
+	public BulkDemoDataGenerator(DemoDataLaunchService demoDataLaunchService, BulkDemoDataWriter bulkDemoDataWriter,
+			AttachmentBinaryDataService attachmentBinaryDataService, UserRepository userRepository,
+			@Qualifier("demoDataTaskExecutor") TaskExecutor executor) {
+		this.demoDataLaunchService = demoDataLaunchService;
+		this.bulkDemoDataWriter = bulkDemoDataWriter;
+		this.attachmentBinaryDataService = attachmentBinaryDataService;
+		this.userRepository = userRepository;
+		this.executor = executor;
+	}
+
+	List<Long> generate(BulkDemoDataRq rq, ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails) {
+		BusinessRule.expect(BulkDemoLaunch.countItems(rq.getDepth(), rq.getItemsPerLevel()), count -> count <= MAX_ITEMS_PER_LAUNCH)
+				.verify(ErrorType.BAD_REQUEST_ERROR,
+						Suppliers.formattedSupplier("Launch should contain not more than '{}' items", MAX_ITEMS_PER_LAUNCH).get()
+				);
+		BusinessRule.expect(rq.getLaunchesQuantity() * BulkDemoLaunch.countMaxLogs(rq.getDepth(), rq.getItemsPerLevel(), rq.getLogsPerStep()),
+				count -> count <= MAX_LOGS_PER_REQUEST
+		).verify(ErrorType.BAD_REQUEST_ERROR,
+				Suppliers.formattedSupplier("Request should generate not more than '{}' logs", MAX_LOGS_PER_REQUEST).get()
+		);
+
+		User creator = userRepository.findById(user.getUserId())
+				.orElseThrow(() -> new ReportPortalException(ErrorType.USER_NOT_FOUND, user.getUsername()));
+
+		List<String> logMessages = ContentUtils.getLogMessages();
+		List<String> errorMessages = ContentUtils.getErrorMessages();
+		Map<Attachment, Long> fileSizes = getFileSizes();
+		long seed = ofNullable(rq.getSeed()).orElseGet(() -> new SplittableRandom().nextLong());
+
+		List<CompletableFuture<Long>> futures = IntStream.range(0, rq.getLaunchesQuantity())
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+					Launch launch = demoDataLaunchService.startLaunch(NAME, i, creator, projectDetails);
+					BulkDemoLaunch data = BulkDemoLaunch.generate(rq,
+							new SplittableRandom(seed + i),
+							logMessages,
+							errorMessages,
+							launch.getStartTime()
+					);
+					List<String> savedFiles = new ArrayList<>();
+					try {
+						bulkDemoDataWriter.write(launch,
+								data,
+								logs -> saveAttachments(logs, projectDetails.getProjectId(), launch.getUuid(), savedFiles),
+								fileSizes
+						);
+					} catch (RuntimeException e) {
+						savedFiles.forEach(attachmentBinaryDataService::delete);
+						demoDataLaunchService.deleteLaunch(launch.getId());
+						throw e;
+					}
+					return launch.getId();
+				}, executor))
+				.collect(toList());
+		return futures.stream().map(CompletableFuture::join).collect(toList());
+	}
+
+	private Map<BulkDemoLaunch.LogEntry, BinaryDataMetaInfo> saveAttachments(List<BulkDemoLaunch.LogEntry> logs, Long projectId,
+			String launchUuid, List<String> savedFiles) {
+		Map<BulkDemoLaunch.LogEntry, BinaryDataMetaInfo> attachments = new HashMap<>();
+		logs.stream().filter(log -> log.getAttachment() != null).forEach(log -> {
+			try {
+				BinaryDataMetaInfo metaInfo = attachmentBinaryDataService.saveAttachment(AttachmentMetaInfo.builder()
+						.withProjectId(projectId)
+						.withLaunchUuid(launchUuid)
+						.withLogUuid(log.getUuid())
+						.build(), getMultipartFile(log.getAttachment().getResource().getPath()))
+						.orElseThrow(() -> new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED));
+				savedFiles.add(metaInfo.getFileId());
+				ofNullable(metaInfo.getThumbnailFileId()).ifPresent(savedFiles::add);
+				attachments.put(log, metaInfo);
+			} catch (IOException e) {
+				throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, "Error generating demo data.");
+			}
+		});
+		return attachments;
+	}
+
+	private static Map<Attachment, Long> getFileSizes() {
+		Map<Attachment, Long> sizes = new EnumMap<>(Attachment.class);
+		for (Attachment attachment : Attachment.values()) {
+			try {
+				sizes.put(attachment, attachment.getResource().contentLength());
+			} catch (IOException e) {
+				throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, "Error generating demo data.");
+			}
+		}
+		return sizes;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.demodata.service;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.collect.Lists;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Writes {@link BulkDemoLaunch} with batch inserts.
+ * Execution statistics are calculated in memory, defect statistics are calculated by the database on the issue insert.
+ * Logs are generated, their attachments saved and written by batches of the steps, so only one batch of the logs is kept in memory.
+ */
+@Service
+class BulkDemoDataWriter {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final String ITEM_ID_SEQUENCE = "test_item_item_id_seq";
+	private static final String LOG_ID_SEQUENCE = "log_id_seq";
+	private static final String ATTACHMENT_ID_SEQUENCE = "attachment_id_seq";
+
+	private static final String NEXT_IDS_QUERY = "SELECT nextval(?::REGCLASS) FROM generate_series(1, ?)";
+
+	private static final String STATISTICS_FIELDS_QUERY = "SELECT sf_id, name FROM statistics_field WHERE name = ANY(?::VARCHAR[])";
+
+	private static final String ISSUE_TYPES_QUERY = "SELECT id, locator FROM issue_type WHERE locator = ANY(?::VARCHAR[])";
+
+	private static final String INSERT_ITEM_QUERY =
+			"INSERT INTO test_item (item_id, uuid, name, code_ref, type, start_time, last_modified, path, unique_id, test_case_id, "
+					+ "test_case_hash, has_children, has_retries, has_stats, parent_id, launch_id) "
+					+ "VALUES (?, ?, ?, ?, ?::TEST_ITEM_TYPE_ENUM, ?, ?, ?::LTREE, ?, ?, ?, ?, FALSE, TRUE, ?, ?)";
+
+	private static final String INSERT_RESULT_QUERY =
+			"INSERT INTO test_item_results (result_id, status, end_time, duration) VALUES (?, ?::STATUS_ENUM, ?, ?)";
+
+	private static final String INSERT_ISSUE_QUERY =
+			"INSERT INTO issue (issue_id, issue_type, auto_analyzed, ignore_analyzer) VALUES (?, ?, FALSE, FALSE)";
+
+	private static final String INSERT_ITEM_STATISTICS_QUERY =
+			"INSERT INTO statistics (s_counter, statistics_field_id, item_id) VALUES (?, ?, ?)";
+
+	private static final String INSERT_LAUNCH_STATISTICS_QUERY =
+			"INSERT INTO statistics (s_counter, statistics_field_id, launch_id) VALUES (?, ?, ?)";
+
+	private static final String INSERT_ATTACHMENT_QUERY =
+			"INSERT INTO attachment (id, file_id, thumbnail_id, content_type, project_id, launch_id, item_id, file_size, creation_date) "
+					+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_LOG_QUERY =
+			"INSERT INTO log (id, uuid, log_time, log_message, item_id, last_modified, log_level, attachment_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String FINISH_LAUNCH_QUERY =
+			"UPDATE launch SET status = ?::STATUS_ENUM, end_time = ?, last_modified = ?, has_retries = FALSE WHERE id = ?";
+
+	/**
+	 * Statistics fields in the order of {@link BulkDemoLaunch.Item} statistics indexes
+	 */
+	private static final List<String> EXECUTION_FIELDS = Arrays.asList(EXECUTIONS_TOTAL,
+			EXECUTIONS_PASSED,
+			EXECUTIONS_FAILED,
+			EXECUTIONS_SKIPPED
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final ProjectStorageService projectStorageService;
+
+	@Autowired
+	public BulkDemoDataWriter(JdbcTemplate jdbcTemplate, ProjectStorageService projectStorageService) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.projectStorageService = projectStorageService;
+	}
+
+	/**
+	 * Writes items, logs and attachments of the launch and finishes it
+	 *
+	 * @param launch          Started launch
+	 * @param data            Generated launch content
+	 * @param attachmentSaver Saves files of the logs attachments of the batch to the data store
+	 * @param fileSizes       Sizes of the saved files
+	 */
+	@Transactional
+	public void write(Launch launch, BulkDemoLaunch data,
+			Function<List<BulkDemoLaunch.LogEntry>, Map<BulkDemoLaunch.LogEntry, BinaryDataMetaInfo>> attachmentSaver,
+			Map<Attachment, Long> fileSizes) {
+		List<BulkDemoLaunch.Item> items = data.getItems();
+		Iterator<Long> itemIds = nextIds(ITEM_ID_SEQUENCE, items.size()).iterator();
+		items.forEach(item -> item.assignId(itemIds.next()));
+
+		batchUpdate(INSERT_ITEM_QUERY, items, item -> {
+			String uniqueId = "auto:" + DigestUtils.md5Hex(launch.getProjectId() + ";" + launch.getName() + ";" + item.getCodeRef());
+			Timestamp startTime = Timestamp.valueOf(item.getStartTime());
+			Long parentId = ofNullable(item.getParent()).map(BulkDemoLaunch.Item::getId).orElse(null);
+			return new Object[] { item.getId(), UUID.randomUUID().toString(), item.getName(), item.getCodeRef(), item.getType().name(),
+					startTime, Timestamp.valueOf(item.getEndTime()), item.getPath(), uniqueId, item.getCodeRef(),
+					item.getCodeRef().hashCode(), item.isHasChildren(), parentId, launch.getId() };
+		});
+		batchUpdate(INSERT_RESULT_QUERY, items, item -> new Object[] { item.getId(), item.getStatus().name(),
+				Timestamp.valueOf(item.getEndTime()),
+				Duration.between(item.getStartTime(), item.getEndTime()).toMillis() / 1000.0 });
+
+		Map<String, Long> fieldIds = selectIds(STATISTICS_FIELDS_QUERY, EXECUTION_FIELDS);
+		List<Object[]> itemStatistics = new ArrayList<>();
+		items.forEach(item -> collectStatistics(item.getStatistics(), item.getId(), fieldIds, itemStatistics));
+		batchUpdate(INSERT_ITEM_STATISTICS_QUERY, itemStatistics);
+		List<Object[]> launchStatistics = new ArrayList<>();
+		collectStatistics(data.getStatistics(), launch.getId(), fieldIds, launchStatistics);
+		batchUpdate(INSERT_LAUNCH_STATISTICS_QUERY, launchStatistics);
+
+		List<BulkDemoLaunch.Item> failed = items.stream().filter(item -> item.getIssueLocator() != null).collect(Collectors.toList());
+		Map<String, Long> issueTypeIds = selectIds(ISSUE_TYPES_QUERY,
+				failed.stream().map(BulkDemoLaunch.Item::getIssueLocator).distinct().collect(Collectors.toList())
+		);
+		batchUpdate(INSERT_ISSUE_QUERY, failed, item -> new Object[] { item.getId(), issueTypeIds.get(item.getIssueLocator()) });
+
+		long attachmentsSize = 0;
+		for (List<BulkDemoLaunch.Item> steps : Lists.partition(data.getSteps(), Math.max(1, BATCH_SIZE / data.getMaxLogsPerStep()))) {
+			List<BulkDemoLaunch.LogEntry> logs = data.generateLogs(steps);
+			attachmentsSize += writeLogs(launch, logs, attachmentSaver.apply(logs), fileSizes);
+		}
+
+		LocalDateTime endTime = data.getEndTime();
+		jdbcTemplate.update(FINISH_LAUNCH_QUERY,
+				data.getStatus().name(),
+				Timestamp.valueOf(endTime),
+				Timestamp.valueOf(endTime),
+				launch.getId()
+		);
+
+		projectStorageService.increase(launch.getProjectId(), attachmentsSize);
+	}
+
+	/**
+	 * @return Size of the written attachments
+	 */
+	private long writeLogs(Launch launch, List<BulkDemoLaunch.LogEntry> logs, Map<BulkDemoLaunch.LogEntry, BinaryDataMetaInfo> attachments,
+			Map<Attachment, Long> fileSizes) {
+		List<BulkDemoLaunch.LogEntry> logsWithAttachments = logs.stream().filter(attachments::containsKey).collect(Collectors.toList());
+		Iterator<Long> attachmentIds = nextIds(ATTACHMENT_ID_SEQUENCE, logsWithAttachments.size()).iterator();
+		Map<BulkDemoLaunch.LogEntry, Long> attachmentIdByLog = new HashMap<>();
+		logsWithAttachments.forEach(log -> attachmentIdByLog.put(log, attachmentIds.next()));
+		batchUpdate(INSERT_ATTACHMENT_QUERY, logsWithAttachments, log -> {
+			BinaryDataMetaInfo metaInfo = attachments.get(log);
+			return new Object[] { attachmentIdByLog.get(log), metaInfo.getFileId(), metaInfo.getThumbnailFileId(),
+					metaInfo.getContentType(), launch.getProjectId(), launch.getId(), log.getItem().getId(),
+					fileSizes.get(log.getAttachment()), Timestamp.valueOf(log.getTime()) };
+		});
+
+		Iterator<Long> logIds = nextIds(LOG_ID_SEQUENCE, logs.size()).iterator();
+		batchUpdate(INSERT_LOG_QUERY, logs, log -> {
+			Timestamp logTime = Timestamp.valueOf(log.getTime());
+			return new Object[] { logIds.next(), log.getUuid(), logTime, log.getMessage(), log.getItem().getId(), logTime,
+					log.getLevel().toInt(), attachmentIdByLog.get(log) };
+		});
+
+		return logsWithAttachments.stream().mapToLong(log -> fileSizes.get(log.getAttachment())).sum();
+	}
+
+	private List<Long> nextIds(String sequence, int count) {
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		return jdbcTemplate.queryForList(NEXT_IDS_QUERY, Long.class, sequence, count);
+	}
+
+	private Map<String, Long> selectIds(String query, Collection<String> names) {
+		Map<String, Long> ids = new HashMap<>();
+		if (!names.isEmpty()) {
+			jdbcTemplate.query(query,
+					(RowCallbackHandler) rs -> ids.put(rs.getString(2), rs.getLong(1)),
+					names.stream().collect(Collectors.joining("\",\"", "{\"", "\"}"))
+			);
+		}
+		return ids;
+	}
+
+	private static void collectStatistics(long[] statistics, Long ownerId, Map<String, Long> fieldIds, List<Object[]> target) {
+		for (int i = 0; i < statistics.length; i++) {
+			if (statistics[i] > 0) {
+				target.add(new Object[] { statistics[i], fieldIds.get(EXECUTION_FIELDS.get(i)), ownerId });
+			}
+		}
+	}
+
+	private <T> void batchUpdate(String query, List<T> entries, Function<T, Object[]> mapper) {
+		batchUpdate(query, entries.stream().map(mapper).collect(Collectors.toList()));
+	}
+
+	private void batchUpdate(String query, List<Object[]> args) {
+		Lists.partition(args, BATCH_SIZE).forEach(batch -> jdbcTemplate.batchUpdate(query, batch));
+	}
+}
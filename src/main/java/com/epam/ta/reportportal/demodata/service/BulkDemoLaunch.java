@@ -0,0 +1,433 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.demodata.service;
+
+import com.epam.ta.reportportal.demodata.model.BulkDemoDataRq;
+import com.epam.ta.reportportal.entity.enums.LogLevel;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static com.epam.ta.reportportal.demodata.service.Constants.PACKAGE;
+import static com.epam.ta.reportportal.entity.enums.LogLevel.*;
+import static com.epam.ta.reportportal.entity.enums.StatusEnum.FAILED;
+import static com.epam.ta.reportportal.entity.enums.StatusEnum.PASSED;
+import static com.epam.ta.reportportal.entity.enums.StatusEnum.SKIPPED;
+import static com.epam.ta.reportportal.entity.enums.TestItemIssueGroup.*;
+import static com.epam.ta.reportportal.entity.enums.TestItemTypeEnum.*;
+
+/**
+ * In-memory tree of the demo launch items, their results and execution statistics.
+ * Tree is built without database access, so the whole launch is written by {@link BulkDemoDataWriter} with batch inserts.
+ * Logs are not kept in the tree: every step stores the seed of its logs, so they are generated batch by batch while written.
+ * Ids of the items, logs and attachments are assigned by the writer.
+ */
+class BulkDemoLaunch {
+
+	private static final int STATUS_PROBABILITY = 15;
+	private static final int ISSUE_PROBABILITY = 25;
+	private static final int BINARY_CONTENT_PROBABILITY = 7;
+	private static final int ERROR_LOGS_COUNT = 2;
+
+	private static final int MIN_STEP_DURATION_MILLIS = 100;
+	private static final int MAX_STEP_DURATION_MILLIS = 3000;
+
+	private final BulkDemoDataRq rq;
+	private final SplittableRandom random;
+	private final List<String> logMessages;
+	private final List<String> errorMessages;
+
+	private final List<Item> items = new ArrayList<>();
+	private final List<Item> steps = new ArrayList<>();
+	private final long[] statistics = new long[Item.STATISTICS_SIZE];
+
+	private LocalDateTime clock;
+	private StatusEnum status = PASSED;
+
+	private BulkDemoLaunch(BulkDemoDataRq rq, SplittableRandom random, List<String> logMessages, List<String> errorMessages,
+			LocalDateTime startTime) {
+		this.rq = rq;
+		this.random = random;
+		this.logMessages = logMessages;
+		this.errorMessages = errorMessages;
+		this.clock = startTime;
+	}
+
+	/**
+	 * @param rq            Size of the launch
+	 * @param random        Source of all the random decisions, so the same seed produces the same launch
+	 * @param logMessages   Messages of the regular logs
+	 * @param errorMessages Messages of the error logs
+	 * @param startTime     Launch start time
+	 * @return Generated launch
+	 */
+	static BulkDemoLaunch generate(BulkDemoDataRq rq, SplittableRandom random, List<String> logMessages, List<String> errorMessages,
+			LocalDateTime startTime) {
+		BulkDemoLaunch launch = new BulkDemoLaunch(rq, random, logMessages, errorMessages, startTime);
+		for (int i = 0; i < rq.getItemsPerLevel(); i++) {
+			Item root = launch.generateItem(null, 0, i);
+			launch.addStatistics(launch.statistics, root.statistics);
+			if (root.status != PASSED) {
+				launch.status = FAILED;
+			}
+		}
+		return launch;
+	}
+
+	/**
+	 * @param depth         Levels of the tree
+	 * @param itemsPerLevel Children of every item
+	 * @return Count of the items in the launch
+	 */
+	static long countItems(int depth, int itemsPerLevel) {
+		long count = 0;
+		long levelSize = 1;
+		for (int level = 0; level < depth; level++) {
+			levelSize *= itemsPerLevel;
+			count += levelSize;
+		}
+		return count;
+	}
+
+	/**
+	 * @param depth         Levels of the tree
+	 * @param itemsPerLevel Children of every item
+	 * @param logsPerStep   Regular logs of every step
+	 * @return Upper bound of the logs in the launch, failed steps have additional error logs
+	 */
+	static long countMaxLogs(int depth, int itemsPerLevel, int logsPerStep) {
+		long steps = 1;
+		for (int level = 0; level < depth; level++) {
+			steps *= itemsPerLevel;
+		}
+		return steps * (logsPerStep + ERROR_LOGS_COUNT);
+	}
+
+	private Item generateItem(Item parent, int level, int index) {
+		TestItemTypeEnum type = level == rq.getDepth() - 1 ? STEP : (level == 0 ? SUITE : TEST);
+		String name = ContentUtils.getNameFromType(type) + (index + 1);
+		Item item = new Item(parent, name, codeRefPrefix(parent) + name, type, clock);
+		items.add(item);
+
+		if (type == STEP) {
+			finishStep(item);
+		} else {
+			item.hasChildren = true;
+			for (int i = 0; i < rq.getItemsPerLevel(); i++) {
+				Item child = generateItem(item, level + 1, i);
+				addStatistics(item.statistics, child.statistics);
+				if (child.status != PASSED) {
+					item.status = FAILED;
+				}
+			}
+			item.endTime = clock;
+		}
+		return item;
+	}
+
+	private static String codeRefPrefix(Item parent) {
+		return parent == null ? PACKAGE : parent.codeRef + ".";
+	}
+
+	private void finishStep(Item step) {
+		step.status = status();
+		step.statistics[Item.TOTAL] = 1;
+		step.statistics[statisticsIndex(step.status)] = 1;
+		if (step.status == FAILED) {
+			step.issueLocator = issueLocator();
+		}
+		step.logsSeed = random.nextLong();
+		steps.add(step);
+
+		clock = clock.plusNanos(random.nextInt(MIN_STEP_DURATION_MILLIS, MAX_STEP_DURATION_MILLIS) * 1_000_000L);
+		step.endTime = clock;
+	}
+
+	/**
+	 * Logs of the steps are generated from the seeds of the steps, so the same steps always get the same logs.
+	 * Log time is spread evenly over the step duration.
+	 *
+	 * @param batch Steps of the launch
+	 * @return Logs of the steps
+	 */
+	List<LogEntry> generateLogs(List<Item> batch) {
+		List<LogEntry> logs = new ArrayList<>();
+		for (Item step : batch) {
+			SplittableRandom stepRandom = new SplittableRandom(step.logsSeed);
+			int errorLogs = step.status == FAILED ? ERROR_LOGS_COUNT : 0;
+			int count = rq.getLogsPerStep() + errorLogs;
+			long durationNanos = Duration.between(step.startTime, step.endTime).toNanos();
+
+			boolean binaryDataAttached = false;
+			for (int i = 0; i < count; i++) {
+				LocalDateTime time = step.startTime.plusNanos(durationNanos * (i + 1) / (count + 1));
+				LogEntry log;
+				if (i < rq.getLogsPerStep()) {
+					log = new LogEntry(step, time, logMessages.get(stepRandom.nextInt(logMessages.size())), infoLevel(stepRandom));
+					if (rq.isAttachments() && !binaryDataAttached && withProbability(stepRandom, BINARY_CONTENT_PROBABILITY)) {
+						log.attachment = attachment(stepRandom);
+						binaryDataAttached = true;
+					}
+				} else {
+					log = new LogEntry(step, time, errorMessages.get(stepRandom.nextInt(errorMessages.size())), errorLevel(stepRandom));
+					if (rq.isAttachments() && withProbability(stepRandom, BINARY_CONTENT_PROBABILITY)) {
+						log.attachment = attachment(stepRandom);
+					}
+				}
+				logs.add(log);
+			}
+		}
+		return logs;
+	}
+
+	private void addStatistics(long[] target, long[] source) {
+		for (int i = 0; i < target.length; i++) {
+			target[i] += source[i];
+		}
+	}
+
+	private static int statisticsIndex(StatusEnum status) {
+		switch (status) {
+			case PASSED:
+				return Item.PASSED_INDEX;
+			case SKIPPED:
+				return Item.SKIPPED_INDEX;
+			default:
+				return Item.FAILED_INDEX;
+		}
+	}
+
+	private StatusEnum status() {
+		if (withProbability(STATUS_PROBABILITY)) {
+			return SKIPPED;
+		} else if (withProbability(2 * STATUS_PROBABILITY)) {
+			return FAILED;
+		}
+		return PASSED;
+	}
+
+	private String issueLocator() {
+		if (withProbability(ISSUE_PROBABILITY)) {
+			return PRODUCT_BUG.getLocator();
+		} else if (withProbability(ISSUE_PROBABILITY)) {
+			return AUTOMATION_BUG.getLocator();
+		} else if (withProbability(ISSUE_PROBABILITY)) {
+			return SYSTEM_ISSUE.getLocator();
+		}
+		return TO_INVESTIGATE.getLocator();
+	}
+
+	private static Attachment attachment(SplittableRandom random) {
+		return Attachment.values()[random.nextInt(Attachment.values().length)];
+	}
+
+	private static LogLevel infoLevel(SplittableRandom random) {
+		int i = random.nextInt(50);
+		if (i < 10) {
+			return DEBUG;
+		} else if (i < 20) {
+			return WARN;
+		} else if (i < 30) {
+			return TRACE;
+		} else {
+			return INFO;
+		}
+	}
+
+	private static LogLevel errorLevel(SplittableRandom random) {
+		return random.nextBoolean() ? ERROR : FATAL;
+	}
+
+	private boolean withProbability(int probability) {
+		return withProbability(random, probability);
+	}
+
+	private static boolean withProbability(SplittableRandom random, int probability) {
+		return random.nextInt(100) < probability;
+	}
+
+	List<Item> getItems() {
+		return Collections.unmodifiableList(items);
+	}
+
+	/**
+	 * @return Steps in the order of the items
+	 */
+	List<Item> getSteps() {
+		return Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * @return Max count of the logs of one step
+	 */
+	int getMaxLogsPerStep() {
+		return rq.getLogsPerStep() + ERROR_LOGS_COUNT;
+	}
+
+	long[] getStatistics() {
+		return statistics.clone();
+	}
+
+	StatusEnum getStatus() {
+		return status;
+	}
+
+	LocalDateTime getEndTime() {
+		return clock;
+	}
+
+	/**
+	 * Test item with its result. Items are listed parent first, so the parent id is known when the child is written.
+	 */
+	static final class Item {
+
+		static final int TOTAL = 0;
+		static final int PASSED_INDEX = 1;
+		static final int FAILED_INDEX = 2;
+		static final int SKIPPED_INDEX = 3;
+		static final int STATISTICS_SIZE = 4;
+
+		private final Item parent;
+		private final String name;
+		private final String codeRef;
+		private final TestItemTypeEnum type;
+		private final LocalDateTime startTime;
+		private final long[] statistics = new long[STATISTICS_SIZE];
+
+		private LocalDateTime endTime;
+		private StatusEnum status = PASSED;
+		private String issueLocator;
+		private boolean hasChildren;
+		private long logsSeed;
+
+		private Long id;
+		private String path;
+
+		private Item(Item parent, String name, String codeRef, TestItemTypeEnum type, LocalDateTime startTime) {
+			this.parent = parent;
+			this.name = name;
+			this.codeRef = codeRef;
+			this.type = type;
+			this.startTime = startTime;
+		}
+
+		void assignId(Long id) {
+			this.id = id;
+			this.path = parent == null ? String.valueOf(id) : parent.path + "." + id;
+		}
+
+		Item getParent() {
+			return parent;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		String getCodeRef() {
+			return codeRef;
+		}
+
+		TestItemTypeEnum getType() {
+			return type;
+		}
+
+		LocalDateTime getStartTime() {
+			return startTime;
+		}
+
+		LocalDateTime getEndTime() {
+			return endTime;
+		}
+
+		StatusEnum getStatus() {
+			return status;
+		}
+
+		String getIssueLocator() {
+			return issueLocator;
+		}
+
+		boolean isHasChildren() {
+			return hasChildren;
+		}
+
+		long[] getStatistics() {
+			return statistics.clone();
+		}
+
+		Long getId() {
+			return id;
+		}
+
+		String getPath() {
+			return path;
+		}
+	}
+
+	/**
+	 * Step log with the optional attachment. Attachment file is saved to the data store before the log is written.
+	 */
+	static final class LogEntry {
+
+		private final String uuid = UUID.randomUUID().toString();
+		private final Item item;
+		private final LocalDateTime time;
+		private final String message;
+		private final LogLevel level;
+
+		private Attachment attachment;
+
+		private LogEntry(Item item, LocalDateTime time, String message, LogLevel level) {
+			this.item = item;
+			this.time = time;
+			this.message = message;
+			this.level = level;
+		}
+
+		String getUuid() {
+			return uuid;
+		}
+
+		Item getItem() {
+			return item;
+		}
+
+		LocalDateTime getTime() {
+			return time;
+		}
+
+		String getMessage() {
+			return message;
+		}
+
+		LogLevel getLevel() {
+			return level;
+		}
+
+		Attachment getAttachment() {
+			return attachment;
+		}
+	}
+}
@@ -102,6 +102,20 @@ final class ContentUtils {
 		return logs.get(random.nextInt(logs.size()));
 	}
 
+	/**
+	 * @return All the demo log messages, loaded once by the bulk generator
+	 */
+	static List<String> getLogMessages() {
+		return readToList("demo/content/demo_logs.txt");
+	}
+
+	/**
+	 * @return All the demo error messages, loaded once by the bulk generator
+	 */
+	static List<String> getErrorMessages() {
+		return IntStream.range(1, ERRORS_COUNT).mapToObj(i -> readToString("demo/errors/" + i + ".txt")).collect(Collectors.toList());
+	}
+
 	static boolean getWithProbability(int probability) {
 		Preconditions.checkArgument(PROBABILITY_RANGE.contains(probability), "%s is not in range [%s]", probability, PROBABILITY_RANGE);
 		return Range.closedOpen(PROBABILITY_RANGE.lowerEndpoint(), probability).contains(random.nextInt(PROBABILITY_RANGE.upperEndpoint()));
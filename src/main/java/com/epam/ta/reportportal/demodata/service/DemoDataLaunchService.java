@@ -121,4 +121,14 @@ public class DemoDataLaunchService {
 
 		launchRepository.save(launch);
 	}
+
+	/**
+	 * Removes the launch, which content was not written
+	 *
+	 * @param launchId Launch id
+	 */
+	@Transactional
+	public void deleteLaunch(Long launchId) {
+		launchRepository.deleteById(launchId);
+	}
 }
@@ -17,9 +17,12 @@
 package com.epam.ta.reportportal.demodata.service;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
+import com.epam.ta.reportportal.demodata.model.BulkDemoDataRq;
 import com.epam.ta.reportportal.demodata.model.DemoDataRq;
 import com.epam.ta.reportportal.demodata.model.DemoDataRs;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -32,21 +35,34 @@ public class DemoDataService {
 
 	private final DemoDashboardsService demoDashboardsService;
 	private final DemoDataFacade demoDataFacade;
+	private final BulkDemoDataGenerator bulkDemoDataGenerator;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
-	public DemoDataService(DemoDashboardsService demoDashboardsService, DemoDataFacade demoDataFacade) {
+	public DemoDataService(DemoDashboardsService demoDashboardsService, DemoDataFacade demoDataFacade,
+			BulkDemoDataGenerator bulkDemoDataGenerator, ApplicationEventPublisher eventPublisher) {
 		this.demoDashboardsService = demoDashboardsService;
 		this.demoDataFacade = demoDataFacade;
+		this.bulkDemoDataGenerator = bulkDemoDataGenerator;
+		this.eventPublisher = eventPublisher;
 	}
 
 	public DemoDataRs generate(DemoDataRq demoDataRq, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
 		DemoDataRs demoDataRs = new DemoDataRs();
 		final List<Long> launchIds = demoDataFacade.generateDemoLaunches(demoDataRq, user, projectDetails);
 		demoDataRs.setLaunchIds(launchIds);
+		eventPublisher.publishEvent(new ProjectDataChangedEvent(projectDetails.getProjectId()));
 		if (demoDataRq.isCreateDashboard()) {
 			demoDashboardsService.generate(user, projectDetails.getProjectId()).ifPresent(it -> demoDataRs.setDashboardId(it.getId()));
 		}
 
 		return demoDataRs;
 	}
-}
\ No newline at end of file
+
+	public DemoDataRs generateBulk(BulkDemoDataRq bulkDemoDataRq, ReportPortalUser.ProjectDetails projectDetails, ReportPortalUser user) {
+		DemoDataRs demoDataRs = new DemoDataRs();
+		demoDataRs.setLaunchIds(bulkDemoDataGenerator.generate(bulkDemoDataRq, user, projectDetails));
+		eventPublisher.publishEvent(new ProjectDataChangedEvent(projectDetails.getProjectId()));
+		return demoDataRs;
+	}
+}
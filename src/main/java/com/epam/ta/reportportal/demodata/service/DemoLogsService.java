@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.demodata.service;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -29,6 +30,7 @@ import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -60,13 +62,16 @@ class DemoLogsService {
 
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	private ProjectStorageService projectStorageService;
+
 	public DemoLogsService(LogRepository logRepository, LaunchRepository launchRepository, TestItemRepository testItemRepository,
-			AttachmentBinaryDataService attachmentBinaryDataService) {
+			AttachmentBinaryDataService attachmentBinaryDataService, ProjectStorageService projectStorageService) {
 		this.random = new SplittableRandom();
 		this.logRepository = logRepository;
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.attachmentBinaryDataService = attachmentBinaryDataService;
+		this.projectStorageService = projectStorageService;
 	}
 
 	List<Log> generateDemoLaunchLogs(String launchUUid, StatusEnum status) {
@@ -160,8 +165,8 @@ class DemoLogsService {
 	private void createAttachment(Long projectId, Long testItemId, Long launchId, Log it, String launchUuid) {
 		Attachment attachment = Attachment.values()[random.nextInt(Attachment.values().length)];
 		try {
-			attachmentBinaryDataService.saveFileAndAttachToLog(
-					getMultipartFile(attachment.getResource().getPath()),
+			MultipartFile file = getMultipartFile(attachment.getResource().getPath());
+			attachmentBinaryDataService.saveFileAndAttachToLog(file,
 					AttachmentMetaInfo.builder()
 							.withProjectId(projectId)
 							.withLaunchId(launchId)
@@ -171,6 +176,7 @@ class DemoLogsService {
 							.withLogUuid(it.getUuid())
 							.build()
 			);
+			projectStorageService.increase(projectId, file.getSize());
 		} catch (IOException e) {
 			throw new ReportPortalException(ErrorType.UNCLASSIFIED_REPORT_PORTAL_ERROR, "Error generating demo data.");
 		}
@@ -15,15 +15,22 @@
  */
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.google.common.collect.AbstractIterator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
+
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
  */
@@ -87,4 +94,57 @@ public class PageUtil {
 		}
 	}
 
+	/**
+	 * Lazily iterates over the entities in the ascending ranges of their ids: every range starts with the next existing id
+	 * after the previous range and contains not more than the range size of ids. Neither offset nor count is queried,
+	 * every entity is fetched once even if the entities are inserted concurrently
+	 * and not more than one range of entities is referenced by the iterator.
+	 *
+	 * @param rangeSize  Max count of the ids in a range
+	 * @param nextIdFunc Min existing id greater than the provided one or {@code null} if there is no such id
+	 * @param getFunc    Entities with ids from the first argument (inclusive) to the second one (exclusive)
+	 * @param idFunc     Id of the entity, entities of a range are sorted by it
+	 * @param <T>        Type of entity
+	 * @return {@link Iterator} over the entities of all the ranges
+	 */
+	public static <T> Iterator<T> iterateByIdRanges(int rangeSize, Function<Long, Long> nextIdFunc, BiFunction<Long, Long, List<T>> getFunc,
+			Function<T, Long> idFunc) {
+		return new AbstractIterator<T>() {
+
+			private long lastId;
+
+			private Iterator<T> content = Collections.emptyIterator();
+
+			@Override
+			protected T computeNext() {
+				while (!content.hasNext()) {
+					Long from = nextIdFunc.apply(lastId);
+					if (from == null) {
+						return endOfData();
+					}
+					long to = from + rangeSize;
+					List<T> range = new ArrayList<>(getFunc.apply(from, to));
+					range.sort(Comparator.comparing(idFunc));
+					content = range.iterator();
+					lastId = to - 1;
+				}
+				return content.next();
+			}
+		};
+	}
+
+	/**
+	 * @param target Target of the filter
+	 * @param from   Min id (inclusive)
+	 * @param to     Max id (exclusive)
+	 * @return {@link Filter} of the entities with ids in the range
+	 */
+	public static Filter idRangeFilter(Class<?> target, long from, long to) {
+		return Filter.builder()
+				.withTarget(target)
+				.withCondition(new FilterCondition(Condition.GREATER_THAN_OR_EQUALS, false, String.valueOf(from), CRITERIA_ID))
+				.withCondition(new FilterCondition(Condition.LOWER_THAN, false, String.valueOf(to), CRITERIA_ID))
+				.build();
+	}
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.job;
+
+import com.epam.ta.reportportal.core.configs.Conditions;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fixes drift of the projects allocated storage counters, e.g. after the reporting messages dropped between
+ * the file saving and the attachment creation
+ */
+@Conditional(Conditions.NotTestCondition.class)
+@Service
+public class ReconcileAllocatedStorageJob {
+
+	private final ProjectStorageService projectStorageService;
+
+	@Autowired
+	public ReconcileAllocatedStorageJob(ProjectStorageService projectStorageService) {
+		this.projectStorageService = projectStorageService;
+	}
+
+	@Scheduled(initialDelayString = "${com.ta.reportportal.job.reconcile.storage.cron}", fixedDelayString = "${com.ta.reportportal.job.reconcile.storage.cron}")
+	public void execute() {
+		projectStorageService.reconcile();
+	}
+}
@@ -1,6 +1,7 @@
 package com.epam.ta.reportportal.job.service.impl;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -45,15 +46,18 @@ public class AttachmentCleanerServiceImpl implements AttachmentCleanerService {
 
 	private final DataStoreService dataStoreService;
 
+	private final ProjectStorageService projectStorageService;
+
 	@Autowired
 	public AttachmentCleanerServiceImpl(@Value("${rp.environment.variable.clean.items.size}") Integer itemPageSize, AttachmentRepository attachmentRepository,
 			LaunchRepository launchRepository, TestItemRepository testItemRepository,
-			@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService) {
+			@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService, ProjectStorageService projectStorageService) {
 		this.itemPageSize = itemPageSize;
 		this.attachmentRepository = attachmentRepository;
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.dataStoreService = dataStoreService;
+		this.projectStorageService = projectStorageService;
 	}
 
 	@Override
@@ -95,6 +99,7 @@ public class AttachmentCleanerServiceImpl implements AttachmentCleanerService {
 
 	private void removeAttachments(Collection<Attachment> attachments, AtomicLong attachmentsCount, AtomicLong thumbnailsCount) {
 		List<Long> attachmentIds = new ArrayList<>();
+		List<Attachment> removed = new ArrayList<>();
 		attachments.forEach(it -> {
 			try {
 				ofNullable(it).ifPresent(attachment -> {
@@ -107,6 +112,7 @@ public class AttachmentCleanerServiceImpl implements AttachmentCleanerService {
 						thumbnailsCount.addAndGet(1L);
 					});
 					attachmentIds.add(attachment.getId());
+					removed.add(attachment);
 				});
 			} catch (Exception ex) {
 				LOGGER.debug("Error has occurred during the attachments removing", ex);
@@ -115,6 +121,7 @@ public class AttachmentCleanerServiceImpl implements AttachmentCleanerService {
 		});
 		if (CollectionUtils.isNotEmpty(attachmentIds)) {
 			attachmentRepository.deleteAllByIds(attachmentIds);
+			projectStorageService.decrease(removed);
 		}
 	}
 }
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.job.service.impl;
 
 import com.epam.reportportal.extension.common.IntegrationTypeProperties;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.plugin.Pf4jPluginBox;
 import com.epam.ta.reportportal.core.plugin.PluginInfo;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
@@ -53,11 +54,14 @@ public class PluginLoaderServiceImpl implements PluginLoaderService {
 
 	private final IntegrationTypeRepository integrationTypeRepository;
 	private final Pf4jPluginBox pluginBox;
+	private final ProjectIntegrationsCache projectIntegrationsCache;
 
 	@Autowired
-	public PluginLoaderServiceImpl(IntegrationTypeRepository integrationTypeRepository, Pf4jPluginBox pluginBox) {
+	public PluginLoaderServiceImpl(IntegrationTypeRepository integrationTypeRepository, Pf4jPluginBox pluginBox,
+			ProjectIntegrationsCache projectIntegrationsCache) {
 		this.integrationTypeRepository = integrationTypeRepository;
 		this.pluginBox = pluginBox;
+		this.projectIntegrationsCache = projectIntegrationsCache;
 	}
 
 	@Override
@@ -102,6 +106,7 @@ public class PluginLoaderServiceImpl implements PluginLoaderService {
 	public void checkAndDeleteIntegrationType(IntegrationType integrationType) {
 		if (isIntegrationTypeAvailableForRemoving(integrationType)) {
 			integrationTypeRepository.deleteById(integrationType.getId());
+			projectIntegrationsCache.invalidateAll();
 		}
 	}
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.plugin;
+
+import com.epam.reportportal.extension.common.ExtensionPoint;
+import com.epam.ta.reportportal.core.plugin.Plugin;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.tuple.Pair;
+import org.pf4j.PluginManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable snapshot of the loaded plugins and their extensions.
+ * Snapshot is created from the {@link PluginManager} state on plugin load, unload and upload,
+ * so plugin lookups don't scan extension classes of all the plugins on every request.
+ */
+final class ExtensionRegistry {
+
+	private static final Map<String, ExtensionPoint> TYPES_BY_NAME = Arrays.stream(ExtensionPoint.values())
+			.collect(ImmutableMap.toImmutableMap(it -> it.name().toUpperCase(), it -> it));
+
+	private final PluginManager pluginManager;
+
+	/**
+	 * Lock of the {@link PluginManager} changes, extensions are looked up under it
+	 */
+	private final Object pluginManagerLock;
+
+	private final List<Plugin> plugins;
+
+	/**
+	 * {@link ExtensionPoint} - first plugin with the extension of this type
+	 */
+	private final Map<ExtensionPoint, Plugin> pluginsByType;
+
+	/**
+	 * (plugin id, extension class) - extension instance resolved on the first request
+	 */
+	private final ConcurrentMap<Pair<String, Class<?>>, Optional<?>> instances = new ConcurrentHashMap<>();
+
+	private ExtensionRegistry(PluginManager pluginManager, Object pluginManagerLock, List<Plugin> plugins) {
+		this.pluginManager = pluginManager;
+		this.pluginManagerLock = pluginManagerLock;
+		this.plugins = plugins;
+		Map<ExtensionPoint, Plugin> byType = new EnumMap<>(ExtensionPoint.class);
+		plugins.forEach(plugin -> byType.putIfAbsent(plugin.getType(), plugin));
+		this.pluginsByType = Collections.unmodifiableMap(byType);
+	}
+
+	/**
+	 * @param pluginManager     {@link PluginManager}
+	 * @param pluginManagerLock Lock of the {@link PluginManager} changes, should be held by the caller
+	 * @return {@link ExtensionRegistry} of the plugins loaded to the {@link PluginManager}
+	 */
+	static ExtensionRegistry of(PluginManager pluginManager, Object pluginManagerLock) {
+		ImmutableList.Builder<Plugin> plugins = ImmutableList.builder();
+		pluginManager.getPlugins()
+				.forEach(plugin -> pluginManager.getExtensionClasses(plugin.getPluginId())
+						.stream()
+						.map(ExtensionPoint::findByExtension)
+						.filter(Optional::isPresent)
+						.forEach(it -> plugins.add(new Plugin(plugin.getPluginId(), it.get()))));
+		return new ExtensionRegistry(pluginManager, pluginManagerLock, plugins.build());
+	}
+
+	List<Plugin> getPlugins() {
+		return plugins;
+	}
+
+	Optional<Plugin> getPlugin(String type) {
+		return ofNullable(type).map(it -> TYPES_BY_NAME.get(it.toUpperCase())).map(pluginsByType::get);
+	}
+
+	/**
+	 * @param pluginId  Plugin id or 'null' to search the extension among all the plugins
+	 * @param extension Extension class
+	 * @param <T>       Extension type
+	 * @return Extension instance
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Optional<T> getInstance(String pluginId, Class<T> extension) {
+		Pair<String, Class<?>> key = Pair.of(pluginId, extension);
+		Optional<?> instance = instances.get(key);
+		if (instance == null) {
+			//extension creation may request other extensions, so it's resolved outside of the map computation
+			synchronized (pluginManagerLock) {
+				instance = ofNullable(pluginId).map(id -> pluginManager.getExtensions(extension, id))
+						.orElseGet(() -> pluginManager.getExtensions(extension))
+						.stream()
+						.findFirst();
+			}
+			instances.putIfAbsent(key, instance);
+		}
+		return (Optional<T>) instance;
+	}
+}
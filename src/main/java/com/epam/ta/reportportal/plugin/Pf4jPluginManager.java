@@ -17,7 +17,6 @@
 package com.epam.ta.reportportal.plugin;
 
 import com.epam.reportportal.extension.ReportPortalExtensionPoint;
-import com.epam.reportportal.extension.common.ExtensionPoint;
 import com.epam.reportportal.extension.common.IntegrationTypeProperties;
 import com.epam.reportportal.extension.event.PluginEvent;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
@@ -37,6 +36,8 @@ import com.epam.ta.reportportal.ws.converter.builders.IntegrationTypeBuilder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -58,7 +59,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
@@ -93,9 +94,29 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 
 	private final ApplicationEventPublisher applicationEventPublisher;
 
+	private final int startUpThreads;
+	private final boolean lazyLoading;
+
+	/**
+	 * Enabled plugins which loading is deferred until the first request of the plugin (pluginId - plugin details)
+	 */
+	private final Map<String, IntegrationTypeDetails> deferredPlugins = new ConcurrentHashMap<>();
+
+	/**
+	 * {@link PluginManager} is not thread-safe, so plugins load, start, unload and delete, extension lookups
+	 * and creation of the {@link #registry} are serialized
+	 */
+	private final Object pluginManagerLock = new Object();
+
+	/**
+	 * Snapshot of the loaded plugins, reset on every plugin load, unload and upload and rebuilt on the next request
+	 */
+	private volatile ExtensionRegistry registry;
+
 	public Pf4jPluginManager(String pluginsDir, String pluginsTempPath, String resourcesDir, PluginLoader pluginLoader,
 			IntegrationTypeRepository integrationTypeRepository, PluginManager pluginManager,
-			AutowireCapableBeanFactory autowireCapableBeanFactory, ApplicationEventPublisher applicationEventPublisher) throws IOException {
+			AutowireCapableBeanFactory autowireCapableBeanFactory, ApplicationEventPublisher applicationEventPublisher, int startUpThreads,
+			boolean lazyLoading) throws IOException {
 		this.pluginsDir = pluginsDir;
 		Files.createDirectories(Paths.get(this.pluginsDir));
 		this.resourcesDir = resourcesDir;
@@ -111,108 +132,204 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 				.expireAfterWrite(PLUGIN_LIVE_TIME, TimeUnit.MINUTES)
 				.build();
 		this.pluginManager = pluginManager;
+		this.startUpThreads = Math.max(1, startUpThreads);
+		this.lazyLoading = lazyLoading;
 	}
 
 	@Override
 	public List<Plugin> getPlugins() {
-		return this.pluginManager.getPlugins()
-				.stream()
-				.flatMap(plugin -> pluginManager.getExtensionClasses(plugin.getPluginId())
-						.stream()
-						.map(ExtensionPoint::findByExtension)
-						.filter(Optional::isPresent)
-						.map(it -> new Plugin(plugin.getPluginId(), it.get())))
-				.collect(Collectors.toList());
+		loadDeferredPlugins();
+		return getRegistry().getPlugins();
 	}
 
 	@Override
 	public Optional<Plugin> getPlugin(String type) {
-		return getPlugins().stream().filter(p -> p.getType().name().equalsIgnoreCase(type)).findAny();
+		loadDeferredPlugins();
+		return getRegistry().getPlugin(type);
 	}
 
 	@Override
 	public <T> Optional<T> getInstance(String name, Class<T> extension) {
-		return pluginManager.getExtensions(extension, name).stream().findFirst();
+		loadDeferredPlugin(name);
+		return getRegistry().getInstance(name, extension);
 	}
 
 	@Override
 	public <T> Optional<T> getInstance(Class<T> extension) {
-		return pluginManager.getExtensions(extension).stream().findFirst();
+		loadDeferredPlugins();
+		return getRegistry().getInstance(null, extension);
+	}
+
+	private ExtensionRegistry getRegistry() {
+		ExtensionRegistry current = registry;
+		if (current == null) {
+			synchronized (pluginManagerLock) {
+				current = registry;
+				if (current == null) {
+					current = ExtensionRegistry.of(pluginManager, pluginManagerLock);
+					registry = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private void resetRegistry() {
+		synchronized (pluginManagerLock) {
+			registry = null;
+		}
 	}
 
+	/**
+	 * Loads and starts all enabled plugins of the application.
+	 * Plugin files and resources are prepared in parallel, failure of one plugin doesn't affect the others.
+	 * If lazy loading is enabled plugins are only registered and loaded on the first request.
+	 */
 	@Override
 	public void startUp() {
-		// load and start all enabled plugins of application
-		integrationTypeRepository.findAll()
+		List<IntegrationType> enabledPlugins = integrationTypeRepository.findAll()
 				.stream()
 				.filter(IntegrationType::isEnabled)
-				.forEach(integrationType -> ofNullable(integrationType.getDetails()).ifPresent(integrationTypeDetails -> {
-					try {
-						loadPlugin(integrationType.getName(), integrationTypeDetails);
-					} catch (Exception ex) {
-						LOGGER.error("Unable to load plugin '{}'", integrationType.getName());
-					}
-				}));
+				.filter(it -> it.getDetails() != null)
+				.collect(Collectors.toList());
 
+		if (lazyLoading) {
+			enabledPlugins.forEach(it -> deferredPlugins.put(it.getName(), it.getDetails()));
+			LOGGER.info("Loading of {} plugins is deferred until the first request", deferredPlugins.size());
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(startUpThreads, Math.max(1, enabledPlugins.size())),
+				new ThreadFactoryBuilder().setNameFormat("plugin-loader-%d").setDaemon(true).build()
+		);
+		try {
+			CompletableFuture.allOf(enabledPlugins.stream()
+					.map(integrationType -> CompletableFuture.runAsync(() -> loadPluginSafely(integrationType.getName(),
+							integrationType.getDetails()
+					), executor))
+					.toArray(CompletableFuture[]::new)).join();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private void loadPluginSafely(String pluginId, IntegrationTypeDetails integrationTypeDetails) {
+		try {
+			loadPlugin(pluginId, integrationTypeDetails);
+		} catch (Exception ex) {
+			LOGGER.error("Unable to load plugin '{}'", pluginId, ex);
+		}
+	}
+
+	/**
+	 * Deferred plugin is loaded by the first requesting thread under the {@link #pluginManagerLock},
+	 * so other threads don't look up the extensions while the plugin is loaded
+	 *
+	 * @param pluginId Plugin id
+	 */
+	private void loadDeferredPlugin(String pluginId) {
+		if (!deferredPlugins.isEmpty() && deferredPlugins.containsKey(pluginId)) {
+			synchronized (pluginManagerLock) {
+				ofNullable(deferredPlugins.remove(pluginId)).ifPresent(details -> loadPluginSafely(pluginId, details));
+			}
+		}
+	}
+
+	private void loadDeferredPlugins() {
+		if (!deferredPlugins.isEmpty()) {
+			Lists.newArrayList(deferredPlugins.keySet()).forEach(this::loadDeferredPlugin);
+		}
 	}
 
 	@Override
 	public void shutDown() {
-		// stop and unload all plugins
-		pluginManager.stopPlugins();
-		pluginManager.getPlugins().forEach(p -> pluginManager.unloadPlugin(p.getPluginId()));
+		synchronized (pluginManagerLock) {
+			// stop and unload all plugins
+			pluginManager.stopPlugins();
+			pluginManager.getPlugins().forEach(p -> pluginManager.unloadPlugin(p.getPluginId()));
+			resetRegistry();
+		}
 	}
 
 	@Override
 	public PluginState startUpPlugin(String pluginId) {
-
-		PluginWrapper pluginWrapper = ofNullable(pluginManager.getPlugin(pluginId)).orElseThrow(() -> new ReportPortalException(ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
-				"Plugin not found: " + pluginId
-		));
-
-		return pluginManager.startPlugin(pluginWrapper.getPluginId());
+		synchronized (pluginManagerLock) {
+			PluginWrapper pluginWrapper = ofNullable(pluginManager.getPlugin(pluginId)).orElseThrow(() -> new ReportPortalException(
+					ErrorType.UNABLE_INTERACT_WITH_INTEGRATION,
+					"Plugin not found: " + pluginId
+			));
+
+			PluginState pluginState = pluginManager.startPlugin(pluginWrapper.getPluginId());
+			resetRegistry();
+			return pluginState;
+		}
 	}
 
 	@Override
 	public boolean loadPlugin(String pluginId, IntegrationTypeDetails integrationTypeDetails) {
-		return ofNullable(integrationTypeDetails.getDetails()).map(details -> {
-			String fileName = IntegrationTypeProperties.FILE_NAME.getValue(details)
+		deferredPlugins.remove(pluginId);
+		return ofNullable(integrationTypeDetails.getDetails()).map(details -> startPlugin(pluginId, preparePluginFile(pluginId, details)))
+				.orElse(Boolean.FALSE);
+	}
+
+	/**
+	 * Copies the plugin file from the {@link DataStore} if it is absent in the plugins directory and extracts the plugin resources.
+	 * Files of different plugins don't intersect, so plugins can be prepared concurrently
+	 *
+	 * @param pluginId Plugin id
+	 * @param details  Plugin details
+	 * @return {@link Path} to the plugin file
+	 */
+	private Path preparePluginFile(String pluginId, Map<String, Object> details) {
+		String fileName = IntegrationTypeProperties.FILE_NAME.getValue(details)
+				.map(String::valueOf)
+				.orElseThrow(() -> new ReportPortalException(ErrorType.PLUGIN_UPLOAD_ERROR,
+						Suppliers.formattedSupplier("'File name' property of the plugin - '{}' is not specified", pluginId).get()
+				));
+
+		Path pluginPath = Paths.get(pluginsDir, fileName);
+		if (Files.notExists(pluginPath)) {
+			String fileId = IntegrationTypeProperties.FILE_ID.getValue(details)
 					.map(String::valueOf)
 					.orElseThrow(() -> new ReportPortalException(ErrorType.PLUGIN_UPLOAD_ERROR,
-							Suppliers.formattedSupplier("'File name' property of the plugin - '{}' is not specified", pluginId).get()
+							Suppliers.formattedSupplier("'File id' property of the plugin - '{}' is not specified", pluginId).get()
 					));
-
-			Path pluginPath = Paths.get(pluginsDir, fileName);
-			if (Files.notExists(pluginPath)) {
-				String fileId = IntegrationTypeProperties.FILE_ID.getValue(details)
-						.map(String::valueOf)
-						.orElseThrow(() -> new ReportPortalException(ErrorType.PLUGIN_UPLOAD_ERROR,
-								Suppliers.formattedSupplier("'File id' property of the plugin - '{}' is not specified", pluginId).get()
-						));
-				try {
-					pluginLoader.copyFromDataStore(fileId, pluginPath, Paths.get(resourcesDir, pluginId));
-				} catch (IOException e) {
-					throw new ReportPortalException(ErrorType.PLUGIN_UPLOAD_ERROR,
-							Suppliers.formattedSupplier("Unable to load plugin - '{}' from the data store", pluginId).get()
-					);
-				}
-			} else {
-				copyPluginResources(pluginPath, pluginId);
+			try {
+				pluginLoader.copyFromDataStore(fileId, pluginPath, Paths.get(resourcesDir, pluginId));
+			} catch (IOException e) {
+				throw new ReportPortalException(ErrorType.PLUGIN_UPLOAD_ERROR,
+						Suppliers.formattedSupplier("Unable to load plugin - '{}' from the data store", pluginId).get()
+				);
 			}
+		} else {
+			copyPluginResources(pluginPath, pluginId);
+		}
+		return pluginPath;
+	}
 
-			return ofNullable(pluginManager.loadPlugin(pluginPath)).map(id -> {
-				if (PluginState.STARTED == pluginManager.startPlugin(pluginId)) {
-					Optional<org.pf4j.ExtensionPoint> extensionPoint = this.getInstance(pluginId, org.pf4j.ExtensionPoint.class);
-					extensionPoint.ifPresent(extension -> LOGGER.info(Suppliers.formattedSupplier("Plugin - '{}' initialized.", pluginId)
-							.get()));
-					applicationEventPublisher.publishEvent(new PluginEvent(pluginId, LOAD_KEY));
-					return true;
-				} else {
-					return false;
-				}
-			}).orElse(Boolean.FALSE);
-		}).orElse(Boolean.FALSE);
+	private boolean startPlugin(String pluginId, Path pluginPath) {
+		boolean started = loadAndStartPlugin(pluginId, pluginPath);
+		resetRegistry();
+		if (started) {
+			LOGGER.info(Suppliers.formattedSupplier("Plugin - '{}' initialized.", pluginId).get());
+			applicationEventPublisher.publishEvent(new PluginEvent(pluginId, LOAD_KEY));
+			return true;
+		}
+		return false;
+	}
 
+	/**
+	 * Plugin files are prepared concurrently, only loading and starting of the plugins is serialized
+	 *
+	 * @param pluginId   Plugin id
+	 * @param pluginPath {@link Path} to the plugin file
+	 * @return 'true' if the plugin was loaded and started, else 'false'
+	 */
+	private boolean loadAndStartPlugin(String pluginId, Path pluginPath) {
+		synchronized (pluginManagerLock) {
+			return ofNullable(pluginManager.loadPlugin(pluginPath)).map(id -> PluginState.STARTED == pluginManager.startPlugin(pluginId))
+					.orElse(Boolean.FALSE);
+		}
 	}
 
 	private void copyPluginResources(Path pluginPath, String pluginId) {
@@ -227,9 +344,14 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 
 	@Override
 	public boolean unloadPlugin(IntegrationType integrationType) {
-		applicationEventPublisher.publishEvent(new PluginEvent(integrationType.getName(), UNLOAD_KEY));
-		destroyDependency(integrationType.getName());
-		return pluginManager.unloadPlugin(integrationType.getName());
+		synchronized (pluginManagerLock) {
+			deferredPlugins.remove(integrationType.getName());
+			applicationEventPublisher.publishEvent(new PluginEvent(integrationType.getName(), UNLOAD_KEY));
+			destroyDependency(integrationType.getName());
+			boolean unloaded = pluginManager.unloadPlugin(integrationType.getName());
+			resetRegistry();
+			return unloaded;
+		}
 	}
 
 	@Override
@@ -240,26 +362,35 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 	@Override
 	public boolean deletePlugin(PluginWrapper pluginWrapper) {
 		return integrationTypeRepository.findByName(pluginWrapper.getPluginId()).map(this::deletePlugin).orElseGet(() -> {
-			applicationEventPublisher.publishEvent(new PluginEvent(pluginWrapper.getPluginId(), UNLOAD_KEY));
-			deletePluginResources(Paths.get(resourcesDir, pluginWrapper.getPluginId()).toString());
-			destroyDependency(pluginWrapper.getPluginId());
-			return pluginManager.deletePlugin(pluginWrapper.getPluginId());
+			synchronized (pluginManagerLock) {
+				applicationEventPublisher.publishEvent(new PluginEvent(pluginWrapper.getPluginId(), UNLOAD_KEY));
+				deletePluginResources(Paths.get(resourcesDir, pluginWrapper.getPluginId()).toString());
+				destroyDependency(pluginWrapper.getPluginId());
+				boolean deleted = pluginManager.deletePlugin(pluginWrapper.getPluginId());
+				resetRegistry();
+				return deleted;
+			}
 		});
 	}
 
 	private boolean deletePlugin(IntegrationType integrationType) {
+		deferredPlugins.remove(integrationType.getName());
 		Optional<Map<String, Object>> pluginData = ofNullable(integrationType.getDetails()).map(IntegrationTypeDetails::getDetails);
 		pluginData.ifPresent(this::deletePluginResources);
 
 		applicationEventPublisher.publishEvent(new PluginEvent(integrationType.getName(), UNLOAD_KEY));
 
-		boolean pluginRemoved = ofNullable(pluginManager.getPlugin(integrationType.getName())).map(pluginWrapper -> {
-			destroyDependency(pluginWrapper.getPluginId());
-			if (integrationType.isEnabled()) {
-				return pluginManager.deletePlugin(integrationType.getName());
-			}
-			return true;
-		}).orElse(Boolean.TRUE);
+		boolean pluginRemoved;
+		synchronized (pluginManagerLock) {
+			pluginRemoved = ofNullable(pluginManager.getPlugin(integrationType.getName())).map(pluginWrapper -> {
+				destroyDependency(pluginWrapper.getPluginId());
+				if (integrationType.isEnabled()) {
+					return pluginManager.deletePlugin(integrationType.getName());
+				}
+				return true;
+			}).orElse(Boolean.TRUE);
+			resetRegistry();
+		}
 
 		boolean pluginFileRemoved = pluginData.map(this::deletePluginFile).orElse(Boolean.TRUE);
 
@@ -302,7 +433,10 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 
 	@Override
 	public Optional<PluginWrapper> getPluginById(String id) {
-		return ofNullable(pluginManager.getPlugin(id));
+		loadDeferredPlugin(id);
+		synchronized (pluginManagerLock) {
+			return ofNullable(pluginManager.getPlugin(id));
+		}
 	}
 
 	@Override
@@ -312,6 +446,17 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 
 	@Override
 	public IntegrationType uploadPlugin(final String uploadedPluginName, final InputStream fileStream) {
+		//the previous plugin is unloaded and the new one is loaded, started and validated step by step, so the whole upload is serialized
+		synchronized (pluginManagerLock) {
+			try {
+				return upload(uploadedPluginName, fileStream);
+			} finally {
+				resetRegistry();
+			}
+		}
+	}
+
+	private IntegrationType upload(final String uploadedPluginName, final InputStream fileStream) {
 		PluginInfo newPluginInfo = resolvePluginInfo(uploadedPluginName, fileStream);
 		IntegrationTypeDetails pluginDetails = pluginLoader.resolvePluginDetails(newPluginInfo);
 
@@ -438,7 +583,9 @@ public class Pf4jPluginManager implements Pf4jPluginBox {
 
 	private void unloadPreviousPlugin(PluginWrapper pluginWrapper) {
 		destroyDependency(pluginWrapper.getPluginId());
-		if (!pluginManager.unloadPlugin(pluginWrapper.getPluginId())) {
+		boolean unloaded = pluginManager.unloadPlugin(pluginWrapper.getPluginId());
+		resetRegistry();
+		if (!unloaded) {
 			throw new ReportPortalException(ErrorType.PLUGIN_REMOVE_ERROR,
 					Suppliers.formattedSupplier("Failed to stop old plugin with id = '{}'", pluginWrapper.getPluginId()).get()
 			);
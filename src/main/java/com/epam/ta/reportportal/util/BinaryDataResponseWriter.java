@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.core.file.StoredFile;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes {@link StoredFile} to the response supporting conditional and partial requests:
+ * the id of the stored content is used as a strong ETag, 'If-None-Match' with the same ETag gets '304 Not Modified'
+ * without loading the content and a single byte range of the content with the known length is served with '206 Partial Content'.
+ * Length is taken from the stored file metadata, never from the stream. Content is streamed through a bounded buffer.
+ */
+public final class BinaryDataResponseWriter {
+
+	/**
+	 * Stored attachments are never changed, so they are cached by the browser without revalidation
+	 */
+	public static final String IMMUTABLE = "private, max-age=31536000, immutable";
+
+	/**
+	 * Content is revalidated with the ETag on every request, e.g. user photo that is changed under the same url
+	 */
+	public static final String REVALIDATE = "private, no-cache";
+
+	private static final String BYTES = "bytes";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private BinaryDataResponseWriter() {
+		//static only
+	}
+
+	/**
+	 * @param request      Request
+	 * @param response     Response
+	 * @param storedFile   Stored data
+	 * @param cacheControl Value of the 'Cache-Control' header
+	 */
+	public static void write(HttpServletRequest request, HttpServletResponse response, StoredFile storedFile, String cacheControl) {
+		String etag = "\"" + DigestUtils.md5Hex(storedFile.getContentId()) + "\"";
+		if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+			response.setHeader(HttpHeaders.ETAG, etag);
+			response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+			response.setStatus(HttpStatus.NOT_MODIFIED.value());
+			return;
+		}
+
+		BinaryData binaryData = storedFile.loadBinaryData();
+		if (binaryData == null || binaryData.getInputStream() == null) {
+			response.setStatus(HttpStatus.NO_CONTENT.value());
+			return;
+		}
+		try (InputStream inputStream = binaryData.getInputStream()) {
+			response.setHeader(HttpHeaders.ETAG, etag);
+			response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+			response.setContentType(binaryData.getContentType());
+			Long length = storedFile.getLength();
+			if (length == null) {
+				IOUtils.copyLarge(inputStream, response.getOutputStream(), new byte[BUFFER_SIZE]);
+				return;
+			}
+			response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+
+			HttpRange range = getRange(request, etag);
+			if (range == null) {
+				response.setContentLengthLong(length);
+				IOUtils.copyLarge(inputStream, response.getOutputStream(), new byte[BUFFER_SIZE]);
+				return;
+			}
+
+			long start;
+			long end;
+			try {
+				start = range.getRangeStart(length);
+				end = range.getRangeEnd(length);
+			} catch (IllegalArgumentException e) {
+				start = length;
+				end = length - 1;
+			}
+			if (start >= length || start > end) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " */" + length);
+				response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				return;
+			}
+			response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+			response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + length);
+			response.setContentLengthLong(end - start + 1);
+			IOUtils.copyLarge(inputStream, response.getOutputStream(), start, end - start + 1, new byte[BUFFER_SIZE]);
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
+		}
+	}
+
+	private static boolean isNotModified(String ifNoneMatch, String etag) {
+		return ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+				.map(String::trim)
+				.anyMatch(it -> "*".equals(it) || etag.equals(it) || ("W/" + etag).equals(it));
+	}
+
+	/**
+	 * Range is ignored and the whole content is served if the request contains multiple ranges,
+	 * invalid 'Range' header or 'If-Range' that doesn't match the ETag
+	 */
+	private static HttpRange getRange(HttpServletRequest request, String etag) {
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader == null) {
+			return null;
+		}
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange != null && !etag.equals(ifRange.trim())) {
+			return null;
+		}
+		try {
+			List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+			return ranges.size() == 1 ? ranges.get(0) : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Eviction of the entries of the in-memory caches filled outside of the updating transaction
+ */
+public class CacheEvictionUtils {
+
+	private CacheEvictionUtils() {
+		//static only
+	}
+
+	/**
+	 * Runs the eviction immediately. If called inside of the transaction, the eviction runs once more after the transaction completion,
+	 * so concurrent readers don't keep the state that is not committed yet.
+	 *
+	 * @param eviction Removal of the cache entries
+	 */
+	public static void evictNowAndAfterCompletion(Runnable eviction) {
+		eviction.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Runs the action after the commit of the current transaction or immediately if there is no transaction,
+	 * e.g. to notify the other instances about the change once it is visible to them.
+	 *
+	 * @param action Action to run
+	 */
+	public static void runAfterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.ws.rabbit.MessageHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.core.configs.rabbit.ReportingConfiguration.QUEUE_PREFIX;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Metrics of the asynchronous reporting pipeline, tagged by the request type and the reporting queue:
+ * <ul>
+ * <li>{@value PUBLISH_TIMER} - publishing of the request to the reporting exchange</li>
+ * <li>{@value DWELL_TIMER} - time from the publishing till the consumption of the request,
+ * includes the retry delays of the retried requests</li>
+ * <li>{@value HANDLING_TIMER} - processing of the request by the listener, tagged by the outcome</li>
+ * <li>{@value RETRY_COUNTER} - failed requests dead-lettered to the retry queues</li>
+ * <li>{@value DLQ_COUNTER} - requests dropped to the dead letter queue after the max retries</li>
+ * </ul>
+ * Metrics are exposed by the actuator 'metrics' and 'prometheus' endpoints. Percentile histograms are disabled by default
+ * and may be enabled with 'management.metrics.distribution.percentiles-histogram.rp.reporting=true'.
+ */
+@Component
+public class ReportingMetrics {
+
+	public static final String PUBLISH_TIMER = "rp.reporting.publish";
+	public static final String DWELL_TIMER = "rp.reporting.dwell";
+	public static final String HANDLING_TIMER = "rp.reporting.handling";
+	public static final String RETRY_COUNTER = "rp.reporting.retry";
+	public static final String DLQ_COUNTER = "rp.reporting.dlq";
+
+	private static final String TYPE_TAG = "type";
+	private static final String QUEUE_TAG = "queue";
+	private static final String RETRIED_TAG = "retried";
+	private static final String OUTCOME_TAG = "outcome";
+
+	private static final String UNKNOWN = "UNKNOWN";
+
+	public enum Outcome {
+		/**
+		 * Request is processed
+		 */
+		SUCCESS,
+		/**
+		 * Request is failed and dead-lettered to the retry queue
+		 */
+		RETRY,
+		/**
+		 * Request exceeded the max retries and is sent to the dead letter queue
+		 */
+		DLQ
+	}
+
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public ReportingMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Sets the publish time header used to calculate the dwell time of the request in the queue.
+	 * The header is kept on dead-lettering, so the dwell time of the retried request is counted from the first publishing.
+	 *
+	 * @param message Request message
+	 */
+	public void markPublished(Message message) {
+		message.getMessageProperties().getHeaders().put(MessageHeaders.PUBLISH_TIME, System.currentTimeMillis());
+	}
+
+	/**
+	 * @param message    Published request message
+	 * @param routingKey Routing key of the reporting queue
+	 * @param nanos      Publishing time
+	 */
+	public void recordPublish(Message message, String routingKey, long nanos) {
+		Timer.builder(PUBLISH_TIMER)
+				.tags(TYPE_TAG, getType(message), QUEUE_TAG, QUEUE_PREFIX + "." + routingKey)
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the dwell time of the consumed request, requests without the publish time header are skipped
+	 *
+	 * @param message Consumed request message
+	 */
+	public void recordReceived(Message message) {
+		Map<String, Object> headers = message.getMessageProperties().getHeaders();
+		Object publishTime = headers.get(MessageHeaders.PUBLISH_TIME);
+		if (publishTime instanceof Number) {
+			long dwellTime = Math.max(0, System.currentTimeMillis() - ((Number) publishTime).longValue());
+			Timer.builder(DWELL_TIMER)
+					.tags(TYPE_TAG,
+							getType(message),
+							QUEUE_TAG,
+							getQueue(message),
+							RETRIED_TAG,
+							String.valueOf(headers.containsKey(MessageHeaders.XD_HEADER))
+					)
+					.register(meterRegistry)
+					.record(dwellTime, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public Timer.Sample startHandling() {
+		return Timer.start(meterRegistry);
+	}
+
+	/**
+	 * @param sample  Sample started before the request processing
+	 * @param message Consumed request message
+	 * @param outcome Result of the request processing
+	 */
+	public void recordHandled(Timer.Sample sample, Message message, Outcome outcome) {
+		String type = getType(message);
+		String queue = getQueue(message);
+		sample.stop(Timer.builder(HANDLING_TIMER)
+				.tags(TYPE_TAG, type, QUEUE_TAG, queue, OUTCOME_TAG, outcome.name().toLowerCase())
+				.register(meterRegistry));
+		if (outcome == Outcome.RETRY) {
+			Counter.builder(RETRY_COUNTER).tags(TYPE_TAG, type, QUEUE_TAG, queue).register(meterRegistry).increment();
+		} else if (outcome == Outcome.DLQ) {
+			Counter.builder(DLQ_COUNTER).tags(TYPE_TAG, type, QUEUE_TAG, queue).register(meterRegistry).increment();
+		}
+	}
+
+	private static String getType(Message message) {
+		return ofNullable(message.getMessageProperties().getHeaders().get(MessageHeaders.REQUEST_TYPE)).map(String::valueOf)
+				.orElse(UNKNOWN);
+	}
+
+	private static String getQueue(Message message) {
+		return ofNullable(message.getMessageProperties().getConsumerQueue()).orElse(UNKNOWN);
+	}
+}
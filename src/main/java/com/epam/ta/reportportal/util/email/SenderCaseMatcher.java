@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util.email;
+
+import com.epam.ta.reportportal.entity.enums.SendCase;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.email.SenderCase;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+
+import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable, precompiled representation of project {@link SenderCase} rules.
+ * Rules are indexed by launch name, launch attribute key/value and {@link SendCase} threshold,
+ * so a finished launch is evaluated against all the rules without rebuilding them.
+ */
+public final class SenderCaseMatcher {
+
+	/**
+	 * Sender case ids the matcher was compiled from. Sender cases are re-created on every notification config update,
+	 * so the set of ids identifies the project notification config version.
+	 */
+	private final Set<Long> version;
+
+	private final List<CompiledRule> rules;
+
+	private final Map<Long, Integer> ordinalById;
+
+	private final List<CompiledRule> anyNameRules;
+
+	private final Map<String, List<CompiledRule>> rulesByLaunchName;
+
+	private final Map<Pair<String, String>, List<CompiledRule>> rulesByAttribute;
+
+	private final Set<SendCase> sendCases;
+
+	private SenderCaseMatcher(Set<Long> version, List<CompiledRule> rules) {
+		this.version = version;
+		this.rules = rules;
+		this.ordinalById = version == null ?
+				Collections.emptyMap() :
+				rules.stream().collect(ImmutableMap.toImmutableMap(rule -> rule.id, rule -> rule.ordinal));
+
+		ImmutableList.Builder<CompiledRule> anyNameBuilder = ImmutableList.builder();
+		Map<String, ImmutableList.Builder<CompiledRule>> byName = new HashMap<>();
+		Map<Pair<String, String>, ImmutableList.Builder<CompiledRule>> byAttribute = new HashMap<>();
+		EnumSet<SendCase> cases = EnumSet.noneOf(SendCase.class);
+
+		rules.forEach(rule -> {
+			cases.add(rule.sendCase);
+			if (rule.launchNames.isEmpty()) {
+				anyNameBuilder.add(rule);
+			} else {
+				rule.launchNames.forEach(name -> byName.computeIfAbsent(name, k -> ImmutableList.builder()).add(rule));
+			}
+			rule.attributes.forEach(attribute -> byAttribute.computeIfAbsent(attribute, k -> ImmutableList.builder()).add(rule));
+		});
+
+		this.anyNameRules = anyNameBuilder.build();
+		this.rulesByLaunchName = byName.entrySet()
+				.stream()
+				.collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+		this.rulesByAttribute = byAttribute.entrySet()
+				.stream()
+				.collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+		this.sendCases = Collections.unmodifiableSet(cases);
+	}
+
+	/**
+	 * Compiles provided sender cases into a matcher
+	 *
+	 * @param senderCases Project sender cases
+	 * @return {@link SenderCaseMatcher}
+	 */
+	public static SenderCaseMatcher compile(Collection<SenderCase> senderCases) {
+		List<CompiledRule> compiled = new ArrayList<>(senderCases.size());
+		int ordinal = 0;
+		for (SenderCase senderCase : senderCases) {
+			compiled.add(new CompiledRule(ordinal++, senderCase));
+		}
+		return new SenderCaseMatcher(versionOf(senderCases).orElse(null), Collections.unmodifiableList(compiled));
+	}
+
+	/**
+	 * @param senderCases Project sender cases
+	 * @return Version of the config or {@link Optional#empty()} if some of the cases are not persisted yet
+	 */
+	public static Optional<Set<Long>> versionOf(Collection<SenderCase> senderCases) {
+		ImmutableSet.Builder<Long> builder = ImmutableSet.builder();
+		for (SenderCase senderCase : senderCases) {
+			if (senderCase.getId() == null) {
+				return Optional.empty();
+			}
+			builder.add(senderCase.getId());
+		}
+		return Optional.of(builder.build());
+	}
+
+	public boolean isCompiledFrom(Set<Long> version) {
+		return this.version != null && this.version.equals(version);
+	}
+
+	/**
+	 * Finds sender cases matched by the finished launch.
+	 * Launch name, attributes and success rate are evaluated against all the rules at once.
+	 *
+	 * @param launch      Finished launch
+	 * @param senderCases Project sender cases of the same config version the matcher was compiled from
+	 * @return Matched sender cases in the order of provided collection
+	 */
+	public List<SenderCase> findMatched(Launch launch, Collection<SenderCase> senderCases) {
+		BitSet matched = match(launch);
+		if (matched.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<SenderCase> result = new ArrayList<>(matched.cardinality());
+		int position = 0;
+		for (SenderCase senderCase : senderCases) {
+			Integer ordinal = version == null ? Integer.valueOf(position) : ordinalById.get(senderCase.getId());
+			if (ordinal != null && matched.get(ordinal)) {
+				result.add(senderCase);
+			}
+			position++;
+		}
+		return result;
+	}
+
+	private BitSet match(Launch launch) {
+		BitSet matched = new BitSet(rules.size());
+		if (rules.isEmpty()) {
+			return matched;
+		}
+
+		EnumSet<SendCase> passedCases = EnumSet.noneOf(SendCase.class);
+		Double successRate = null;
+		for (SendCase sendCase : sendCases) {
+			if (isRateDependent(sendCase) && successRate == null) {
+				successRate = getSuccessRate(launch);
+			}
+			if (isSuccessRateEnough(launch, sendCase, successRate)) {
+				passedCases.add(sendCase);
+			}
+		}
+		if (passedCases.isEmpty()) {
+			return matched;
+		}
+
+		int[] matchedAttributes = countMatchedAttributes(launch);
+		collectMatched(anyNameRules, passedCases, matchedAttributes, matched);
+		ofNullable(launch.getName()).map(rulesByLaunchName::get)
+				.ifPresent(byName -> collectMatched(byName, passedCases, matchedAttributes, matched));
+		return matched;
+	}
+
+	private int[] countMatchedAttributes(Launch launch) {
+		int[] counters = new int[rules.size()];
+		if (rulesByAttribute.isEmpty() || CollectionUtils.isEmpty(launch.getAttributes())) {
+			return counters;
+		}
+		launch.getAttributes()
+				.stream()
+				.filter(attribute -> !attribute.isSystem())
+				.map(attribute -> Pair.of(attribute.getKey(), attribute.getValue()))
+				.distinct()
+				.map(rulesByAttribute::get)
+				.filter(Objects::nonNull)
+				.forEach(attributeRules -> attributeRules.forEach(rule -> counters[rule.ordinal]++));
+		return counters;
+	}
+
+	private static void collectMatched(List<CompiledRule> candidates, Set<SendCase> passedCases, int[] matchedAttributes,
+			BitSet matched) {
+		candidates.stream()
+				.filter(rule -> passedCases.contains(rule.sendCase))
+				.filter(rule -> matchedAttributes[rule.ordinal] == rule.attributes.size())
+				.forEach(rule -> matched.set(rule.ordinal));
+	}
+
+	private static boolean isRateDependent(SendCase sendCase) {
+		return SendCase.MORE_10 == sendCase || SendCase.MORE_20 == sendCase || SendCase.MORE_50 == sendCase;
+	}
+
+	/**
+	 * @param launch launch to be evaluated
+	 * @return success rate of provided launch in %
+	 */
+	private static double getSuccessRate(Launch launch) {
+		double ti = extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics()).doubleValue();
+		double pb = extractStatisticsCount(DEFECTS_PRODUCT_BUG_TOTAL, launch.getStatistics()).doubleValue();
+		double si = extractStatisticsCount(DEFECTS_SYSTEM_ISSUE_TOTAL, launch.getStatistics()).doubleValue();
+		double ab = extractStatisticsCount(DEFECTS_AUTOMATION_BUG_TOTAL, launch.getStatistics()).doubleValue();
+		double total = extractStatisticsCount(EXECUTIONS_TOTAL, launch.getStatistics()).doubleValue();
+		return total == 0 ? total : (ti + pb + si + ab) / total;
+	}
+
+	/**
+	 * @param launch      Launch to be evaluated
+	 * @param option      SendCase option
+	 * @param successRate Precalculated success rate, required only for rate dependent options
+	 * @return TRUE of success rate is enough for notification
+	 */
+	private static boolean isSuccessRateEnough(Launch launch, SendCase option, Double successRate) {
+		switch (option) {
+			case ALWAYS:
+				return true;
+			case FAILED:
+				return launch.getStatus().equals(StatusEnum.FAILED);
+			case TO_INVESTIGATE:
+				return extractStatisticsCount(DEFECTS_TO_INVESTIGATE_TOTAL, launch.getStatistics()) > 0;
+			case MORE_10:
+				return successRate > 0.1;
+			case MORE_20:
+				return successRate > 0.2;
+			case MORE_50:
+				return successRate > 0.5;
+			default:
+				return false;
+		}
+	}
+
+	private static final class CompiledRule {
+
+		private final int ordinal;
+		private final Long id;
+		private final SendCase sendCase;
+		private final Set<String> launchNames;
+		private final Set<Pair<String, String>> attributes;
+
+		private CompiledRule(int ordinal, SenderCase senderCase) {
+			this.ordinal = ordinal;
+			this.id = senderCase.getId();
+			this.sendCase = senderCase.getSendCase();
+			this.launchNames = ofNullable(senderCase.getLaunchNames()).map(ImmutableSet::copyOf).orElseGet(ImmutableSet::of);
+			this.attributes = ofNullable(senderCase.getLaunchAttributeRules()).map(rules -> rules.stream()
+					.map(rule -> Pair.of(rule.getKey(), rule.getValue()))
+					.collect(ImmutableSet.toImmutableSet())).orElseGet(ImmutableSet::of);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util.email;
+
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.email.SenderCase;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps compiled {@link SenderCaseMatcher} of the project until its notification config is changed
+ */
+@Service
+public class SenderCaseMatcherCache {
+
+	private static final int CACHE_ITEM_LIVE = 60;
+	private static final int MAXIMUM_SIZE = 10000;
+
+	/**
+	 * projectId - compiled sender cases
+	 */
+	private final Cache<Long, SenderCaseMatcher> matchers;
+
+	public SenderCaseMatcherCache() {
+		matchers = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterAccess(CACHE_ITEM_LIVE, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * Returns matcher compiled from the current project sender cases.
+	 * Matcher is recompiled if the project notification config version was changed since the last call.
+	 *
+	 * @param project {@link Project}
+	 * @return {@link SenderCaseMatcher}
+	 */
+	public SenderCaseMatcher getMatcher(Project project) {
+		Set<SenderCase> senderCases = project.getSenderCases();
+		Optional<Set<Long>> version = SenderCaseMatcher.versionOf(senderCases);
+		if (!version.isPresent() || project.getId() == null) {
+			return SenderCaseMatcher.compile(senderCases);
+		}
+		SenderCaseMatcher matcher = matchers.getIfPresent(project.getId());
+		if (matcher == null || !matcher.isCompiledFrom(version.get())) {
+			matcher = SenderCaseMatcher.compile(senderCases);
+			matchers.put(project.getId(), matcher);
+		}
+		return matcher;
+	}
+}
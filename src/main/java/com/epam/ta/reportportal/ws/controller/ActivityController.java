@@ -21,6 +21,7 @@
  import com.epam.ta.reportportal.commons.querygen.Filter;
  import com.epam.ta.reportportal.commons.querygen.Queryable;
  import com.epam.ta.reportportal.core.activity.ActivityHandler;
+ import com.epam.ta.reportportal.core.activity.model.ActivityFeedRs;
  import com.epam.ta.reportportal.entity.activity.Activity;
  import com.epam.ta.reportportal.util.ProjectExtractor;
  import com.epam.ta.reportportal.ws.model.ActivityResource;
@@ -34,7 +35,11 @@
  import org.springframework.transaction.annotation.Transactional;
  import org.springframework.web.bind.annotation.*;
 
+ import java.util.Collections;
+ import java.util.List;
+
  import static com.epam.ta.reportportal.auth.permissions.Permissions.ASSIGNED_TO_PROJECT;
+ import static java.util.Optional.ofNullable;
  import static org.springframework.http.HttpStatus.OK;
 
  /**
@@ -69,6 +74,20 @@
 		 return activityHandler.getActivitiesHistory(projectDetails, filter, predefinedFilter, pageable);
 	 }
 
+	 @GetMapping(value = "/feed")
+	 @ResponseStatus(OK)
+	 @ApiOperation("Get activities for project from the newest to the oldest starting after the cursor")
+	 public ActivityFeedRs getActivitiesFeed(@PathVariable String projectName,
+			 @RequestParam(value = "entity", required = false) List<String> entities,
+			 @RequestParam(value = "cursor", required = false) String cursor,
+			 @RequestParam(value = "limit", defaultValue = "50") int limit, @AuthenticationPrincipal ReportPortalUser user) {
+		 ReportPortalUser.ProjectDetails projectDetails = projectExtractor.extractProjectDetailsAdmin(
+				 user,
+				 EntityUtils.normalizeId(projectName)
+		 );
+		 return activityHandler.getActivitiesFeed(projectDetails, ofNullable(entities).orElse(Collections.emptyList()), cursor, limit);
+	 }
+
 	 @RequestMapping(value = "/{activityId}", method = RequestMethod.GET)
 	 @ResponseStatus(OK)
 	 public ActivityResource getActivity(@PathVariable String projectName, @PathVariable Long activityId,
@@ -92,4 +111,17 @@
 		 );
 		 return activityHandler.getItemActivities(projectDetails, itemId, filter, pageable);
 	 }
+
+	 @GetMapping(value = "/item/{itemId}/feed")
+	 @ResponseStatus(OK)
+	 @ApiOperation("Get activities for test item from the newest to the oldest starting after the cursor")
+	 public ActivityFeedRs getTestItemActivitiesFeed(@PathVariable String projectName, @PathVariable Long itemId,
+			 @RequestParam(value = "cursor", required = false) String cursor,
+			 @RequestParam(value = "limit", defaultValue = "50") int limit, @AuthenticationPrincipal ReportPortalUser user) {
+		 ReportPortalUser.ProjectDetails projectDetails = projectExtractor.extractProjectDetailsAdmin(
+				 user,
+				 EntityUtils.normalizeId(projectName)
+		 );
+		 return activityHandler.getItemActivitiesFeed(projectDetails, itemId, cursor, limit);
+	 }
  }
\ No newline at end of file
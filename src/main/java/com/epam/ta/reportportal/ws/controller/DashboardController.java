@@ -22,7 +22,9 @@ import com.epam.ta.reportportal.core.dashboard.CreateDashboardHandler;
 import com.epam.ta.reportportal.core.dashboard.DeleteDashboardHandler;
 import com.epam.ta.reportportal.core.dashboard.GetDashboardHandler;
 import com.epam.ta.reportportal.core.dashboard.UpdateDashboardHandler;
+import com.epam.ta.reportportal.core.dashboard.model.DashboardContentRs;
 import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
+import com.epam.ta.reportportal.core.widget.GetWidgetHandler;
 import com.epam.ta.reportportal.entity.dashboard.Dashboard;
 import com.epam.ta.reportportal.util.ProjectExtractor;
 import com.epam.ta.reportportal.ws.converter.converters.DashboardConverter;
@@ -62,15 +64,18 @@ public class DashboardController {
 	private final GetDashboardHandler getDashboardHandler;
 	private final GetShareableEntityHandler<Dashboard> getShareableEntityHandler;
 	private final DeleteDashboardHandler deleteDashboardHandler;
+	private final GetWidgetHandler getWidgetHandler;
 
 	@Autowired
 	public DashboardController(CreateDashboardHandler createDashboardHandler, UpdateDashboardHandler updateDashboardHandler,
-			GetDashboardHandler getDashboardHandler, GetShareableEntityHandler<Dashboard> getShareableEntityHandler, DeleteDashboardHandler deleteDashboardHandler) {
+			GetDashboardHandler getDashboardHandler, GetShareableEntityHandler<Dashboard> getShareableEntityHandler, DeleteDashboardHandler deleteDashboardHandler,
+			GetWidgetHandler getWidgetHandler) {
 		this.createDashboardHandler = createDashboardHandler;
 		this.updateDashboardHandler = updateDashboardHandler;
 		this.getDashboardHandler = getDashboardHandler;
 		this.getShareableEntityHandler = getShareableEntityHandler;
 		this.deleteDashboardHandler = deleteDashboardHandler;
+		this.getWidgetHandler = getWidgetHandler;
 	}
 
 	@Transactional
@@ -137,6 +142,17 @@ public class DashboardController {
 		return DashboardConverter.TO_RESOURCE.apply(dashboard);
 	}
 
+	@Transactional(readOnly = true)
+	@GetMapping(value = "/{dashboardId}/content")
+	@ResponseStatus(OK)
+	@ApiOperation("Get content of all the widgets of specified dashboard")
+	public DashboardContentRs getDashboardContent(@PathVariable String projectName, @PathVariable Long dashboardId,
+			@AuthenticationPrincipal ReportPortalUser user) {
+		ReportPortalUser.ProjectDetails projectDetails = extractProjectDetails(user, projectName);
+		Dashboard dashboard = getShareableEntityHandler.getPermitted(dashboardId, projectDetails);
+		return getWidgetHandler.getDashboardContent(dashboard, projectDetails, user);
+	}
+
 	@GetMapping(value = "/shared")
 	@ResponseStatus(OK)
 	@ApiOperation("Get names of shared dashboards from specified project")
@@ -19,14 +19,12 @@ package com.epam.ta.reportportal.ws.controller;
 import com.epam.ta.reportportal.commons.EntityUtils;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.file.GetFileHandler;
+import com.epam.ta.reportportal.core.file.StoredFile;
 import com.epam.ta.reportportal.core.user.EditUserHandler;
-import com.epam.ta.reportportal.entity.attachment.BinaryData;
-import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.BinaryDataResponseWriter;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import io.swagger.annotations.ApiOperation;
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -34,9 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.io.InputStream;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.ASSIGNED_TO_PROJECT;
 import static com.epam.ta.reportportal.auth.permissions.Permissions.NOT_CUSTOMER;
@@ -62,9 +59,13 @@ public class FileStorageController {
 	@Transactional(readOnly = true)
 	@PreAuthorize(ASSIGNED_TO_PROJECT)
 	@GetMapping(value = "/{projectName}/{dataId}")
-	public void getFile(@PathVariable String projectName, @PathVariable("dataId") Long dataId, HttpServletResponse response,
-			@AuthenticationPrincipal ReportPortalUser user) {
-		toResponse(response, getFileHandler.loadFileById(dataId, extractProjectDetails(user, projectName)));
+	public void getFile(@PathVariable String projectName, @PathVariable("dataId") Long dataId, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
+		BinaryDataResponseWriter.write(request,
+				response,
+				getFileHandler.loadFileById(dataId, extractProjectDetails(user, projectName)),
+				BinaryDataResponseWriter.IMMUTABLE
+		);
 	}
 
 	/**
@@ -73,9 +74,9 @@ public class FileStorageController {
 	@Transactional(readOnly = true)
 	@GetMapping(value = "/photo")
 	@ApiOperation("Get photo of current user")
-	public void getMyPhoto(@AuthenticationPrincipal ReportPortalUser user, HttpServletResponse response,
+	public void getMyPhoto(@AuthenticationPrincipal ReportPortalUser user, HttpServletRequest request, HttpServletResponse response,
 			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail) {
-		toResponse(response, getFileHandler.getUserPhoto(user, loadThumbnail));
+		BinaryDataResponseWriter.write(request, response, getFileHandler.getUserPhoto(user, loadThumbnail), BinaryDataResponseWriter.REVALIDATE);
 	}
 
 	/**
@@ -86,10 +87,10 @@ public class FileStorageController {
 	@GetMapping(value = "/{projectName}/userphoto")
 	@ApiOperation("Get user's photo")
 	public void getUserPhoto(@PathVariable String projectName, @RequestParam(value = "id") String username,
-			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletResponse response,
-			@AuthenticationPrincipal ReportPortalUser user) {
-		BinaryData userPhoto = getFileHandler.getUserPhoto(EntityUtils.normalizeId(username), user, projectName, loadThumbnail);
-		toResponse(response, userPhoto);
+			@RequestParam(value = "loadThumbnail", required = false) boolean loadThumbnail, HttpServletRequest request,
+			HttpServletResponse response, @AuthenticationPrincipal ReportPortalUser user) {
+		StoredFile userPhoto = getFileHandler.getUserPhoto(EntityUtils.normalizeId(username), user, projectName, loadThumbnail);
+		BinaryDataResponseWriter.write(request, response, userPhoto, BinaryDataResponseWriter.REVALIDATE);
 	}
 
 	@Transactional
@@ -105,24 +106,4 @@ public class FileStorageController {
 	public OperationCompletionRS deletePhoto(@AuthenticationPrincipal ReportPortalUser user) {
 		return editUserHandler.deletePhoto(EntityUtils.normalizeId(user.getUsername()));
 	}
-
-	/**
-	 * Copies data from provided {@link InputStream} to Response
-	 *
-	 * @param response   Response
-	 * @param binaryData Stored data
-	 */
-	private void toResponse(HttpServletResponse response, BinaryData binaryData) {
-		//TODO investigate stream closing requirement
-		if (binaryData.getInputStream() != null) {
-			try {
-				response.setContentType(binaryData.getContentType());
-				IOUtils.copy(binaryData.getInputStream(), response.getOutputStream());
-			} catch (IOException e) {
-				throw new ReportPortalException("Unable to retrieve binary data from data storage", e);
-			}
-		} else {
-			response.setStatus(HttpStatus.NO_CONTENT.value());
-		}
-	}
 }
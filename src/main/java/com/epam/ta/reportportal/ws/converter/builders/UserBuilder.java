@@ -37,6 +37,7 @@ import static java.util.Optional.ofNullable;
 public class UserBuilder implements Supplier<User> {
 
 	public static final String USER_LAST_LOGIN = "last_login";
+	public static final String USER_PHOTO_LOADED = "photo_loaded";
 	private User user;
 
 	public UserBuilder() {
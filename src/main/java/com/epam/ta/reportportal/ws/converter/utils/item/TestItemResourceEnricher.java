@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.converter.utils.item;
+
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
+import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdater;
+import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdaterProvider;
+import com.epam.ta.reportportal.ws.converter.utils.item.content.TestItemUpdaterContent;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Converts a page of {@link TestItem} to {@link TestItemResource} and enriches them with the data of all the {@link ResourceUpdaterProvider}.
+ * Every provider loads its data with a single query for the whole page. Providers are executed on the caller thread,
+ * so their queries use the connection of the caller transaction.
+ */
+@Service
+public class TestItemResourceEnricher {
+
+	private final List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders;
+
+	@Autowired
+	public TestItemResourceEnricher(List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> resourceUpdaterProviders) {
+		this.resourceUpdaterProviders = resourceUpdaterProviders;
+	}
+
+	public TestItemResource toResource(Long projectId, TestItem testItem) {
+		return toResources(projectId, Collections.singletonList(testItem)).get(0);
+	}
+
+	/**
+	 * @param projectId Project id
+	 * @param testItems Items of the page
+	 * @return Enriched resources in the order of provided items
+	 */
+	public List<TestItemResource> toResources(Long projectId, List<TestItem> testItems) {
+		if (testItems.isEmpty()) {
+			return new ArrayList<>();
+		}
+		TestItemUpdaterContent updaterContent = TestItemUpdaterContent.of(projectId, testItems);
+		List<ResourceUpdater<TestItemResource>> updaters = resourceUpdaterProviders.stream()
+				.map(provider -> provider.retrieve(updaterContent))
+				.collect(Collectors.toList());
+
+		List<TestItemResource> resources = testItems.stream().map(TestItemConverter.TO_RESOURCE).collect(Collectors.toList());
+		resources.forEach(resource -> updaters.forEach(updater -> updater.updateResource(resource)));
+		return resources;
+	}
+}
@@ -26,6 +26,7 @@ import com.epam.ta.reportportal.ws.model.TestItemResource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -47,11 +48,17 @@ public class RetriesUpdaterProvider implements ResourceUpdaterProvider<TestItemU
 
 	@Override
 	public ResourceUpdater<TestItemResource> retrieve(TestItemUpdaterContent updaterContent) {
-		Map<Long, List<TestItem>> retriesMapping = testItemRepository.selectRetries(updaterContent.getTestItems()
+		List<Long> itemsWithRetries = updaterContent.getTestItems()
 				.stream()
 				.filter(TestItem::isHasRetries)
 				.map(TestItem::getItemId)
-				.collect(Collectors.toList())).stream().collect(groupingBy(TestItem::getRetryOf));
+				.collect(Collectors.toList());
+		if (itemsWithRetries.isEmpty()) {
+			return RetriesUpdater.of(Collections.emptyMap());
+		}
+		Map<Long, List<TestItem>> retriesMapping = testItemRepository.selectRetries(itemsWithRetries)
+				.stream()
+				.collect(groupingBy(TestItem::getRetryOf));
 		return RetriesUpdater.of(retriesMapping);
 	}
 }
@@ -36,6 +36,7 @@ import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.log.Log;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.util.ProjectExtractor;
+import com.epam.ta.reportportal.util.ReportingMetrics;
 import com.epam.ta.reportportal.ws.converter.builders.LogBuilder;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
@@ -44,6 +45,7 @@ import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import com.google.common.base.Strings;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -108,12 +110,19 @@ public class AsyncReportingListener implements MessageListener {
 	@Autowired
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Autowired
+	private ReportingMetrics reportingMetrics;
+
 	@Override
 	@RabbitMessageLogging
 	public void onMessage(Message message) {
 
+		reportingMetrics.recordReceived(message);
+		Timer.Sample handling = reportingMetrics.startHandling();
+		ReportingMetrics.Outcome outcome = ReportingMetrics.Outcome.SUCCESS;
 		try {
 			if (breakRetrying(message)) {
+				outcome = ReportingMetrics.Outcome.DLQ;
 				return;
 			}
 
@@ -161,6 +170,7 @@ public class AsyncReportingListener implements MessageListener {
 					break;
 			}
 		} catch (Throwable e) {
+			outcome = ReportingMetrics.Outcome.RETRY;
 			if (e instanceof ReportPortalException && e.getMessage().startsWith("Test Item ")) {
 				LOGGER.debug("exception : {}, message : {},  cause : {}",
 						e.getClass().getName(),
@@ -175,6 +185,8 @@ public class AsyncReportingListener implements MessageListener {
 				);
 			}
 			throw new AmqpRejectAndDontRequeueException(e);
+		} finally {
+			reportingMetrics.recordHandled(handling, message, outcome);
 		}
 
 	}
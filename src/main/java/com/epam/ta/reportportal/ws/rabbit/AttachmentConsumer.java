@@ -19,7 +19,9 @@ package com.epam.ta.reportportal.ws.rabbit;
 import com.epam.ta.reportportal.binary.DataStoreService;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
+import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,26 +47,32 @@ public class AttachmentConsumer {
 
 	private final AttachmentRepository attachmentRepository;
 
+	private final ProjectStorageService projectStorageService;
+
 	@Autowired
 	public AttachmentConsumer(@Qualifier("attachmentDataStoreService") DataStoreService dataStoreService,
-			AttachmentRepository attachmentRepository) {
+			AttachmentRepository attachmentRepository, ProjectStorageService projectStorageService) {
 		this.dataStoreService = dataStoreService;
 		this.attachmentRepository = attachmentRepository;
+		this.projectStorageService = projectStorageService;
 	}
 
 	@RabbitListener(queues = "#{ @deleteAttachmentQueue.name }")
 	public void onEvent(@Payload DeleteAttachmentEvent event) {
 
 		List<Long> ids = Lists.newArrayListWithExpectedSize(event.getIds().size());
+		List<Attachment> removed = Lists.newArrayListWithExpectedSize(event.getIds().size());
 		event.getIds().forEach(id -> attachmentRepository.findById(id).ifPresent(a -> {
 			try {
 				ofNullable(a.getFileId()).ifPresent(dataStoreService::delete);
 				ofNullable(a.getThumbnailId()).ifPresent(dataStoreService::delete);
 				ids.add(id);
+				removed.add(a);
 			} catch (Exception e) {
 				LOGGER.error(Suppliers.formattedSupplier("Error during removing attachment with id = {}", id).get());
 			}
 		}));
 		attachmentRepository.deleteAllByIds(ids);
+		projectStorageService.decrease(removed);
 	}
 }
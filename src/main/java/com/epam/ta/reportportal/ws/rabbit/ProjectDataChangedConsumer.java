@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.rabbit;
+
+import com.epam.ta.reportportal.core.events.project.ProjectConfigChangedEvent;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigCache;
+import com.epam.ta.reportportal.core.widget.content.cache.WidgetContentCache;
+import org.springframework.amqp.rabbit.annotation.RabbitHandler;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Applies the project data and configuration changes broadcast by the API instances to the local caches.
+ * Events are dispatched by their type, so the listener is declared on the class level.
+ */
+@Component
+@RabbitListener(queues = "#{ @eventsQueue.name }", containerFactory = "rabbitListenerContainerFactory")
+public class ProjectDataChangedConsumer {
+
+	private final WidgetContentCache widgetContentCache;
+
+	private final ProjectConfigCache projectConfigCache;
+
+	@Autowired
+	public ProjectDataChangedConsumer(WidgetContentCache widgetContentCache, ProjectConfigCache projectConfigCache) {
+		this.widgetContentCache = widgetContentCache;
+		this.projectConfigCache = projectConfigCache;
+	}
+
+	@RabbitHandler
+	public void onEvent(@Payload ProjectDataChangedEvent event) {
+		Optional.ofNullable(event.getProjectId()).ifPresent(widgetContentCache::invalidate);
+	}
+
+	@RabbitHandler
+	public void onEvent(@Payload ProjectConfigChangedEvent event) {
+		Optional.ofNullable(event.getProjectId()).ifPresent(projectConfigCache::evict);
+	}
+}
@@ -25,7 +25,11 @@ import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -33,6 +37,10 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +52,11 @@ import java.util.stream.Collectors;
  * By FilterFor value resolves criterias/parameters to the given domain class
  * and resolves them if possible. If there are no criteria/parameter defined for
  * specified class than will throw exception
+ * <br>
+ * Parsed and validated conditions are cached by the domain class and the set of filter parameters,
+ * so the same query string of the polling UI is not parsed on every request.
+ * Filter values are provided by the user, so the cache is bounded by the total length of the cached parameters.
+ * A new {@link Filter} is built from the cached conditions for every request, as the resolved filter may be modified by the handlers.
  *
  * @author Andrei Varabyeu
  */
@@ -62,6 +75,34 @@ public class FilterCriteriaResolver implements HandlerMethodArgumentResolver {
 	 */
 	public static final String NOT_FILTER_MARKER = "!";
 
+	/**
+	 * Total length of the cached filter parameters and values
+	 */
+	private static final long CACHE_MAXIMUM_WEIGHT = 2_000_000;
+	private static final int CACHE_ITEM_LIVE = 60;
+
+	/**
+	 * Weight of the entry besides its parameters
+	 */
+	private static final int ENTRY_WEIGHT = 100;
+
+	/**
+	 * (domain class, filter parameter - value) - parsed conditions
+	 */
+	private final Cache<Pair<Class<?>, SortedMap<String, String>>, List<ConditionTemplate>> conditionsCache;
+
+	public FilterCriteriaResolver() {
+		this(CACHE_MAXIMUM_WEIGHT);
+	}
+
+	FilterCriteriaResolver(long cacheMaximumWeight) {
+		this.conditionsCache = CacheBuilder.newBuilder()
+				.maximumWeight(cacheMaximumWeight)
+				.weigher((Pair<Class<?>, SortedMap<String, String>> key, List<ConditionTemplate> value) -> weigh(key.getRight()))
+				.expireAfterAccess(CACHE_ITEM_LIVE, TimeUnit.MINUTES)
+				.build();
+	}
+
 	/**
 	 * Returns TRUE only for {@link java.util.List} marked with {@link FilterFor}
 	 * annotations
@@ -77,45 +118,104 @@ public class FilterCriteriaResolver implements HandlerMethodArgumentResolver {
 		return resolveAsList(methodParameter, webRequest);
 	}
 
-	@SuppressWarnings("unchecked")
-	private <T> Filter resolveAsList(MethodParameter methodParameter, NativeWebRequest webRequest) {
-		Class<T> domainModelType = (Class<T>) methodParameter.getParameterAnnotation(FilterFor.class).value();
-
-		List<ConvertibleCondition> filterConditions = webRequest.getParameterMap()
-				.entrySet()
-				.stream()
-				.filter(parameter -> parameter.getKey().startsWith(DEFAULT_FILTER_PREFIX) && parameter.getValue().length > 0)
-				.map(parameter -> {
-					final String[] tokens = parameter.getKey().split("\\.");
-					checkTokens(tokens);
-					String stringCondition = tokens[1];
-					boolean isNegative = stringCondition.startsWith(NOT_FILTER_MARKER);
-
-					Condition condition = getCondition(isNegative ?
-							StringUtils.substringAfter(stringCondition, NOT_FILTER_MARKER) :
-							stringCondition);
-					String criteria = tokens[2];
-					BusinessRule.expect(parameter.getValue()[0], StringUtils::isNotBlank)
-							.verify(ErrorType.BAD_REQUEST_ERROR,
-									Suppliers.formattedSupplier("Filter criteria - '{}' value should be not empty", parameter.getKey())
-											.get()
-							);
-					return new FilterCondition(condition, isNegative, parameter.getValue()[0], criteria);
-
-				})
-				.collect(Collectors.toList());
+	private Filter resolveAsList(MethodParameter methodParameter, NativeWebRequest webRequest) {
+		return resolve(methodParameter.getParameterAnnotation(FilterFor.class).value(), webRequest.getParameterMap());
+	}
+
+	/**
+	 * @param domainModelType Filter target
+	 * @param parameters      Request parameters
+	 * @return New {@link Filter} instance
+	 */
+	Filter resolve(Class<?> domainModelType, Map<String, String[]> parameters) {
+		SortedMap<String, String> filterParameters = new TreeMap<>();
+		parameters.forEach((key, value) -> {
+			if (key.startsWith(DEFAULT_FILTER_PREFIX) && value.length > 0) {
+				filterParameters.put(key, value[0]);
+			}
+		});
+
+		Pair<Class<?>, SortedMap<String, String>> key = Pair.of(domainModelType, filterParameters);
+		List<ConditionTemplate> templates = conditionsCache.getIfPresent(key);
+		if (templates == null) {
+			//validation errors are thrown before caching, so invalid parameters are parsed again on the next request
+			templates = parse(filterParameters);
+			conditionsCache.put(key, templates);
+		}
+
+		List<ConvertibleCondition> filterConditions = templates.stream().map(ConditionTemplate::toCondition).collect(Collectors.toList());
 		return new Filter(domainModelType, filterConditions);
 	}
 
-	private void checkTokens(String[] tokens) {
+	/**
+	 * @return Total weight of the cached entries
+	 */
+	long getCachedWeight() {
+		return conditionsCache.asMap().keySet().stream().mapToLong(key -> weigh(key.getRight())).sum();
+	}
+
+	/**
+	 * Parsed conditions reference the same values, so only the parameters are counted
+	 *
+	 * @param filterParameters Filter parameters of the request
+	 * @return Weight of the cache entry
+	 */
+	static int weigh(Map<String, String> filterParameters) {
+		return filterParameters.entrySet().stream().mapToInt(it -> it.getKey().length() + it.getValue().length()).sum() + ENTRY_WEIGHT;
+	}
+
+	/**
+	 * @param filterParameters Filter parameters of the request
+	 * @return Parsed and validated conditions
+	 */
+	static List<ConditionTemplate> parse(Map<String, String> filterParameters) {
+		return filterParameters.entrySet().stream().map(parameter -> {
+			final String[] tokens = parameter.getKey().split("\\.");
+			checkTokens(tokens);
+			String stringCondition = tokens[1];
+			boolean isNegative = stringCondition.startsWith(NOT_FILTER_MARKER);
+
+			Condition condition = getCondition(isNegative ? StringUtils.substringAfter(stringCondition, NOT_FILTER_MARKER) : stringCondition);
+			String criteria = tokens[2];
+			BusinessRule.expect(parameter.getValue(), StringUtils::isNotBlank)
+					.verify(ErrorType.BAD_REQUEST_ERROR,
+							Suppliers.formattedSupplier("Filter criteria - '{}' value should be not empty", parameter.getKey()).get()
+					);
+			return new ConditionTemplate(condition, isNegative, parameter.getValue(), criteria);
+		}).collect(ImmutableList.toImmutableList());
+	}
+
+	private static void checkTokens(String[] tokens) {
 		BusinessRule.expect(tokens.length, Predicates.equalTo(3))
 				.verify(ErrorType.INCORRECT_FILTER_PARAMETERS, "Incorrect format of filtering parameters");
 	}
 
-	private Condition getCondition(String marker) {
+	private static Condition getCondition(String marker) {
 		return Condition.findByMarker(marker)
 				.orElseThrow(() -> new ReportPortalException(ErrorType.INCORRECT_FILTER_PARAMETERS,
 						"Unable to find condition with marker '" + marker + "'"
 				));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Immutable parsed condition. {@link FilterCondition} is created for every request
+	 */
+	static final class ConditionTemplate {
+
+		private final Condition condition;
+		private final boolean negative;
+		private final String value;
+		private final String criteria;
+
+		private ConditionTemplate(Condition condition, boolean negative, String value, String criteria) {
+			this.condition = condition;
+			this.negative = negative;
+			this.value = value;
+			this.criteria = criteria;
+		}
+
+		FilterCondition toCondition() {
+			return new FilterCondition(condition, negative, value, criteria);
+		}
+	}
+}
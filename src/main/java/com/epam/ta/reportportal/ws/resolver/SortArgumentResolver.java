@@ -21,6 +21,9 @@ import com.epam.ta.reportportal.commons.querygen.CriteriaHolder;
 import com.epam.ta.reportportal.commons.querygen.FilterTarget;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.SortHandlerMethodArgumentResolver;
@@ -29,16 +32,30 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.StreamSupport;
 
 import static com.epam.ta.reportportal.commons.querygen.constant.GeneralCriteriaConstant.CRITERIA_ID;
 import static java.util.stream.Collectors.toList;
 
 /**
+ * Validated sorts are cached by the domain class and the requested sort, {@link Sort} is immutable so it's shared between requests.
+ *
  * @author <a href="mailto:pavel_bortnik@epam.com">Pavel Bortnik</a>
  */
 public class SortArgumentResolver extends SortHandlerMethodArgumentResolver {
 
+	private static final int CACHE_MAXIMUM_SIZE = 1000;
+	private static final int CACHE_ITEM_LIVE = 60;
+
+	/**
+	 * (domain class, requested sort) - validated sort
+	 */
+	private final Cache<Pair<Class<?>, Sort>, Sort> sortCache = CacheBuilder.newBuilder()
+			.maximumSize(CACHE_MAXIMUM_SIZE)
+			.expireAfterAccess(CACHE_ITEM_LIVE, TimeUnit.MINUTES)
+			.build();
+
 	@Override
 	public Sort resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
 			WebDataBinderFactory binderFactory) {
@@ -54,23 +71,13 @@ public class SortArgumentResolver extends SortHandlerMethodArgumentResolver {
 		if (null != parameter.getParameterAnnotation(SortFor.class)) {
 
 			Class<?> domainModelType = parameter.getParameterAnnotation(SortFor.class).value();
-			FilterTarget filterTarget = FilterTarget.findByClass(domainModelType);
-
-			/*
-			 * Hack. Adds sort by id to each query to avoid problems with
-			 * lost data while paging
-			 */
-			defaultSort = defaultSort.and(Sort.by(CRITERIA_ID));
-
-			/*
-			 * Build Sort with search criteria from internal domain model
-			 */
-			return Sort.by(StreamSupport.stream(defaultSort.spliterator(), false).map(order -> {
-				Optional<CriteriaHolder> criteriaHolder = filterTarget.getCriteriaByFilter(order.getProperty());
-				BusinessRule.expect(criteriaHolder, Preconditions.IS_PRESENT)
-						.verify(ErrorType.INCORRECT_SORTING_PARAMETERS, order.getProperty());
-				return new Sort.Order(order.getDirection(), order.getProperty());
-			}).collect(toList()));
+			Pair<Class<?>, Sort> key = Pair.of(domainModelType, defaultSort);
+			Sort sort = sortCache.getIfPresent(key);
+			if (sort == null) {
+				sort = toDomainSort(domainModelType, defaultSort);
+				sortCache.put(key, sort);
+			}
+			return sort;
 		} else {
 			/*
 			 * Return default sort in case there are no SortFor annotation
@@ -80,4 +87,28 @@ public class SortArgumentResolver extends SortHandlerMethodArgumentResolver {
 
 	}
 
+	/**
+	 * @param domainModelType Sort target
+	 * @param requestedSort   Sort resolved from the request
+	 * @return Sort with search criteria from internal domain model
+	 */
+	static Sort toDomainSort(Class<?> domainModelType, Sort requestedSort) {
+		FilterTarget filterTarget = FilterTarget.findByClass(domainModelType);
+
+		/*
+		 * Hack. Adds sort by id to each query to avoid problems with
+		 * lost data while paging
+		 */
+		Sort sort = requestedSort.and(Sort.by(CRITERIA_ID));
+
+		/*
+		 * Build Sort with search criteria from internal domain model
+		 */
+		return Sort.by(StreamSupport.stream(sort.spliterator(), false).map(order -> {
+			Optional<CriteriaHolder> criteriaHolder = filterTarget.getCriteriaByFilter(order.getProperty());
+			BusinessRule.expect(criteriaHolder, Preconditions.IS_PRESENT)
+					.verify(ErrorType.INCORRECT_SORTING_PARAMETERS, order.getProperty());
+			return new Sort.Order(order.getDirection(), order.getProperty());
+		}).collect(toList()));
+	}
 }
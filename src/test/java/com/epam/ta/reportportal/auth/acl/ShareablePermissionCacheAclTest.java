@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.auth.acl;
+
+import com.epam.ta.reportportal.dao.DashboardRepository;
+import com.epam.ta.reportportal.dao.UserFilterRepository;
+import com.epam.ta.reportportal.dao.WidgetRepository;
+import com.epam.ta.reportportal.entity.ShareableEntity;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.acls.AclPermissionEvaluator;
+import org.springframework.security.acls.domain.BasePermission;
+import org.springframework.security.acls.model.Permission;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the permissions query of {@link ShareablePermissionCache} against the ACL evaluation of Spring Security
+ */
+@Sql("/db/shareable/shareable-fill.sql")
+class ShareablePermissionCacheAclTest extends BaseMvcTest {
+
+	@Autowired
+	private ShareablePermissionCache shareablePermissionCache;
+
+	@Autowired
+	private AclPermissionEvaluator aclPermissionEvaluator;
+
+	@Autowired
+	private UserFilterRepository userFilterRepository;
+
+	@Autowired
+	private WidgetRepository widgetRepository;
+
+	@Autowired
+	private DashboardRepository dashboardRepository;
+
+	@Test
+	void permissionsMatchAclEvaluator() {
+		List<ShareableEntity> entities = new ArrayList<>();
+		entities.addAll(userFilterRepository.findAllById(Lists.newArrayList(1L, 2L, 3L, 4L)));
+		entities.addAll(widgetRepository.findAllById(Lists.newArrayList(5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L)));
+		entities.addAll(dashboardRepository.findAllById(Lists.newArrayList(13L, 14L, 15L, 16L, 17L, 18L)));
+		assertEquals(18, entities.size());
+
+		int permitted = 0;
+		for (String username : Lists.newArrayList("superadmin", "jaja_user", "default", "unknown_user")) {
+			Authentication authentication = new UsernamePasswordAuthenticationToken(username, "password");
+			for (ShareableEntity entity : entities) {
+				for (Permission permission : Lists.newArrayList(BasePermission.READ, BasePermission.ADMINISTRATION)) {
+					boolean expected = aclPermissionEvaluator.hasPermission(authentication, entity, permission);
+					assertEquals(expected,
+							shareablePermissionCache.isPermitted(authentication, entity, permission),
+							username + " " + permission.getPattern() + " " + entity.getClass().getSimpleName() + " " + entity.getId()
+					);
+					permitted += expected ? 1 : 0;
+				}
+			}
+		}
+		//the fixture has both the granted and the not granted permissions
+		assertTrue(permitted > 0);
+		assertTrue(permitted < 4 * entities.size() * 2);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.auth.acl;
+
+import com.epam.ta.reportportal.entity.dashboard.Dashboard;
+import com.epam.ta.reportportal.entity.project.Project;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.acls.domain.BasePermission;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ShareablePermissionCacheTest {
+
+	private static final Long PROJECT_ID = 1L;
+	private static final String USERNAME = "default";
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final ShareablePermissionCache shareablePermissionCache = new ShareablePermissionCache(jdbcTemplate);
+
+	private final Authentication authentication = new UsernamePasswordAuthenticationToken(USERNAME, "password");
+
+	@Test
+	void permissionsAreLoadedOncePerUserAndProject() throws Exception {
+		mockPermissions(new Object[] { "1", BasePermission.ADMINISTRATION.getMask() }, new Object[] { "2", BasePermission.READ.getMask() });
+
+		assertTrue(shareablePermissionCache.isPermitted(authentication, dashboard(1L), BasePermission.ADMINISTRATION));
+		assertFalse(shareablePermissionCache.isPermitted(authentication, dashboard(1L), BasePermission.READ));
+		assertTrue(shareablePermissionCache.isPermitted(authentication, dashboard(2L), BasePermission.READ));
+		assertFalse(shareablePermissionCache.isPermitted(authentication, dashboard(2L), BasePermission.ADMINISTRATION));
+		assertFalse(shareablePermissionCache.isPermitted(authentication, dashboard(3L), BasePermission.READ));
+
+		verify(jdbcTemplate, times(1)).query(anyString(),
+				any(RowCallbackHandler.class),
+				eq(Dashboard.class.getName()),
+				eq(USERNAME),
+				eq(PROJECT_ID)
+		);
+	}
+
+	@Test
+	void permissionsAreReloadedAfterInvalidation() throws Exception {
+		mockPermissions(new Object[] { "1", BasePermission.READ.getMask() });
+		assertTrue(shareablePermissionCache.isPermitted(authentication, dashboard(1L), BasePermission.READ));
+
+		shareablePermissionCache.invalidate(2L);
+		assertTrue(shareablePermissionCache.isPermitted(authentication, dashboard(1L), BasePermission.READ));
+
+		mockPermissions();
+		shareablePermissionCache.invalidate(PROJECT_ID);
+		assertFalse(shareablePermissionCache.isPermitted(authentication, dashboard(1L), BasePermission.READ));
+	}
+
+	private void mockPermissions(Object[]... rows) throws Exception {
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (Object[] row : rows) {
+				ResultSet resultSet = mock(ResultSet.class);
+				when(resultSet.getString(1)).thenReturn((String) row[0]);
+				when(resultSet.getInt(2)).thenReturn((Integer) row[1]);
+				handler.processRow(resultSet);
+			}
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any(), any());
+	}
+
+	private static Dashboard dashboard(Long id) {
+		Project project = new Project();
+		project.setId(PROJECT_ID);
+		Dashboard dashboard = new Dashboard();
+		dashboard.setId(id);
+		dashboard.setProject(project);
+		return dashboard;
+	}
+}
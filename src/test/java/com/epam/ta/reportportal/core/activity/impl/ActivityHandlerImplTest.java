@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.activity.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.activity.model.ActivityFeedRs;
+import com.epam.ta.reportportal.dao.ActivityRepository;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.dao.ProjectRepository;
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ActivityResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityHandlerImplTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2020, 5, 20, 12, 30, 15, 123_456_000);
+
+	@Mock
+	private ActivityRepository activityRepository;
+
+	@Mock
+	private TestItemRepository testItemRepository;
+
+	@Mock
+	private LaunchRepository launchRepository;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private ActivityFeedQueries activityFeedQueries;
+
+	@InjectMocks
+	private ActivityHandlerImpl handler;
+
+	private final ReportPortalUser.ProjectDetails projectDetails = new ReportPortalUser.ProjectDetails(1L, "project", ProjectRole.MEMBER);
+
+	@Test
+	void feedPagesContinueAfterTheCursor() {
+		when(activityFeedQueries.findProjectActivities(eq(1L), eq(Collections.emptyList()), isNull(), eq(3))).thenReturn(activities(10, 3));
+
+		ActivityFeedRs firstPage = handler.getActivitiesFeed(projectDetails, Collections.emptyList(), null, 2);
+
+		assertEquals(Arrays.asList(10L, 9L), firstPage.getContent().stream().map(ActivityResource::getId).collect(Collectors.toList()));
+		assertNotNull(firstPage.getNext());
+
+		when(activityFeedQueries.findProjectActivities(eq(1L), eq(Collections.emptyList()), notNull(), eq(3))).thenReturn(activities(8, 1));
+
+		ActivityFeedRs lastPage = handler.getActivitiesFeed(projectDetails, Collections.emptyList(), firstPage.getNext(), 2);
+
+		assertEquals(Collections.singletonList(8L), lastPage.getContent().stream().map(ActivityResource::getId).collect(Collectors.toList()));
+		assertNull(lastPage.getNext());
+		ArgumentCaptor<ActivityFeedQueries.Cursor> cursorCaptor = ArgumentCaptor.forClass(ActivityFeedQueries.Cursor.class);
+		verify(activityFeedQueries, times(2)).findProjectActivities(eq(1L), eq(Collections.emptyList()), cursorCaptor.capture(), eq(3));
+		assertEquals(firstPage.getNext(), cursorCaptor.getValue().format());
+		verifyNoInteractions(projectRepository, activityRepository);
+	}
+
+	@Test
+	void cursorKeepsCreationDatePrecision() {
+		Activity activity = activities(42, 1).get(0);
+
+		ActivityFeedQueries.Cursor cursor = ActivityFeedQueries.Cursor.parse(ActivityFeedQueries.Cursor.of(activity).format());
+
+		assertEquals(ActivityFeedQueries.Cursor.of(activity).format(), cursor.format());
+	}
+
+	@Test
+	void incorrectCursor() {
+		ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> handler.getActivitiesFeed(projectDetails, Collections.emptyList(), "not a cursor", 10)
+		);
+		assertEquals("Error in handled Request. Please, check specified parameters: 'Incorrect activity feed cursor: not a cursor'",
+				exception.getMessage()
+		);
+	}
+
+	@Test
+	void feedLimitIsBounded() {
+		assertThrows(ReportPortalException.class, () -> handler.getActivitiesFeed(projectDetails, Collections.emptyList(), null, 0));
+		assertThrows(ReportPortalException.class, () -> handler.getActivitiesFeed(projectDetails, Collections.emptyList(), null, 301));
+		verifyNoInteractions(activityFeedQueries);
+	}
+
+	@Test
+	void unknownEntityType() {
+		assertThrows(ReportPortalException.class,
+				() -> handler.getActivitiesFeed(projectDetails, Collections.singletonList("unknown"), null, 10)
+		);
+		verifyNoInteractions(activityFeedQueries);
+	}
+
+	@Test
+	void itemFeedOfAnotherProject() {
+		TestItem item = new TestItem();
+		item.setLaunchId(2L);
+		Launch launch = new Launch();
+		launch.setProjectId(100L);
+		when(testItemRepository.findById(3L)).thenReturn(Optional.of(item));
+		when(launchRepository.findById(2L)).thenReturn(Optional.of(launch));
+
+		assertThrows(ReportPortalException.class, () -> handler.getItemActivitiesFeed(projectDetails, 3L, null, 10));
+		verify(activityFeedQueries, never()).findItemActivities(any(), any(), any(), anyInt());
+	}
+
+	/**
+	 * @return Activities with the descending ids starting from 'from' created at the same time
+	 */
+	private static List<Activity> activities(long from, int count) {
+		return IntStream.range(0, count).mapToObj(i -> {
+			Activity activity = new Activity();
+			activity.setId(from - i);
+			activity.setProjectId(1L);
+			activity.setActivityEntityType(Activity.ActivityEntityType.LAUNCH.getValue());
+			activity.setAction("startLaunch");
+			activity.setCreatedAt(NOW);
+			return activity;
+		}).collect(Collectors.toList());
+	}
+}
@@ -42,12 +42,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.epam.ta.reportportal.core.analyzer.auto.strategy.search.SearchLogsMode.CURRENT_LAUNCH;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ivan_budayeu@epam.com">Ivan Budayeu</a>
@@ -97,6 +98,7 @@ class SearchLogServiceImplTest {
 		when(testItemOfFoundLog.getItemId()).thenReturn(2L);
 		when(testItemOfFoundLog.getLaunchId()).thenReturn(1L);
 		when(launchRepository.findById(1L)).thenReturn(Optional.of(launch));
+		when(launchRepository.findAllById(any())).thenReturn(Lists.newArrayList(launch));
 		when(launch.getId()).thenReturn(1L);
 		when(testItem.getPath()).thenReturn("1");
 		when(testItem.getItemResults()).thenReturn(testItemResults);
@@ -145,4 +147,106 @@ class SearchLogServiceImplTest {
 		Assertions.assertEquals(1, Lists.newArrayList(responses).size());
 
 	}
+
+	@Test
+	void searchResolvesRelevantItemsInBulk() {
+
+		ReportPortalUser.ProjectDetails projectDetails = new ReportPortalUser.ProjectDetails(1L, "project", ProjectRole.PROJECT_MANAGER);
+
+		TestItem suite = mock(TestItem.class);
+		TestItem nestedStep = mock(TestItem.class);
+		TestItemResults suiteResults = mock(TestItemResults.class);
+
+		when(projectRepository.findById(projectDetails.getProjectId())).thenReturn(Optional.of(project));
+		when(project.getId()).thenReturn(1L);
+		when(testItemRepository.findById(1L)).thenReturn(Optional.of(testItem));
+		when(testItem.getLaunchId()).thenReturn(1L);
+		when(testItem.getItemId()).thenReturn(1L);
+		when(testItem.getPath()).thenReturn("1");
+		when(testItem.getItemResults()).thenReturn(testItemResults);
+		when(launchRepository.findById(1L)).thenReturn(Optional.of(launch));
+		when(launchRepository.findAllById(any())).thenReturn(Lists.newArrayList(launch));
+		when(launch.getId()).thenReturn(1L);
+
+		when(testItemOfFoundLog.getItemId()).thenReturn(2L);
+		when(testItemOfFoundLog.getLaunchId()).thenReturn(1L);
+		when(testItemOfFoundLog.getPath()).thenReturn("2");
+		when(testItemOfFoundLog.isHasStats()).thenReturn(true);
+		when(testItemOfFoundLog.getItemResults()).thenReturn(testItemResults);
+
+		when(nestedStep.getItemId()).thenReturn(3L);
+		when(nestedStep.getLaunchId()).thenReturn(1L);
+		when(nestedStep.getPath()).thenReturn("4.3");
+		when(nestedStep.isHasStats()).thenReturn(false);
+		when(nestedStep.getItemResults()).thenReturn(testItemResults);
+
+		when(suite.getItemId()).thenReturn(4L);
+		when(suite.isHasStats()).thenReturn(true);
+		when(suite.getItemResults()).thenReturn(suiteResults);
+
+		when(testItemRepository.findAllById(any())).thenReturn(Lists.newArrayList(testItemOfFoundLog, nestedStep))
+				.thenReturn(Lists.newArrayList(suite));
+		when(testItemRepository.selectPathNames(any(), any())).thenReturn(Collections.emptyMap());
+
+		when(testItemResults.getStatus()).thenReturn(StatusEnum.FAILED);
+		IssueType issueType = new IssueType();
+		issueType.setLocator("locator");
+		IssueEntity issueEntity = new IssueEntity();
+		issueEntity.setIssueType(issueType);
+		issueEntity.setIgnoreAnalyzer(false);
+		when(testItemResults.getIssue()).thenReturn(issueEntity);
+		IssueType suiteIssueType = new IssueType();
+		suiteIssueType.setLocator("suiteLocator");
+		IssueEntity suiteIssueEntity = new IssueEntity();
+		suiteIssueEntity.setIssueType(suiteIssueType);
+		suiteIssueEntity.setIgnoreAnalyzer(false);
+		when(suiteResults.getIssue()).thenReturn(suiteIssueEntity);
+
+		when(logRepository.findMessagesByLaunchIdAndItemIdAndPathAndLevelGte(1L, 1L, "1", LogLevel.ERROR_INT)).thenReturn(Lists.newArrayList(
+				"message"));
+		when(analyzerServiceClient.searchLogs(any(SearchRq.class))).thenReturn(Lists.newArrayList(searchRs(1L, 2L),
+				searchRs(2L, 2L),
+				searchRs(3L, 3L)
+		));
+		when(logRepository.findAllById(any())).thenReturn(Lists.newArrayList(log(1L), log(2L), log(3L)));
+
+		SearchLogRq searchLogRq = new SearchLogRq();
+		searchLogRq.setSearchMode(CURRENT_LAUNCH.getValue());
+		searchLogRq.setFilterId(1L);
+
+		when(searchCollectorFactory.getCollector(CURRENT_LAUNCH)).thenReturn(currentLaunchCollector);
+		when(currentLaunchCollector.collect(any(), any())).thenReturn(Collections.singletonList(1L));
+
+		Map<Long, SearchLogRs> responses = Lists.newArrayList(searchLogService.search(1L, searchLogRq, projectDetails))
+				.stream()
+				.collect(Collectors.toMap(SearchLogRs::getItemId, it -> it));
+
+		Assertions.assertEquals(2, responses.size());
+		Assertions.assertEquals(2, responses.get(2L).getLogs().size());
+		Assertions.assertEquals(1L, (long) responses.get(2L).getLaunchId());
+		Assertions.assertEquals("locator", responses.get(2L).getIssue().getIssueType());
+		Assertions.assertEquals(1, responses.get(3L).getLogs().size());
+		Assertions.assertEquals("suiteLocator", responses.get(3L).getIssue().getIssueType());
+
+		verify(launchRepository, times(1)).findById(1L);
+		verify(launchRepository, times(1)).findAllById(any());
+		verify(testItemRepository, times(1)).selectPathNames(any(), any());
+		verify(testItemRepository, times(2)).findAllById(any());
+		verify(nestedStep, never()).getParent();
+	}
+
+	private static SearchRs searchRs(Long logId, Long itemId) {
+		SearchRs searchRs = new SearchRs();
+		searchRs.setLogId(logId);
+		searchRs.setTestItemId(itemId);
+		return searchRs;
+	}
+
+	private static Log log(Long id) {
+		Log log = new Log();
+		log.setId(id);
+		log.setLogMessage("message");
+		log.setLogLevel(40000);
+		return log;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.bts.handler.impl;
+
+import com.epam.reportportal.extension.bugtracking.BtsExtension;
+import com.epam.ta.reportportal.core.bts.BtsMetadataCache;
+import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
+import com.epam.ta.reportportal.core.plugin.PluginBox;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.epam.ta.reportportal.entity.integration.IntegrationType;
+import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GetTicketHandlerImplTest {
+
+	private static final Long INTEGRATION_ID = 1L;
+
+	private final PluginBox pluginBox = mock(PluginBox.class);
+	private final GetIntegrationHandler getIntegrationHandler = mock(GetIntegrationHandler.class);
+	private final BtsExtension extension = mock(BtsExtension.class);
+	private final BtsMetadataCache btsMetadataCache = new BtsMetadataCache();
+
+	private final GetTicketHandlerImpl handler = new GetTicketHandlerImpl(pluginBox, getIntegrationHandler, btsMetadataCache);
+
+	private Integration integration;
+
+	@BeforeEach
+	void setUp() {
+		IntegrationType type = new IntegrationType();
+		type.setName("jira");
+		integration = new Integration();
+		integration.setId(INTEGRATION_ID);
+		integration.setType(type);
+		when(getIntegrationHandler.getEnabledBtsIntegration(INTEGRATION_ID)).thenReturn(integration);
+		when(pluginBox.getInstance("jira", BtsExtension.class)).thenReturn(Optional.of(extension));
+	}
+
+	@Test
+	void ticketFieldsAreRequestedOncePerTicketType() {
+		when(extension.getTicketFields(any(String.class), any(Integration.class))).thenReturn(Lists.newArrayList(new PostFormField()));
+
+		handler.getSubmitTicketFields("Bug", INTEGRATION_ID);
+		List<PostFormField> fields = handler.getSubmitTicketFields("Bug", INTEGRATION_ID);
+		handler.getSubmitTicketFields("Task", INTEGRATION_ID);
+
+		assertEquals(1, fields.size());
+		verify(extension, times(1)).getTicketFields(eq("Bug"), any(Integration.class));
+		verify(extension, times(1)).getTicketFields(eq("Task"), any(Integration.class));
+		verify(getIntegrationHandler, times(3)).getEnabledBtsIntegration(INTEGRATION_ID);
+	}
+
+	@Test
+	void issueTypesAreRequestedAgainAfterInvalidation() {
+		when(extension.getIssueTypes(any(Integration.class))).thenReturn(Lists.newArrayList("Bug"), Lists.newArrayList("Bug", "Task"));
+
+		assertEquals(Lists.newArrayList("Bug"), handler.getAllowableIssueTypes(INTEGRATION_ID));
+		assertEquals(Lists.newArrayList("Bug"), handler.getAllowableIssueTypes(INTEGRATION_ID));
+
+		btsMetadataCache.invalidate(INTEGRATION_ID);
+
+		assertEquals(Lists.newArrayList("Bug", "Task"), handler.getAllowableIssueTypes(INTEGRATION_ID));
+		verify(extension, times(2)).getIssueTypes(any(Integration.class));
+	}
+
+	@Test
+	void concurrentRequestsShareSingleExternalCall() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(extension.getIssueTypes(any(Integration.class))).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Lists.newArrayList("Bug");
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<List<String>> first = executor.submit(() -> handler.getAllowableIssueTypes(INTEGRATION_ID));
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+			List<Future<List<String>>> others = Lists.newArrayList();
+			for (int i = 0; i < 3; i++) {
+				others.add(executor.submit(() -> handler.getAllowableIssueTypes(INTEGRATION_ID)));
+			}
+			release.countDown();
+
+			assertEquals(Lists.newArrayList("Bug"), first.get(5, TimeUnit.SECONDS));
+			for (Future<List<String>> other : others) {
+				assertEquals(Lists.newArrayList("Bug"), other.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		verify(extension, times(1)).getIssueTypes(any(Integration.class));
+	}
+}
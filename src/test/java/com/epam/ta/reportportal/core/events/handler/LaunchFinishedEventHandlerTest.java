@@ -82,7 +82,7 @@ class LaunchFinishedEventHandlerTest {
 
 		launchFinishedEventHandler.onApplicationEvent(event);
 
-		verify(projectRepository, times(0)).findById(launch.get().getId());
+		verify(projectRepository, times(0)).getOne(launch.get().getProjectId());
 	}
 
 	@Test
@@ -108,7 +108,7 @@ class LaunchFinishedEventHandlerTest {
 		project.setSenderCases(LaunchFinishedTestUtils.getSenderCases());
 
 		when(launchRepository.findById(event.getLaunchActivityResource().getId())).thenReturn(Optional.ofNullable(launch));
-		when(projectRepository.findById(resource.getProjectId())).thenReturn(Optional.ofNullable(project));
+		when(projectRepository.getOne(resource.getProjectId())).thenReturn(project);
 
 		launchFinishedEventHandler.onApplicationEvent(event);
 		verify(autoAnalysisSubscriber, times(1)).handleEvent(event, project, launch);
@@ -16,10 +16,12 @@
 
 package com.epam.ta.reportportal.core.events.handler.subscriber.impl;
 
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
 import com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigCache;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.enums.IntegrationGroupEnum;
@@ -31,6 +33,7 @@ import com.epam.ta.reportportal.entity.launch.Launch;
 import com.epam.ta.reportportal.entity.project.Project;
 import com.epam.ta.reportportal.util.email.EmailService;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
+import com.epam.ta.reportportal.util.email.SenderCaseMatcherCache;
 import com.epam.ta.reportportal.ws.model.activity.LaunchActivityResource;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
@@ -57,7 +60,9 @@ class LaunchNotificationSubscriberTest {
 	private final LaunchNotificationSubscriber launchNotificationSubscriber = new LaunchNotificationSubscriber(getIntegrationHandler,
 			mailServiceFactory,
 			launchRepository,
-			userRepository
+			userRepository,
+			new SenderCaseMatcherCache(),
+			new ProjectConfigCache(mock(MessageBus.class))
 	);
 
 	@Test
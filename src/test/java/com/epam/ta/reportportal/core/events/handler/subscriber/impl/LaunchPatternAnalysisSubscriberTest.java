@@ -18,9 +18,11 @@ package com.epam.ta.reportportal.core.events.handler.subscriber.impl;
 
 import com.epam.ta.reportportal.core.analyzer.auto.strategy.analyze.AnalyzeItemsMode;
 import com.epam.ta.reportportal.core.analyzer.pattern.PatternAnalyzer;
+import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.events.activity.LaunchFinishedEvent;
 import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
 import com.epam.ta.reportportal.core.launch.impl.LaunchTestUtil;
+import com.epam.ta.reportportal.core.project.config.ProjectConfigCache;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
 import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
@@ -44,7 +46,9 @@ class LaunchPatternAnalysisSubscriberTest {
 
 	private final PatternAnalyzer patternAnalyzer = mock(PatternAnalyzer.class);
 
-	private final LaunchPatternAnalysisSubscriber patternAnalysisSubscriber = new LaunchPatternAnalysisSubscriber(patternAnalyzer);
+	private final LaunchPatternAnalysisSubscriber patternAnalysisSubscriber = new LaunchPatternAnalysisSubscriber(patternAnalyzer,
+			new ProjectConfigCache(mock(MessageBus.class))
+	);
 
 	@Test
 	public void shouldAnalyzeWhenEnabled() {
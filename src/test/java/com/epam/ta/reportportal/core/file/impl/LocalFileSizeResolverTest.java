@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalFileSizeResolverTest {
+
+	private final DataEncoder dataEncoder = mock(DataEncoder.class);
+
+	private Path storageRoot;
+
+	private LocalFileSizeResolver resolver;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		storageRoot = Files.createTempDirectory("rp-file-size");
+		resolver = new LocalFileSizeResolver(dataEncoder, storageRoot.toString());
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(storageRoot);
+	}
+
+	@Test
+	void sizeIsReadFromFileAttributes() throws IOException {
+		Files.createDirectories(storageRoot.resolve("1"));
+		Files.write(storageRoot.resolve("1/file"), new byte[1234]);
+		when(dataEncoder.decode("fileId")).thenReturn("1/file");
+
+		assertEquals(Optional.of(1234L), resolver.getSize("fileId"));
+	}
+
+	@Test
+	void absentFileHasNoSize() {
+		when(dataEncoder.decode("fileId")).thenReturn("1/absent");
+
+		assertFalse(resolver.getSize("fileId").isPresent());
+	}
+}
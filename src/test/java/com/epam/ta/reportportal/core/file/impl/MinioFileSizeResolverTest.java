@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.file.impl;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.filesystem.DataEncoder;
+import com.epam.ta.reportportal.filesystem.distributed.minio.MinioDataStore;
+import io.minio.MinioClient;
+import io.minio.ObjectStat;
+import io.minio.errors.ErrorCode;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class MinioFileSizeResolverTest {
+
+	private static final String BUCKET_PREFIX = "prj-";
+	private static final String DEFAULT_BUCKET = "rp-bucket";
+
+	private final DataEncoder dataEncoder = mock(DataEncoder.class);
+
+	private final MinioClient minioClient = mock(MinioClient.class);
+
+	private final MinioFileSizeResolver resolver = new MinioFileSizeResolver(dataEncoder, minioClient, BUCKET_PREFIX, DEFAULT_BUCKET);
+
+	/**
+	 * Resolver has to address the same object as the data store that saved the file
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = { "file", "1/file", "1/launch/item/file" })
+	void objectIsAddressedAsInDataStore(String path) throws Exception {
+		new MinioDataStore(minioClient, BUCKET_PREFIX, DEFAULT_BUCKET, null).load(path);
+		ArgumentCaptor<String> dataStoreBucket = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> dataStoreObject = ArgumentCaptor.forClass(String.class);
+		verify(minioClient).getObject(dataStoreBucket.capture(), dataStoreObject.capture());
+
+		ObjectStat stat = mock(ObjectStat.class);
+		when(stat.length()).thenReturn(1234L);
+		when(minioClient.statObject(anyString(), anyString())).thenReturn(stat);
+		when(dataEncoder.decode("fileId")).thenReturn(path);
+
+		assertEquals(Optional.of(1234L), resolver.getSize("fileId"));
+		verify(minioClient).statObject(dataStoreBucket.getValue(), dataStoreObject.getValue());
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = ErrorCode.class, names = { "NO_SUCH_KEY", "NO_SUCH_OBJECT" })
+	void missingObjectHasNoSize(ErrorCode errorCode) throws Exception {
+		when(dataEncoder.decode("fileId")).thenReturn("1/file");
+		when(minioClient.statObject(anyString(), anyString())).thenThrow(errorResponse(errorCode));
+
+		assertFalse(resolver.getSize("fileId").isPresent());
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = ErrorCode.class, names = { "ACCESS_DENIED", "NO_SUCH_BUCKET", "SLOW_DOWN", "INVALID_ACCESS_KEY_ID" })
+	void otherErrorsFailResolution(ErrorCode errorCode) throws Exception {
+		when(dataEncoder.decode("fileId")).thenReturn("1/file");
+		when(minioClient.statObject(anyString(), anyString())).thenThrow(errorResponse(errorCode));
+
+		assertThrows(ReportPortalException.class, () -> resolver.getSize("fileId"));
+	}
+
+	private static ErrorResponseException errorResponse(ErrorCode errorCode) {
+		ErrorResponse response = mock(ErrorResponse.class);
+		when(response.errorCode()).thenReturn(errorCode);
+		ErrorResponseException exception = mock(ErrorResponseException.class);
+		when(exception.errorResponse()).thenReturn(response);
+		return exception;
+	}
+}
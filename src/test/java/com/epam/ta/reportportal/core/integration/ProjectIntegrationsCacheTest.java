@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.integration;
+
+import com.epam.ta.reportportal.dao.IntegrationRepository;
+import com.epam.ta.reportportal.entity.enums.IntegrationGroupEnum;
+import com.epam.ta.reportportal.entity.integration.Integration;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static com.epam.ta.reportportal.core.integration.impl.util.IntegrationTestUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectIntegrationsCacheTest {
+
+	private static final long PROJECT_ID = 1L;
+
+	private final IntegrationRepository integrationRepository = mock(IntegrationRepository.class);
+
+	private final ProjectIntegrationsCache cache = new ProjectIntegrationsCache(integrationRepository);
+
+	@Test
+	void snapshotIsLoadedOnce() {
+		Integration projectEmail = enabled(getProjectEmailIntegration(2L, PROJECT_ID));
+		when(integrationRepository.findAllByProjectId(PROJECT_ID)).thenReturn(Lists.newArrayList(projectEmail));
+		when(integrationRepository.findAllGlobal()).thenReturn(Lists.newArrayList(enabled(getGlobalEmailIntegration(1L))));
+
+		assertEquals(projectEmail.getId(), getEnabledId(IntegrationGroupEnum.NOTIFICATION));
+		assertEquals(projectEmail.getId(), getEnabledId(IntegrationGroupEnum.NOTIFICATION));
+
+		verify(integrationRepository, times(1)).findAllByProjectId(PROJECT_ID);
+		verify(integrationRepository, times(1)).findAllGlobal();
+	}
+
+	@Test
+	void globalIntegrationIsUsedWhenProjectHasNoIntegrationsOfGroup() {
+		Integration globalEmail = enabled(getGlobalEmailIntegration(1L));
+		when(integrationRepository.findAllByProjectId(PROJECT_ID)).thenReturn(Collections.emptyList());
+		when(integrationRepository.findAllGlobal()).thenReturn(Lists.newArrayList(globalEmail));
+
+		ProjectIntegrations integrations = cache.get(PROJECT_ID);
+
+		assertEquals(globalEmail.getId(), integrations.getEnabled(IntegrationGroupEnum.NOTIFICATION).map(Integration::getId).orElse(null));
+		assertFalse(integrations.getEnabled(IntegrationGroupEnum.BTS).isPresent());
+		assertFalse(integrations.hasProjectIntegration(globalEmail.getType()));
+	}
+
+	@Test
+	void disabledProjectIntegrationHidesGlobalOne() {
+		when(integrationRepository.findAllByProjectId(PROJECT_ID)).thenReturn(Lists.newArrayList(getProjectEmailIntegration(2L, PROJECT_ID)));
+		when(integrationRepository.findAllGlobal()).thenReturn(Lists.newArrayList(enabled(getGlobalEmailIntegration(1L))));
+
+		ProjectIntegrations integrations = cache.get(PROJECT_ID);
+
+		assertFalse(integrations.getEnabled(IntegrationGroupEnum.NOTIFICATION).isPresent());
+		assertTrue(integrations.hasProjectIntegration(getEmailIntegrationType()));
+	}
+
+	@Test
+	void snapshotIsReloadedAfterInvalidation() {
+		when(integrationRepository.findAllByProjectId(PROJECT_ID)).thenReturn(Collections.emptyList(),
+				Lists.newArrayList(enabled(getProjectJiraIntegration(3L, getParams(), PROJECT_ID)))
+		);
+		when(integrationRepository.findAllGlobal()).thenReturn(Collections.emptyList());
+
+		assertFalse(cache.get(PROJECT_ID).getProjectIntegration(3L).isPresent());
+
+		cache.invalidate(PROJECT_ID);
+
+		assertTrue(cache.get(PROJECT_ID).getProjectIntegration(3L).isPresent());
+		verify(integrationRepository, times(2)).findAllByProjectId(PROJECT_ID);
+		verify(integrationRepository, times(1)).findAllGlobal();
+
+		cache.invalidateAll();
+
+		cache.get(PROJECT_ID);
+		verify(integrationRepository, times(2)).findAllGlobal();
+	}
+
+	@Test
+	void changesOfReturnedIntegrationAreNotShared() {
+		Integration projectJira = enabled(getProjectJiraIntegration(3L, getParams(), PROJECT_ID));
+		when(integrationRepository.findAllByProjectId(PROJECT_ID)).thenReturn(Lists.newArrayList(projectJira));
+		when(integrationRepository.findAllGlobal()).thenReturn(Collections.emptyList());
+
+		Integration integration = cache.get(PROJECT_ID).getProjectIntegration(3L).orElseThrow(AssertionError::new);
+		assertNotSame(projectJira, integration);
+		Map<String, Object> params = integration.getParams().getParams();
+		params.replaceAll((key, value) -> "changed");
+		integration.setEnabled(false);
+		integration.getType().setEnabled(false);
+
+		Integration next = cache.get(PROJECT_ID).getProjectIntegration(3L).orElseThrow(AssertionError::new);
+		assertEquals(projectJira.getParams().getParams(), next.getParams().getParams());
+		assertTrue(next.isEnabled());
+		assertTrue(next.getType().isEnabled());
+		assertTrue(cache.get(PROJECT_ID).getEnabled(IntegrationGroupEnum.BTS).isPresent());
+	}
+
+	private Long getEnabledId(IntegrationGroupEnum group) {
+		return cache.get(PROJECT_ID).getEnabled(group).map(Integration::getId).orElse(null);
+	}
+
+	private static Integration enabled(Integration integration) {
+		integration.setEnabled(true);
+		integration.getType().setEnabled(true);
+		return integration;
+	}
+}
@@ -21,6 +21,7 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.integration.DeleteIntegrationHandler;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.impl.util.IntegrationTestUtil;
 import com.epam.ta.reportportal.dao.IntegrationRepository;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
@@ -48,11 +49,13 @@ public class DeleteIntegrationHandlerTest {
 	private final IntegrationTypeRepository integrationTypeRepository = mock(IntegrationTypeRepository.class);
 	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
 	private final MessageBus messageBus = mock(MessageBus.class);
+	private final ProjectIntegrationsCache projectIntegrationsCache = mock(ProjectIntegrationsCache.class);
 
 	private final DeleteIntegrationHandler deleteIntegrationHandler = new DeleteIntegrationHandlerImpl(integrationRepository,
 			projectRepository,
 			integrationTypeRepository,
-			messageBus
+			messageBus,
+			projectIntegrationsCache
 	);
 
 	@Test
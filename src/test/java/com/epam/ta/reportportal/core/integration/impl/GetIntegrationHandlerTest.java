@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.integration.impl;
 
 import com.epam.ta.reportportal.core.bts.handler.GetBugTrackingSystemHandler;
 import com.epam.ta.reportportal.core.integration.GetIntegrationHandler;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.impl.util.IntegrationTestUtil;
 import com.epam.ta.reportportal.core.integration.util.IntegrationService;
 import com.epam.ta.reportportal.dao.IntegrationRepository;
@@ -46,13 +47,15 @@ class GetIntegrationHandlerTest {
 	private final IntegrationTypeRepository integrationTypeRepository = mock(IntegrationTypeRepository.class);
 	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
 	private final GetBugTrackingSystemHandler getBugTrackingSystemHandler = mock(GetBugTrackingSystemHandler.class);
+	private final ProjectIntegrationsCache projectIntegrationsCache = new ProjectIntegrationsCache(integrationRepository);
 
 	private final GetIntegrationHandler getIntegrationHandler = new GetIntegrationHandlerImpl(integrationServiceMapming,
 			basicIntegrationService,
 			integrationRepository,
 			integrationTypeRepository,
 			projectRepository,
-			getBugTrackingSystemHandler
+			getBugTrackingSystemHandler,
+			projectIntegrationsCache
 	);
 
 	@Test
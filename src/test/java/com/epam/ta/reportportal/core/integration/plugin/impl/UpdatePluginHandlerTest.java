@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.integration.plugin.impl;
 
 import com.epam.reportportal.extension.common.IntegrationTypeProperties;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.integration.impl.util.IntegrationTestUtil;
 import com.epam.ta.reportportal.core.integration.plugin.UpdatePluginHandler;
 import com.epam.ta.reportportal.core.plugin.Pf4jPluginBox;
@@ -59,7 +60,12 @@ class UpdatePluginHandlerTest {
 
 	private PluginWrapper pluginWrapper = mock(PluginWrapper.class);
 
-	private final UpdatePluginHandler updatePluginHandler = new UpdatePluginHandlerImpl(pluginBox, integrationTypeRepository);
+	private final ProjectIntegrationsCache projectIntegrationsCache = mock(ProjectIntegrationsCache.class);
+
+	private final UpdatePluginHandler updatePluginHandler = new UpdatePluginHandlerImpl(pluginBox,
+			integrationTypeRepository,
+			projectIntegrationsCache
+	);
 
 	@AfterAll
 	static void clearPluginDirectory() throws IOException {
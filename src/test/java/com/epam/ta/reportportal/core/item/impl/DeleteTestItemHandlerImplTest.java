@@ -19,11 +19,13 @@ package com.epam.ta.reportportal.core.item.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.events.attachment.DeleteTestItemAttachmentsEvent;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LogLevel;
 import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.PathName;
 import com.epam.ta.reportportal.entity.item.TestItem;
 import com.epam.ta.reportportal.entity.item.TestItemResults;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -32,23 +34,30 @@ import com.epam.ta.reportportal.entity.user.User;
 import com.epam.ta.reportportal.entity.user.UserRole;
 import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
 import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 /**
  * @author <a href="mailto:ihar_kahadouski@epam.com">Ihar Kahadouski</a>
@@ -71,6 +80,9 @@ class DeleteTestItemHandlerImplTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private TestItemBulkQueries testItemBulkQueries;
+
 	@InjectMocks
 	private DeleteTestItemHandlerImpl handler;
 
@@ -196,7 +208,7 @@ class DeleteTestItemHandlerImplTest {
 		)).thenReturn(Collections.emptyList());
 		when(testItemRepository.hasChildren(parentId, path)).thenReturn(false);
 		when(launchRepository.hasRetries(any())).thenReturn(false);
-		doNothing().when(eventPublisher).publishEvent(any(DeleteTestItemAttachmentsEvent.class));
+		doNothing().when(eventPublisher).publishEvent(any(Object.class));
 		handler.deleteTestItem(1L, extractProjectDetails(rpUser, "test_project"), rpUser);
 
 		assertFalse(parent.isHasChildren());
@@ -221,6 +233,66 @@ class DeleteTestItemHandlerImplTest {
 
 	}
 
+	@Test
+	void deleteTestItemsInBulk() {
+		ReportPortalUser rpUser = getRpUser("owner", UserRole.ADMINISTRATOR, ProjectRole.MEMBER, 1L);
+
+		TestItem parent = new TestItem();
+		parent.setItemId(10L);
+		parent.setPath("10");
+		parent.setHasChildren(true);
+
+		TestItem first = getTestItem(StatusEnum.PASSED, StatusEnum.PASSED, 1L, "owner");
+		first.setItemId(1L);
+		first.setPath("10.1");
+		first.setParent(parent);
+		TestItem second = getTestItem(StatusEnum.FAILED, StatusEnum.PASSED, 1L, "owner");
+		second.setItemId(2L);
+		second.setPath("10.2");
+		second.setParent(parent);
+
+		Launch launch = new Launch();
+		launch.setId(1L);
+		launch.setStatus(StatusEnum.PASSED);
+		launch.setProjectId(1L);
+		launch.setUserId(1L);
+		launch.setHasRetries(true);
+
+		PathName pathName = mock(PathName.class);
+		doReturn(Collections.emptyList()).when(pathName).getItemPaths();
+
+		List<Long> ids = List.of(1L, 2L);
+		when(testItemRepository.findAllById(ids)).thenReturn(List.of(first, second));
+		when(launchRepository.findAllById(Sets.newHashSet(1L))).thenReturn(List.of(launch));
+		when(testItemRepository.selectPathNames(Sets.newHashSet(1L, 2L), 1L)).thenReturn(ImmutableMap.of(1L, pathName, 2L, pathName));
+		Set<Long> descendants = Sets.newHashSet(1L, 2L, 3L, 4L);
+		when(testItemBulkQueries.selectAllDescendantsIds(Sets.newHashSet(1L), Sets.newHashSet("10.1", "10.2"))).thenReturn(descendants);
+		when(testItemBulkQueries.selectLaunchesWithRetries(Sets.newHashSet(1L))).thenReturn(Collections.emptySet());
+		when(testItemBulkQueries.selectParentsWithChildren(Sets.newHashSet(10L))).thenReturn(Collections.emptySet());
+
+		List<OperationCompletionRS> response = handler.deleteTestItems(ids, extractProjectDetails(rpUser, "test_project"), rpUser);
+
+		assertEquals(2, response.size());
+		assertFalse(parent.isHasChildren());
+		assertFalse(launch.isHasRetries());
+
+		verify(testItemRepository, times(1)).findAllById(any());
+		InOrder deleteOrder = inOrder(testItemRepository, testItemBulkQueries);
+		deleteOrder.verify(testItemRepository, times(1)).deleteAllByItemIdIn(Sets.newHashSet(1L, 2L));
+		deleteOrder.verify(testItemRepository).flush();
+		deleteOrder.verify(testItemBulkQueries).selectLaunchesWithRetries(any());
+		deleteOrder.verify(testItemBulkQueries).selectParentsWithChildren(any());
+		verify(testItemRepository, never()).selectAllDescendantsIds(anyString());
+		verify(testItemRepository, never()).hasChildren(anyLong(), anyString());
+		verify(launchRepository, never()).hasRetries(any());
+		verify(logRepository, times(1)).findIdsUnderTestItemByLaunchIdAndTestItemIdsAndLogLevelGte(any(), any(), anyInt());
+
+		ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+		verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+		assertEquals(descendants, ((DeleteTestItemAttachmentsEvent) eventCaptor.getAllValues().get(0)).getItemIds());
+		assertEquals(launch.getProjectId(), ((ProjectDataChangedEvent) eventCaptor.getAllValues().get(1)).getProjectId());
+	}
+
 	private TestItem getTestItem(StatusEnum itemStatus, StatusEnum launchStatus, Long projectId, String owner) {
 		TestItem item = new TestItem();
 		item.setItemId(1L);
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.dao.TicketRepository;
+import com.epam.ta.reportportal.entity.bts.Ticket;
+import com.epam.ta.reportportal.entity.item.issue.IssueEntity;
+import com.epam.ta.reportportal.ws.model.issue.Issue;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExternalTicketHandlerImplTest {
+
+	private static final int ISSUES_COUNT = 50;
+
+	@Mock
+	private TicketRepository ticketRepository;
+
+	@InjectMocks
+	private ExternalTicketHandlerImpl handler;
+
+	@Test
+	void updateLinkingResolvesTicketsOfAllIssuesWithSingleQuery() {
+		Ticket existed = new Ticket();
+		existed.setTicketId("EPMRPP-1");
+		when(ticketRepository.findByTicketIdIn(any())).thenReturn(Lists.newArrayList(existed));
+
+		List<Pair<IssueEntity, Set<Issue.ExternalSystemIssue>>> externalTickets = IntStream.range(0, ISSUES_COUNT)
+				.mapToObj(i -> Pair.<IssueEntity, Set<Issue.ExternalSystemIssue>>of(new IssueEntity(),
+						Sets.newHashSet(externalIssue("EPMRPP-1"), externalIssue("EPMRPP-2"))
+				))
+				.collect(Collectors.toList());
+
+		handler.updateLinking("superadmin", externalTickets);
+
+		verify(ticketRepository, times(1)).findByTicketIdIn(any());
+		verify(ticketRepository, never()).findByTicketId(anyString());
+
+		Map<String, Ticket> linked = externalTickets.get(0)
+				.getKey()
+				.getTickets()
+				.stream()
+				.collect(Collectors.toMap(Ticket::getTicketId, it -> it));
+		assertEquals(2, linked.size());
+		assertSame(existed, linked.get("EPMRPP-1"));
+		assertEquals("superadmin", existed.getSubmitter());
+		externalTickets.forEach(pair -> {
+			assertEquals(2, pair.getKey().getTickets().size());
+			assertSame(linked.get("EPMRPP-2"),
+					pair.getKey().getTickets().stream().filter(it -> "EPMRPP-2".equals(it.getTicketId())).findFirst().orElse(null)
+			);
+		});
+	}
+
+	@Test
+	void updateLinkingWithoutTicketsDoesNotQuery() {
+		IssueEntity issueEntity = new IssueEntity();
+
+		handler.updateLinking("superadmin", issueEntity, null);
+
+		verifyNoInteractions(ticketRepository);
+	}
+
+	@Test
+	void linkExternalTicketsSavesNewTicketsOnce() {
+		Ticket existed = new Ticket();
+		existed.setTicketId("EPMRPP-1");
+		when(ticketRepository.findByTicketIdIn(any())).thenReturn(Lists.newArrayList(existed));
+		when(ticketRepository.saveAll(any())).thenAnswer(invocation -> Lists.newArrayList((Iterable<Ticket>) invocation.getArgument(0)));
+
+		List<IssueEntity> issues = IntStream.range(0, ISSUES_COUNT).mapToObj(i -> new IssueEntity()).collect(Collectors.toList());
+		List<Issue.ExternalSystemIssue> tickets = Lists.newArrayList(externalIssue("EPMRPP-1"),
+				externalIssue("EPMRPP-2"),
+				externalIssue("EPMRPP-2")
+		);
+
+		handler.linkExternalTickets("superadmin", issues, tickets);
+
+		verify(ticketRepository, times(1)).findByTicketIdIn(any());
+		verify(ticketRepository, never()).findByTicketId(anyString());
+		verify(ticketRepository, times(1)).saveAll(argThat(saved -> ((Collection<Ticket>) saved).size() == 1));
+		issues.forEach(issue -> assertEquals(2, issue.getTickets().size()));
+	}
+
+	private static Issue.ExternalSystemIssue externalIssue(String ticketId) {
+		Issue.ExternalSystemIssue issue = new Issue.ExternalSystemIssue();
+		issue.setTicketId(ticketId);
+		issue.setBtsProject("project");
+		issue.setBtsUrl("http://bts.com");
+		issue.setUrl("http://bts.com/" + ticketId);
+		return issue;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.item.impl;
+
+import com.epam.ta.reportportal.dao.TestItemRepository;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Sql("/db/test-item/test-item-bulk-fill.sql")
+class TestItemBulkQueriesTest extends BaseMvcTest {
+
+	@Autowired
+	private TestItemBulkQueries testItemBulkQueries;
+
+	@Autowired
+	private TestItemRepository testItemRepository;
+
+	@Test
+	void descendantsIncludeRetries() {
+		assertEquals(Sets.newHashSet(2L, 3L, 4L, 5L),
+				testItemBulkQueries.selectAllDescendantsIds(Sets.newHashSet(1L), Sets.newHashSet("1.2", "1.5"))
+		);
+	}
+
+	@Test
+	void descendantsAreLimitedByLaunches() {
+		assertTrue(testItemBulkQueries.selectAllDescendantsIds(Sets.newHashSet(1L), Sets.newHashSet("6")).isEmpty());
+		assertTrue(testItemBulkQueries.selectAllDescendantsIds(Sets.newHashSet(1L), Collections.emptySet()).isEmpty());
+	}
+
+	@Test
+	void parentsWithChildren() {
+		assertEquals(Sets.newHashSet(1L, 2L), testItemBulkQueries.selectParentsWithChildren(Sets.newHashSet(1L, 2L, 5L, 7L)));
+	}
+
+	@Test
+	void launchesWithRetries() {
+		assertEquals(Sets.newHashSet(1L), testItemBulkQueries.selectLaunchesWithRetries(Sets.newHashSet(1L, 2L)));
+	}
+
+	@Test
+	void flushedDeleteIsVisibleToQueries() {
+		testItemRepository.deleteAllByItemIdIn(Sets.newHashSet(3L, 7L));
+		testItemRepository.flush();
+
+		assertEquals(Sets.newHashSet(1L), testItemBulkQueries.selectParentsWithChildren(Sets.newHashSet(1L, 2L, 6L)));
+		assertTrue(testItemBulkQueries.selectLaunchesWithRetries(Sets.newHashSet(1L, 2L)).isEmpty());
+	}
+}
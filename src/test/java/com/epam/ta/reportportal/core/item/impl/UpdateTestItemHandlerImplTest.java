@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.item.TestItemService;
 import com.epam.ta.reportportal.core.item.impl.status.StatusChangingStrategy;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.ItemAttribute;
@@ -76,6 +77,9 @@ class UpdateTestItemHandlerImplTest {
 	@Mock
 	private MessageBus messageBus;
 
+	@Mock
+	private SuggestionIndex suggestionIndex;
+
 	@InjectMocks
 	private UpdateTestItemHandlerImpl handler;
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.jasper.impl;
+
+import com.epam.ta.reportportal.core.jasper.JasperReportRender;
+import com.epam.ta.reportportal.entity.jasper.ReportFormat;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.ProjectUser;
+import com.epam.ta.reportportal.entity.user.User;
+import com.epam.ta.reportportal.entity.user.UserType;
+import com.epam.ta.reportportal.job.PageUtil;
+import com.google.common.collect.Iterators;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class UserJasperReportHandlerTest {
+
+	private final JasperReportRender reportRender = mock(JasperReportRender.class);
+
+	private final UserJasperReportHandler handler = new UserJasperReportHandler(reportRender);
+
+	@Test
+	void writeCsvReport() {
+		User user = user(1);
+		user.setFullName("Last, First \"Nick\"");
+		User userWithoutProjects = user(2);
+		userWithoutProjects.setProjects(Collections.emptySet());
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		handler.writeReport(ReportFormat.CSV, outputStream, Arrays.asList(user, userWithoutProjects).iterator());
+
+		assertEquals("Full name,Type,Login,Email,Last login,Projects and Roles\n"
+				+ "\"Last, First \"\"Nick\"\"\",INTERNAL,user1,user1@example.com,,project1 - MEMBER\n"
+				+ "User 2,INTERNAL,user2,user2@example.com,,\n", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+		verifyNoInteractions(reportRender);
+	}
+
+	@Test
+	void csvReportIsStreamedByIdRanges() {
+		int rangeSize = 500;
+		int total = 200_000;
+		//only even ids exist, so every range contains a half of the range size of users
+		long maxId = 2L * total;
+		AtomicInteger rangesRequested = new AtomicInteger();
+		AtomicLong lastWrittenId = new AtomicLong();
+		LineCountingOutputStream outputStream = new LineCountingOutputStream();
+
+		Iterator<User> users = PageUtil.iterateByIdRanges(rangeSize, lastId -> {
+			long nextId = lastId + 2 - lastId % 2;
+			return nextId > maxId ? null : nextId;
+		}, (from, to) -> {
+			int range = rangesRequested.getAndIncrement();
+			assertEquals(rangeSize, to - from);
+			//rows of the previous ranges are written before the next range is fetched, only the writer buffers are retained
+			assertTrue(outputStream.getLines() >= (long) (range - 1) * rangeSize / 2,
+					"Range " + range + " was requested before the previous ranges were written"
+			);
+			List<User> content = LongStream.range(from, Math.min(to, maxId + 1))
+					.filter(id -> id % 2 == 0)
+					.mapToObj(id -> user((int) id))
+					.collect(Collectors.toList());
+			//the repository doesn't guarantee the order of the range
+			Collections.reverse(content);
+			return content;
+		}, User::getId);
+
+		handler.writeReport(ReportFormat.CSV, outputStream, Iterators.filter(users, user -> {
+			assertTrue(user.getId() > lastWrittenId.getAndSet(user.getId()), "Users are not sorted by id");
+			return true;
+		}));
+
+		assertEquals(total * 2 / rangeSize, rangesRequested.get());
+		assertEquals(total + 1, outputStream.getLines());
+	}
+
+	private static User user(int index) {
+		Project project = new Project();
+		project.setName("project" + index);
+		User user = new User();
+		user.setId((long) index);
+		user.setLogin("user" + index);
+		user.setFullName("User " + index);
+		user.setEmail("user" + index + "@example.com");
+		user.setUserType(UserType.INTERNAL);
+		user.setProjects(new HashSet<>(Collections.singleton(new ProjectUser().withProject(project)
+				.withProjectRole(ProjectRole.MEMBER)
+				.withUser(user))));
+		return user;
+	}
+
+	/**
+	 * Doesn't retain the report content, so the test itself stays within the bounded memory
+	 */
+	private static class LineCountingOutputStream extends OutputStream {
+
+		private final AtomicLong lines = new AtomicLong();
+
+		@Override
+		public void write(int b) {
+			if (b == '\n') {
+				lines.incrementAndGet();
+			}
+		}
+
+		long getLines() {
+			return lines.get();
+		}
+	}
+}
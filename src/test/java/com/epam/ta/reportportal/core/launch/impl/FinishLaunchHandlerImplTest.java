@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
 import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
@@ -67,6 +68,9 @@ class FinishLaunchHandlerImplTest {
 	@Mock
 	private ApplicationEventPublisher publisher;
 
+	@Mock
+	private SuggestionIndex suggestionIndex;
+
 	@InjectMocks
 	private FinishLaunchHandlerImpl handler;
 
@@ -19,6 +19,7 @@ package com.epam.ta.reportportal.core.launch.impl;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.events.MessageBus;
 import com.epam.ta.reportportal.core.launch.rerun.RerunHandler;
+import com.epam.ta.reportportal.core.suggestion.SuggestionIndex;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.UserRepository;
 import com.epam.ta.reportportal.entity.launch.Launch;
@@ -60,6 +61,9 @@ class StartLaunchHandlerImplTest {
 	@Mock
 	private RerunHandler rerunHandler;
 
+	@Mock
+	private SuggestionIndex suggestionIndex;
+
 	@InjectMocks
 	private StartLaunchHandlerImpl startLaunchHandlerImpl;
 
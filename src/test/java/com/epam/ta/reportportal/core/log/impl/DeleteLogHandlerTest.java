@@ -20,6 +20,7 @@ import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.commons.ReportPortalUser;
 import com.epam.ta.reportportal.core.analyzer.auto.LogIndexer;
 import com.epam.ta.reportportal.core.item.TestItemService;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.LogRepository;
 import com.epam.ta.reportportal.dao.ProjectRepository;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
@@ -69,6 +70,9 @@ class DeleteLogHandlerTest {
 	@Mock
 	private LogIndexer logIndexer;
 
+	@Mock
+	private ProjectStorageService projectStorageService;
+
 	@InjectMocks
 	private DeleteLogHandlerImpl handler;
 
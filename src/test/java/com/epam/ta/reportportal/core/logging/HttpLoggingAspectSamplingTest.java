@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.core.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HttpLoggingAspectSamplingTest {
+
+	private static final Map<String, Object> PAYLOAD = Collections.singletonMap("key", "value");
+
+	@Mock
+	private Appender<ILoggingEvent> appender;
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(HelperController.class);
+
+	@BeforeEach
+	void setUp() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("POST", "/request/path")));
+		logger.setLevel(Level.DEBUG);
+		logger.setAdditive(false);
+		logger.detachAndStopAllAppenders();
+		logger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		logger.detachAndStopAllAppenders();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void notSampledRequestBodiesAreNotSerialized() {
+		ObjectMapper objectMapper = mock(ObjectMapper.class);
+		HelperController proxy = proxy(new HttpLoggingAspect(0, Collections.emptyMap(), Integer.MAX_VALUE, null), objectMapper);
+
+		proxy.logFull(PAYLOAD);
+
+		verifyNoInteractions(objectMapper, appender);
+	}
+
+	@Test
+	void endpointSampleRateOverridesDefaultOne() {
+		HelperController proxy = proxy(new HttpLoggingAspect(0,
+				ImmutableMap.of("HelperController.logFull", 1.0),
+				Integer.MAX_VALUE,
+				null
+		), new ObjectMapper());
+
+		proxy.logFull(PAYLOAD);
+		proxy.logWithoutHeaders(PAYLOAD);
+
+		List<String> records = records(2);
+		assertTrue(records.get(0).startsWith("logFull (1) - Request"));
+		assertTrue(records.get(1).startsWith("logFull (1) - Response"));
+	}
+
+	@Test
+	void bodyIsTruncated() {
+		HelperController proxy = proxy(new HttpLoggingAspect(1, Collections.emptyMap(), 50, null), new ObjectMapper());
+		Map<String, Object> payload = IntStream.range(0, 10_000).boxed().collect(Collectors.toMap(String::valueOf, i -> "value" + i));
+
+		proxy.logWithoutHeaders(payload);
+
+		String request = records(2).get(0);
+		String body = request.substring(request.lastIndexOf('\n') + 2);
+		assertTrue(body.endsWith("... <truncated>"));
+		assertEquals(50 + "... <truncated>".length(), body.length());
+	}
+
+	@Test
+	void recordsAreWrittenByExecutor() {
+		List<Runnable> tasks = new ArrayList<>();
+		Executor executor = tasks::add;
+		HelperController proxy = proxy(new HttpLoggingAspect(1, Collections.emptyMap(), Integer.MAX_VALUE, executor), new ObjectMapper());
+		Map<String, Object> payload = new HashMap<>(PAYLOAD);
+
+		proxy.logFull(payload);
+		RequestContextHolder.resetRequestAttributes();
+		payload.put("key", "changed");
+
+		verifyNoInteractions(appender);
+		assertEquals(2, tasks.size());
+		tasks.forEach(Runnable::run);
+		List<String> records = records(2);
+		assertTrue(records.get(0).contains("POST /request/path"));
+		assertTrue(records.get(0).contains("\"key\":\"value\""));
+		assertTrue(records.get(1).contains("\"key\":\"value\""));
+	}
+
+	private static HelperController proxy(HttpLoggingAspect aspect, ObjectMapper objectMapper) {
+		ReflectionTestUtils.setField(aspect, "objectMapper", objectMapper);
+		AspectJProxyFactory factory = new AspectJProxyFactory(new HelperController());
+		factory.addAspect(aspect);
+		return factory.getProxy();
+	}
+
+	private List<String> records(int count) {
+		ArgumentCaptor<ILoggingEvent> captor = ArgumentCaptor.forClass(ILoggingEvent.class);
+		verify(appender, times(count)).doAppend(captor.capture());
+		return captor.getAllValues().stream().map(ILoggingEvent::getMessage).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpLoggingRejectionHandlerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final CountDownLatch writing = new CountDownLatch(1);
+
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1,
+			1,
+			0,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(1),
+			new HttpLoggingRejectionHandler(meterRegistry)
+	);
+
+	@AfterEach
+	void cleanUp() {
+		writing.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void recordsRejectedByFullQueueAreCounted() {
+		executor.execute(this::awaitWriting);
+		executor.execute(this::awaitWriting);
+
+		executor.execute(this::awaitWriting);
+		executor.execute(this::awaitWriting);
+
+		assertEquals(2, meterRegistry.get(HttpLoggingRejectionHandler.DROPPED_COUNTER).counter().count());
+		assertEquals(1, executor.getQueue().size());
+	}
+
+	private void awaitWriting() {
+		try {
+			writing.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
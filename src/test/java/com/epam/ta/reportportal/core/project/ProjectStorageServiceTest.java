@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project;
+
+import com.epam.ta.reportportal.entity.attachment.Attachment;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ProjectStorageServiceTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final ProjectStorageService projectStorageService = new ProjectStorageService(jdbcTemplate);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void removedSizesAreSummedPerProject() {
+		projectStorageService.decrease(Arrays.asList(attachment(1L, 100L), attachment(1L, 50L), attachment(2L, 0L), null));
+
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+		assertEquals(1, captor.getValue().size());
+		assertArrayEquals(new Object[] { 150L, 1L }, captor.getValue().get(0));
+	}
+
+	@Test
+	void emptySizesAreNotWritten() {
+		projectStorageService.increase(1L, 0L);
+		projectStorageService.decrease(Collections.singletonList(attachment(1L, 0L)));
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	private static Attachment attachment(Long projectId, long size) {
+		Attachment attachment = new Attachment();
+		attachment.setProjectId(projectId);
+		attachment.setFileSize(size);
+		return attachment;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.config;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.handler.util.LaunchFinishedTestUtils;
+import com.epam.ta.reportportal.core.events.project.ProjectConfigChangedEvent;
+import com.epam.ta.reportportal.entity.enums.ProjectAttributeEnum;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ProjectConfigCacheTest {
+
+	private final MessageBus messageBus = mock(MessageBus.class);
+
+	private final ProjectConfigCache projectConfigCache = new ProjectConfigCache(messageBus);
+
+	@Test
+	void snapshotIsReusedUntilInvalidated() {
+		Project project = getProject("true");
+
+		ProjectConfigSnapshot snapshot = projectConfigCache.getConfig(project);
+		assertTrue(snapshot.isNotificationsEnabled());
+		assertFalse(snapshot.isAutoPatternAnalyzerEnabled());
+		assertTrue(snapshot.getAnalyzerConfig().getIsAutoAnalyzerEnabled());
+
+		project.getProjectAttributes()
+				.stream()
+				.filter(it -> ProjectAttributeEnum.NOTIFICATIONS_ENABLED.getAttribute().equals(it.getAttribute().getName()))
+				.forEach(it -> it.setValue("false"));
+		assertSame(snapshot, projectConfigCache.getConfig(project));
+
+		projectConfigCache.invalidate(project.getId());
+		ProjectConfigSnapshot updated = projectConfigCache.getConfig(project);
+		assertNotSame(snapshot, updated);
+		assertTrue(updated.getVersion() > snapshot.getVersion());
+		assertFalse(updated.isNotificationsEnabled());
+		verify(messageBus).broadcastEvent(argThat(it -> it instanceof ProjectConfigChangedEvent
+				&& project.getId().equals(((ProjectConfigChangedEvent) it).getProjectId())));
+	}
+
+	@Test
+	void invalidationKeepsSnapshotsOfOtherProjects() {
+		Project project = getProject("true");
+		Project otherProject = getProject("true");
+		otherProject.setId(2L);
+		ProjectConfigSnapshot otherSnapshot = projectConfigCache.getConfig(otherProject);
+
+		projectConfigCache.invalidate(project.getId());
+
+		assertEquals(0L, projectConfigCache.getProjectVersion(otherProject.getId()));
+		assertSame(otherSnapshot, projectConfigCache.getConfig(otherProject));
+	}
+
+	@Test
+	void broadcastEvictionIsNotBroadcastAgain() {
+		Project project = getProject("true");
+		ProjectConfigSnapshot snapshot = projectConfigCache.getConfig(project);
+
+		projectConfigCache.evict(project.getId());
+
+		assertNotSame(snapshot, projectConfigCache.getConfig(project));
+		verify(messageBus, never()).broadcastEvent(any());
+	}
+
+	@Test
+	void analyzerConfigCopyDoesNotChangeSnapshot() {
+		ProjectConfigSnapshot snapshot = projectConfigCache.getConfig(getProject("true"));
+
+		snapshot.getAnalyzerConfig().setIsAutoAnalyzerEnabled(false);
+
+		assertTrue(snapshot.getAnalyzerConfig().getIsAutoAnalyzerEnabled());
+		assertThrows(UnsupportedOperationException.class, () -> snapshot.getConfigParameters().clear());
+	}
+
+	private static Project getProject(String notificationsEnabled) {
+		Project project = new Project();
+		project.setId(1L);
+		project.setProjectAttributes(LaunchFinishedTestUtils.getProjectAttributes(ImmutableMap.<ProjectAttributeEnum, String>builder().put(
+				ProjectAttributeEnum.NOTIFICATIONS_ENABLED,
+				notificationsEnabled
+		)
+				.put(ProjectAttributeEnum.AUTO_ANALYZER_ENABLED, "true")
+				.put(ProjectAttributeEnum.AUTO_PATTERN_ANALYZER_ENABLED, "false")
+				.build()));
+		return project;
+	}
+}
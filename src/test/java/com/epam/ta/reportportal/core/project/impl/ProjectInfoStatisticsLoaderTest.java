@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.project.impl;
+
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoStatisticsLoader.DailyStatistics;
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoStatisticsLoader.LaunchNameStatistics;
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoWidgetDataConverter.ProjectInfoGroup;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.enums.InfoInterval;
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.epam.ta.reportportal.ws.model.widget.ChartObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.core.statistics.StatisticsHelper.extractStatisticsCount;
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+import static java.util.Optional.ofNullable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Compares statistics aggregated by the database with the statistics aggregated from the project launches
+ * and the widgets content built from them with the content built by the previous launch based converter
+ */
+@Sql("/db/project-info/project-info-fill.sql")
+class ProjectInfoStatisticsLoaderTest extends BaseMvcTest {
+
+	private static final Long PROJECT_ID = 2L;
+
+	@Autowired
+	private ProjectInfoStatisticsLoader statisticsLoader;
+
+	@Autowired
+	private LaunchRepository launchRepository;
+
+	@Autowired
+	private ProjectInfoWidgetDataConverter dataConverter;
+
+	@Autowired
+	@Qualifier("groupingStrategy")
+	private Map<InfoInterval, ProjectInfoGroup> grouping;
+
+	@Test
+	void dailyStatisticsForMonth() {
+		assertSameDailyStatistics(InfoInterval.ONE_MONTH);
+	}
+
+	@Test
+	void dailyStatisticsForThreeMonths() {
+		assertSameDailyStatistics(InfoInterval.THREE_MONTHS);
+	}
+
+	@Test
+	void launchNameStatisticsForMonth() {
+		assertSameLaunchNameStatistics(InfoInterval.ONE_MONTH);
+	}
+
+	@Test
+	void launchNameStatisticsForThreeMonths() {
+		assertSameLaunchNameStatistics(InfoInterval.THREE_MONTHS);
+	}
+
+	@Test
+	void widgetsContentGroupedByDay() {
+		assertSameWidgetsContent(InfoInterval.ONE_MONTH);
+	}
+
+	@Test
+	void widgetsContentGroupedByWeek() {
+		assertSameWidgetsContent(InfoInterval.THREE_MONTHS);
+	}
+
+	private void assertSameWidgetsContent(InfoInterval interval) {
+		LocalDateTime from = from(interval);
+		//grouping of the previous converter fills the gaps between the launches ordered by start time
+		List<Launch> launches = new ArrayList<>(loadLaunches(from));
+		launches.sort(Comparator.comparing(Launch::getStartTime));
+		LaunchProjectInfoWidgetDataConverter launchConverter = new LaunchProjectInfoWidgetDataConverter(grouping);
+		List<DailyStatistics> daily = statisticsLoader.loadDailyStatistics(PROJECT_ID, from, LaunchModeEnum.DEFAULT);
+		List<LaunchNameStatistics> byName = statisticsLoader.loadLaunchNameStatistics(PROJECT_ID, from, LaunchModeEnum.DEFAULT);
+
+		assertEquals(contentOf(launchConverter.getInvestigatedProjectInfo(launches, interval)),
+				contentOf(dataConverter.getInvestigatedProjectInfo(daily, interval))
+		);
+		assertEquals(contentOf(launchConverter.getLaunchesQuantity(launches, interval)),
+				contentOf(dataConverter.getLaunchesQuantity(daily, interval))
+		);
+		assertEquals(contentOf(launchConverter.getLaunchesIssues(launches, interval)),
+				contentOf(dataConverter.getLaunchesIssues(daily, interval))
+		);
+		assertEquals(contentOf(launchConverter.getTestCasesStatisticsProjectInfo(launches)),
+				contentOf(dataConverter.getTestCasesStatisticsProjectInfo(byName))
+		);
+	}
+
+	private void assertSameDailyStatistics(InfoInterval interval) {
+		LocalDateTime from = from(interval);
+		Map<LocalDate, List<Launch>> launchesByDay = loadLaunches(from).stream()
+				.collect(Collectors.groupingBy(l -> l.getStartTime().toLocalDate(), TreeMap::new, Collectors.toList()));
+
+		List<String> expected = launchesByDay.entrySet()
+				.stream()
+				.map(entry -> Arrays.asList(entry.getKey(),
+						entry.getValue().size(),
+						sum(entry.getValue(), DEFECTS_PRODUCT_BUG_TOTAL),
+						sum(entry.getValue(), DEFECTS_AUTOMATION_BUG_TOTAL),
+						sum(entry.getValue(), DEFECTS_SYSTEM_ISSUE_TOTAL),
+						sum(entry.getValue(), DEFECTS_TO_INVESTIGATE_TOTAL)
+				).toString())
+				.collect(Collectors.toList());
+
+		List<String> actual = statisticsLoader.loadDailyStatistics(PROJECT_ID, from, LaunchModeEnum.DEFAULT)
+				.stream()
+				.map(day -> Arrays.asList(day.getDay(),
+						day.getLaunchesQuantity(),
+						day.getProductBug(),
+						day.getAutomationBug(),
+						day.getSystemIssue(),
+						day.getToInvestigate()
+				).toString())
+				.collect(Collectors.toList());
+
+		assertEquals(expected, actual);
+	}
+
+	private void assertSameLaunchNameStatistics(InfoInterval interval) {
+		LocalDateTime from = from(interval);
+		Map<String, List<Launch>> launchesByName = loadLaunches(from).stream().collect(Collectors.groupingBy(Launch::getName));
+
+		Map<String, String> expected = launchesByName.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> {
+			IntSummaryStatistics executions = entry.getValue()
+					.stream()
+					.mapToInt(l -> extractStatisticsCount(EXECUTIONS_TOTAL, l.getStatistics()))
+					.summaryStatistics();
+			return Arrays.asList(executions.getCount(), executions.getMin(), executions.getMax(), executions.getAverage()).toString();
+		}));
+
+		Map<String, String> actual = statisticsLoader.loadLaunchNameStatistics(PROJECT_ID, from, LaunchModeEnum.DEFAULT)
+				.stream()
+				.collect(Collectors.toMap(LaunchNameStatistics::getName,
+						st -> Arrays.asList((long) st.getLaunchesQuantity(),
+								st.getMinExecutions(),
+								st.getMaxExecutions(),
+								st.getAverageExecutions()
+						).toString()
+				));
+
+		assertEquals(expected, actual);
+	}
+
+	private List<Launch> loadLaunches(LocalDateTime from) {
+		List<Launch> launches = launchRepository.findByProjectIdAndStartTimeGreaterThanAndMode(PROJECT_ID, from, LaunchModeEnum.DEFAULT);
+		assertFalse(launches.isEmpty());
+		return launches;
+	}
+
+	/**
+	 * @return Widget content with the chart objects as strings, as {@link ChartObject} doesn't define equality
+	 */
+	private static Map<String, List<String>> contentOf(Map<String, List<ChartObject>> content) {
+		return content.entrySet()
+				.stream()
+				.collect(Collectors.toMap(Map.Entry::getKey,
+						entry -> entry.getValue()
+								.stream()
+								.map(chart -> chart.getName() + ofNullable(chart.getValues()).map(TreeMap::new).orElse(null))
+								.collect(Collectors.toList()),
+						(first, second) -> first,
+						TreeMap::new
+				));
+	}
+
+	private static LocalDateTime from(InfoInterval interval) {
+		return LocalDateTime.now(Clock.systemUTC()).minusMonths(interval.getCount());
+	}
+
+	private static int sum(List<Launch> launches, String statisticsField) {
+		return launches.stream().mapToInt(l -> extractStatisticsCount(statisticsField, l.getStatistics())).sum();
+	}
+}
@@ -16,17 +16,17 @@
 
 package com.epam.ta.reportportal.core.project.impl;
 
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoStatisticsLoader.DailyStatistics;
+import com.epam.ta.reportportal.core.project.impl.ProjectInfoStatisticsLoader.LaunchNameStatistics;
 import com.epam.ta.reportportal.entity.enums.InfoInterval;
-import com.epam.ta.reportportal.entity.launch.Launch;
-import com.epam.ta.reportportal.entity.statistics.Statistics;
-import com.epam.ta.reportportal.entity.statistics.StatisticsField;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Sets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.time.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.IsoFields;
@@ -35,7 +35,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -92,14 +91,9 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getInvestigatedProjectInfoWithoutDefectsStatistics() {
-		Launch launch = new Launch();
-		launch.setName("test_launch");
-		launch.setId(1L);
-		launch.setNumber(1L);
-		launch.setStartTime(LocalDateTime.now(ZoneOffset.UTC));
-		launch.setStatistics(Sets.newHashSet(getStatistics(EXECUTIONS_TOTAL, 5), getStatistics(EXECUTIONS_PASSED, 5)));
-
-		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(Collections.singletonList(launch),
+		DailyStatistics daily = new DailyStatistics(LocalDate.now(ZoneOffset.UTC), 1, 0, 0, 0, 0);
+
+		Map<String, List<ChartObject>> investigatedProjectInfo = converter.getInvestigatedProjectInfo(Collections.singletonList(daily),
 				InfoInterval.THREE_MONTHS
 		);
 
@@ -109,7 +103,7 @@ class ProjectInfoWidgetDataConverterTest {
 
 	@Test
 	void getTestCasesStatisticsProjectInfo() {
-		Map<String, List<ChartObject>> testCasesStatisticsProjectInfo = converter.getTestCasesStatisticsProjectInfo(getTestData());
+		Map<String, List<ChartObject>> testCasesStatisticsProjectInfo = converter.getTestCasesStatisticsProjectInfo(getLaunchNameTestData());
 
 		assertEquals("18.0", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("min"));
 		assertEquals("19.5", testCasesStatisticsProjectInfo.get("test_launch").get(0).getValues().get("avg"));
@@ -156,42 +150,11 @@ class ProjectInfoWidgetDataConverterTest {
 		assertEquals("7", launchesIssues.get(thisWeekFormattedDate).get(0).getValues().get("automationBug"));
 	}
 
-	private List<Launch> getTestData() {
-		Launch launch1 = new Launch();
-		launch1.setName("test_launch");
-		launch1.setId(1L);
-		launch1.setNumber(1L);
-		launch1.setStartTime(LocalDateTime.of(yesterday, LocalTime.now(ZoneOffset.UTC)));
-		launch1.setStatistics(Sets.newHashSet(getStatistics(EXECUTIONS_TOTAL, 18),
-				getStatistics(EXECUTIONS_PASSED, 5),
-				getStatistics(EXECUTIONS_SKIPPED, 1),
-				getStatistics(EXECUTIONS_FAILED, 12),
-				getStatistics(DEFECTS_AUTOMATION_BUG_TOTAL, 3),
-				getStatistics(DEFECTS_PRODUCT_BUG_TOTAL, 2),
-				getStatistics(DEFECTS_SYSTEM_ISSUE_TOTAL, 3),
-				getStatistics(DEFECTS_TO_INVESTIGATE_TOTAL, 4)
-		));
-		Launch launch2 = new Launch();
-		launch2.setName("test_launch");
-		launch2.setId(2L);
-		launch2.setNumber(2L);
-		launch2.setStartTime(LocalDateTime.of(today, LocalTime.now(ZoneOffset.UTC)));
-		launch2.setStatistics(Sets.newHashSet(getStatistics(EXECUTIONS_TOTAL, 21),
-				getStatistics(EXECUTIONS_PASSED, 6),
-				getStatistics(EXECUTIONS_SKIPPED, 2),
-				getStatistics(EXECUTIONS_FAILED, 13),
-				getStatistics(DEFECTS_AUTOMATION_BUG_TOTAL, 4),
-				getStatistics(DEFECTS_PRODUCT_BUG_TOTAL, 1),
-				getStatistics(DEFECTS_SYSTEM_ISSUE_TOTAL, 3),
-				getStatistics(DEFECTS_TO_INVESTIGATE_TOTAL, 5)
-		));
-		return Arrays.asList(launch1, launch2);
+	private List<DailyStatistics> getTestData() {
+		return Arrays.asList(new DailyStatistics(yesterday, 1, 2, 3, 3, 4), new DailyStatistics(today, 1, 1, 4, 3, 5));
 	}
 
-	private Statistics getStatistics(String statisticsFieldName, int counter) {
-		Statistics statistics = new Statistics();
-		statistics.setStatisticsField(new StatisticsField(statisticsFieldName));
-		statistics.setCounter(counter);
-		return statistics;
+	private List<LaunchNameStatistics> getLaunchNameTestData() {
+		return Collections.singletonList(new LaunchNameStatistics("test_launch", 2, 18, 21, 39));
 	}
-}
\ No newline at end of file
+}
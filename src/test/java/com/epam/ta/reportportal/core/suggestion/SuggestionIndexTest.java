@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.suggestion;
+
+import com.epam.ta.reportportal.entity.ItemAttribute;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.entity.enums.LaunchModeEnum;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SuggestionIndexTest {
+
+	private static final Long PROJECT_ID = 1L;
+
+	private final SuggestionQueries suggestionQueries = mock(SuggestionQueries.class);
+
+	private final SuggestionIndex suggestionIndex = new SuggestionIndex(suggestionQueries);
+
+	@Test
+	void valuesStartingWithTermGoFirst() {
+		when(suggestionQueries.findLaunchNames(eq(PROJECT_ID), anyInt())).thenReturn(Arrays.asList("Regression smoke",
+				"nightly",
+				"Smoke api",
+				"smoke",
+				"Smoke"
+		));
+
+		List<String> names = suggestionIndex.getLaunchNames(PROJECT_ID, "SMO", Collections::emptyList);
+
+		assertEquals(Arrays.asList("Smoke", "smoke", "Smoke api", "Regression smoke"), names);
+		assertEquals(Collections.singletonList("Smoke api"), suggestionIndex.getLaunchNames(PROJECT_ID, "smoke a", Collections::emptyList));
+		assertEquals(Collections.singletonList("nightly"), suggestionIndex.getLaunchNames(PROJECT_ID, "ght", Collections::emptyList));
+		verify(suggestionQueries, times(1)).findLaunchNames(eq(PROJECT_ID), anyInt());
+	}
+
+	@Test
+	void suggestionsAreLimited() {
+		List<String> tickets = IntStream.range(0, SuggestionIndex.SUGGESTIONS_LIMIT * 2)
+				.mapToObj(i -> String.format("EPMRPP-%03d", i))
+				.collect(Collectors.toList());
+		when(suggestionQueries.findTickets(eq(PROJECT_ID), anyInt())).thenReturn(tickets);
+
+		List<String> found = suggestionIndex.getTickets(PROJECT_ID, "epmrpp-", Collections::emptyList);
+		assertEquals(tickets.subList(0, SuggestionIndex.SUGGESTIONS_LIMIT), found);
+
+		List<String> narrowed = suggestionIndex.getTickets(PROJECT_ID, "epmrpp-09", Collections::emptyList);
+		assertEquals(tickets.subList(90, 100), narrowed);
+	}
+
+	@Test
+	void reportedValuesAreAddedToLoadedDictionaries() {
+		when(suggestionQueries.findLaunchOwners(eq(PROJECT_ID), eq(LaunchModeEnum.DEFAULT), anyInt())).thenReturn(Lists.newArrayList(
+				"default"));
+		when(suggestionQueries.findLaunchAttributeKeys(eq(PROJECT_ID), anyInt())).thenReturn(Lists.newArrayList("browser"));
+		when(suggestionQueries.findLaunchAttributeValues(eq(PROJECT_ID), eq("browser"), anyInt())).thenReturn(Lists.newArrayList("chrome"));
+
+		assertEquals(Collections.singletonList("default"), suggestionIndex.getLaunchOwners(PROJECT_ID,
+				LaunchModeEnum.DEFAULT,
+				"def",
+				Collections::emptyList
+		));
+		assertEquals(Collections.singletonList("browser"), suggestionIndex.getLaunchAttributeKeys(PROJECT_ID, "b", Collections::emptyList));
+		assertEquals(Collections.emptyList(), suggestionIndex.getLaunchAttributeValues(PROJECT_ID, "browser", "fire", Collections::emptyList));
+
+		Launch launch = new Launch();
+		launch.setProjectId(PROJECT_ID);
+		launch.setMode(LaunchModeEnum.DEFAULT);
+		launch.setAttributes(Sets.newHashSet(new ItemAttribute("browser", "firefox", false),
+				new ItemAttribute("build", "1.0", false),
+				new ItemAttribute("agent", "java", true)
+		));
+		suggestionIndex.onLaunchStarted(launch, "default_user");
+
+		assertEquals(Arrays.asList("default", "default_user"), suggestionIndex.getLaunchOwners(PROJECT_ID,
+				LaunchModeEnum.DEFAULT,
+				"def",
+				Collections::emptyList
+		));
+		assertEquals(Arrays.asList("browser", "build"), suggestionIndex.getLaunchAttributeKeys(PROJECT_ID, "b", Collections::emptyList));
+		assertEquals(Collections.emptyList(), suggestionIndex.getLaunchAttributeKeys(PROJECT_ID, "agent", Collections::emptyList));
+		assertEquals(Collections.singletonList("firefox"),
+				suggestionIndex.getLaunchAttributeValues(PROJECT_ID, "browser", "fire", Collections::emptyList)
+		);
+
+		verify(suggestionQueries, times(1)).findLaunchOwners(eq(PROJECT_ID), eq(LaunchModeEnum.DEFAULT), anyInt());
+		verify(suggestionQueries, times(1)).findLaunchAttributeKeys(eq(PROJECT_ID), anyInt());
+		verify(suggestionQueries, times(1)).findLaunchAttributeValues(eq(PROJECT_ID), eq("browser"), anyInt());
+	}
+
+	@Test
+	void launchNameIsAddedOnFinish() {
+		when(suggestionQueries.findLaunchNames(eq(PROJECT_ID), anyInt())).thenReturn(Lists.newArrayList());
+		assertTrue(suggestionIndex.getLaunchNames(PROJECT_ID, "launch", Collections::emptyList).isEmpty());
+
+		Launch launch = new Launch();
+		launch.setProjectId(PROJECT_ID);
+		launch.setName("launch_name");
+		launch.setMode(LaunchModeEnum.DEBUG);
+		launch.setStatus(StatusEnum.PASSED);
+		suggestionIndex.onLaunchFinished(launch);
+		assertTrue(suggestionIndex.getLaunchNames(PROJECT_ID, "launch", Collections::emptyList).isEmpty());
+
+		launch.setMode(LaunchModeEnum.DEFAULT);
+		suggestionIndex.onLaunchFinished(launch);
+		assertEquals(Collections.singletonList("launch_name"), suggestionIndex.getLaunchNames(PROJECT_ID, "launch", Collections::emptyList));
+	}
+
+	@Test
+	void dictionariesAreReloadedAfterDelete() {
+		when(suggestionQueries.findTickets(eq(PROJECT_ID), anyInt())).thenReturn(Lists.newArrayList("ticket-1"))
+				.thenReturn(Lists.newArrayList());
+		assertEquals(Collections.singletonList("ticket-1"), suggestionIndex.getTickets(PROJECT_ID, "ticket", Collections::emptyList));
+
+		Activity activity = new Activity();
+		activity.setProjectId(2L);
+		activity.setAction(ActivityAction.DELETE_LAUNCH.getValue());
+		suggestionIndex.onActivity(activity);
+		assertEquals(Collections.singletonList("ticket-1"), suggestionIndex.getTickets(PROJECT_ID, "ticket", Collections::emptyList));
+
+		activity.setProjectId(PROJECT_ID);
+		suggestionIndex.onActivity(activity);
+		assertTrue(suggestionIndex.getTickets(PROJECT_ID, "ticket", Collections::emptyList).isEmpty());
+		verify(suggestionQueries, times(2)).findTickets(eq(PROJECT_ID), anyInt());
+	}
+
+	@Test
+	void dictionariesAreReloadedAfterImport() {
+		when(suggestionQueries.findLaunchNames(eq(PROJECT_ID), anyInt())).thenReturn(Lists.newArrayList())
+				.thenReturn(Lists.newArrayList("imported"));
+		assertTrue(suggestionIndex.getLaunchNames(PROJECT_ID, "imp", Collections::emptyList).isEmpty());
+
+		Activity activity = new Activity();
+		activity.setProjectId(PROJECT_ID);
+		activity.setAction(ActivityAction.FINISH_IMPORT.getValue());
+		suggestionIndex.onActivity(activity);
+
+		assertEquals(Collections.singletonList("imported"), suggestionIndex.getLaunchNames(PROJECT_ID, "imp", Collections::emptyList));
+	}
+
+	@Test
+	void valuesAreAddedOnlyAfterCommit() {
+		when(suggestionQueries.findTickets(eq(PROJECT_ID), anyInt())).thenReturn(Lists.newArrayList("ticket-1"));
+		assertEquals(Collections.singletonList("ticket-1"), suggestionIndex.getTickets(PROJECT_ID, "ticket", Collections::emptyList));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			suggestionIndex.addTickets(PROJECT_ID, Collections.singletonList("ticket-2"));
+			assertEquals(Collections.singletonList("ticket-1"), suggestionIndex.getTickets(PROJECT_ID, "ticket", Collections::emptyList));
+		} finally {
+			//rolled back, synchronizations are dropped without the commit callbacks
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			suggestionIndex.addTickets(PROJECT_ID, Collections.singletonList("ticket-3"));
+			TransactionSynchronizationUtils.triggerAfterCommit();
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertEquals(Arrays.asList("ticket-1", "ticket-3"), suggestionIndex.getTickets(PROJECT_ID, "ticket", Collections::emptyList));
+		verify(suggestionQueries, times(1)).findTickets(eq(PROJECT_ID), anyInt());
+	}
+
+	@Test
+	void tooBigSourceIsServedByFallback() {
+		List<String> keys = IntStream.rangeClosed(0, SuggestionIndex.MAX_DICTIONARY_SIZE)
+				.mapToObj(i -> "key" + i)
+				.collect(Collectors.toList());
+		when(suggestionQueries.findLaunchAttributeKeys(eq(PROJECT_ID), anyInt())).thenReturn(keys);
+
+		List<String> fallback = Collections.singletonList("key1");
+		assertEquals(fallback, suggestionIndex.getLaunchAttributeKeys(PROJECT_ID, "key1", () -> fallback));
+		assertEquals(fallback, suggestionIndex.getLaunchAttributeKeys(PROJECT_ID, "key1", () -> fallback));
+		verify(suggestionQueries, times(1)).findLaunchAttributeKeys(eq(PROJECT_ID), anyInt());
+	}
+}
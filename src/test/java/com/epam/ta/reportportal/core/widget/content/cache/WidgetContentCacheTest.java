@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.content.cache;
+
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.events.widget.ProjectDataChangedEvent;
+import com.epam.ta.reportportal.entity.activity.Activity;
+import com.epam.ta.reportportal.entity.activity.ActivityAction;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetOptions;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class WidgetContentCacheTest {
+
+	private final MessageBus messageBus = mock(MessageBus.class);
+
+	private final WidgetContentCache widgetContentCache = new WidgetContentCache(messageBus);
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private final Supplier<Map<String, ?>> contentLoader = () -> ImmutableMap.of("result", loads.incrementAndGet());
+
+	@Test
+	void contentIsLoadedOnceForUnchangedData() {
+		Widget widget = getWidget(WidgetType.LAUNCH_STATISTICS);
+
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+		Map<String, ?> content = widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		assertEquals(1, loads.get());
+		assertEquals(1, content.get("result"));
+	}
+
+	@Test
+	void dataChangingActivityReloadsContent() {
+		Widget widget = getWidget(WidgetType.LAUNCH_STATISTICS);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		widgetContentCache.onActivity(getActivity(1L, ActivityAction.UPDATE_DASHBOARD));
+		widgetContentCache.onActivity(getActivity(2L, ActivityAction.FINISH_LAUNCH));
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+		assertEquals(1, loads.get());
+
+		widgetContentCache.onActivity(getActivity(1L, ActivityAction.START_LAUNCH));
+		Map<String, ?> content = widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+		assertEquals(2, loads.get());
+		assertEquals(2, content.get("result"));
+	}
+
+	@Test
+	void dataChangedEventReloadsContentAndIsBroadcast() {
+		Widget widget = getWidget(WidgetType.LAUNCH_STATISTICS);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		widgetContentCache.onProjectDataChanged(new ProjectDataChangedEvent(1L));
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		assertEquals(2, loads.get());
+		ArgumentCaptor<ProjectDataChangedEvent> eventCaptor = ArgumentCaptor.forClass(ProjectDataChangedEvent.class);
+		verify(messageBus, times(1)).broadcastEvent(eventCaptor.capture());
+		assertEquals(1L, (long) eventCaptor.getValue().getProjectId());
+	}
+
+	@Test
+	void broadcastChangeReloadsContentWithoutRebroadcast() {
+		Widget widget = getWidget(WidgetType.LAUNCH_STATISTICS);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		widgetContentCache.invalidate(1L);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		assertEquals(2, loads.get());
+		verify(messageBus, never()).broadcastEvent(any());
+	}
+
+	@Test
+	void failedBroadcastDoesNotBreakLocalInvalidation() {
+		doThrow(new IllegalStateException("broker is down")).when(messageBus).broadcastEvent(any());
+		Widget widget = getWidget(WidgetType.LAUNCH_STATISTICS);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		widgetContentCache.onActivity(getActivity(1L, ActivityAction.FINISH_LAUNCH));
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void changedWidgetDefinitionReloadsContent() {
+		Widget widget = getWidget(WidgetType.LAUNCH_STATISTICS);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		widget.setItemsCount(50);
+		widgetContentCache.getContent(widget, WidgetType.LAUNCH_STATISTICS, contentLoader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void activityWidgetIsNotCached() {
+		Widget widget = getWidget(WidgetType.ACTIVITY);
+
+		widgetContentCache.getContent(widget, WidgetType.ACTIVITY, contentLoader);
+		widgetContentCache.getContent(widget, WidgetType.ACTIVITY, contentLoader);
+
+		assertEquals(2, loads.get());
+	}
+
+	private static Widget getWidget(WidgetType widgetType) {
+		Project project = new Project();
+		project.setId(1L);
+		Widget widget = new Widget();
+		widget.setId(1L);
+		widget.setProject(project);
+		widget.setWidgetType(widgetType.getType());
+		widget.setItemsCount(10);
+		Map<String, Object> options = new HashMap<>();
+		options.put("latest", true);
+		widget.setWidgetOptions(new WidgetOptions(options));
+		return widget;
+	}
+
+	private static Activity getActivity(Long projectId, ActivityAction action) {
+		Activity activity = new Activity();
+		activity.setProjectId(projectId);
+		activity.setAction(action.getValue());
+		return activity;
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.core.widget.impl;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.dashboard.model.DashboardContentRs;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.shareable.GetShareableEntityHandler;
+import com.epam.ta.reportportal.core.widget.content.BuildFilterStrategy;
+import com.epam.ta.reportportal.core.widget.content.LoadContentStrategy;
+import com.epam.ta.reportportal.core.widget.content.cache.WidgetContentCache;
+import com.epam.ta.reportportal.entity.dashboard.Dashboard;
+import com.epam.ta.reportportal.entity.dashboard.DashboardWidget;
+import com.epam.ta.reportportal.entity.dashboard.DashboardWidgetId;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.ProjectRole;
+import com.epam.ta.reportportal.entity.user.UserRole;
+import com.epam.ta.reportportal.entity.widget.Widget;
+import com.epam.ta.reportportal.entity.widget.WidgetType;
+import com.epam.ta.reportportal.ws.model.widget.WidgetResource;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.ta.reportportal.ReportPortalUserUtil.getRpUser;
+import static com.epam.ta.reportportal.util.ProjectExtractor.extractProjectDetails;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GetWidgetHandlerImplTest {
+
+	private static final long CONTENT_TIMEOUT = 200L;
+
+	private static final int FAST_WIDGET_LIMIT = 1;
+	private static final int SLOW_WIDGET_LIMIT = 2;
+
+	private final GetShareableEntityHandler<Widget> getShareableEntityHandler = mock(GetShareableEntityHandler.class);
+
+	private final LoadContentStrategy loadContentStrategy = mock(LoadContentStrategy.class);
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final CountDownLatch slowWidgetLatch = new CountDownLatch(1);
+
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void cleanUp() {
+		slowWidgetLatch.countDown();
+		executor.shutdown();
+	}
+
+	@Test
+	void timedOutWidgetIsReturnedWithoutContent() {
+		GetWidgetHandlerImpl handler = getHandler(2);
+		mockContent();
+
+		DashboardContentRs response = getDashboardContent(handler);
+
+		assertEquals(2, response.getWidgets().size());
+		assertEquals(ImmutableMap.of("result", FAST_WIDGET_LIMIT), getResource(response, 1L).getContent());
+		assertNull(getResource(response, 2L).getContent());
+		assertEquals(Collections.singletonMap(2L, "Widget content loading timeout exceeded"), response.getErrors());
+		verify(jdbcTemplate, atLeastOnce()).execute("SET LOCAL statement_timeout = " + CONTENT_TIMEOUT);
+	}
+
+	@Test
+	void slowWidgetsShareOneTimeout() {
+		GetWidgetHandlerImpl handler = getHandler(2);
+		mockContent();
+
+		long start = System.nanoTime();
+		DashboardContentRs response = getDashboardContent(handler, SLOW_WIDGET_LIMIT, SLOW_WIDGET_LIMIT);
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertNull(getResource(response, 1L).getContent());
+		assertNull(getResource(response, 2L).getContent());
+		assertEquals(2, response.getErrors().size());
+		assertTrue(elapsed < 2 * CONTENT_TIMEOUT, "Dashboard content was loaded in " + elapsed + " ms");
+	}
+
+	@Test
+	void rejectedWidgetIsReturnedWithoutContent() {
+		GetWidgetHandlerImpl handler = getHandler(1);
+		mockContent();
+
+		DashboardContentRs response = getDashboardContent(handler, SLOW_WIDGET_LIMIT, FAST_WIDGET_LIMIT);
+
+		assertEquals(2, response.getWidgets().size());
+		assertNull(getResource(response, 1L).getContent());
+		assertNull(getResource(response, 2L).getContent());
+		assertEquals("Widget content loading timeout exceeded", response.getErrors().get(1L));
+		assertEquals("Widget content loading was rejected, server is busy", response.getErrors().get(2L));
+	}
+
+	private GetWidgetHandlerImpl getHandler(int poolSize) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(0);
+		executor.initialize();
+
+		BuildFilterStrategy buildFilterStrategy = mock(BuildFilterStrategy.class);
+		when(buildFilterStrategy.buildFilter(any())).thenReturn(Collections.emptyMap());
+
+		GetWidgetHandlerImpl handler = new GetWidgetHandlerImpl();
+		handler.setBuildFilterStrategy(ImmutableMap.of(WidgetType.LAUNCH_STATISTICS, buildFilterStrategy));
+		handler.setLoadContentStrategy(ImmutableMap.of(WidgetType.LAUNCH_STATISTICS, loadContentStrategy));
+		handler.setMultilevelLoadContentStrategy(Collections.emptyMap());
+		handler.setUnfilteredWidgetTypes(Collections.singleton(WidgetType.LAUNCH_STATISTICS));
+		handler.setTransactionManager(mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(handler, "getShareableEntityHandler", getShareableEntityHandler);
+		ReflectionTestUtils.setField(handler, "widgetContentCache", new WidgetContentCache(mock(MessageBus.class)));
+		ReflectionTestUtils.setField(handler, "widgetContentExecutor", executor);
+		ReflectionTestUtils.setField(handler, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(handler, "widgetContentTimeout", CONTENT_TIMEOUT);
+		return handler;
+	}
+
+	private void mockContent() {
+		when(loadContentStrategy.loadContent(any(), any(), any(), eq(FAST_WIDGET_LIMIT))).thenAnswer(invocation -> ImmutableMap.of(
+				"result",
+				FAST_WIDGET_LIMIT
+		));
+		when(loadContentStrategy.loadContent(any(), any(), any(), eq(SLOW_WIDGET_LIMIT))).thenAnswer(invocation -> {
+			slowWidgetLatch.await(10, TimeUnit.SECONDS);
+			return ImmutableMap.of("result", SLOW_WIDGET_LIMIT);
+		});
+	}
+
+	private DashboardContentRs getDashboardContent(GetWidgetHandlerImpl handler) {
+		return getDashboardContent(handler, FAST_WIDGET_LIMIT, SLOW_WIDGET_LIMIT);
+	}
+
+	private DashboardContentRs getDashboardContent(GetWidgetHandlerImpl handler, int firstLimit, int secondLimit) {
+		ReportPortalUser user = getRpUser("user", UserRole.USER, ProjectRole.MEMBER, 1L);
+		ReportPortalUser.ProjectDetails projectDetails = extractProjectDetails(user, "test_project");
+
+		Dashboard dashboard = new Dashboard();
+		dashboard.setId(1L);
+		Widget first = getWidget(1L, firstLimit);
+		Widget second = getWidget(2L, secondLimit);
+		dashboard.addWidget(getDashboardWidget(dashboard, first));
+		dashboard.addWidget(getDashboardWidget(dashboard, second));
+		when(getShareableEntityHandler.getPermitted(anyCollection(), any())).thenReturn(Lists.newArrayList(second, first));
+
+		return handler.getDashboardContent(dashboard, projectDetails, user);
+	}
+
+	private static Widget getWidget(Long id, int limit) {
+		Project project = new Project();
+		project.setId(1L);
+		Widget widget = new Widget();
+		widget.setId(id);
+		widget.setProject(project);
+		widget.setWidgetType(WidgetType.LAUNCH_STATISTICS.getType());
+		widget.setItemsCount(limit);
+		return widget;
+	}
+
+	private static DashboardWidget getDashboardWidget(Dashboard dashboard, Widget widget) {
+		DashboardWidget dashboardWidget = new DashboardWidget();
+		dashboardWidget.setId(new DashboardWidgetId(dashboard.getId(), widget.getId()));
+		dashboardWidget.setDashboard(dashboard);
+		dashboardWidget.setWidget(widget);
+		return dashboardWidget;
+	}
+
+	private static WidgetResource getResource(DashboardContentRs response, Long widgetId) {
+		return response.getWidgets().stream().filter(it -> widgetId.equals(it.getWidgetId())).findFirst().orElseThrow();
+	}
+}
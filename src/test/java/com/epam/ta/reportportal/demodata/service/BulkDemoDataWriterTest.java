@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.demodata.service;
+
+import com.epam.ta.reportportal.commons.BinaryDataMetaInfo;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.demodata.model.BulkDemoDataRq;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.ws.BaseMvcTest;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.epam.ta.reportportal.dao.constant.WidgetContentRepositoryConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Sql("/db/demo-data/bulk-demo-data-fill.sql")
+class BulkDemoDataWriterTest extends BaseMvcTest {
+
+	private static final Long LAUNCH_ID = 1L;
+
+	private static final long FILE_SIZE = 100;
+
+	@Autowired
+	private BulkDemoDataWriter bulkDemoDataWriter;
+
+	@Autowired
+	private LaunchRepository launchRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void writeLaunch() {
+		Launch launch = launchRepository.findById(LAUNCH_ID).get();
+		BulkDemoDataRq rq = new BulkDemoDataRq();
+		rq.setDepth(3);
+		rq.setItemsPerLevel(4);
+		rq.setLogsPerStep(300);
+		BulkDemoLaunch data = BulkDemoLaunch.generate(rq,
+				new SplittableRandom(42L),
+				Lists.newArrayList("log"),
+				Lists.newArrayList("error"),
+				launch.getStartTime()
+		);
+		long storageBefore = allocatedStorage(launch.getProjectId());
+
+		List<Integer> batchSizes = new ArrayList<>();
+		List<BulkDemoLaunch.LogEntry> savedLogs = new ArrayList<>();
+		bulkDemoDataWriter.write(launch, data, logs -> {
+			batchSizes.add(logs.size());
+			Map<BulkDemoLaunch.LogEntry, BinaryDataMetaInfo> attachments = new HashMap<>();
+			logs.stream().filter(log -> log.getAttachment() != null).forEach(log -> {
+				attachments.put(log, metaInfo(log.getUuid()));
+				savedLogs.add(log);
+			});
+			return attachments;
+		}, sizes());
+
+		List<BulkDemoLaunch.Item> items = data.getItems();
+		List<BulkDemoLaunch.Item> steps = data.getSteps();
+		assertTrue(batchSizes.size() > 1);
+		int logsCount = batchSizes.stream().mapToInt(Integer::intValue).sum();
+
+		assertEquals(items.size(), count("SELECT count(*) FROM test_item WHERE launch_id = ?", LAUNCH_ID));
+		assertEquals(items.size(),
+				count("SELECT count(*) FROM test_item_results r JOIN test_item ti ON r.result_id = ti.item_id WHERE ti.launch_id = ?",
+						LAUNCH_ID
+				)
+		);
+		assertEquals(items.size() - steps.size(), count("SELECT count(*) FROM test_item WHERE launch_id = ? AND has_children", LAUNCH_ID));
+		assertEquals(steps.stream().filter(it -> it.getIssueLocator() != null).count(),
+				count("SELECT count(*) FROM issue i JOIN test_item ti ON i.issue_id = ti.item_id WHERE ti.launch_id = ?", LAUNCH_ID)
+		);
+		assertEquals(0,
+				count("SELECT count(*) FROM test_item ch JOIN test_item p ON ch.parent_id = p.item_id WHERE ch.launch_id = ? "
+						+ "AND NOT ch.path <@ p.path", LAUNCH_ID)
+		);
+
+		assertEquals(logsCount,
+				count("SELECT count(*) FROM log l JOIN test_item ti ON l.item_id = ti.item_id WHERE ti.launch_id = ?", LAUNCH_ID)
+		);
+		assertEquals(savedLogs.size(), count("SELECT count(*) FROM attachment WHERE launch_id = ?", LAUNCH_ID));
+		assertEquals(savedLogs.size(),
+				count("SELECT count(*) FROM log l JOIN attachment a ON l.attachment_id = a.id WHERE a.launch_id = ? AND a.file_id = l.uuid",
+						LAUNCH_ID
+				)
+		);
+		assertEquals(storageBefore + savedLogs.size() * FILE_SIZE, allocatedStorage(launch.getProjectId()));
+
+		long[] statistics = data.getStatistics();
+		assertEquals(statistics[BulkDemoLaunch.Item.TOTAL], launchStatistics(EXECUTIONS_TOTAL));
+		assertEquals(statistics[BulkDemoLaunch.Item.PASSED_INDEX], launchStatistics(EXECUTIONS_PASSED));
+		assertEquals(statistics[BulkDemoLaunch.Item.FAILED_INDEX], launchStatistics(EXECUTIONS_FAILED));
+		assertEquals(statistics[BulkDemoLaunch.Item.SKIPPED_INDEX], launchStatistics(EXECUTIONS_SKIPPED));
+		assertEquals(data.getStatus().name(),
+				jdbcTemplate.queryForObject("SELECT status FROM launch WHERE id = ? AND end_time IS NOT NULL", String.class, LAUNCH_ID)
+		);
+	}
+
+	private long count(String query, Object... args) {
+		return jdbcTemplate.queryForObject(query, Long.class, args);
+	}
+
+	private long launchStatistics(String field) {
+		return count("SELECT coalesce(sum(s.s_counter), 0) FROM statistics s JOIN statistics_field sf ON s.statistics_field_id = sf.sf_id "
+				+ "WHERE s.launch_id = ? AND sf.name = ?", LAUNCH_ID, field);
+	}
+
+	private long allocatedStorage(Long projectId) {
+		return count("SELECT allocated_storage FROM project WHERE id = ?", projectId);
+	}
+
+	private static BinaryDataMetaInfo metaInfo(String fileId) {
+		BinaryDataMetaInfo metaInfo = mock(BinaryDataMetaInfo.class);
+		when(metaInfo.getFileId()).thenReturn(fileId);
+		when(metaInfo.getContentType()).thenReturn("text/plain");
+		return metaInfo;
+	}
+
+	private static Map<Attachment, Long> sizes() {
+		return Arrays.stream(Attachment.values()).collect(Collectors.toMap(it -> it, it -> FILE_SIZE));
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.demodata.service;
+
+import com.epam.ta.reportportal.demodata.model.BulkDemoDataRq;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkDemoLaunchTest {
+
+	private static final List<String> LOG_MESSAGES = Lists.newArrayList("first", "second");
+	private static final List<String> ERROR_MESSAGES = Lists.newArrayList("error");
+
+	@Test
+	void generateLaunchOfConfiguredSize() {
+		BulkDemoDataRq rq = request();
+
+		BulkDemoLaunch launch = generate(rq, 42L);
+
+		List<BulkDemoLaunch.Item> items = launch.getItems();
+		assertEquals(BulkDemoLaunch.countItems(rq.getDepth(), rq.getItemsPerLevel()), items.size());
+		assertEquals(3 + 9 + 27, items.size());
+
+		List<BulkDemoLaunch.Item> steps = items.stream().filter(it -> it.getType() == TestItemTypeEnum.STEP).collect(Collectors.toList());
+		assertEquals(27, steps.size());
+		assertEquals(3, items.stream().filter(it -> it.getType() == TestItemTypeEnum.SUITE).count());
+		assertEquals(steps.size(), launch.getStatistics()[BulkDemoLaunch.Item.TOTAL]);
+
+		long[] statistics = launch.getStatistics();
+		assertEquals(statistics[BulkDemoLaunch.Item.TOTAL],
+				statistics[BulkDemoLaunch.Item.PASSED_INDEX] + statistics[BulkDemoLaunch.Item.FAILED_INDEX]
+						+ statistics[BulkDemoLaunch.Item.SKIPPED_INDEX]
+		);
+
+		long failedSteps = steps.stream().filter(it -> it.getIssueLocator() != null).count();
+		assertEquals(statistics[BulkDemoLaunch.Item.FAILED_INDEX], failedSteps);
+		assertEquals(steps, launch.getSteps());
+
+		List<BulkDemoLaunch.LogEntry> logs = launch.generateLogs(steps);
+		assertEquals(steps.size() * rq.getLogsPerStep() + failedSteps * 2, logs.size());
+		assertTrue(logs.size() <= BulkDemoLaunch.countMaxLogs(rq.getDepth(), rq.getItemsPerLevel(), rq.getLogsPerStep()));
+		logs.forEach(log -> {
+			assertTrue(log.getTime().isAfter(log.getItem().getStartTime()));
+			assertTrue(log.getTime().isBefore(log.getItem().getEndTime()));
+		});
+	}
+
+	@Test
+	void parentIsListedBeforeChildren() {
+		BulkDemoLaunch launch = generate(request(), 7L);
+
+		List<BulkDemoLaunch.Item> items = launch.getItems();
+		for (int i = 0; i < items.size(); i++) {
+			items.get(i).assignId((long) i + 1);
+		}
+		items.stream().filter(it -> it.getParent() != null).forEach(it -> {
+			assertTrue(it.getParent().getId() < it.getId());
+			assertEquals(it.getParent().getPath() + "." + it.getId(), it.getPath());
+			assertFalse(it.getStartTime().isBefore(it.getParent().getStartTime()));
+			assertFalse(it.getEndTime().isAfter(it.getParent().getEndTime()));
+		});
+	}
+
+	@Test
+	void sameSeedGeneratesSameLaunch() {
+		BulkDemoLaunch first = generate(request(), 100L);
+		BulkDemoLaunch second = generate(request(), 100L);
+
+		assertArrayEquals(first.getStatistics(), second.getStatistics());
+		assertEquals(first.getStatus(), second.getStatus());
+		assertEquals(first.getEndTime(), second.getEndTime());
+		assertEquals(first.getItems().stream().map(BulkDemoLaunch.Item::getStatus).collect(Collectors.toList()),
+				second.getItems().stream().map(BulkDemoLaunch.Item::getStatus).collect(Collectors.toList())
+		);
+		assertEquals(first.generateLogs(first.getSteps()).stream().map(BulkDemoLaunch.LogEntry::getMessage).collect(Collectors.toList()),
+				second.generateLogs(second.getSteps()).stream().map(BulkDemoLaunch.LogEntry::getMessage).collect(Collectors.toList())
+		);
+	}
+
+	@Test
+	void logsOfStepDoNotDependOnBatch() {
+		BulkDemoLaunch launch = generate(request(), 5L);
+		List<BulkDemoLaunch.Item> steps = launch.getSteps();
+
+		List<BulkDemoLaunch.LogEntry> all = launch.generateLogs(steps);
+		List<BulkDemoLaunch.LogEntry> batched = Lists.partition(steps, 4)
+				.stream()
+				.flatMap(batch -> launch.generateLogs(batch).stream())
+				.collect(Collectors.toList());
+
+		assertEquals(all.stream().map(BulkDemoLaunch.LogEntry::getTime).collect(Collectors.toList()),
+				batched.stream().map(BulkDemoLaunch.LogEntry::getTime).collect(Collectors.toList())
+		);
+		assertEquals(all.stream().map(BulkDemoLaunch.LogEntry::getAttachment).collect(Collectors.toList()),
+				batched.stream().map(BulkDemoLaunch.LogEntry::getAttachment).collect(Collectors.toList())
+		);
+	}
+
+	private static BulkDemoDataRq request() {
+		BulkDemoDataRq rq = new BulkDemoDataRq();
+		rq.setDepth(3);
+		rq.setItemsPerLevel(3);
+		rq.setLogsPerStep(5);
+		return rq;
+	}
+
+	private static BulkDemoLaunch generate(BulkDemoDataRq rq, long seed) {
+		return BulkDemoLaunch.generate(rq, new SplittableRandom(seed), LOG_MESSAGES, ERROR_MESSAGES, LocalDateTime.of(2020, 1, 1, 10, 0));
+	}
+}
@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.reportportal.extension.common.IntegrationTypeProperties;
+import com.epam.ta.reportportal.core.integration.ProjectIntegrationsCache;
 import com.epam.ta.reportportal.core.plugin.Pf4jPluginBox;
 import com.epam.ta.reportportal.core.plugin.PluginInfo;
 import com.epam.ta.reportportal.dao.IntegrationTypeRepository;
@@ -47,7 +48,9 @@ class PluginLoaderServiceTest {
 
 	private Pf4jPluginBox pluginBox = mock(Pf4jPluginBox.class);
 
-	private PluginLoaderService pluginLoaderService = new PluginLoaderServiceImpl(integrationTypeRepository, pluginBox);
+	private ProjectIntegrationsCache projectIntegrationsCache = mock(ProjectIntegrationsCache.class);
+
+	private PluginLoaderService pluginLoaderService = new PluginLoaderServiceImpl(integrationTypeRepository, pluginBox, projectIntegrationsCache);
 
 	private PluginWrapper jiraPlugin = mock(PluginWrapper.class);
 	private PluginWrapper rallyPlugin = mock(PluginWrapper.class);
@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.binary.AttachmentBinaryDataService;
 import com.epam.ta.reportportal.core.log.impl.SaveLogBinaryDataTask;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.entity.attachment.AttachmentMetaInfo;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +41,9 @@ class SaveLogBinaryDataTaskTest {
 	@Mock
 	private AttachmentBinaryDataService attachmentBinaryDataService;
 
+	@Mock
+	private ProjectStorageService projectStorageService;
+
 	@InjectMocks
 	private SaveLogBinaryDataTask saveLogBinaryDataTask;
 
@@ -54,6 +58,7 @@ class SaveLogBinaryDataTaskTest {
 		saveLogBinaryDataTask.run();
 
 		verify(attachmentBinaryDataService, times(1)).saveFileAndAttachToLog(file, attachmentMetaInfo);
+		verify(projectStorageService, times(1)).increase(projectId, file.getSize());
 
 	}
 }
\ No newline at end of file
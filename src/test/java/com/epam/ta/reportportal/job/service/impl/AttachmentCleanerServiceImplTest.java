@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.job.service.impl;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.dao.LaunchRepository;
 import com.epam.ta.reportportal.dao.TestItemRepository;
@@ -48,12 +49,14 @@ class AttachmentCleanerServiceImplTest {
 	private LaunchRepository launchRepository = mock(LaunchRepository.class);
 	private TestItemRepository testItemRepository = mock(TestItemRepository.class);
 	private DataStoreService dataStoreService = mock(DataStoreService.class);
+	private ProjectStorageService projectStorageService = mock(ProjectStorageService.class);
 
 	private final AttachmentCleanerServiceImpl attachmentCleanerService = new AttachmentCleanerServiceImpl(500,
 			attachmentRepository,
 			launchRepository,
 			testItemRepository,
-			dataStoreService
+			dataStoreService,
+			projectStorageService
 	);
 
 	@Test
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.load;
+
+import com.epam.ta.reportportal.ws.rabbit.MessageHeaders;
+import com.epam.ta.reportportal.ws.rabbit.RequestType;
+import org.mockito.invocation.InvocationOnMock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-JVM replacement of the reporting exchange. Every routing key is a queue served by a single thread,
+ * so the messages of the same launch are consumed in the publishing order as with the RabbitMQ reporting queues.
+ * Messages are published by the async handlers through the mocked 'rabbitTemplate', see {@link #convertAndSend(InvocationOnMock)}.
+ */
+class InMemoryReportingBroker implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryReportingBroker.class);
+
+	private static final String PUBLISHED_AT = "x-load-published-at";
+
+	private final MessageConverter messageConverter;
+
+	private final MessageListener listener;
+
+	private final Map<String, ExecutorService> queues = new ConcurrentHashMap<>();
+
+	private final AtomicLong pending = new AtomicLong();
+
+	private final AtomicLong failed = new AtomicLong();
+
+	private final LatencyRecorder processing = new LatencyRecorder("Consumer processing");
+
+	private final LatencyRecorder endToEnd = new LatencyRecorder("Publish to processed");
+
+	InMemoryReportingBroker(MessageConverter messageConverter, MessageListener listener) {
+		this.messageConverter = messageConverter;
+		this.listener = listener;
+	}
+
+	/**
+	 * Answer for {@code AmqpTemplate#convertAndSend(String, String, Object, MessagePostProcessor)}
+	 */
+	Object convertAndSend(InvocationOnMock invocation) throws Exception {
+		String routingKey = invocation.getArgument(1);
+		Message message = messageConverter.toMessage(invocation.getArgument(2), new MessageProperties());
+		MessagePostProcessor postProcessor = invocation.getArgument(3);
+		publish(routingKey, postProcessor.postProcessMessage(message));
+		return null;
+	}
+
+	void publish(String routingKey, Message message) {
+		Map<String, Object> headers = message.getMessageProperties().getHeaders();
+		//enum headers are delivered by RabbitMQ as strings
+		headers.replaceAll((key, value) -> value instanceof Enum ? ((Enum<?>) value).name() : value);
+		headers.put(PUBLISHED_AT, System.nanoTime());
+		pending.incrementAndGet();
+		queues.computeIfAbsent(routingKey, key -> Executors.newSingleThreadExecutor()).execute(() -> consume(message));
+	}
+
+	private void consume(Message message) {
+		Map<String, Object> headers = message.getMessageProperties().getHeaders();
+		RequestType type = RequestType.valueOf((String) headers.get(MessageHeaders.REQUEST_TYPE));
+		long start = System.nanoTime();
+		try {
+			listener.onMessage(message);
+		} catch (RuntimeException e) {
+			failed.incrementAndGet();
+			LOGGER.warn("Failed to consume {} message: {}", type, e.getMessage());
+		} finally {
+			long end = System.nanoTime();
+			processing.record(type, end - start);
+			endToEnd.record(type, end - (Long) headers.get(PUBLISHED_AT));
+			pending.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @param timeout Maximum time to wait
+	 * @param unit    Time unit of the timeout
+	 * @return TRUE if all the published messages were consumed
+	 */
+	boolean awaitConsumed(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		while (pending.get() > 0) {
+			if (System.nanoTime() > deadline) {
+				return false;
+			}
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+		return true;
+	}
+
+	long getFailed() {
+		return failed.get();
+	}
+
+	LatencyRecorder getProcessing() {
+		return processing;
+	}
+
+	LatencyRecorder getEndToEnd() {
+		return endToEnd;
+	}
+
+	@Override
+	public void close() {
+		queues.values().forEach(ExecutorService::shutdownNow);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.load;
+
+import com.epam.ta.reportportal.ws.rabbit.RequestType;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Collects latencies of the reporting requests by {@link RequestType} and reports throughput and percentiles.
+ * All the samples are kept, so percentiles are exact.
+ */
+class LatencyRecorder {
+
+	private static final double[] PERCENTILES = { 0.5, 0.9, 0.99 };
+
+	private final String name;
+
+	private final Map<RequestType, Queue<Long>> samples = new EnumMap<>(RequestType.class);
+
+	LatencyRecorder(String name) {
+		this.name = name;
+		for (RequestType type : RequestType.values()) {
+			samples.put(type, new ConcurrentLinkedQueue<>());
+		}
+	}
+
+	<T> T record(RequestType type, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} finally {
+			record(type, System.nanoTime() - start);
+		}
+	}
+
+	void record(RequestType type, long nanos) {
+		samples.get(type).add(nanos);
+	}
+
+	long count(RequestType type) {
+		return samples.get(type).size();
+	}
+
+	/**
+	 * @param wallNanos Duration of the whole run
+	 * @return Table with count, throughput and latency percentiles in milliseconds for every request type
+	 */
+	String report(long wallNanos) {
+		StringBuilder report = new StringBuilder(name).append(String.format("%n%-14s %10s %12s %10s %10s %10s %10s%n",
+				"request",
+				"count",
+				"req/s",
+				"p50 ms",
+				"p90 ms",
+				"p99 ms",
+				"max ms"
+		));
+		double seconds = wallNanos / (double) TimeUnit.SECONDS.toNanos(1);
+		samples.forEach((type, values) -> {
+			long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+			if (sorted.length == 0) {
+				return;
+			}
+			Arrays.sort(sorted);
+			report.append(String.format("%-14s %10d %12.1f", type, sorted.length, sorted.length / seconds));
+			for (double percentile : PERCENTILES) {
+				report.append(String.format(" %10.2f", toMillis(percentile(sorted, percentile))));
+			}
+			report.append(String.format(" %10.2f%n", toMillis(sorted[sorted.length - 1])));
+		});
+		return report.toString();
+	}
+
+	static long percentile(long[] sorted, double percentile) {
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(index, 0)];
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.load;
+
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
+import com.epam.ta.reportportal.core.launch.StartLaunchHandler;
+import com.epam.ta.reportportal.core.log.CreateLogHandler;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.enums.TestItemTypeEnum;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.rabbit.RequestType;
+
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Reports launches of the {@link ReportingLoadProfile} shape through the provided handlers, several launches at once.
+ * The same generator drives the synchronous handlers and the async ones publishing to the reporting queues.
+ */
+class ReportingLoadGenerator {
+
+	private static final String BASE_URL = "http://localhost:8080";
+
+	private final StartLaunchHandler startLaunchHandler;
+	private final StartTestItemHandler startTestItemHandler;
+	private final FinishTestItemHandler finishTestItemHandler;
+	private final CreateLogHandler createLogHandler;
+	private final FinishLaunchHandler finishLaunchHandler;
+
+	private final LatencyRecorder recorder;
+
+	ReportingLoadGenerator(StartLaunchHandler startLaunchHandler, StartTestItemHandler startTestItemHandler,
+			FinishTestItemHandler finishTestItemHandler, CreateLogHandler createLogHandler, FinishLaunchHandler finishLaunchHandler,
+			LatencyRecorder recorder) {
+		this.startLaunchHandler = startLaunchHandler;
+		this.startTestItemHandler = startTestItemHandler;
+		this.finishTestItemHandler = finishTestItemHandler;
+		this.createLogHandler = createLogHandler;
+		this.finishLaunchHandler = finishLaunchHandler;
+		this.recorder = recorder;
+	}
+
+	/**
+	 * @return Uuids of the reported launches
+	 */
+	List<String> run(ReportingLoadProfile profile, ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails) {
+		ExecutorService executor = Executors.newFixedThreadPool(profile.getConcurrency());
+		try {
+			List<CompletableFuture<String>> launches = IntStream.range(0, profile.getLaunches())
+					.mapToObj(i -> CompletableFuture.supplyAsync(() -> reportLaunch(profile, user, projectDetails, new SplittableRandom(i)),
+							executor
+					))
+					.collect(Collectors.toList());
+			return launches.stream().map(CompletableFuture::join).collect(Collectors.toList());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private String reportLaunch(ReportingLoadProfile profile, ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails,
+			SplittableRandom random) {
+		StartLaunchRQ startLaunchRQ = new StartLaunchRQ();
+		startLaunchRQ.setUuid(UUID.randomUUID().toString());
+		startLaunchRQ.setName("Load launch");
+		startLaunchRQ.setMode(Mode.DEFAULT);
+		startLaunchRQ.setStartTime(new Date());
+		String launchUuid = recorder.record(RequestType.START_LAUNCH,
+				() -> startLaunchHandler.startLaunch(user, projectDetails, startLaunchRQ)
+		).getId();
+
+		for (int s = 0; s < profile.getSuites(); s++) {
+			String suiteName = "Suite " + s;
+			String suiteUuid = startItem(user, projectDetails, launchUuid, null, suiteName, TestItemTypeEnum.SUITE, false);
+			for (int t = 0; t < profile.getTestsPerSuite(); t++) {
+				String testName = suiteName + " test " + t;
+				String testUuid = startItem(user, projectDetails, launchUuid, suiteUuid, testName, TestItemTypeEnum.TEST, false);
+				for (int st = 0; st < profile.getStepsPerTest(); st++) {
+					String stepName = testName + " step " + st;
+					if (random.nextDouble() < profile.getRetryRatio()) {
+						reportStep(user, projectDetails, launchUuid, testUuid, stepName, false, StatusEnum.FAILED, profile);
+						reportStep(user, projectDetails, launchUuid, testUuid, stepName, true, StatusEnum.PASSED, profile);
+					} else {
+						StatusEnum status = random.nextInt(10) == 0 ? StatusEnum.FAILED : StatusEnum.PASSED;
+						reportStep(user, projectDetails, launchUuid, testUuid, stepName, false, status, profile);
+					}
+				}
+				finishItem(user, projectDetails, launchUuid, testUuid, null);
+			}
+			finishItem(user, projectDetails, launchUuid, suiteUuid, null);
+		}
+
+		FinishExecutionRQ finishLaunchRQ = new FinishExecutionRQ();
+		finishLaunchRQ.setEndTime(new Date());
+		recorder.record(RequestType.FINISH_LAUNCH,
+				() -> finishLaunchHandler.finishLaunch(launchUuid, finishLaunchRQ, projectDetails, user, BASE_URL)
+		);
+		return launchUuid;
+	}
+
+	private void reportStep(ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails, String launchUuid, String parentUuid,
+			String name, boolean retry, StatusEnum status, ReportingLoadProfile profile) {
+		String stepUuid = startItem(user, projectDetails, launchUuid, parentUuid, name, TestItemTypeEnum.STEP, retry);
+		for (int l = 0; l < profile.getLogsPerStep(); l++) {
+			SaveLogRQ saveLogRQ = new SaveLogRQ();
+			saveLogRQ.setLaunchUuid(launchUuid);
+			saveLogRQ.setItemUuid(stepUuid);
+			saveLogRQ.setLevel(StatusEnum.FAILED == status && l == profile.getLogsPerStep() - 1 ? "ERROR" : "INFO");
+			saveLogRQ.setMessage(name + " log message " + l);
+			saveLogRQ.setLogTime(new Date());
+			recorder.record(RequestType.LOG, () -> createLogHandler.createLog(saveLogRQ, null, projectDetails));
+		}
+		finishItem(user, projectDetails, launchUuid, stepUuid, status);
+	}
+
+	private String startItem(ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails, String launchUuid, String parentUuid,
+			String name, TestItemTypeEnum type, boolean retry) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setUuid(UUID.randomUUID().toString());
+		rq.setLaunchUuid(launchUuid);
+		rq.setName(name);
+		rq.setCodeRef("com.epam.load." + name.replace(' ', '.'));
+		rq.setType(type.name());
+		rq.setRetry(retry);
+		rq.setStartTime(new Date());
+		return recorder.record(RequestType.START_TEST,
+				() -> parentUuid == null ?
+						startTestItemHandler.startRootItem(user, projectDetails, rq) :
+						startTestItemHandler.startChildItem(user, projectDetails, rq, parentUuid)
+		).getId();
+	}
+
+	private void finishItem(ReportPortalUser user, ReportPortalUser.ProjectDetails projectDetails, String launchUuid, String itemUuid,
+			StatusEnum status) {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setLaunchUuid(launchUuid);
+		rq.setEndTime(new Date());
+		if (status != null) {
+			rq.setStatus(status.name());
+		}
+		recorder.record(RequestType.FINISH_TEST, () -> finishTestItemHandler.finishTestItem(user, projectDetails, itemUuid, rq));
+	}
+}
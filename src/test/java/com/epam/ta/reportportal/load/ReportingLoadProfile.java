@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.load;
+
+/**
+ * Shape of the generated reporting load. Every value can be overridden with the 'rp.load.*' system property,
+ * e.g. {@code ./gradlew loadTest -Drp.load.launches=200 -Drp.load.concurrency=32}
+ */
+class ReportingLoadProfile {
+
+	private final int launches;
+	private final int concurrency;
+	private final int suites;
+	private final int testsPerSuite;
+	private final int stepsPerTest;
+	private final int logsPerStep;
+	private final double retryRatio;
+	private final long timeoutSeconds;
+
+	private ReportingLoadProfile(int launches, int concurrency, int suites, int testsPerSuite, int stepsPerTest, int logsPerStep,
+			double retryRatio, long timeoutSeconds) {
+		this.launches = launches;
+		this.concurrency = concurrency;
+		this.suites = suites;
+		this.testsPerSuite = testsPerSuite;
+		this.stepsPerTest = stepsPerTest;
+		this.logsPerStep = logsPerStep;
+		this.retryRatio = retryRatio;
+		this.timeoutSeconds = timeoutSeconds;
+	}
+
+	static ReportingLoadProfile fromSystemProperties() {
+		return new ReportingLoadProfile(Integer.getInteger("rp.load.launches", 20),
+				Integer.getInteger("rp.load.concurrency", 8),
+				Integer.getInteger("rp.load.suites", 2),
+				Integer.getInteger("rp.load.tests", 3),
+				Integer.getInteger("rp.load.steps", 5),
+				Integer.getInteger("rp.load.logs", 3),
+				Double.parseDouble(System.getProperty("rp.load.retryRatio", "0.1")),
+				Long.getLong("rp.load.timeoutSeconds", 600L)
+		);
+	}
+
+	int getLaunches() {
+		return launches;
+	}
+
+	int getConcurrency() {
+		return concurrency;
+	}
+
+	int getSuites() {
+		return suites;
+	}
+
+	int getTestsPerSuite() {
+		return testsPerSuite;
+	}
+
+	int getStepsPerTest() {
+		return stepsPerTest;
+	}
+
+	int getLogsPerStep() {
+		return logsPerStep;
+	}
+
+	double getRetryRatio() {
+		return retryRatio;
+	}
+
+	long getTimeoutSeconds() {
+		return timeoutSeconds;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("ReportingLoadProfile{");
+		sb.append("launches=").append(launches);
+		sb.append(", concurrency=").append(concurrency);
+		sb.append(", suites=").append(suites);
+		sb.append(", testsPerSuite=").append(testsPerSuite);
+		sb.append(", stepsPerTest=").append(stepsPerTest);
+		sb.append(", logsPerStep=").append(logsPerStep);
+		sb.append(", retryRatio=").append(retryRatio);
+		sb.append('}');
+		return sb.toString();
+	}
+}
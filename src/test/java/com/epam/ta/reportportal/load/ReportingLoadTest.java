@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.load;
+
+import com.epam.ta.reportportal.TestConfig;
+import com.epam.ta.reportportal.auth.basic.DatabaseUserDetailsService;
+import com.epam.ta.reportportal.commons.ReportPortalUser;
+import com.epam.ta.reportportal.core.events.MessageBus;
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.core.launch.FinishLaunchHandler;
+import com.epam.ta.reportportal.core.launch.StartLaunchHandler;
+import com.epam.ta.reportportal.core.log.CreateLogHandler;
+import com.epam.ta.reportportal.core.plugin.Pf4jPluginBox;
+import com.epam.ta.reportportal.dao.LaunchRepository;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.util.ProjectExtractor;
+import com.epam.ta.reportportal.util.email.MailServiceFactory;
+import com.epam.ta.reportportal.ws.rabbit.AsyncReportingListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.test.FlywayTestExecutionListener;
+import org.flywaydb.test.annotation.FlywayTest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Synthetic reporting load against the embedded database.
+ * Excluded from the regular test run, executed with {@code ./gradlew loadTest} with optional 'rp.load.*' properties
+ * of {@link ReportingLoadProfile}. Throughput and latency percentiles of every request type are written to the log.
+ * <p>
+ * Not transactional: every reporting request is committed as in production.
+ */
+@Tag("load")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("unittest")
+@ContextConfiguration(classes = TestConfig.class)
+@TestExecutionListeners(listeners = { FlywayTestExecutionListener.class }, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+class ReportingLoadTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingLoadTest.class);
+
+	private static final String USERNAME = "default";
+	private static final String PROJECT_NAME = "default_personal";
+
+	@MockBean
+	private MessageBus messageBus;
+
+	@MockBean
+	private MailServiceFactory mailServiceFactory;
+
+	@MockBean
+	private Pf4jPluginBox pluginBox;
+
+	@Autowired
+	@Qualifier("rabbitTemplate")
+	private RabbitTemplate rabbitTemplate;
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DatabaseUserDetailsService userDetailsService;
+
+	@Autowired
+	private LaunchRepository launchRepository;
+
+	@Autowired
+	private StartLaunchHandler startLaunchHandler;
+
+	@Autowired
+	private StartTestItemHandler startTestItemHandler;
+
+	@Autowired
+	private FinishTestItemHandler finishTestItemHandler;
+
+	@Autowired
+	private CreateLogHandler createLogHandler;
+
+	@Autowired
+	private FinishLaunchHandler finishLaunchHandler;
+
+	@Autowired
+	@Qualifier("startLaunchHandlerAsync")
+	private StartLaunchHandler startLaunchHandlerAsync;
+
+	@Autowired
+	@Qualifier("startTestItemHandlerAsync")
+	private StartTestItemHandler startTestItemHandlerAsync;
+
+	@Autowired
+	@Qualifier("finishTestItemHandlerAsync")
+	private FinishTestItemHandler finishTestItemHandlerAsync;
+
+	@Autowired
+	@Qualifier("asyncCreateLogHandler")
+	private CreateLogHandler createLogHandlerAsync;
+
+	@Autowired
+	@Qualifier("finishLaunchHandlerAsync")
+	private FinishLaunchHandler finishLaunchHandlerAsync;
+
+	private ReportingLoadProfile profile;
+
+	private ReportPortalUser user;
+
+	private ReportPortalUser.ProjectDetails projectDetails;
+
+	@FlywayTest
+	@BeforeAll
+	static void before() {
+	}
+
+	@BeforeEach
+	void setUp() {
+		profile = ReportingLoadProfile.fromSystemProperties();
+		user = (ReportPortalUser) userDetailsService.loadUserByUsername(USERNAME);
+		projectDetails = ProjectExtractor.extractProjectDetails(user, PROJECT_NAME);
+	}
+
+	@Test
+	void syncReporting() {
+		LatencyRecorder recorder = new LatencyRecorder("Sync handlers");
+		ReportingLoadGenerator generator = new ReportingLoadGenerator(startLaunchHandler,
+				startTestItemHandler,
+				finishTestItemHandler,
+				createLogHandler,
+				finishLaunchHandler,
+				recorder
+		);
+
+		long start = System.nanoTime();
+		List<String> launches = generator.run(profile, user, projectDetails);
+		long duration = System.nanoTime() - start;
+
+		LOGGER.info("{}\n{}", profile, recorder.report(duration));
+		verifyFinished(launches);
+	}
+
+	@Test
+	void asyncReporting() throws InterruptedException {
+		AsyncReportingListener listener = new AsyncReportingListener();
+		applicationContext.getAutowireCapableBeanFactory().autowireBean(listener);
+		Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter(objectMapper);
+		//message converter bean is mocked in the test context
+		ReflectionTestUtils.setField(listener, "messageConverter", messageConverter);
+
+		try (InMemoryReportingBroker broker = new InMemoryReportingBroker(messageConverter, listener)) {
+			doAnswer(broker::convertAndSend).when(rabbitTemplate)
+					.convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class));
+
+			LatencyRecorder recorder = new LatencyRecorder("Async handlers (publish)");
+			ReportingLoadGenerator generator = new ReportingLoadGenerator(startLaunchHandlerAsync,
+					startTestItemHandlerAsync,
+					finishTestItemHandlerAsync,
+					createLogHandlerAsync,
+					finishLaunchHandlerAsync,
+					recorder
+			);
+
+			long start = System.nanoTime();
+			List<String> launches = generator.run(profile, user, projectDetails);
+			long published = System.nanoTime() - start;
+			assertTrue(broker.awaitConsumed(profile.getTimeoutSeconds(), TimeUnit.SECONDS), "Reporting queues were not drained in time");
+			long duration = System.nanoTime() - start;
+
+			LOGGER.info("{}\n{}\n{}\n{}",
+					profile,
+					recorder.report(published),
+					broker.getProcessing().report(duration),
+					broker.getEndToEnd().report(duration)
+			);
+			assertEquals(0, broker.getFailed());
+			verifyFinished(launches);
+		}
+	}
+
+	private void verifyFinished(List<String> launches) {
+		assertEquals(profile.getLaunches(), launches.size());
+		launches.forEach(uuid -> assertTrue(launchRepository.findByUuid(uuid)
+				.filter(launch -> launch.getStatus() != StatusEnum.IN_PROGRESS)
+				.isPresent(), "Launch " + uuid + " is not finished"));
+	}
+}
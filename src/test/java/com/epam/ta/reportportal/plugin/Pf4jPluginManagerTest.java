@@ -17,6 +17,7 @@
 package com.epam.ta.reportportal.plugin;
 
 import com.epam.reportportal.extension.bugtracking.BtsExtension;
+import com.epam.reportportal.extension.common.IntegrationTypeProperties;
 import com.epam.ta.reportportal.core.integration.impl.util.IntegrationTestUtil;
 import com.epam.ta.reportportal.core.integration.plugin.PluginLoader;
 import com.epam.ta.reportportal.core.plugin.Plugin;
@@ -43,7 +44,10 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static java.util.Optional.ofNullable;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -76,7 +80,9 @@ class Pf4jPluginManagerTest {
 			integrationTypeRepository,
 			pluginManager,
 			beanFactory,
-			applicationEventPublisher
+			applicationEventPublisher,
+			1,
+			false
 	);
 
 	private final InputStream fileStream = mock(InputStream.class);
@@ -221,6 +227,132 @@ class Pf4jPluginManagerTest {
 		assertEquals(1L, plugins.size());
 	}
 
+	@Test
+	void registryIsRebuiltOnlyOnPluginChanges() {
+		when(pluginManager.getPlugins()).thenReturn(Lists.newArrayList(newPlugin));
+		when(newPlugin.getPluginId()).thenReturn(NEW_JIRA_PLUGIN_ID);
+		when(pluginManager.getExtensionClasses(NEW_JIRA_PLUGIN_ID)).thenReturn(Lists.newArrayList(BtsExtension.class));
+
+		assertTrue(pluginBox.getPlugin("bts").isPresent());
+		assertEquals(1, pluginBox.getPlugins().size());
+		verify(pluginManager, times(1)).getExtensionClasses(NEW_JIRA_PLUGIN_ID);
+
+		when(pluginManager.getPlugin(NEW_JIRA_PLUGIN_ID)).thenReturn(newPlugin);
+		when(pluginManager.getPlugins()).thenReturn(Lists.newArrayList());
+		pluginBox.startUpPlugin(NEW_JIRA_PLUGIN_ID);
+
+		assertFalse(pluginBox.getPlugin("bts").isPresent());
+		verify(pluginManager, times(1)).getExtensionClasses(NEW_JIRA_PLUGIN_ID);
+	}
+
+	@Test
+	void startUpIsolatesPluginErrors() throws IOException {
+		IntegrationType brokenIntegrationType = getIntegrationType("broken", null);
+		IntegrationType jiraIntegrationType = getIntegrationType(NEW_JIRA_PLUGIN_ID, "jira.jar");
+		when(integrationTypeRepository.findAll()).thenReturn(Lists.newArrayList(brokenIntegrationType, jiraIntegrationType));
+		when(pluginManager.loadPlugin(Paths.get(PLUGINS_PATH, "jira.jar"))).thenReturn(NEW_JIRA_PLUGIN_ID);
+		when(pluginManager.startPlugin(NEW_JIRA_PLUGIN_ID)).thenReturn(PluginState.STARTED);
+
+		pluginBox.startUp();
+
+		verify(pluginLoader, times(1)).copyFromDataStore("jira.jar",
+				Paths.get(PLUGINS_PATH, "jira.jar"),
+				Paths.get(RESOURCES_PATH, NEW_JIRA_PLUGIN_ID)
+		);
+		verify(pluginManager, times(1)).startPlugin(NEW_JIRA_PLUGIN_ID);
+		verify(pluginManager, never()).startPlugin("broken");
+	}
+
+	@Test
+	void lazyStartUpLoadsPluginOnFirstRequest() throws IOException {
+		Pf4jPluginManager lazyPluginBox = new Pf4jPluginManager(PLUGINS_PATH,
+				PLUGINS_TEMP_PATH,
+				RESOURCES_PATH,
+				pluginLoader,
+				integrationTypeRepository,
+				pluginManager,
+				beanFactory,
+				applicationEventPublisher,
+				1,
+				true
+		);
+		IntegrationType jiraIntegrationType = getIntegrationType(NEW_JIRA_PLUGIN_ID, "jira.jar");
+		when(integrationTypeRepository.findAll()).thenReturn(Lists.newArrayList(jiraIntegrationType));
+		when(pluginManager.loadPlugin(Paths.get(PLUGINS_PATH, "jira.jar"))).thenReturn(NEW_JIRA_PLUGIN_ID);
+		when(pluginManager.startPlugin(NEW_JIRA_PLUGIN_ID)).thenReturn(PluginState.STARTED);
+
+		lazyPluginBox.startUp();
+		verify(pluginManager, never()).loadPlugin(any());
+
+		lazyPluginBox.getInstance(NEW_JIRA_PLUGIN_ID, BtsExtension.class);
+		lazyPluginBox.getInstance(NEW_JIRA_PLUGIN_ID, BtsExtension.class);
+		verify(pluginManager, times(1)).loadPlugin(Paths.get(PLUGINS_PATH, "jira.jar"));
+		verify(pluginManager, times(1)).getExtensions(BtsExtension.class, NEW_JIRA_PLUGIN_ID);
+	}
+
+	@Test
+	void extensionsAreNotLookedUpWhilePluginIsLoaded() throws Exception {
+		Pf4jPluginManager lazyPluginBox = new Pf4jPluginManager(PLUGINS_PATH,
+				PLUGINS_TEMP_PATH,
+				RESOURCES_PATH,
+				pluginLoader,
+				integrationTypeRepository,
+				pluginManager,
+				beanFactory,
+				applicationEventPublisher,
+				1,
+				true
+		);
+		when(integrationTypeRepository.findAll()).thenReturn(Lists.newArrayList(getIntegrationType(NEW_JIRA_PLUGIN_ID, "jira.jar")));
+		when(pluginManager.loadPlugin(Paths.get(PLUGINS_PATH, "jira.jar"))).thenReturn(NEW_JIRA_PLUGIN_ID);
+
+		CountDownLatch startEntered = new CountDownLatch(1);
+		CountDownLatch startReleased = new CountDownLatch(1);
+		AtomicBoolean starting = new AtomicBoolean();
+		AtomicBoolean lookedUpWhileStarting = new AtomicBoolean();
+		when(pluginManager.startPlugin(NEW_JIRA_PLUGIN_ID)).thenAnswer(invocation -> {
+			starting.set(true);
+			startEntered.countDown();
+			startReleased.await(10, TimeUnit.SECONDS);
+			starting.set(false);
+			return PluginState.STARTED;
+		});
+		when(pluginManager.getExtensions(BtsExtension.class)).thenAnswer(invocation -> {
+			lookedUpWhileStarting.compareAndSet(false, starting.get());
+			return Lists.newArrayList();
+		});
+
+		lazyPluginBox.startUp();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<?> loading = executor.submit(() -> lazyPluginBox.getInstance(NEW_JIRA_PLUGIN_ID, BtsExtension.class));
+			assertTrue(startEntered.await(10, TimeUnit.SECONDS));
+			Future<?> lookup = executor.submit(() -> lazyPluginBox.getInstance(BtsExtension.class));
+			//gives the lookup time to reach the plugin manager
+			Thread.sleep(200);
+			startReleased.countDown();
+			loading.get(10, TimeUnit.SECONDS);
+			lookup.get(10, TimeUnit.SECONDS);
+		} finally {
+			startReleased.countDown();
+			executor.shutdownNow();
+		}
+
+		assertFalse(lookedUpWhileStarting.get());
+		verify(pluginManager, times(1)).getExtensions(BtsExtension.class);
+	}
+
+	private IntegrationType getIntegrationType(String name, String fileName) {
+		IntegrationType integrationType = IntegrationTestUtil.getJiraIntegrationType();
+		integrationType.setName(name);
+		integrationType.setEnabled(true);
+		ofNullable(fileName).ifPresent(it -> {
+			IntegrationTypeProperties.FILE_NAME.setValue(integrationType.getDetails(), it);
+			IntegrationTypeProperties.FILE_ID.setValue(integrationType.getDetails(), it);
+		});
+		return integrationType;
+	}
+
 	private PluginInfo getPluginInfo() {
 		return new PluginInfo("old_jira", NEW_JIRA_PLUGIN_VERSION);
 	}
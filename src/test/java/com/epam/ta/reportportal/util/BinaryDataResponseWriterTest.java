@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.core.file.StoredFile;
+import com.epam.ta.reportportal.entity.attachment.BinaryData;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BinaryDataResponseWriterTest {
+
+	private static final String CONTENT = "0123456789";
+
+	private static final String CONTENT_ID = "attachment:1";
+
+	@Test
+	void wholeContentIsServedWithValidators() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		BinaryDataResponseWriter.write(new MockHttpServletRequest(), response, storedFile(), BinaryDataResponseWriter.IMMUTABLE);
+
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+		assertEquals(CONTENT, response.getContentAsString());
+		assertEquals(CONTENT.length(), response.getContentLength());
+		assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertEquals(BinaryDataResponseWriter.IMMUTABLE, response.getHeader(HttpHeaders.CACHE_CONTROL));
+		assertNotNull(response.getHeader(HttpHeaders.ETAG));
+	}
+
+	@Test
+	void matchedEtagIsNotModified() throws Exception {
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		BinaryDataResponseWriter.write(new MockHttpServletRequest(), first, storedFile(), BinaryDataResponseWriter.REVALIDATE);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		StoredFile notLoaded = new StoredFile(CONTENT_ID, (long) CONTENT.length(), () -> {
+			throw new AssertionError("Content should not be loaded");
+		});
+		BinaryDataResponseWriter.write(request, response, notLoaded, BinaryDataResponseWriter.REVALIDATE);
+
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+		assertEquals(first.getHeader(HttpHeaders.ETAG), response.getHeader(HttpHeaders.ETAG));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void contentOfUnknownLengthIsServedWithoutRanges() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		BinaryDataResponseWriter.write(request, response, new StoredFile(CONTENT_ID, null, BinaryDataResponseWriterTest::binaryData),
+				BinaryDataResponseWriter.IMMUTABLE
+		);
+
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+		assertEquals(CONTENT, response.getContentAsString());
+		assertNull(response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertNull(response.getHeader(HttpHeaders.CONTENT_LENGTH));
+	}
+
+	@Test
+	void rangeIsServedAsPartialContent() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		BinaryDataResponseWriter.write(request, response, storedFile(), BinaryDataResponseWriter.IMMUTABLE);
+
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		assertEquals("2345", response.getContentAsString());
+		assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+
+		request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+		response = new MockHttpServletResponse();
+		BinaryDataResponseWriter.write(request, response, storedFile(), BinaryDataResponseWriter.IMMUTABLE);
+		assertEquals("789", response.getContentAsString());
+	}
+
+	@Test
+	void unsatisfiableRange() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		BinaryDataResponseWriter.write(request, response, storedFile(), BinaryDataResponseWriter.IMMUTABLE);
+
+		assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+		assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void rangeIsIgnoredForChangedContent() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+		request.addHeader(HttpHeaders.IF_RANGE, "\"outdated\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		BinaryDataResponseWriter.write(request, response, storedFile(), BinaryDataResponseWriter.IMMUTABLE);
+
+		assertEquals(HttpStatus.OK.value(), response.getStatus());
+		assertEquals(CONTENT, response.getContentAsString());
+	}
+
+	private static StoredFile storedFile() {
+		return new StoredFile(CONTENT_ID, (long) CONTENT.length(), BinaryDataResponseWriterTest::binaryData);
+	}
+
+	private static BinaryData binaryData() {
+		BinaryData binaryData = mock(BinaryData.class);
+		when(binaryData.getInputStream()).thenReturn(new NetworkInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)));
+		when(binaryData.getContentType()).thenReturn("text/plain");
+		return binaryData;
+	}
+
+	/**
+	 * Stream of the remote data store: bytes arrive in small chunks and {@link #available()} is not the remaining length
+	 */
+	private static class NetworkInputStream extends FilterInputStream {
+
+		private static final int CHUNK_SIZE = 3;
+
+		NetworkInputStream(byte[] content) {
+			super(new ByteArrayInputStream(content));
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return super.read(b, off, Math.min(len, CHUNK_SIZE));
+		}
+
+		@Override
+		public int available() {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.ws.rabbit.MessageHeaders;
+import com.epam.ta.reportportal.ws.rabbit.RequestType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportingMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final ReportingMetrics reportingMetrics = new ReportingMetrics(meterRegistry);
+
+	@Test
+	void publishIsRecordedByTypeAndQueue() {
+		Message message = message(RequestType.START_TEST);
+
+		reportingMetrics.markPublished(message);
+		reportingMetrics.recordPublish(message, "3", TimeUnit.MILLISECONDS.toNanos(5));
+
+		assertTrue(message.getMessageProperties().getHeaders().get(MessageHeaders.PUBLISH_TIME) instanceof Long);
+		Timer timer = meterRegistry.get(ReportingMetrics.PUBLISH_TIMER).tag("type", "START_TEST").tag("queue", "reporting.3").timer();
+		assertEquals(1, timer.count());
+		assertEquals(5, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+	}
+
+	@Test
+	void dwellTimeIsCountedFromPublishTime() {
+		Message message = message(RequestType.LOG);
+		message.getMessageProperties().setConsumerQueue("reporting.1");
+		message.getMessageProperties().setHeader(MessageHeaders.PUBLISH_TIME, System.currentTimeMillis() - 1000);
+		message.getMessageProperties().setHeader(MessageHeaders.XD_HEADER, Collections.emptyList());
+
+		reportingMetrics.recordReceived(message);
+
+		Timer timer = meterRegistry.get(ReportingMetrics.DWELL_TIMER)
+				.tag("type", "LOG")
+				.tag("queue", "reporting.1")
+				.tag("retried", "true")
+				.timer();
+		assertEquals(1, timer.count());
+		assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 1000);
+	}
+
+	@Test
+	void dwellTimeIsNotRecordedWithoutPublishTime() {
+		reportingMetrics.recordReceived(message(RequestType.LOG));
+
+		assertNull(meterRegistry.find(ReportingMetrics.DWELL_TIMER).timer());
+	}
+
+	@Test
+	void retriesAndDroppedRequestsAreCounted() {
+		Message message = message(RequestType.FINISH_TEST);
+		message.getMessageProperties().setConsumerQueue("reporting.2");
+
+		reportingMetrics.recordHandled(reportingMetrics.startHandling(), message, ReportingMetrics.Outcome.SUCCESS);
+		reportingMetrics.recordHandled(reportingMetrics.startHandling(), message, ReportingMetrics.Outcome.RETRY);
+		reportingMetrics.recordHandled(reportingMetrics.startHandling(), message, ReportingMetrics.Outcome.RETRY);
+		reportingMetrics.recordHandled(reportingMetrics.startHandling(), message, ReportingMetrics.Outcome.DLQ);
+
+		assertEquals(4,
+				meterRegistry.get(ReportingMetrics.HANDLING_TIMER).tag("queue", "reporting.2").timers().stream().mapToLong(Timer::count).sum()
+		);
+		assertEquals(2, meterRegistry.get(ReportingMetrics.HANDLING_TIMER).tag("outcome", "retry").timer().count());
+		assertEquals(2, meterRegistry.get(ReportingMetrics.RETRY_COUNTER).tag("type", "FINISH_TEST").counter().count(), 0);
+		assertEquals(1, meterRegistry.get(ReportingMetrics.DLQ_COUNTER).tag("queue", "reporting.2").counter().count(), 0);
+	}
+
+	private static Message message(RequestType type) {
+		MessageProperties properties = new MessageProperties();
+		properties.setHeader(MessageHeaders.REQUEST_TYPE, type.name());
+		return new Message(new byte[0], properties);
+	}
+}
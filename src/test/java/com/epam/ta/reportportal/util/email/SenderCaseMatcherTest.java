@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.util.email;
+
+import com.epam.ta.reportportal.entity.ItemAttribute;
+import com.epam.ta.reportportal.entity.enums.SendCase;
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.entity.project.Project;
+import com.epam.ta.reportportal.entity.project.email.LaunchAttributeRule;
+import com.epam.ta.reportportal.entity.project.email.SenderCase;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SenderCaseMatcherTest {
+
+	@Test
+	void matchByLaunchName() {
+		SenderCase byName = senderCase(1L, SendCase.ALWAYS, Sets.newHashSet("name"), Collections.emptySet());
+		SenderCase byAnotherName = senderCase(2L, SendCase.ALWAYS, Sets.newHashSet("another"), Collections.emptySet());
+		SenderCase anyName = senderCase(3L, SendCase.ALWAYS, Collections.emptySet(), Collections.emptySet());
+		List<SenderCase> senderCases = Lists.newArrayList(byName, byAnotherName, anyName);
+
+		List<SenderCase> matched = SenderCaseMatcher.compile(senderCases).findMatched(launch("name", StatusEnum.PASSED), senderCases);
+
+		assertEquals(Lists.newArrayList(byName, anyName), matched);
+	}
+
+	@Test
+	void matchByAttributes() {
+		SenderCase allPresent = senderCase(1L,
+				SendCase.ALWAYS,
+				Collections.emptySet(),
+				Sets.newHashSet(rule("key", "value"), rule(null, "value2"))
+		);
+		SenderCase onePresent = senderCase(2L,
+				SendCase.ALWAYS,
+				Collections.emptySet(),
+				Sets.newHashSet(rule("key", "value"), rule("key", "missing"))
+		);
+		SenderCase system = senderCase(3L, SendCase.ALWAYS, Collections.emptySet(), Sets.newHashSet(rule("system", "value")));
+		List<SenderCase> senderCases = Lists.newArrayList(allPresent, onePresent, system);
+
+		Launch launch = launch("name", StatusEnum.PASSED);
+		launch.setAttributes(Sets.newHashSet(new ItemAttribute("key", "value", false),
+				new ItemAttribute(null, "value2", false),
+				new ItemAttribute("system", "value", true)
+		));
+
+		List<SenderCase> matched = SenderCaseMatcher.compile(senderCases).findMatched(launch, senderCases);
+
+		assertEquals(Lists.newArrayList(allPresent), matched);
+	}
+
+	@Test
+	void matchBySendCase() {
+		SenderCase failed = senderCase(1L, SendCase.FAILED, Collections.emptySet(), Collections.emptySet());
+		SenderCase always = senderCase(2L, SendCase.ALWAYS, Collections.emptySet(), Collections.emptySet());
+		List<SenderCase> senderCases = Lists.newArrayList(failed, always);
+		SenderCaseMatcher matcher = SenderCaseMatcher.compile(senderCases);
+
+		assertEquals(Lists.newArrayList(always), matcher.findMatched(launch("name", StatusEnum.PASSED), senderCases));
+		assertEquals(Lists.newArrayList(failed, always), matcher.findMatched(launch("name", StatusEnum.FAILED), senderCases));
+	}
+
+	@Test
+	void matchNotPersistedCases() {
+		SenderCase first = senderCase(null, SendCase.ALWAYS, Collections.emptySet(), Collections.emptySet());
+		SenderCase second = senderCase(null, SendCase.FAILED, Collections.emptySet(), Collections.emptySet());
+		List<SenderCase> senderCases = Lists.newArrayList(first, second);
+
+		SenderCaseMatcher matcher = SenderCaseMatcher.compile(senderCases);
+
+		assertFalse(SenderCaseMatcher.versionOf(senderCases).isPresent());
+		assertEquals(Lists.newArrayList(first), matcher.findMatched(launch("name", StatusEnum.PASSED), senderCases));
+	}
+
+	@Test
+	void recompileOnConfigVersionChange() {
+		SenderCaseMatcherCache cache = new SenderCaseMatcherCache();
+		Project project = new Project();
+		project.setId(1L);
+		project.setSenderCases(Sets.newHashSet(senderCase(1L, SendCase.ALWAYS, Collections.emptySet(), Collections.emptySet())));
+
+		SenderCaseMatcher matcher = cache.getMatcher(project);
+		assertSame(matcher, cache.getMatcher(project));
+
+		project.setSenderCases(Sets.newHashSet(senderCase(2L, SendCase.ALWAYS, Collections.emptySet(), Collections.emptySet())));
+		SenderCaseMatcher recompiled = cache.getMatcher(project);
+
+		assertNotSame(matcher, recompiled);
+		assertEquals(Lists.newArrayList(project.getSenderCases()),
+				recompiled.findMatched(launch("name", StatusEnum.PASSED), project.getSenderCases())
+		);
+	}
+
+	private static SenderCase senderCase(Long id, SendCase sendCase, Set<String> launchNames, Set<LaunchAttributeRule> rules) {
+		SenderCase senderCase = new SenderCase(Sets.newHashSet("owner"), launchNames, rules, sendCase, true);
+		senderCase.setId(id);
+		return senderCase;
+	}
+
+	private static LaunchAttributeRule rule(String key, String value) {
+		LaunchAttributeRule rule = new LaunchAttributeRule();
+		rule.setKey(key);
+		rule.setValue(value);
+		return rule;
+	}
+
+	private static Launch launch(String name, StatusEnum status) {
+		Launch launch = new Launch();
+		launch.setId(1L);
+		launch.setName(name);
+		launch.setStatus(status);
+		return launch;
+	}
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.context.jdbc.Sql;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -62,4 +63,24 @@ class ActivityControllerTest extends BaseMvcTest {
 	void getActivitiesForProject() throws Exception {
 		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/activity").with(token(oAuthHelper.getDefaultToken()))).andExpect(status().is(200));
 	}
+
+	@Test
+	void getActivitiesFeedForProject() throws Exception {
+		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/activity/feed?limit=2").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().is(200))
+				.andExpect(jsonPath("$.content.length()").value(2))
+				.andExpect(jsonPath("$.next").exists());
+	}
+
+	@Test
+	void getActivitiesFeedWithWrongCursor() throws Exception {
+		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/activity/feed?cursor=wrong").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().is(400));
+	}
+
+	@Test
+	void getTestItemActivitiesFeedPositive() throws Exception {
+		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/activity/item/1/feed").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().is(200));
+	}
 }
\ No newline at end of file
@@ -77,6 +77,12 @@ class DashboardControllerTest extends BaseMvcTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void getDashboardContentPositive() throws Exception {
+		mockMvc.perform(get(DEFAULT_PROJECT_BASE_URL + "/dashboard/17/content").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().isOk());
+	}
+
 	@Test
 	void updateDashboardPositive() throws Exception {
 		final UpdateDashboardRQ rq = new UpdateDashboardRQ();
@@ -25,6 +25,7 @@ import com.epam.ta.reportportal.ws.BaseMvcTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.jdbc.Sql;
@@ -35,9 +36,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import static com.epam.ta.reportportal.util.MultipartFileUtils.getMultipartFile;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -67,6 +70,22 @@ class FileStorageControllerTest extends BaseMvcTest {
 		mockMvc.perform(delete("/v1/data/photo").with(token(oAuthHelper.getDefaultToken()))).andExpect(status().isOk());
 	}
 
+	@Test
+	void reuploadedUserPhotoChangesEtag() throws Exception {
+		uploadPhoto();
+		String etag = mockMvc.perform(get("/v1/data/photo").with(token(oAuthHelper.getDefaultToken())))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+
+		uploadPhoto();
+		String reuploadedEtag = mockMvc.perform(get("/v1/data/photo").header(HttpHeaders.IF_NONE_MATCH, etag)
+				.with(token(oAuthHelper.getDefaultToken()))).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		assertNotEquals(etag, reuploadedEtag);
+	}
+
 	@Test
 	@Sql("/db/user/user-customer.sql")
 	public void testUserPhotoAccessDeniedForCustomer() throws Exception {
@@ -113,8 +132,15 @@ class FileStorageControllerTest extends BaseMvcTest {
 
 		assertTrue(attachment.isPresent());
 
-		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachment.get().getId()).with(token(oAuthHelper.getSuperadminToken())))
-				.andExpect(status().isOk());
+		String etag = mockMvc.perform(get("/v1/data/superadmin_personal/" + attachment.get().getId()).with(token(oAuthHelper.getSuperadminToken())))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/v1/data/superadmin_personal/" + attachment.get().getId()).header(HttpHeaders.IF_NONE_MATCH, etag)
+				.with(token(oAuthHelper.getSuperadminToken()))).andExpect(status().isNotModified());
 	}
 
 	@Test
@@ -133,4 +159,11 @@ class FileStorageControllerTest extends BaseMvcTest {
 		mockMvc.perform(get("/v1/data/userphoto?id=not_exist").with(token(oAuthHelper.getSuperadminToken())))
 				.andExpect(status().isNotFound());
 	}
-}
\ No newline at end of file
+
+	private void uploadPhoto() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.multipart("/v1/data/photo")
+				.file(new MockMultipartFile("file", "file", "image/png", new ClassPathResource("image/image.png").getInputStream()))
+				.contentType(MediaType.MULTIPART_FORM_DATA)
+				.with(token(oAuthHelper.getDefaultToken()))).andExpect(status().isOk());
+	}
+}
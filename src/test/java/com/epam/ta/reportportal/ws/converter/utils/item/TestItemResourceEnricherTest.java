@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.converter.utils.item;
+
+import com.epam.ta.reportportal.entity.enums.StatusEnum;
+import com.epam.ta.reportportal.entity.item.TestItem;
+import com.epam.ta.reportportal.entity.item.TestItemResults;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.converter.utils.ResourceUpdaterProvider;
+import com.epam.ta.reportportal.ws.converter.utils.item.content.TestItemUpdaterContent;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestItemResourceEnricherTest {
+
+	@Test
+	void everyProviderIsRetrievedOncePerPage() {
+		AtomicInteger pathNameQueries = new AtomicInteger();
+		AtomicInteger retriesQueries = new AtomicInteger();
+		List<ResourceUpdaterProvider<TestItemUpdaterContent, TestItemResource>> providers = Lists.newArrayList(content -> {
+			pathNameQueries.incrementAndGet();
+			return resource -> resource.setCodeRef("codeRef" + resource.getItemId());
+		}, content -> {
+			retriesQueries.incrementAndGet();
+			return resource -> resource.setRetries(Collections.emptyList());
+		});
+		TestItemResourceEnricher enricher = new TestItemResourceEnricher(providers);
+
+		List<TestItemResource> resources = enricher.toResources(1L, Lists.newArrayList(testItem(3L), testItem(1L), testItem(2L)));
+
+		assertEquals(1, pathNameQueries.get());
+		assertEquals(1, retriesQueries.get());
+		assertEquals(Lists.newArrayList(3L, 1L, 2L), resources.stream().map(TestItemResource::getItemId).collect(Collectors.toList()));
+		resources.forEach(resource -> {
+			assertEquals("codeRef" + resource.getItemId(), resource.getCodeRef());
+			assertNotNull(resource.getRetries());
+		});
+	}
+
+	@Test
+	void emptyPageIsNotEnriched() {
+		AtomicInteger queries = new AtomicInteger();
+		TestItemResourceEnricher enricher = new TestItemResourceEnricher(Lists.newArrayList(content -> {
+			queries.incrementAndGet();
+			return resource -> {
+			};
+		}));
+
+		assertTrue(enricher.toResources(1L, Collections.emptyList()).isEmpty());
+		assertEquals(0, queries.get());
+	}
+
+	@Test
+	void providerExceptionIsPropagated() {
+		TestItemResourceEnricher enricher = new TestItemResourceEnricher(Lists.newArrayList(content -> resource -> {
+		}, content -> {
+			throw new ReportPortalException(ErrorType.TEST_ITEM_NOT_FOUND, 1L);
+		}));
+
+		ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> enricher.toResource(1L, testItem(1L))
+		);
+		assertEquals(ErrorType.TEST_ITEM_NOT_FOUND, exception.getErrorType());
+	}
+
+	private static TestItem testItem(Long id) {
+		TestItem item = new TestItem();
+		item.setItemId(id);
+		TestItemResults results = new TestItemResults();
+		results.setStatus(StatusEnum.PASSED);
+		item.setItemResults(results);
+		return item;
+	}
+}
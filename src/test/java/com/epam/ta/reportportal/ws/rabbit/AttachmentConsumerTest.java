@@ -18,6 +18,7 @@ package com.epam.ta.reportportal.ws.rabbit;
 
 import com.epam.ta.reportportal.binary.DataStoreService;
 import com.epam.ta.reportportal.core.events.attachment.DeleteAttachmentEvent;
+import com.epam.ta.reportportal.core.project.ProjectStorageService;
 import com.epam.ta.reportportal.dao.AttachmentRepository;
 import com.epam.ta.reportportal.entity.attachment.Attachment;
 import com.google.common.collect.Lists;
@@ -28,6 +29,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -44,6 +46,9 @@ class AttachmentConsumerTest {
 	@Mock
 	private AttachmentRepository attachmentRepository;
 
+	@Mock
+	private ProjectStorageService projectStorageService;
+
 	@InjectMocks
 	private AttachmentConsumer attachmentConsumer;
 
@@ -63,5 +68,6 @@ class AttachmentConsumerTest {
 		verify(attachmentRepository, times(1)).deleteAllByIds(any());
 		verify(dataStoreService, times(1)).delete(attachment.getFileId());
 		verify(dataStoreService, times(1)).delete(attachment.getThumbnailId());
+		verify(projectStorageService, times(1)).decrease(Collections.singletonList(attachment));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import com.epam.ta.reportportal.commons.querygen.Condition;
+import com.epam.ta.reportportal.commons.querygen.Filter;
+import com.epam.ta.reportportal.commons.querygen.FilterCondition;
+import com.epam.ta.reportportal.entity.launch.Launch;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterCriteriaResolverTest {
+
+	private final FilterCriteriaResolver resolver = new FilterCriteriaResolver();
+
+	@Test
+	void cachedFilterIsNotShared() {
+		Map<String, String[]> parameters = ImmutableMap.of("filter.eq.name",
+				new String[] { "launch" },
+				"filter.!cnt.description",
+				new String[] { "text" },
+				"page.page",
+				new String[] { "1" }
+		);
+
+		Filter first = resolver.resolve(Launch.class, parameters);
+		first.withCondition(FilterCondition.builder().eq("status", "FAILED").build());
+		Filter second = resolver.resolve(Launch.class, parameters);
+
+		assertNotSame(first, second);
+		assertEquals(Launch.class, second.getTarget().getClazz());
+		assertEquals(2, second.getFilterConditions().size());
+
+		FilterCondition negative = (FilterCondition) second.getFilterConditions().get(0);
+		assertEquals(Condition.CONTAINS, negative.getCondition());
+		assertTrue(negative.isNegative());
+		assertEquals("text", negative.getValue());
+		assertEquals("description", negative.getSearchCriteria());
+
+		FilterCondition positive = (FilterCondition) second.getFilterConditions().get(1);
+		assertEquals(Condition.EQUALS, positive.getCondition());
+		assertFalse(positive.isNegative());
+		assertEquals("launch", positive.getValue());
+		assertEquals("name", positive.getSearchCriteria());
+	}
+
+	@Test
+	void invalidParametersAreValidatedOnEveryRequest() {
+		Map<String, String[]> parameters = ImmutableMap.of("filter.unknown.name", new String[] { "launch" });
+
+		for (int i = 0; i < 2; i++) {
+			ReportPortalException exception = assertThrows(ReportPortalException.class, () -> resolver.resolve(Launch.class, parameters));
+			assertEquals(ErrorType.INCORRECT_FILTER_PARAMETERS, exception.getErrorType());
+		}
+	}
+
+	@Test
+	void blankValueIsRejected() {
+		ReportPortalException exception = assertThrows(ReportPortalException.class,
+				() -> resolver.resolve(Launch.class, ImmutableMap.of("filter.eq.name", new String[] { " " }))
+		);
+		assertEquals(ErrorType.BAD_REQUEST_ERROR, exception.getErrorType());
+	}
+
+	@Test
+	void cacheIsBoundedByParametersLength() {
+		long maximumWeight = 100_000;
+		FilterCriteriaResolver boundedResolver = new FilterCriteriaResolver(maximumWeight);
+		String value = StringUtils.repeat('a', 8_000);
+
+		for (int i = 0; i < 100; i++) {
+			Filter filter = boundedResolver.resolve(Launch.class, ImmutableMap.of("filter.cnt.name", new String[] { value + i }));
+			assertEquals(value + i, ((FilterCondition) filter.getFilterConditions().get(0)).getValue());
+		}
+
+		assertTrue(boundedResolver.getCachedWeight() > 0);
+		assertTrue(boundedResolver.getCachedWeight() <= maximumWeight);
+	}
+}
@@ -0,0 +1,2 @@
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, number, last_modified, mode, status)
+VALUES (1, 'bulk-demo-launch', 2, 2, 'Demo Api Tests', 'description', now() - interval '1 hour', 1, now(), 'DEFAULT', 'IN_PROGRESS');
@@ -0,0 +1,118 @@
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (101, 'project-info-launch-1', 2, 2, 'Smoke', 'description', now() - interval '2 days', now() - interval '2 days', 1, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (10, 101, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (2, 101, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 101, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 101, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (3, 101, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (102, 'project-info-launch-2', 2, 2, 'Smoke', 'description', now() - interval '2 days', now() - interval '2 days', 2, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (12, 102, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 102, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (2, 102, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 102, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (4, 102, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (103, 'project-info-launch-3', 2, 2, 'Regression', 'description', now() - interval '3 days', now() - interval '3 days', 3, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (40, 103, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (5, 103, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 103, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (3, 103, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 103, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (104, 'project-info-launch-4', 2, 2, 'Regression', 'description', now() - interval '9 days', now() - interval '9 days', 4, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (35, 104, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 104, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 104, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 104, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 104, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (105, 'project-info-launch-5', 2, 2, 'Smoke', 'description', now() - interval '9 days', now() - interval '9 days', 5, now(), 'DEBUG', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (8, 105, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 105, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 105, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 105, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 105, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (106, 'project-info-launch-6', 2, 2, 'Smoke', 'description', now() - interval '23 days', now() - interval '23 days', 6, now(), 'DEFAULT', 'FAILED');
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (107, 'project-info-launch-7', 2, 2, 'Regression', 'description', now() - interval '40 days', now() - interval '40 days', 7, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (50, 107, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 107, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 107, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 107, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 107, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (108, 'project-info-launch-8', 2, 2, 'Smoke', 'description', now() - interval '41 days', now() - interval '41 days', 8, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (7, 108, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (3, 108, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 108, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (0, 108, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (2, 108, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (109, 'project-info-launch-9', 2, 2, 'Regression', 'description', now() - interval '75 days', now() - interval '75 days', 9, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (44, 109, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (4, 109, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (4, 109, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (4, 109, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (4, 109, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (110, 'project-info-launch-10', 2, 2, 'Smoke', 'description', now() - interval '120 days', now() - interval '120 days', 10, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (9, 110, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 110, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 110, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$automation_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 110, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$system_issue$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (1, 110, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
+INSERT INTO launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+VALUES (111, 'project-info-launch-11', 1, 1, 'Smoke', 'description', now() - interval '2 days', now() - interval '2 days', 1, now(), 'DEFAULT', 'FAILED');
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (100, 111, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$executions$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (10, 111, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$product_bug$total'));
+INSERT INTO statistics (s_counter, launch_id, statistics_field_id)
+VALUES (10, 111, (SELECT sf_id FROM statistics_field WHERE name = 'statistics$defects$to_investigate$total'));
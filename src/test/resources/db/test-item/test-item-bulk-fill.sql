@@ -0,0 +1,28 @@
+insert into launch (id, uuid, project_id, user_id, name, description, start_time, end_time, number, last_modified, mode, status)
+values (1, 'b3a4f4c2-8a47-4c4e-9a8e-0e2c5f0d8d11', 2, 2, 'bulk launch', 'desc', now(), now(), 1, now(), 'DEFAULT', 'FAILED'),
+       (2, 'c1d2e3f4-5a6b-4c7d-8e9f-0a1b2c3d4e5f', 2, 2, 'bulk launch', 'desc', now(), now(), 2, now(), 'DEFAULT', 'PASSED');
+
+-- launch 1: suite 1 -> test 2 -> step 3 with retry 4, suite 1 -> step 5
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (1, 1, 'a0000000-0000-0000-0000-000000000001', 'suite', 'SUITE', now(), 'desc', now(), '1', 'unique-1', true, false, null, null, 1),
+       (2, 2, 'a0000000-0000-0000-0000-000000000002', 'test', 'TEST', now(), 'desc', now(), '1.2', 'unique-2', true, false, 1, null, 1),
+       (3, 3, 'a0000000-0000-0000-0000-000000000003', 'step', 'STEP', now(), 'desc', now(), '1.2.3', 'unique-3', false, true, 2, null, 1),
+       (3, 4, 'a0000000-0000-0000-0000-000000000004', 'step', 'STEP', now(), 'desc', now(), '1.2.3.4', 'unique-3', false, false, 3, 3, null),
+       (5, 5, 'a0000000-0000-0000-0000-000000000005', 'step', 'STEP', now(), 'desc', now(), '1.5', 'unique-5', false, false, 1, null, 1);
+
+-- launch 2: suite 6 -> step 7
+insert into test_item(test_case_hash, item_id, uuid, name, type, start_time, description, last_modified, path, unique_id, has_children, has_retries, parent_id, retry_of, launch_id)
+values (6, 6, 'a0000000-0000-0000-0000-000000000006', 'suite', 'SUITE', now(), 'desc', now(), '6', 'unique-6', true, false, null, null, 2),
+       (7, 7, 'a0000000-0000-0000-0000-000000000007', 'step', 'STEP', now(), 'desc', now(), '6.7', 'unique-7', false, false, 6, null, 2);
+
+insert into test_item_results(result_id, status)
+values (1, 'FAILED'),
+       (2, 'FAILED'),
+       (3, 'PASSED'),
+       (4, 'FAILED'),
+       (5, 'FAILED'),
+       (6, 'PASSED'),
+       (7, 'PASSED');
+
+alter sequence launch_id_seq restart with 3;
+alter sequence test_item_item_id_seq restart with 8;